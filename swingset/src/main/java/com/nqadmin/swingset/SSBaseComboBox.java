@@ -69,7 +69,6 @@ import com.nqadmin.swingset.utils.SSCommon;
 import com.nqadmin.swingset.utils.SSComponentInterface;
 import com.nqadmin.swingset.utils.SSUtils;
 
-import ca.odell.glazedlists.BasicEventList;
 import ca.odell.glazedlists.matchers.TextMatcherEditor;
 import ca.odell.glazedlists.swing.AutoCompleteSupport;
 
@@ -289,7 +288,8 @@ public abstract class SSBaseComboBox<M,O,O2> extends JComboBox<SSListItem> imple
 		 */
 		protected static <M,O,O2>BaseGlazedModel<M,O,O2> install(SSBaseComboBox<M,O,O2> _jc) {
 			BaseGlazedModel<M,O,O2> model = new BaseGlazedModel<>();
-			model.autoComplete = AutoCompleteSupport.install(_jc, model.getEventList(), null, model.getListItemFormatDelegate());
+			model.autoComplete = AutoCompleteSupport.install(_jc, model.getEventList(),
+					model.getTextFilterator(), model.getListItemFormatDelegate());
 			
 			model.autoComplete.setFilterMode(TextMatcherEditor.CONTAINS);
 			model.autoComplete.setStrict(true);
@@ -306,7 +306,7 @@ public abstract class SSBaseComboBox<M,O,O2> extends JComboBox<SSListItem> imple
 		 */
 		protected BaseGlazedModel() {
 			// false means no Options2
-			super(false, new BasicEventList<SSListItem>());
+			super(false);
 		}
 	}
 
@@ -480,7 +480,12 @@ public abstract class SSBaseComboBox<M,O,O2> extends JComboBox<SSListItem> imple
 		} else {
 			optionModel = BaseModel.install(this);
 		}
-		optionModel.setListItemFormat(new ShowMappingIfNullOption());
+		SSListItemFormat listItemFormat = new ShowMappingIfNullOption();
+		// EACH ITEM IS FORMATTED FOR RENDERING, SIZING AND FILTERING; DO IT ONCE
+		listItemFormat.setCaching(true);
+		optionModel.setListItemFormat(listItemFormat);
+		// MAPPING LOOKUPS ON EVERY ROW CHANGE, DON'T SCAN THE LIST
+		optionModel.setIndexed(true);
 	}
 
 	/**
@@ -41,19 +41,33 @@ import static com.nqadmin.swingset.datasources.RowSetOps.getJDBCColumnType;
 
 import java.sql.Connection;
 import java.sql.JDBCType;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.JTextComponent;
+
 import org.apache.logging.log4j.Logger;
 
 import com.nqadmin.swingset.models.OptionMappingSwingModel;
 import com.nqadmin.swingset.models.SSListItem;
 import com.nqadmin.swingset.models.SSListItemFormat;
+import com.nqadmin.swingset.utils.SSLookupCache;
+import com.nqadmin.swingset.utils.SSMetrics;
+import com.nqadmin.swingset.utils.SSStatementCache;
 import com.nqadmin.swingset.utils.SSUtils;
 
 import ca.odell.glazedlists.EventList;
@@ -191,6 +205,238 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 		public Model() { Objects.requireNonNull(null); } 
 	}
 
+	/**
+	 * Shares equal String values read from a query column, so a column with
+	 * few distinct values, such as a category, holds one String per value
+	 * rather than one per row. Sharing is abandoned when the column turns out
+	 * to hold mostly distinct values.
+	 */
+	private static class SharedValues {
+
+		private Map<String, String> distinctValues = new HashMap<>();
+
+		Object share(final Object _value) {
+			if ((distinctValues == null) || !(_value instanceof String)) {
+				return _value;
+			}
+			final String shared = distinctValues.putIfAbsent((String) _value, (String) _value);
+			if ((shared == null) && (distinctValues.size() > MAX_SHARED_VALUES)) {
+				// MOSTLY DISTINCT, SHARING WOULD ONLY COST MEMORY
+				distinctValues = null;
+			}
+			return shared == null ? _value : shared;
+		}
+	}
+
+	/**
+	 * Runs the query of an asynchronous execute() on a background thread and
+	 * hands the rows to the combo box in chunks on the event dispatch thread.
+	 */
+	private class QueryLoader implements Runnable {
+
+		private final Connection connection;
+
+		private final String loaderQuery;
+
+		private final Object[] parameters;
+
+		private final int maxRows;
+
+		// SEARCH FOR TYPED TEXT RATHER THAN THE QUERY OF execute()
+		private final boolean typeahead;
+
+		private final String mappingColumnName;
+
+		private final String optionColumnName;
+
+		private final String option2ColumnName;
+
+		private final int loaderFetchSize;
+
+		// READ ON THE EVENT DISPATCH THREAD, LIKE THE OTHER COMPONENT STATE THE LOADER USES
+		private final String columnForLog;
+
+		private volatile boolean cancelled = false;
+
+		// GUARDED BY this, SO cancel() NEVER CANCELS A STATEMENT RELEASED FOR ANOTHER QUERY
+		private Statement statement = null;
+
+		// ITEMS ADDED SO FAR AND COLUMN TYPES, ONLY USED ON THE EVENT DISPATCH THREAD
+		private final List<SSListItem> items = new ArrayList<>();
+
+		private JDBCType optionType = null;
+
+		private JDBCType option2Type = null;
+
+		// ITEMS ARE REFRESHED IN PLACE WHEN THE QUERY IS DONE, RATHER THAN ADDED AS READ
+		private boolean refresh = false;
+
+		QueryLoader() {
+			this(getQuery(), queryParameters, 0, false);
+		}
+
+		QueryLoader(final String _query, final Object[] _parameters, final int _maxRows, final boolean _typeahead) {
+			connection = ssCommon.getConnection();
+			loaderQuery = _query;
+			parameters = _parameters;
+			maxRows = _maxRows;
+			typeahead = _typeahead;
+			mappingColumnName = getPrimaryKeyColumnName();
+			optionColumnName = displayColumnName;
+			option2ColumnName = hasOption2() ? secondDisplayColumnName : null;
+			loaderFetchSize = fetchSize;
+			columnForLog = getColumnForLog();
+		}
+
+		@Override
+		public void run() {
+			Exception error = null;
+			PreparedStatement loaderStatement = null;
+			boolean reusable = false;
+			try {
+				loaderStatement = STATEMENT_CACHE.take(connection, loaderQuery);
+				synchronized (this) {
+					statement = loaderStatement;
+				}
+				if (cancelled) {
+					reusable = true;
+					return;
+				}
+				logger.debug("{}: Query [{}], parameters {}.", () -> columnForLog, () -> loaderQuery,
+						() -> Arrays.toString(parameters));
+				loaderStatement.setMaxRows(maxRows);
+				loaderStatement.setFetchSize(loaderFetchSize);
+				setParameters(loaderStatement, parameters);
+				final long start = SSMetrics.startTimer();
+				try (ResultSet rs = loaderStatement.executeQuery()) {
+					SSMetrics.stopTimer(SSMetrics.COMBO_EXECUTE, columnForLog, start);
+					final JDBCType optionType = getJDBCColumnType(rs, rs.findColumn(optionColumnName));
+					final JDBCType option2Type = option2ColumnName == null ? null
+							: getJDBCColumnType(rs, rs.findColumn(option2ColumnName));
+					SwingUtilities.invokeLater(() -> startItems(this, optionType, option2Type));
+
+					int chunkSize = LOAD_FIRST_CHUNK_SIZE;
+					List<Object[]> chunk = new ArrayList<>(chunkSize);
+					long lastPublished = System.nanoTime();
+					final SharedValues options = new SharedValues();
+					final SharedValues options2 = new SharedValues();
+					while (!cancelled && rs.next()) {
+						final Object[] row = new Object[3];
+						row[0] = rs.getLong(mappingColumnName);
+						row[1] = options.share(rs.getObject(optionColumnName));
+						row[2] = option2ColumnName == null ? null : options2.share(rs.getObject(option2ColumnName));
+						chunk.add(row);
+
+						final long now = System.nanoTime();
+						if ((chunk.size() >= chunkSize) || ((now - lastPublished) >= LOAD_PUBLISH_INTERVAL_NANOS)) {
+							publish(chunk);
+							chunkSize = Math.min(chunkSize * 2, LOAD_MAX_CHUNK_SIZE);
+							chunk = new ArrayList<>(chunkSize);
+							lastPublished = now;
+						}
+					}
+					publish(chunk);
+				}
+				reusable = !cancelled;
+			} catch (final SQLException | RuntimeException e) {
+				// A CANCELLED STATEMENT FAILS, THAT IS NOT AN ERROR
+				if (!cancelled) {
+					error = e;
+				}
+			} finally {
+				// NO LONGER CANCELLABLE ONCE IT GOES BACK TO THE SHARED CACHE
+				synchronized (this) {
+					statement = null;
+				}
+				releaseStatement(connection, loaderQuery, loaderStatement, reusable);
+				final Exception loadError = error;
+				SwingUtilities.invokeLater(() -> finishItems(this, loadError));
+			}
+		}
+
+		/**
+		 * @return true if this is a search for typed text
+		 */
+		boolean isTypeahead() {
+			return typeahead;
+		}
+
+		private void publish(final List<Object[]> _chunk) {
+			if (!_chunk.isEmpty()) {
+				SwingUtilities.invokeLater(() -> appendItems(this, _chunk));
+			}
+		}
+
+		/**
+		 * Stops reading rows and cancels the query if it is still running.
+		 */
+		void cancel() {
+			cancelled = true;
+			synchronized (this) {
+				if (statement != null) {
+					try {
+						statement.cancel();
+					} catch (final SQLException se) {
+						logger.debug(columnForLog + ": Statement could not be cancelled.", se);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Name of the bound property that is true while an asynchronous execute()
+	 * is loading items.
+	 */
+	public static final String LOADING_PROPERTY = "loading";
+
+	/**
+	 * Statements of the queries of all combo boxes, shared so a query run
+	 * again by execute(), an asynchronous execute() or the typeahead mapping
+	 * lookup, on any combo box with the same Connection, is not prepared
+	 * again.
+	 */
+	private static final SSStatementCache STATEMENT_CACHE = SSStatementCache.getSharedCache();
+
+	/**
+	 * Number of rows in the first chunk of items added by an asynchronous
+	 * execute(). Later chunks double in size up to LOAD_MAX_CHUNK_SIZE.
+	 */
+	private static final int LOAD_FIRST_CHUNK_SIZE = 64;
+
+	/**
+	 * Number of distinct values of a display column shared before sharing is
+	 * abandoned for the column.
+	 */
+	private static final int MAX_SHARED_VALUES = 8192;
+
+	/**
+	 * Largest chunk of items added at once by an asynchronous execute().
+	 */
+	private static final int LOAD_MAX_CHUNK_SIZE = 8192;
+
+	/**
+	 * Longest time rows wait before being handed to the combo box, so a slow
+	 * query still shows its first items.
+	 */
+	private static final long LOAD_PUBLISH_INTERVAL_NANOS = 100_000_000L;
+
+	/**
+	 * Default maximum number of items shown for a typeahead search.
+	 */
+	public static final int DEFAULT_TYPEAHEAD_LIMIT = 100;
+
+	/**
+	 * Default milliseconds typing must pause before a typeahead search runs.
+	 */
+	public static final int DEFAULT_TYPEAHEAD_DELAY = 250;
+
+	/**
+	 * Number of rows read by the typeahead mapping query that are kept, so
+	 * going back to a recent record does not query again.
+	 */
+	private static final int TYPEAHEAD_MAPPING_CACHE_SIZE = 256;
+
 	/**
 	 * {@inheritDoc }
 	 */
@@ -300,6 +546,123 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 
 	private static final boolean USE_GLAZED_MODEL = true;
 
+	/**
+	 * Indicator to determine if execute() runs the query in the background.
+	 */
+	private boolean asyncExecute = false;
+
+	/**
+	 * Indicator to determine if execute() updates the items in place rather
+	 * than clearing and adding them.
+	 */
+	private boolean incrementalRefresh = false;
+
+	/**
+	 * Column types and listItemFormat change count when the listItemFormat
+	 * was last configured, so an unchanged configuration isn't redone.
+	 */
+	private JDBCType configuredOptionType = null;
+
+	private JDBCType configuredOption2Type = null;
+
+	private int configuredFormatChangeCount = -1;
+
+	/**
+	 * Loader running the query of an asynchronous execute(), null when not
+	 * loading.
+	 */
+	private transient QueryLoader loader = null;
+
+	/**
+	 * Cache of query results shared with other combo boxes, null to always
+	 * run the query.
+	 */
+	private transient SSLookupCache lookupCache = null;
+
+	/**
+	 * Values bound to the parameters of the query, in order.
+	 */
+	private Object[] queryParameters = new Object[0];
+
+	/**
+	 * Fetch size hint for the query, 0 for the driver default.
+	 */
+	private int fetchSize = 0;
+
+	/**
+	 * Parameterized search query of typeahead mode, null when the combo box
+	 * holds the complete result of the query.
+	 */
+	private String typeaheadQuery = null;
+
+	/**
+	 * Parameterized single row query used in typeahead mode to get the item
+	 * for the bound mapping.
+	 */
+	private String typeaheadMappingQuery = null;
+
+	/**
+	 * Maximum number of items shown for a typeahead search.
+	 */
+	private int typeaheadLimit = DEFAULT_TYPEAHEAD_LIMIT;
+
+	/**
+	 * Milliseconds typing must pause before a typeahead search runs.
+	 */
+	private int typeaheadDelay = DEFAULT_TYPEAHEAD_DELAY;
+
+	/**
+	 * Restarted as text is typed, runs the typeahead search when it fires.
+	 */
+	private transient Timer typeaheadTimer = null;
+
+	/**
+	 * Editor text component watched for typing, null until typeahead mode
+	 * is first executed.
+	 */
+	private transient JTextComponent typeaheadEditor = null;
+
+	/**
+	 * Listens to the typeahead editor for typing, null when not watching.
+	 */
+	private transient DocumentListener typeaheadListener = null;
+
+	/**
+	 * Editable indicator before typeahead mode made the combo box editable.
+	 */
+	private transient boolean typeaheadSavedEditable = false;
+
+	/**
+	 * AutoComplete strict indicator before typeahead mode turned it off,
+	 * null if there was no AutoComplete.
+	 */
+	private transient Boolean typeaheadSavedStrict = null;
+
+	/**
+	 * Item added for the bound mapping by the typeahead mapping query.
+	 */
+	private transient SSListItem typeaheadMappingItem = null;
+
+	/**
+	 * Option, option2 and their column types read by the typeahead mapping
+	 * query, by mapping, least recently used first.
+	 */
+	private final transient Map<Long, Object[]> typeaheadMappingRows = new LinkedHashMap<Long, Object[]>(16, 0.75f,
+			true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Long, Object[]> _eldest) {
+			return size() > TYPEAHEAD_MAPPING_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Mapping being read in the background by the typeahead mapping query,
+	 * null if none.
+	 */
+	private transient Long typeaheadMappingLookup = null;
+
 	/**
 	 * Creates an object of the SSDBComboBox.
 	 */
@@ -559,10 +922,27 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 	/**
 	 * Executes the query specified with setQuery(), populates combobox, and turns on AutoCompleteSupport
 	 * <p>
+	 * If the asynchronous execute indicator is set, the query runs in the
+	 * background instead (see setAsyncExecute()). A query still running from
+	 * an earlier asynchronous execute() is cancelled.
+	 * <p>
 	 * @throws Exception exception that occurs querying data or turning on AutoComplete
 	 */
 	public void execute() throws Exception {
 
+		// A QUERY STILL RUNNING IN THE BACKGROUND IS SUPERSEDED
+		stopQuery();
+
+		if (isTypeahead()) {
+			startTypeahead();
+			return;
+		}
+
+		if (asyncExecute) {
+			startQuery();
+			return;
+		}
+
 		//System.out.println(getBoundColumnName() + " - " + "SSDBComboBox.execute() - setting execute count: " + executeCount++);
 		// (re)query data
 		queryData();
@@ -756,7 +1136,7 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 		// 	return currentItem != null ? remodel.getOption(currentItem) : null;
 		// }
 		Object currentItem = getSelectedItem();
-		return currentItem != null ? listItemFormat.format(currentItem) : null;
+		return currentItem != null ? listItemFormat.formatText(currentItem) : null;
 	}
 
 	// /**
@@ -956,19 +1336,769 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 	}
 
 	/**
-	 * Populates the list model with the data by fetching it from the database.
+	 * Configures the listItemFormat with the column types of the query.
+	 *
+	 * @param _optionType  type of the display column
+	 * @param _option2Type type of the second display column, null if there is
+	 *                     none
 	 */
-	private void queryData() {
+	private void configureListItemFormat(final JDBCType _optionType, final JDBCType _option2Type) {
+		// RECONFIGURING DROPS THE FORMATTED TEXT OF EVERY ITEM
+		if ((configuredFormatChangeCount == listItemFormat.getChangeCount()) && (configuredOptionType == _optionType)
+				&& (configuredOption2Type == _option2Type)) {
+			return;
+		}
+		listItemFormat.clear();
+		listItemFormat.addElemType(optionModel.getOptionListItemElemIndex(), _optionType);
+		if (_option2Type != null) {
+			//option2ColumnType = getJDBCColumnType(rs, rs.findColumn(secondDisplayColumnName));
+			listItemFormat.addElemType(optionModel.getOption2ListItemElemIndex(), _option2Type);
+		}
+		configuredOptionType = _optionType;
+		configuredOption2Type = _option2Type;
+		configuredFormatChangeCount = listItemFormat.getChangeCount();
+	}
 
-		//Long primaryKey = null;
-		ResultSet rs;
+	/**
+	 * Starts replacing the items after the nullItem. Unless refreshing in
+	 * place, the items are cleared.
+	 *
+	 * @param _remodel remodel of the optionModel
+	 * @return true if the items are to be refreshed in place
+	 */
+	private boolean startReplaceItems(final Model.Remodel _remodel) {
+		final boolean inPlace = incrementalRefresh && (_remodel.getItemList().size() > (nullItem == null ? 0 : 1));
+		if (!inPlace) {
+			logger.trace("{}: Clearing eventList.", () -> getColumnForLog());
+			_remodel.clear();
+			nullItem = null;
+		}
+		adjustForNullItem();
+		return inPlace;
+	}
 
-		// this.data.getReadWriteLock().writeLock().lock();
+	/**
+	 * Replaces the items after the nullItem with the new items, either
+	 * by adding them to the cleared list or by refreshing in place.
+	 *
+	 * @param _remodel  remodel of the optionModel
+	 * @param _newItems the items
+	 * @param _inPlace  true to refresh in place
+	 * @return the items now in the list, equal to the new items
+	 */
+	private List<SSListItem> replaceItems(final Model.Remodel _remodel, final List<SSListItem> _newItems,
+			final boolean _inPlace) {
+		if (_inPlace) {
+			// LISTENERS SEE THE CHANGES OF THE REFRESH AS ONE BATCH
+			final boolean coalesceEvents = optionModel.isCoalesceEvents();
+			optionModel.setCoalesceEvents(true);
+			try (Model.Remodel remodel = optionModel.getRemodel()) {
+				final int fromIndex = nullItem == null ? 0 : 1;
+				final int changes = remodel.refresh(fromIndex, _newItems);
+				logger.debug("{}: Refreshed in place, {} changes.", () -> getColumnForLog(), () -> changes);
+				// THE KEPT ITEMS, NOT THE NEW ONES, SO THE LIST AND A CACHE SHARE THEM
+				final List<SSListItem> itemList = remodel.getItemList();
+				return new ArrayList<>(itemList.subList(fromIndex, itemList.size()));
+			} finally {
+				optionModel.setCoalesceEvents(coalesceEvents);
+			}
+		}
+		_remodel.addAll(_newItems);
+		return _newItems;
+	}
+
+	/**
+	 * Clears the items and starts the query of an asynchronous execute() on a
+	 * background thread. When refreshing in place, the items stay until the
+	 * query is done.
+	 */
+	private void startQuery() {
+		final SSLookupCache.Lookup cachedLookup = getCachedLookup();
+		final boolean inPlace;
+		try (Model.Remodel remodel = optionModel.getRemodel()) {
+			inPlace = startReplaceItems(remodel);
+			if (cachedLookup != null) {
+				configureListItemFormat(cachedLookup.getOptionType(), cachedLookup.getOption2Type());
+				replaceItems(remodel, cachedLookup.getItems(), inPlace);
+			}
+		}
+
+		if (cachedLookup != null) {
+			// NOTHING TO WAIT FOR
+			if (getRowSet() != null) {
+				getSSCommon().updateSSComponent();
+			}
+			return;
+		}
+
+		loader = new QueryLoader();
+		loader.refresh = inPlace;
+		firePropertyChange(LOADING_PROPERTY, false, true);
+		SSUtils.newBackgroundThread(loader, "SSDBComboBox loader").start();
+	}
+
+	/**
+	 * Configures the item format once the query has run. Called on the event
+	 * dispatch thread before any items are added.
+	 *
+	 * @param _loader      loader that ran the query
+	 * @param _optionType  type of the display column
+	 * @param _option2Type type of the second display column, null if there is
+	 *                     none
+	 */
+	private void startItems(final QueryLoader _loader, final JDBCType _optionType, final JDBCType _option2Type) {
+		if (_loader != loader) {
+			// SUPERSEDED
+			return;
+		}
+		_loader.optionType = _optionType;
+		_loader.option2Type = _option2Type;
+		configureListItemFormat(_optionType, _option2Type);
+
+		if (_loader.isTypeahead()) {
+			// MATCHES OF THE PREVIOUS SEARCH GO, KEEP THE SELECTION SO THE EDITOR TEXT IS NOT DISTURBED
+			final Object selectedItem = getSelectedItem();
+			try (Model.Remodel remodel = optionModel.getRemodel()) {
+				for (int i = remodel.getItemList().size() - 1; i >= 0; i--) {
+					final SSListItem item = remodel.get(i);
+					if ((item != selectedItem) && (item != nullItem)) {
+						remodel.remove(i);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Adds a chunk of items read by the background query. Called on the event
+	 * dispatch thread. If the item for the bound value arrives, it is
+	 * selected.
+	 *
+	 * @param _loader loader that read the rows
+	 * @param _rows   mapping, option and option2 of each item
+	 */
+	private void appendItems(final QueryLoader _loader, final List<Object[]> _rows) {
+		if (_loader != loader) {
+			// SUPERSEDED
+			return;
+		}
+		try (Model.Remodel remodel = optionModel.getRemodel()) {
+			final List<SSListItem> newItems = new ArrayList<>(_rows.size());
+			for (final Object[] row : _rows) {
+				if (_loader.isTypeahead() && remodel.getMappings().contains(row[0])) {
+					// ALREADY THERE AS THE SELECTED ITEM
+					continue;
+				}
+				newItems.add(remodel.createOptionMappingItem((Long) row[0], row[1], row[2]));
+			}
+			if (!_loader.refresh) {
+				remodel.addAll(newItems);
+			}
+			_loader.items.addAll(newItems);
+		}
+
+		if ((getRowSet() == null) || _loader.isTypeahead() || _loader.refresh) {
+			return;
+		}
+		final Long boundMapping = getBoundMapping();
+		if ((boundMapping == null) || boundMapping.equals(getSelectedMapping())) {
+			return;
+		}
+		for (final Object[] row : _rows) {
+			if (boundMapping.equals(row[0])) {
+				getSSCommon().updateSSComponent();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Ends an asynchronous execute(). Called on the event dispatch thread
+	 * after the last chunk of items. A query error is reported and the
+	 * component updated as after a failed synchronous execute().
+	 *
+	 * @param _loader loader that finished
+	 * @param _error  exception that ended the query, or null
+	 */
+	private void finishItems(final QueryLoader _loader, final Exception _error) {
+		if (_loader != loader) {
+			// SUPERSEDED
+			return;
+		}
+		loader = null;
+		firePropertyChange(LOADING_PROPERTY, true, false);
+
+		if (_error != null) {
+			reportQueryError(_error);
+		}
+		if (_loader.isTypeahead()) {
+			// THE USER IS TYPING, DON'T RESET THE EDITOR FROM THE ROWSET
+			if (!_loader.cancelled && (typeaheadEditor != null) && typeaheadEditor.isFocusOwner()
+					&& (getModel().getSize() > 0) && !isPopupVisible() && isShowing()) {
+				showPopup();
+			}
+			return;
+		}
+		if (_loader.cancelled || (_error != null)) {
+			if (_loader.refresh) {
+				// THE OLD ITEMS ARE STILL THERE
+				return;
+			}
+		} else {
+			List<SSListItem> items = _loader.items;
+			if (_loader.refresh) {
+				try (Model.Remodel remodel = optionModel.getRemodel()) {
+					adjustForNullItem();
+					items = replaceItems(remodel, _loader.items, true);
+				}
+			}
+			putCachedLookup(new SSLookupCache.Lookup(items, _loader.optionType, _loader.option2Type));
+		}
+
+		// AS FOR A SYNCHRONOUS execute(), THE COMPONENT GETS ITS TEXT FROM THE COMPLETE LIST
+		if (getRowSet() != null) {
+			getSSCommon().updateSSComponent();
+		}
+	}
+
+	/**
+	 * Supersedes the query of an asynchronous execute(), if one is running.
+	 * Items already added stay in the list.
+	 */
+	private void stopQuery() {
+		final QueryLoader oldLoader = loader;
+		if (oldLoader == null) {
+			return;
+		}
+		oldLoader.cancel();
+		loader = null;
+		firePropertyChange(LOADING_PROPERTY, true, false);
+	}
+
+	/**
+	 * Clears the items of a typeahead mode execute() and starts watching the
+	 * editor for typing. The item for the bound mapping is added by
+	 * updateSSComponent().
+	 */
+	private void startTypeahead() {
 		try (Model.Remodel remodel = optionModel.getRemodel()) {
 			logger.trace("{}: Clearing eventList.", () -> getColumnForLog());
 			remodel.clear();
 			nullItem = null;
+			typeaheadMappingItem = null;
+			adjustForNullItem();
+		}
+		// THE LOOKUP TABLE MAY HAVE CHANGED SINCE THE ROWS WERE READ
+		typeaheadMappingRows.clear();
+
+		if (typeaheadEditor == null) {
+			// THE DATABASE DOES THE MATCHING, TYPED TEXT NEED NOT MATCH AN ITEM ALREADY IN THE LIST
+			if (getAutoComplete() != null) {
+				typeaheadSavedStrict = getAutoComplete().isStrict();
+				getAutoComplete().setStrict(false);
+			}
+			typeaheadSavedEditable = isEditable();
+			setEditable(true);
+			typeaheadEditor = (JTextComponent) getEditor().getEditorComponent();
+			typeaheadTimer = new Timer(typeaheadDelay, e -> searchTypeahead(typeaheadEditor.getText()));
+			typeaheadTimer.setRepeats(false);
+			typeaheadListener = new DocumentListener() {
+				@Override
+				public void insertUpdate(final DocumentEvent e) {
+					typeaheadTextChanged();
+				}
+
+				@Override
+				public void removeUpdate(final DocumentEvent e) {
+					typeaheadTextChanged();
+				}
 
+				@Override
+				public void changedUpdate(final DocumentEvent e) {
+					// ATTRIBUTE CHANGE, TEXT IS THE SAME
+				}
+			};
+			typeaheadEditor.getDocument().addDocumentListener(typeaheadListener);
+		}
+
+		if (getRowSet() != null) {
+			getSSCommon().updateSSComponent();
+		}
+	}
+
+	/**
+	 * Leaves typeahead mode: stops watching the editor for typing and puts
+	 * back the editable and AutoComplete strict indicators it changed. The
+	 * items stay as they are until the next execute().
+	 */
+	private void stopTypeahead() {
+		if ((loader != null) && loader.isTypeahead()) {
+			stopQuery();
+		}
+		typeaheadMappingLookup = null;
+		typeaheadMappingRows.clear();
+		if (typeaheadEditor == null) {
+			return;
+		}
+		typeaheadTimer.stop();
+		typeaheadEditor.getDocument().removeDocumentListener(typeaheadListener);
+		setEditable(typeaheadSavedEditable);
+		if ((typeaheadSavedStrict != null) && (getAutoComplete() != null)) {
+			getAutoComplete().setStrict(typeaheadSavedStrict);
+		}
+		typeaheadEditor = null;
+		typeaheadTimer = null;
+		typeaheadListener = null;
+		typeaheadSavedStrict = null;
+	}
+
+	/**
+	 * Restarts the typeahead delay when the user changes the editor text.
+	 * Text set by a selection, or while the editor doesn't have the focus,
+	 * is not a search.
+	 */
+	private void typeaheadTextChanged() {
+		if (!isTypeahead() || !typeaheadEditor.isFocusOwner()) {
+			return;
+		}
+		final Object selectedItem = getSelectedItem();
+		if ((selectedItem != null) && typeaheadEditor.getText().equals(listItemFormat.formatText(selectedItem))) {
+			return;
+		}
+		typeaheadTimer.restart();
+	}
+
+	/**
+	 * Runs the typeahead query in the background for the items starting with
+	 * the specified text; the matches replace the items of the previous
+	 * search. A search still running is superseded.
+	 *
+	 * @param _text text typed by the user
+	 */
+	protected void searchTypeahead(final String _text) {
+		stopQuery();
+		if (!isTypeahead() || (ssCommon.getConnection() == null)) {
+			return;
+		}
+		loader = new QueryLoader(typeaheadQuery, new Object[] { _text + "%" }, typeaheadLimit, true);
+		firePropertyChange(LOADING_PROPERTY, false, true);
+		SSUtils.newBackgroundThread(loader, "SSDBComboBox typeahead").start();
+	}
+
+	/**
+	 * In typeahead mode the list only holds the matches of the last search,
+	 * so the item for the bound mapping is added if it is not in the list.
+	 * The item added for the previous bound mapping is removed. A mapping
+	 * read recently is added at once; otherwise the typeahead mapping query
+	 * runs in the background and the component is updated when it is done.
+	 */
+	private void resolveTypeaheadMapping() {
+		final Long boundMapping = getBoundMapping();
+		if ((boundMapping == null) || (typeaheadMappingQuery == null) || (ssCommon.getConnection() == null)) {
+			return;
+		}
+		try (Model.Remodel remodel = optionModel.getRemodel()) {
+			if (remodel.getMappings().contains(boundMapping)) {
+				return;
+			}
+			if (typeaheadMappingItem != null) {
+				remodel.remove(typeaheadMappingItem);
+				typeaheadMappingItem = null;
+			}
+			final Object[] row = typeaheadMappingRows.get(boundMapping);
+			if (row != null) {
+				configureListItemFormat((JDBCType) row[2], (JDBCType) row[3]);
+				typeaheadMappingItem = remodel.createOptionMappingItem(boundMapping, row[0], row[1]);
+				remodel.add(typeaheadMappingItem);
+				return;
+			}
+		}
+		readTypeaheadMapping(boundMapping);
+	}
+
+	/**
+	 * Runs the typeahead mapping query for a mapping on a background thread,
+	 * unless it is already running for that mapping.
+	 *
+	 * @param _mapping mapping to read
+	 */
+	private void readTypeaheadMapping(final Long _mapping) {
+		if (_mapping.equals(typeaheadMappingLookup)) {
+			return;
+		}
+		typeaheadMappingLookup = _mapping;
+
+		final Connection connection = ssCommon.getConnection();
+		final String mappingQuery = typeaheadMappingQuery;
+		final String optionColumnName = displayColumnName;
+		final String option2ColumnName = hasOption2() ? secondDisplayColumnName : null;
+		final String columnForLog = getColumnForLog();
+		SSUtils.newBackgroundThread(() -> {
+			Object[] row = null;
+			SQLException error = null;
+			PreparedStatement statement = null;
+			boolean reusable = false;
+			try {
+				statement = STATEMENT_CACHE.take(connection, mappingQuery);
+				statement.setMaxRows(1);
+				statement.setFetchSize(0);
+				statement.setLong(1, _mapping);
+				logger.debug("{}: Query [{}], parameter [{}].", () -> columnForLog, () -> mappingQuery,
+						() -> _mapping);
+				final long start = SSMetrics.startTimer();
+				try (ResultSet rs = statement.executeQuery()) {
+					SSMetrics.stopTimer(SSMetrics.COMBO_EXECUTE, columnForLog, start);
+					if (rs.next()) {
+						final int optionColumn = rs.findColumn(optionColumnName);
+						final int option2Column = option2ColumnName == null ? 0 : rs.findColumn(option2ColumnName);
+						row = new Object[] { rs.getObject(optionColumn),
+								option2Column == 0 ? null : rs.getObject(option2Column),
+								getJDBCColumnType(rs, optionColumn),
+								option2Column == 0 ? null : getJDBCColumnType(rs, option2Column) };
+					}
+				}
+				reusable = true;
+			} catch (final SQLException se) {
+				error = se;
+			} finally {
+				releaseStatement(connection, mappingQuery, statement, reusable);
+			}
+			final Object[] mappingRow = row;
+			final SQLException mappingError = error;
+			SwingUtilities.invokeLater(() -> finishTypeaheadMapping(mappingQuery, _mapping, mappingRow, mappingError));
+		}, "SSDBComboBox typeahead mapping").start();
+	}
+
+	/**
+	 * Keeps the row read by the typeahead mapping query and, if the mapping
+	 * is still the bound mapping, updates the component to show it. Called
+	 * on the event dispatch thread.
+	 *
+	 * @param _mappingQuery query that was run
+	 * @param _mapping      mapping that was read
+	 * @param _row          option, option2 and their types, null if there is
+	 *                      no row for the mapping
+	 * @param _error        exception thrown by the query, or null
+	 */
+	private void finishTypeaheadMapping(final String _mappingQuery, final Long _mapping, final Object[] _row,
+			final SQLException _error) {
+		if (!_mapping.equals(typeaheadMappingLookup)) {
+			// SUPERSEDED
+			return;
+		}
+		typeaheadMappingLookup = null;
+		if (_error != null) {
+			logger.error(getColumnForLog() + ": SQL Exception.", _error);
+			return;
+		}
+		if ((_row == null) || !isTypeahead() || !_mappingQuery.equals(typeaheadMappingQuery)) {
+			return;
+		}
+		typeaheadMappingRows.put(_mapping, _row);
+		if ((getRowSet() != null) && _mapping.equals(getBoundMapping())) {
+			getSSCommon().updateSSComponent();
+		}
+	}
+
+	/**
+	 * {@inheritDoc }
+	 * <p>
+	 * In typeahead mode the item for the bound mapping is first added if it is
+	 * not in the list; one not read recently is read in the background.
+	 */
+	@Override
+	public void updateSSComponent() {
+		if (isTypeahead()) {
+			resolveTypeaheadMapping();
+		}
+		super.updateSSComponent();
+	}
+
+	/**
+	 * Returns true if the combo box is in typeahead mode.
+	 *
+	 * @return true if a typeahead query is set
+	 */
+	public boolean isTypeahead() {
+		return typeaheadQuery != null;
+	}
+
+	/**
+	 * Returns the parameterized search query of typeahead mode.
+	 *
+	 * @return the typeahead query, null if not in typeahead mode
+	 */
+	public String getTypeaheadQuery() {
+		return typeaheadQuery;
+	}
+
+	/**
+	 * Sets typeahead mode, for lookup tables too large to load into the
+	 * combo box. Rather than running the query, execute() empties the list.
+	 * As the user types, after a pause, the specified query runs in the
+	 * background with its single parameter set to the typed text followed by
+	 * {@code %}, and its first getTypeaheadLimit() rows become the items.
+	 * For example
+	 * <pre>
+	 * SELECT part_id, part_name FROM part WHERE part_name LIKE ? ORDER BY part_name
+	 * </pre>
+	 * The bound mapping is shown using the query set with
+	 * setTypeaheadMappingQuery(), run in the background; the most recently
+	 * read rows are kept until the next execute().
+	 * <p>
+	 * The query must have the columns named by getPrimaryKeyColumnName(),
+	 * getDisplayColumnName() and getSecondDisplayColumnName(). Typed
+	 * {@code %} and {@code _} act as LIKE wildcards.
+	 * <p>
+	 * Leaving typeahead mode puts back the editable and AutoComplete strict
+	 * indicators; call execute() to load the complete list again.
+	 *
+	 * @param _typeaheadQuery search query with one parameter, null to leave
+	 *                        typeahead mode
+	 */
+	public void setTypeaheadQuery(final String _typeaheadQuery) {
+		final String oldValue = typeaheadQuery;
+		typeaheadQuery = _typeaheadQuery;
+		if ((oldValue != null) && (typeaheadQuery == null)) {
+			stopTypeahead();
+		}
+		firePropertyChange("typeaheadQuery", oldValue, typeaheadQuery);
+	}
+
+	/**
+	 * Returns the single row query used in typeahead mode to get the item
+	 * for the bound mapping.
+	 *
+	 * @return the typeahead mapping query
+	 */
+	public String getTypeaheadMappingQuery() {
+		return typeaheadMappingQuery;
+	}
+
+	/**
+	 * Sets the query used in typeahead mode to get the item for the bound
+	 * mapping when it is not in the list. Its single parameter is set to the
+	 * mapping, for example
+	 * <pre>
+	 * SELECT part_id, part_name FROM part WHERE part_id = ?
+	 * </pre>
+	 *
+	 * @param _typeaheadMappingQuery query with one parameter for the primary
+	 *                               key
+	 */
+	public void setTypeaheadMappingQuery(final String _typeaheadMappingQuery) {
+		final String oldValue = typeaheadMappingQuery;
+		typeaheadMappingQuery = _typeaheadMappingQuery;
+		typeaheadMappingLookup = null;
+		typeaheadMappingRows.clear();
+		firePropertyChange("typeaheadMappingQuery", oldValue, typeaheadMappingQuery);
+	}
+
+	/**
+	 * Returns the maximum number of items shown for a typeahead search.
+	 *
+	 * @return the typeahead limit
+	 */
+	public int getTypeaheadLimit() {
+		return typeaheadLimit;
+	}
+
+	/**
+	 * Sets the maximum number of items shown for a typeahead search.
+	 *
+	 * @param _typeaheadLimit maximum number of matches, 0 for no limit
+	 */
+	public void setTypeaheadLimit(final int _typeaheadLimit) {
+		final int oldValue = typeaheadLimit;
+		typeaheadLimit = _typeaheadLimit;
+		firePropertyChange("typeaheadLimit", oldValue, typeaheadLimit);
+	}
+
+	/**
+	 * Returns the milliseconds typing must pause before a typeahead search
+	 * runs.
+	 *
+	 * @return the typeahead delay
+	 */
+	public int getTypeaheadDelay() {
+		return typeaheadDelay;
+	}
+
+	/**
+	 * Sets the milliseconds typing must pause before a typeahead search runs.
+	 *
+	 * @param _typeaheadDelay delay in milliseconds
+	 */
+	public void setTypeaheadDelay(final int _typeaheadDelay) {
+		final int oldValue = typeaheadDelay;
+		typeaheadDelay = _typeaheadDelay;
+		if (typeaheadTimer != null) {
+			typeaheadTimer.setInitialDelay(_typeaheadDelay);
+		}
+		firePropertyChange("typeaheadDelay", oldValue, typeaheadDelay);
+	}
+
+	/**
+	 * Returns the mapping in the bound column of the RowSet.
+	 *
+	 * @return the bound mapping, null if it is null or not a number
+	 */
+	private Long getBoundMapping() {
+		final String boundColumnText = getBoundColumnText();
+		if ((boundColumnText == null) || boundColumnText.isEmpty()) {
+			return null;
+		}
+		try {
+			return Long.valueOf(boundColumnText);
+		} catch (final NumberFormatException nfe) {
+			return null;
+		}
+	}
+
+	/**
+	 * Asks the query of an asynchronous execute() to stop. The items added so
+	 * far stay in the list and LOADING_PROPERTY changes to false once the
+	 * query has stopped.
+	 */
+	public void cancelExecute() {
+		if (loader != null) {
+			loader.cancel();
+		}
+	}
+
+	/**
+	 * Returns the result of this combo box's query from the lookup cache.
+	 *
+	 * @return the cached lookup, null if not cached or no cache is used
+	 */
+	private SSLookupCache.Lookup getCachedLookup() {
+		if ((lookupCache == null) || (ssCommon.getConnection() == null) || (getQuery() == null)) {
+			return null;
+		}
+		return lookupCache.get(ssCommon.getConnection(), getQuery(), queryParameters, getLookupColumnNames());
+	}
+
+	/**
+	 * Stores the result of this combo box's query in the lookup cache, if one
+	 * is used.
+	 *
+	 * @param _lookup items and column types read by the query
+	 */
+	private void putCachedLookup(final SSLookupCache.Lookup _lookup) {
+		if ((lookupCache == null) || (ssCommon.getConnection() == null) || (getQuery() == null)) {
+			return;
+		}
+		lookupCache.put(ssCommon.getConnection(), getQuery(), queryParameters, _lookup, getLookupColumnNames());
+	}
+
+	private String[] getLookupColumnNames() {
+		return new String[] { getPrimaryKeyColumnName(), displayColumnName,
+				hasOption2() ? secondDisplayColumnName : null };
+	}
+
+	/**
+	 * Returns the cache of query results used by execute().
+	 *
+	 * @return the lookup cache, null if the query is always run
+	 */
+	public SSLookupCache getLookupCache() {
+		return lookupCache;
+	}
+
+	/**
+	 * Sets a cache of query results, usually
+	 * {@link SSLookupCache#getSharedCache()}, so combo boxes with the same
+	 * connection, query and columns share one list of items: execute() runs
+	 * the query only if its result is not cached. Invalidate the cache (e.g.
+	 * {@link SSLookupCache#invalidate(String)}) when the queried tables
+	 * change.
+	 *
+	 * @param _lookupCache the lookup cache, null to always run the query
+	 */
+	public void setLookupCache(final SSLookupCache _lookupCache) {
+		lookupCache = _lookupCache;
+	}
+
+	/**
+	 * Returns true while an asynchronous execute() is loading items.
+	 *
+	 * @return true if a background query is running
+	 */
+	public boolean isLoading() {
+		return loader != null;
+	}
+
+	/**
+	 * Returns the asynchronous execute indicator.
+	 *
+	 * @return true if execute() runs the query in the background
+	 */
+	public boolean isAsyncExecute() {
+		return asyncExecute;
+	}
+
+	/**
+	 * Sets the asynchronous execute indicator. When true, execute() clears the
+	 * list and returns without waiting for the query. The query runs on a
+	 * background thread (a virtual thread where available) and the items are
+	 * added in chunks on the event dispatch thread. LOADING_PROPERTY is true
+	 * until the last item is added. For a bound combo, the item for the bound
+	 * value is selected as soon as it arrives.
+	 * <p>
+	 * Calling execute() again cancels a query still running.
+	 *
+	 * @param _asyncExecute true to run the query in the background
+	 */
+	public void setAsyncExecute(final boolean _asyncExecute) {
+		final boolean oldValue = asyncExecute;
+		asyncExecute = _asyncExecute;
+		firePropertyChange("asyncExecute", oldValue, asyncExecute);
+	}
+
+	/**
+	 * Returns the incremental refresh indicator.
+	 *
+	 * @return true if execute() refreshes the items in place
+	 * @since 4.0.14
+	 */
+	public boolean isIncrementalRefresh() {
+		return incrementalRefresh;
+	}
+
+	/**
+	 * Sets the incremental refresh indicator. When true, an execute() of a
+	 * combo that already has items compares the query result with the items
+	 * by mapping and applies only the differences: items no longer returned
+	 * are removed, new ones inserted and ones with changed display values
+	 * replaced. Unchanged items, the selection and an open popup are left
+	 * alone, so a refresh after a few records changed costs a few list
+	 * events rather than removing and re-adding every item.
+	 * <p>
+	 * With an asynchronous execute() the items stay as they are until the
+	 * query is done.
+	 *
+	 * @param _incrementalRefresh true to refresh the items in place
+	 * @since 4.0.14
+	 */
+	public void setIncrementalRefresh(final boolean _incrementalRefresh) {
+		final boolean oldValue = incrementalRefresh;
+		incrementalRefresh = _incrementalRefresh;
+		firePropertyChange("incrementalRefresh", oldValue, incrementalRefresh);
+	}
+
+	/**
+	 * Populates the list model with the data by fetching it from the database.
+	 */
+	private void queryData() {
+
+		//Long primaryKey = null;
+
+		// this.data.getReadWriteLock().writeLock().lock();
+		final Connection connection = ssCommon.getConnection();
+		final String query = getQuery();
+		PreparedStatement statement = null;
+		boolean reusable = false;
+		try (Model.Remodel remodel = optionModel.getRemodel()) {
 			logger.debug("{}: Nulls allowed? [{}].", () -> getColumnForLog(), () -> getAllowNull());
 			// 2020-07-24: adding support for a nullable first item if nulls are supported
 			// 2020-10-02: For a SSDBComboBox used as a navigator, we don't want a null first item. Look at getBoundColumnName() and isComboBoxNavigator.
@@ -977,38 +2107,51 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 			// 	nullItem = remodel.createOptionMappingItem(null, "", null);
 			// 	remodel.add(nullItem);
 			// }
-			adjustForNullItem();
+			final boolean inPlace = startReplaceItems(remodel);
 
-			Statement statement = ssCommon.getConnection().createStatement();
-			rs = statement.executeQuery(getQuery());
-
-			//optionColumnType = getJDBCColumnType(rs, rs.findColumn(displayColumnName));
-
-			// Configure the listItemFormat with this queries column types
-			listItemFormat.clear();
-			listItemFormat.addElemType(optionModel.getOptionListItemElemIndex(),
-					getJDBCColumnType(rs, rs.findColumn(displayColumnName)));
-			if (hasOption2()) {
-				//option2ColumnType = getJDBCColumnType(rs, rs.findColumn(secondDisplayColumnName));
-				listItemFormat.addElemType(optionModel.getOption2ListItemElemIndex(),
-						getJDBCColumnType(rs, rs.findColumn(secondDisplayColumnName)));
+			final SSLookupCache.Lookup cachedLookup = getCachedLookup();
+			if (cachedLookup != null) {
+				configureListItemFormat(cachedLookup.getOptionType(), cachedLookup.getOption2Type());
+				replaceItems(remodel, cachedLookup.getItems(), inPlace);
+				return;
 			}
 
-			logger.debug("{}: Query [{}].", () -> getColumnForLog(), () -> getQuery());
+			statement = STATEMENT_CACHE.take(connection, query);
+			statement.setMaxRows(0);
+			statement.setFetchSize(fetchSize);
+			setParameters(statement, queryParameters);
+			final long start = SSMetrics.startTimer();
+			try (ResultSet rs = statement.executeQuery()) {
+				if (start != SSMetrics.NOT_STARTED) {
+					SSMetrics.stopTimer(SSMetrics.COMBO_EXECUTE, getColumnForLog(), start);
+				}
 
-			List<SSListItem> newItems = new ArrayList<>();
-			while (rs.next()) {
-				Long pk = rs.getLong(getPrimaryKeyColumnName());
-				Object opt = rs.getObject(displayColumnName);
-				Object opt2 = hasOption2() ? rs.getObject(secondDisplayColumnName) : null;
-				logger.trace("{}: First column to display - " + opt, () -> getColumnForLog());
-				if (hasOption2()) {
-					logger.trace("{}: Second column to display - " + opt2, () -> getColumnForLog());
+				//optionColumnType = getJDBCColumnType(rs, rs.findColumn(displayColumnName));
+
+				// Configure the listItemFormat with this queries column types
+				final JDBCType optionType = getJDBCColumnType(rs, rs.findColumn(displayColumnName));
+				final JDBCType option2Type = hasOption2() ? getJDBCColumnType(rs, rs.findColumn(secondDisplayColumnName)) : null;
+				configureListItemFormat(optionType, option2Type);
+
+				logger.debug("{}: Query [{}].", () -> getColumnForLog(), () -> getQuery());
+
+				List<SSListItem> newItems = new ArrayList<>();
+				final SharedValues options = new SharedValues();
+				final SharedValues options2 = new SharedValues();
+				while (rs.next()) {
+					Long pk = rs.getLong(getPrimaryKeyColumnName());
+					Object opt = options.share(rs.getObject(displayColumnName));
+					Object opt2 = hasOption2() ? options2.share(rs.getObject(secondDisplayColumnName)) : null;
+					logger.trace("{}: First column to display - " + opt, () -> getColumnForLog());
+					if (hasOption2()) {
+						logger.trace("{}: Second column to display - " + opt2, () -> getColumnForLog());
+					}
+					newItems.add(remodel.createOptionMappingItem(pk, opt, opt2));
 				}
-				newItems.add(remodel.createOptionMappingItem(pk, opt, opt2));
+				putCachedLookup(new SSLookupCache.Lookup(replaceItems(remodel, newItems, inPlace), optionType,
+						option2Type));
 			}
-			remodel.addAll(newItems);
-			rs.close();
+			reusable = true;
 
 //				// extract primary key
 //				primaryKey = rs.getLong(getPrimaryKeyColumnName());
@@ -1035,11 +2178,70 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 //			rs.close();
 
 		} catch (final SQLException se) {
-			logger.error(getColumnForLog() + ": SQL Exception.", se);
+			reportQueryError(se);
 		} catch (final java.lang.NullPointerException npe) {
-			logger.error(getColumnForLog() + ": Null Pointer Exception.", npe);
+			reportQueryError(npe);
+		} finally {
+			releaseStatement(connection, query, statement, reusable);
+		}
+	}
+
+	/**
+	 * Reports an exception that ended the query of execute(), the same way
+	 * for a synchronous and an asynchronous execute(). Called on the event
+	 * dispatch thread.
+	 *
+	 * @param _e exception thrown by the query or while reading its rows
+	 */
+	private void reportQueryError(final Exception _e) {
+		if (_e instanceof SQLException) {
+			logger.error(getColumnForLog() + ": SQL Exception.", _e);
+		} else if (_e instanceof NullPointerException) {
+			logger.error(getColumnForLog() + ": Null Pointer Exception.", _e);
+		} else {
+			logger.error(getColumnForLog() + ": Exception.", _e);
+		}
+	}
+
+	/**
+	 * Hands a statement taken from the statement cache back to it, or closes
+	 * the statement if the query failed or was cancelled.
+	 *
+	 * @param _connection Connection the query ran on
+	 * @param _query      query text
+	 * @param _statement  statement taken for the query, null if none was
+	 * @param _reusable   true if the query completed normally
+	 */
+	private static void releaseStatement(final Connection _connection, final String _query,
+			final PreparedStatement _statement, final boolean _reusable) {
+		if (_statement == null) {
+			return;
+		}
+		if (_reusable) {
+			STATEMENT_CACHE.release(_connection, _query, _statement);
+		} else {
+			try {
+				_statement.close();
+			} catch (final SQLException se) {
+				logger.debug("Statement could not be closed.", se);
+			}
+		}
+	}
+
+	/**
+	 * Binds values to the parameters of a statement.
+	 *
+	 * @param _statement  statement with a parameter for each value
+	 * @param _parameters values, in parameter order
+	 * @throws SQLException if a value can not be bound
+	 */
+	private static void setParameters(final PreparedStatement _statement, final Object[] _parameters)
+			throws SQLException {
+		for (int i = 0; i < _parameters.length; i++) {
+			_statement.setObject(i + 1, _parameters[i]);
 		}
 	}
+
 //	private void queryDataXXX() {
 //
 //		if (eventList != null) {
@@ -1193,6 +2395,63 @@ public class SSDBComboBox extends SSBaseComboBox<Long, Object, Object>
 		firePropertyChange("query", oldValue, query);
 	}
 
+	/**
+	 * Sets a parameterized query used to display items in the combo box and
+	 * the values bound to its parameters, e.g. a child combo box
+	 * <pre>
+	 * combo.setQuery("SELECT part_id, part_name FROM part WHERE supplier_id = ?", supplierId);
+	 * </pre>
+	 * The statement is prepared once and reused by later calls to execute()
+	 * while the query text is unchanged.
+	 *
+	 * @param _query      query with a {@code ?} for each parameter
+	 * @param _parameters values of the parameters, in order
+	 */
+	public void setQuery(final String _query, final Object... _parameters) {
+		setQuery(_query);
+		setQueryParameters(_parameters);
+	}
+
+	/**
+	 * Returns the values bound to the parameters of the query.
+	 *
+	 * @return parameter values, empty if the query has no parameters
+	 */
+	public Object[] getQueryParameters() {
+		return queryParameters.clone();
+	}
+
+	/**
+	 * Sets the values bound to the parameters of the query by the next
+	 * execute(); the query is not parsed again.
+	 *
+	 * @param _parameters values of the parameters, in order
+	 */
+	public void setQueryParameters(final Object... _parameters) {
+		queryParameters = _parameters == null ? new Object[0] : _parameters.clone();
+	}
+
+	/**
+	 * Returns the fetch size hint used for the query.
+	 *
+	 * @return number of rows fetched at a time, 0 for the driver default
+	 */
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	/**
+	 * Sets the number of rows the driver should fetch from the database at a
+	 * time when reading the query, see {@link Statement#setFetchSize(int)}.
+	 *
+	 * @param _fetchSize rows fetched at a time, 0 for the driver default
+	 */
+	public void setFetchSize(final int _fetchSize) {
+		final int oldValue = fetchSize;
+		fetchSize = _fetchSize;
+		firePropertyChange("fetchSize", oldValue, fetchSize);
+	}
+
 	/**
 	 * Sets the second display name. If more than one column have to displayed then
 	 * use this. For the parts example given above. If you have a part description
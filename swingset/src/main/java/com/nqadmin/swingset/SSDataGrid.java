@@ -48,9 +48,11 @@ import java.awt.event.MouseEvent;
 import java.lang.reflect.Constructor;
 import java.sql.Date;
 import java.sql.SQLException;
+import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.EventObject;
-import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.StringTokenizer;
 import java.util.Vector;
 
@@ -59,7 +61,6 @@ import javax.swing.DefaultCellEditor;
 import javax.swing.JCheckBox;
 import javax.swing.JComboBox;
 import javax.swing.JComponent;
-import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JScrollPane;
 import javax.swing.JTable;
@@ -183,14 +184,14 @@ public class SSDataGrid extends JTable {
 				// CHECK THE COLUMN TYPE AND RETURN CORRESPONDING OBJECT.
 				// IF IT IS INTEGER THEN 1 IS CONSIDERED TRUE AND 0 FALSE.
 				if (columnClass == java.sql.Types.BOOLEAN) {
-					return new Boolean(true);
+					return Boolean.TRUE;
 				}
-				return new Integer(1);
+				return Integer.valueOf(1);
 			}
 			if (columnClass == java.sql.Types.BOOLEAN) {
-				return new Boolean(false);
+				return Boolean.FALSE;
 			}
-			return new Integer(0);
+			return Integer.valueOf(0);
 		}
 
 		@Override
@@ -287,16 +288,18 @@ public class SSDataGrid extends JTable {
 		// Set the # of clicks required to edit the combo to 2.
 		int tmpClickCountToStart = 2;
 		Object[] underlyingValues = null;
+		Map<Object, Integer> underlyingIndexes = null;
 
 		public ComboEditor(final Object[] _items, final Object[] _underlyingValues) {
 			super(new JComboBox<>(_items));
 			underlyingValues = _underlyingValues;
+			underlyingIndexes = indexValues(_underlyingValues);
 		}
 
 		@Override
 		public Object getCellEditorValue() {
 			if (underlyingValues == null) {
-				return new Integer(((JComboBox<?>) getComponent()).getSelectedIndex());
+				return Integer.valueOf(((JComboBox<?>) getComponent()).getSelectedIndex());
 			}
 
 			final int index = ((JComboBox<?>) getComponent()).getSelectedIndex();
@@ -318,13 +321,8 @@ public class SSDataGrid extends JTable {
 				}
 				return ((Integer) _value);
 			}
-			for (int i = 0; i < underlyingValues.length; i++) {
-				if (underlyingValues[i].equals(_value)) {
-					return i;
-				}
-			}
-
-			return -1;
+			final Integer index = underlyingIndexes.get(_value);
+			return index == null ? -1 : index;
 		}
 
 		@Override
@@ -357,10 +355,19 @@ public class SSDataGrid extends JTable {
 		
 		Object[] displayValues = null;
 		Object[] underlyingValues = null;
+		Map<Object, Integer> underlyingIndexes = null;
+
+		// TEXT OF EACH DISPLAY VALUE, SO PAINTING DOES NOT CALL toString()
+		String[] displayTexts = null;
 
 		public ComboRenderer(final Object[] _items, final Object[] _underlyingValues) {
 			underlyingValues = _underlyingValues;
+			underlyingIndexes = indexValues(_underlyingValues);
 			displayValues = _items;
+			displayTexts = new String[_items.length];
+			for (int i = 0; i < _items.length; i++) {
+				displayTexts[i] = _items[i].toString();
+			}
 		}
 
 		protected int getIndexOf(final Object _value) {
@@ -370,20 +377,13 @@ public class SSDataGrid extends JTable {
 			if (underlyingValues == null) {
 				return ((Integer) _value);
 			}
-			for (int i = 0; i < underlyingValues.length; i++) {
-				if (underlyingValues[i].equals(_value)) {
-					return i;
-				}
-			}
-			return 0;
+			final Integer index = underlyingIndexes.get(_value);
+			return index == null ? 0 : index;
 		}
 
+		// SETS THE DISPLAY TEXT DIRECTLY, RATHER THAN THE TEXT OF THE UNDERLYING VALUE
 		@Override
-		public Component getTableCellRendererComponent(final JTable _table, final Object _value, final boolean _selected,
-				final boolean _hasFocus, final int _row, final int _column) {
-
-			final JLabel label = (JLabel) super.getTableCellRendererComponent(_table, _value, _selected, _hasFocus, _row,
-					_column);
+		protected void setValue(final Object _value) {
 
 			int index = -1;
 			if (displayValues.length > 0) {
@@ -393,11 +393,10 @@ public class SSDataGrid extends JTable {
 			}
 
 			if (index == -1) {
-				label.setText("");
+				setText("");
 			} else {
-				label.setText(displayValues[index].toString());
+				setText(displayTexts[index]);
 			}
-			return label;
 		}
 	}
 
@@ -469,11 +468,7 @@ public class SSDataGrid extends JTable {
 				final int row, final int column) {
 
 			if (value instanceof Date) {
-				final Date date = (Date) value;
-				final GregorianCalendar calendar = new GregorianCalendar();
-				calendar.setTime(date);
-				final String strDate = "" + (calendar.get(Calendar.MONTH) + 1) + "/" + calendar.get(Calendar.DAY_OF_MONTH)
-						+ "/" + calendar.get(Calendar.YEAR);
+				final String strDate = ((Date) value).toLocalDate().format(DATE_DISPLAY_FORMAT);
 				return super.getTableCellEditorComponent(table, strDate, isSelected, row, column);
 			}
 
@@ -503,16 +498,20 @@ public class SSDataGrid extends JTable {
 		 */
 		private static final long serialVersionUID = 2167118906692276587L;
 
+		// LAST DATE FORMATTED, ADJACENT CELLS OFTEN HOLD THE SAME DATE
+		private long lastTime = Long.MIN_VALUE;
+		private String lastText = null;
+
 		@Override
 		public void setValue(final Object value) {
 			if (value instanceof java.sql.Date) {
 				final Date date = (Date) value;
-				final GregorianCalendar calendar = new GregorianCalendar();
-				calendar.setTime(date);
-				final String strDate = "" + (calendar.get(Calendar.MONTH) + 1) + "/" + calendar.get(Calendar.DAY_OF_MONTH)
-						+ "/" + calendar.get(Calendar.YEAR);
+				if ((lastText == null) || (date.getTime() != lastTime)) {
+					lastText = date.toLocalDate().format(DATE_DISPLAY_FORMAT);
+					lastTime = date.getTime();
+				}
 				setHorizontalAlignment(SwingConstants.CENTER);
-				setText(strDate);
+				setText(lastText);
 			} else {
 				super.setValue(value);
 			}
@@ -674,6 +673,31 @@ public class SSDataGrid extends JTable {
 	 */
 	private static Logger logger = SSUtils.getLogger();
 
+	/**
+	 * Format used to display and edit dates, e.g. 7/4/2021.
+	 */
+	private static final DateTimeFormatter DATE_DISPLAY_FORMAT = DateTimeFormatter.ofPattern("M/d/yyyy");
+
+	/**
+	 * Maps each underlying value of a combo column to its index, keeping the
+	 * first index of a repeated value, so cells are looked up without scanning
+	 * the values.
+	 *
+	 * @param _underlyingValues underlying values of the combo, may be null
+	 *
+	 * @return index of each value, null if _underlyingValues is null
+	 */
+	private static Map<Object, Integer> indexValues(final Object[] _underlyingValues) {
+		if (_underlyingValues == null) {
+			return null;
+		}
+		final Map<Object, Integer> indexes = new HashMap<>(_underlyingValues.length * 2);
+		for (int i = 0; i < _underlyingValues.length; i++) {
+			indexes.putIfAbsent(_underlyingValues[i], Integer.valueOf(i));
+		}
+		return indexes;
+	}
+
 	/**
 	 * Unique serial ID
 	 */
@@ -745,6 +769,12 @@ public class SSDataGrid extends JTable {
 	 */
 	protected SSTableModel tableModel = new SSTableModel();
 
+	/**
+	 * Pager supplying the rows in paged mode, null when the rows come from the
+	 * RowSet.
+	 */
+	protected SSTablePager pager = null;
+
 	/**
 	 * Constructs an empty data grid.
 	 */
@@ -803,6 +833,27 @@ public class SSDataGrid extends JTable {
 
 	} // end protected void bind() {
 
+	/**
+	 * Returns the index of the column with the specified name in the RowSet or,
+	 * in paged mode, in the pager's query.
+	 *
+	 * @param _columnName name of the column
+	 *
+	 * @return the column index (starting from 1)
+	 *
+	 * @throws SQLException if the column is not present
+	 */
+	protected int findColumnIndex(final String _columnName) throws SQLException {
+		if (pager != null) {
+			final int columnIndex = pager.getColumnMetadata().findColumnIndex(_columnName);
+			if (columnIndex == 0) {
+				throw new SQLException("Column not found: " + _columnName);
+			}
+			return columnIndex;
+		}
+		return RowSetOps.getColumnIndex(rowSet, _columnName);
+	}
+
 	/**
 	 * Returns the callExecute property. If set to true causes the navigator to skip
 	 * the execute function call on the specified RowSet. (See FAQ for further
@@ -866,7 +917,7 @@ public class SSDataGrid extends JTable {
 	 */
 	public Object getDefaultValue(final String _columnName) throws SQLException {
 		//final int columnNumber = rowSet.getColumnIndex(_columnName);
-		final int columnNumber = RowSetOps.getColumnIndex(rowSet,_columnName);
+		final int columnNumber = findColumnIndex(_columnName);
 		return tableModel.getDefaultValue(columnNumber - 1);
 	}
 
@@ -941,7 +992,7 @@ public class SSDataGrid extends JTable {
 			}
 			// IF THIS COLUMN IS NOT IN HIDDEN COLUMNS ADD IT TO FILTERED LIST
 			if (!found) {
-				filteredColumns.add(new Integer(selectedColumns[i]));
+				filteredColumns.add(Integer.valueOf(selectedColumns[i]));
 			}
 		}
 
@@ -963,6 +1014,15 @@ public class SSDataGrid extends JTable {
 		return rowSet;
 	}
 
+	/**
+	 * Returns the pager used in paged mode.
+	 *
+	 * @return the pager, or null if the rows come from the RowSet
+	 */
+	public SSTablePager getPager() {
+		return pager;
+	}
+
 	/**
 	 * Hides the columns specified in the hidden columns list.
 	 */
@@ -1117,6 +1177,43 @@ public class SSDataGrid extends JTable {
 		allowDeletion = _allowDeletion;
 	}
 
+	/**
+	 * @return true if the rows of the RowSet are loaded in the background
+	 */
+	public boolean isAsyncLoad() {
+		return tableModel.isAsyncLoad();
+	}
+
+	/**
+	 * Sets whether the rows of the RowSet are loaded in the background so the
+	 * first rows are displayed without waiting for the rest. Must be set before
+	 * the RowSet. See SSTableModel.setAsyncLoad().
+	 *
+	 * @param _asyncLoad true to load the rows in the background
+	 */
+	public void setAsyncLoad(final boolean _asyncLoad) {
+		tableModel.setAsyncLoad(_asyncLoad);
+	}
+
+	/**
+	 * @return true if the rows of the RowSet are copied into a read-only
+	 *         column store
+	 */
+	public boolean isSnapshotMode() {
+		return tableModel.isSnapshotMode();
+	}
+
+	/**
+	 * Sets whether the rows of the RowSet are copied into a read-only column
+	 * store, e.g. for large reporting grids. Must be set before the RowSet.
+	 * See SSTableModel.setSnapshotMode().
+	 *
+	 * @param _snapshotMode true to copy the rows into a column store
+	 */
+	public void setSnapshotMode(final boolean _snapshotMode) {
+		tableModel.setSnapshotMode(_snapshotMode);
+	}
+
 	/**
 	 * Sets the callExecute property. If set to true causes the navigator to skip
 	 * the execute function call on the specified RowSet. (See FAQ for further
@@ -1155,7 +1252,7 @@ public class SSDataGrid extends JTable {
 	 */
 	public void setCheckBoxRenderer(final String _column) throws SQLException {
 		//final int column = rowSet.getColumnIndex(_column) - 1;
-		final int column = RowSetOps.getColumnIndex(rowSet,_column) - 1;
+		final int column = findColumnIndex(_column) - 1;
 		setCheckBoxRenderer(column);
 	}
 
@@ -1247,7 +1344,7 @@ public class SSDataGrid extends JTable {
 	public void setComboRenderer(final String _column, final Object[] _displayItems, final Object[] _underlyingValues, final int _columnWidth)
 			throws SQLException {
 		//final int column = rowSet.getColumnIndex(_column) - 1;
-		final int column = RowSetOps.getColumnIndex(rowSet,_column) - 1;
+		final int column = findColumnIndex(_column) - 1;
 		setComboRenderer(column, _displayItems, _underlyingValues, _columnWidth);
 	}
 
@@ -1279,7 +1376,7 @@ public class SSDataGrid extends JTable {
 	 */
 	public void setDateRenderer(final String _column) throws SQLException {
 		//final int tmpColumn = rowSet.getColumnIndex(_column) - 1;
-		final int tmpColumn = RowSetOps.getColumnIndex(rowSet,_column) - 1;
+		final int tmpColumn = findColumnIndex(_column) - 1;
 		final TableColumnModel tmpColumnModel = getColumnModel();
 		final TableColumn tmpTableColumn = tmpColumnModel.getColumn(tmpColumn);
 		tmpTableColumn.setCellRenderer(new DateRenderer());
@@ -1331,7 +1428,7 @@ public class SSDataGrid extends JTable {
 
 			for (int i = 0; i < _columnNames.length; i++) {
 				//columnNumbers[i] = rowSet.getColumnIndex(_columnNames[i]) - 1;
-				columnNumbers[i] = RowSetOps.getColumnIndex(rowSet,_columnNames[i]) - 1;
+				columnNumbers[i] = findColumnIndex(_columnNames[i]) - 1;
 			}
 		}
 
@@ -1392,7 +1489,7 @@ public class SSDataGrid extends JTable {
 			hiddenColumns = new int[_columnNames.length];
 			for (int i = 0; i < _columnNames.length; i++) {
 				//hiddenColumns[i] = rowSet.getColumnIndex(_columnNames[i]) - 1;
-				hiddenColumns[i] = RowSetOps.getColumnIndex(rowSet,_columnNames[i]) - 1;
+				hiddenColumns[i] = findColumnIndex(_columnNames[i]) - 1;
 			}
 		}
 		hideColumns();
@@ -1453,11 +1550,40 @@ public class SSDataGrid extends JTable {
 	 */
 	public void setPrimaryColumn(final String _columnName) throws SQLException {
 		//final int columnNumber = rowSet.getColumnIndex(_columnName) - 1;
-		final int columnNumber = RowSetOps.getColumnIndex(rowSet,_columnName) - 1;
+		final int columnNumber = findColumnIndex(_columnName) - 1;
 		
 		tableModel.setPrimaryColumn(columnNumber);
 	}
 
+	/**
+	 * Puts the data grid in paged mode. Rather than executing a RowSet and
+	 * reading all of its rows, the grid reads rows a page at a time as they are
+	 * displayed, using keyset queries on the pager's key column. The key column
+	 * becomes the primary column. A paged grid is read-only.
+	 * <p>
+	 * As with setRowSet(), set the headers before calling this method.
+	 * Column names passed to the other methods are resolved against the
+	 * pager's query.
+	 *
+	 * @param _pager pager supplying the rows
+	 */
+	public void setPager(final SSTablePager _pager) {
+		final SSTablePager oldValue = pager;
+		pager = _pager;
+		firePropertyChange("pager", oldValue, pager);
+		final RowSet oldRowSet = rowSet;
+		rowSet = null;
+		firePropertyChange("rowSet", oldRowSet, rowSet);
+
+		tableModel.setPager(pager);
+		setModel(tableModel);
+		rowCount = tableModel.getRowCount();
+		columnCount = tableModel.getColumnCount();
+
+		createDefaultColumnModel();
+		hideColumns();
+	}
+
 	/**
 	 * Sets the new RowSet for the combo box.
 	 *
@@ -1467,6 +1593,9 @@ public class SSDataGrid extends JTable {
 		final RowSet oldValue = rowSet;
 		rowSet = _rowSet;
 		firePropertyChange("rowSet", oldValue, rowSet);
+		final SSTablePager oldPager = pager;
+		pager = null;
+		firePropertyChange("pager", oldPager, pager);
 		bind();	}
 
 	/**
@@ -1536,7 +1665,7 @@ public class SSDataGrid extends JTable {
 
 			for (int i = 0; i < _columnNames.length; i++) {
 				//columnNumbers[i] = rowSet.getColumnIndex(_columnNames[i]) - 1;
-				columnNumbers[i] = RowSetOps.getColumnIndex(rowSet,_columnNames[i]) - 1;
+				columnNumbers[i] = findColumnIndex(_columnNames[i]) - 1;
 			}
 		}
 
@@ -42,11 +42,19 @@ import java.awt.event.ActionEvent;
 import java.awt.event.KeyAdapter;
 import java.awt.event.KeyEvent;
 import java.io.Serializable;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.WeakHashMap;
 
 import javax.sql.RowSet;
@@ -71,8 +79,10 @@ import org.apache.logging.log4j.Logger;
 //import com.google.common.eventbus.Subscribe;
 //import com.nqadmin.swingset.utils.RowSetModificationEvent;
 
+import com.nqadmin.swingset.datasources.RowSetOps;
 import com.nqadmin.swingset.utils.SSComponentInterface;
 import com.nqadmin.swingset.utils.SSEnums.Navigation;
+import com.nqadmin.swingset.utils.SSMetrics;
 import com.nqadmin.swingset.utils.SSUtils;
 
 //TODO: ENABLE FOR EVENTBUS
@@ -101,6 +111,63 @@ public class SSDataNavigator extends JPanel {
 	private static class RowSetState {
 		private boolean inserting;
 		private SSDataNavigator navigator;
+		// VALUES WRITTEN BY COMPONENTS SINCE THE LAST updateRow() BY COLUMN INDEX, AND THE ROW THEY WERE WRITTEN ON
+		private final Map<Integer,Object> modifiedColumns = new TreeMap<>();
+		private int modifiedRow;
+		private UpdatePlan updatePlan;
+	}
+
+	/**
+	 * What is needed to write only the modified columns of the current row
+	 * with an UPDATE statement. Built from the RowSet and database metadata
+	 * once per RowSet command. If the columns do not come from a single table
+	 * with a primary key, tableName is null and the plan can not be used.
+	 */
+	static final class UpdatePlan {
+		private final String command;
+		private final String tableName;
+		// QUOTED COLUMN NAMES AND SQL TYPES BY COLUMN INDEX, INDEX 0 IS NOT USED
+		private final String[] columnNames;
+		private final int[] columnTypes;
+		private final int[] keyColumns;
+
+		private UpdatePlan(final String _command, final String _tableName, final String[] _columnNames,
+				final int[] _columnTypes, final int[] _keyColumns) {
+			command = _command;
+			tableName = _tableName;
+			columnNames = _columnNames;
+			columnTypes = _columnTypes;
+			keyColumns = _keyColumns;
+		}
+
+		/**
+		 * Builds the UPDATE statement that writes columns of the current row.
+		 * The parameters are the new values of the columns, in the order
+		 * given, followed by the values of the primary key columns.
+		 *
+		 * @param _columns indexes of the columns to write
+		 * @return the statement, null if the plan can not be used or a column
+		 *         is not in the table
+		 */
+		String createUpdateSql(final Collection<Integer> _columns) {
+			if (tableName == null) {
+				return null;
+			}
+			final StringBuilder sql = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+			for (final int column : _columns) {
+				if (column < 1 || column >= columnNames.length || columnNames[column] == null) {
+					return null;
+				}
+				if (sql.charAt(sql.length() - 1) == '?') {
+					sql.append(", ");
+				}
+				sql.append(columnNames[column]).append(" = ?");
+			}
+			for (int i = 0; i < keyColumns.length; i++) {
+				sql.append(i == 0 ? " WHERE " : " AND ").append(columnNames[keyColumns[i]]).append(" = ?");
+			}
+			return sql.toString();
+		}
 	}
 
 	// don't have to worry about concurrency, always EDT
@@ -131,6 +198,86 @@ public class SSDataNavigator extends JPanel {
 		return rs == null ? false : getRowSetState(rs).inserting;
 	}
 
+	/**
+	 * Stands in for the value of a modified column when it is not known.
+	 */
+	private static final Object UNKNOWN_VALUE = new Object();
+
+	/**
+	 * Records that a column of the current row has been written to the RowSet
+	 * and is waiting for a call to updateRow(). If only modified columns are
+	 * written, a row with a column recorded this way is written with
+	 * updateRow().
+	 *
+	 * @param _rowSet RowSet that was written
+	 * @param _columnName name of the column that was written
+	 * @throws SQLException if the column can not be found or the current row
+	 *                      can not be determined
+	 * @see #setColumnModified(RowSet, String, Object)
+	 * @since 4.0.14
+	 */
+	public static void setColumnModified(final RowSet _rowSet, final String _columnName) throws SQLException {
+		setColumnModified(_rowSet, _columnName, UNKNOWN_VALUE);
+	}
+
+	/**
+	 * Records the value written to a column of the current row of the RowSet,
+	 * which is waiting for a call to updateRow(). SwingSet components call
+	 * this after writing to their bound column. Code that writes to the RowSet
+	 * directly should call it too when
+	 * {@link #setUpdateModifiedColumnsOnly(boolean)} is in use, otherwise the
+	 * write is not sent to the database.
+	 * <p>
+	 * Writes made on the insert row are not tracked.
+	 *
+	 * @param _rowSet RowSet that was written
+	 * @param _columnName name of the column that was written
+	 * @param _value value that was written, may be null
+	 * @throws SQLException if the column can not be found or the current row
+	 *                      can not be determined
+	 * @since 4.0.14
+	 */
+	public static void setColumnModified(final RowSet _rowSet, final String _columnName, final Object _value) throws SQLException {
+		if (_rowSet == null || isInserting(_rowSet)) {
+			return;
+		}
+		final RowSetState state = getRowSetState(_rowSet);
+		final int row = _rowSet.getRow();
+		if (row != state.modifiedRow) {
+			state.modifiedColumns.clear();
+			state.modifiedRow = row;
+		}
+		state.modifiedColumns.put(RowSetOps.getColumnIndex(_rowSet, _columnName), _value);
+	}
+
+	/**
+	 * Find out if any column of the current row has been written to the RowSet
+	 * since the last time the row was committed, refreshed or left.
+	 *
+	 * @param _rowSet get state for this RowSet
+	 * @return true if a modified column has been recorded for the current row
+	 * @throws SQLException if the current row can not be determined
+	 * @see #setColumnModified(RowSet, String, Object)
+	 * @since 4.0.14
+	 */
+	public static boolean hasModifiedColumns(final RowSet _rowSet) throws SQLException {
+		return !getModifiedColumns(_rowSet).isEmpty();
+	}
+
+	private static Map<Integer,Object> getModifiedColumns(final RowSet rs) throws SQLException {
+		final RowSetState state = getRowSetState(rs);
+		if (state.modifiedRow != rs.getRow()) {
+			state.modifiedColumns.clear();
+		}
+		return state.modifiedColumns;
+	}
+
+	private static void clearModifiedColumns(final RowSet rs) {
+		if (rs != null) {
+			getRowSetState(rs).modifiedColumns.clear();
+		}
+	}
+
 	/**
 	 * Find the data navigator for the specified RowSet.
 	 * <p>
@@ -166,6 +313,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void cursorMoved(final RowSetEvent rse) {
 			logger.trace("Rowset cursor moved.");
+			clearModifiedColumns(rowSet);
 			performUpdates();
 		}
 
@@ -175,6 +323,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void rowChanged(final RowSetEvent rse) {
 			logger.trace("Row changed.");
+			clearModifiedColumns(rowSet);
 			performUpdates();
 		}
 
@@ -184,6 +333,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void rowSetChanged(final RowSetEvent rse) {
 			logger.trace("Rowset changed.");
+			clearModifiedColumns(rowSet);
 			// Update the record counts and navigator display following a navigation.
 			try {
 				logger.debug("Updating row count with last(), getRow(), and first().");
@@ -323,6 +473,11 @@ public class SSDataNavigator extends JPanel {
 	 * Indicator that current row is dirty.
 	 */
 	protected boolean isRowModified = false;
+
+	/**
+	 * Indicator to write only the modified columns of the current row.
+	 */
+	protected boolean updateModifiedColumnsOnly = false;
 	
 	/**
 	 * Action for 'Last' button on navigator
@@ -539,6 +694,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("FIRST button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (!commitChangesToDatabase(true))
@@ -557,6 +713,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured while updating row or moving the cursor.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_NAVIGATE, start);
 			}
 		}
 	} // end NavFirstAction
@@ -588,6 +745,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("PREVIOUS button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (!commitChangesToDatabase(true))
@@ -608,6 +766,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured while updating row or moving the cursor.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_NAVIGATE, start);
 			}
 		}
 	} // end NavPreviousAction
@@ -636,6 +795,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("NEXT button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (!commitChangesToDatabase(true))
@@ -654,6 +814,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured while updating row or moving the cursor.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_NAVIGATE, start);
 			}
 		}
 	} // end NavNextAction
@@ -682,6 +843,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("LAST button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (!commitChangesToDatabase(true)) return;
@@ -699,6 +861,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured while updating row or moving the cursor.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_NAVIGATE, start);
 			}
 		}
 	} // end NavLastAction
@@ -730,6 +893,7 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("COMMIT button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (isInserting(rowSet)) {
@@ -743,6 +907,7 @@ public class SSDataNavigator extends JPanel {
 					
 					rowSet.insertRow();
 					setInserting(rowSet, false);
+					clearModifiedColumns(rowSet);
 					dBNav.performPostInsertOps();
 
 					rowSet.last();
@@ -787,6 +952,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured while saving row.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_COMMIT, start);
 			}
 		}
 	} // end NavCommitAction
@@ -830,6 +996,7 @@ public class SSDataNavigator extends JPanel {
 				// CALL CANCELROWUPDATE TO GET A TRIGGER
 				rowSet.cancelRowUpdates();
 				setInserting(rowSet, false);
+				clearModifiedColumns(rowSet);
 				dBNav.performCancelOps();
 				
 				// Only attempt to refresh row if we have at least one record
@@ -876,10 +1043,12 @@ public class SSDataNavigator extends JPanel {
 		@Override
 		public void actionPerformed(ActionEvent e) {
 			logger.debug("REFRESH button clicked.");
+			final long start = SSMetrics.startTimer();
 			removeRowsetListener();
 			try {
 				if (callExecute) {
 					rowSet.execute();
+					clearModifiedColumns(rowSet);
 					
 					if (!rowSet.next()) {
 						// THERE ARE NO RECORDS IN THE ROWSET
@@ -903,6 +1072,7 @@ public class SSDataNavigator extends JPanel {
 						"Exception occured refreshing the data.\n" + se.getMessage());
 			} finally {
 				addRowsetListener();
+				SSMetrics.stopTimer(SSMetrics.NAVIGATOR_REFRESH, start);
 			}
 		}
 	} // end NavRefreshAction
@@ -1009,6 +1179,7 @@ public class SSDataNavigator extends JPanel {
 				
 				// DELETE ROW FROM ROWSET
 				rowSet.deleteRow();
+				clearModifiedColumns(rowSet);
 				
 				// PERFORM ANY POST DELETION OPS (WHICH MAY INVOLVE REQUERYING WHICH IS NEEDED FOR H2)
 				dBNav.performPostDeletionOps();
@@ -1052,6 +1223,7 @@ public class SSDataNavigator extends JPanel {
 			@SuppressWarnings({"BroadCatchBlock", "TooBroadCatch", "UseSpecificCatch"})
 			public void keyPressed(final KeyEvent ke) {			
 				if (ke.getKeyCode() == KeyEvent.VK_ENTER) {
+					final long start = SSMetrics.startTimer();
 					removeRowsetListener();
 					try {
 						
@@ -1069,6 +1241,7 @@ public class SSDataNavigator extends JPanel {
 						// do nothing
 					} finally {
 						addRowsetListener();
+						SSMetrics.stopTimer(SSMetrics.NAVIGATOR_NAVIGATE, start);
 					}
 				}
 			}
@@ -1117,6 +1290,7 @@ public class SSDataNavigator extends JPanel {
 	 * 
 	 * @return true unless there are no records OR dBNav.allowUpdate() returns false
 	 * @throws SQLException SQL Exception if rowset call to updateRow() fails
+	 * @see #setUpdateModifiedColumnsOnly(boolean)
 	 */
 	private boolean commitChangesToDatabase(final boolean _performPostUpdateOps) throws SQLException {
 		
@@ -1133,7 +1307,7 @@ public class SSDataNavigator extends JPanel {
 			if (!dBNav.allowUpdate()) {
 				result = false;
 			} else {
-				rowSet.updateRow();
+				writeRow();
 			}
 		}
 		
@@ -1150,6 +1324,223 @@ public class SSDataNavigator extends JPanel {
 		return result;
 	}
 
+	/**
+	 * Writes the current row to the database.
+	 * <p>
+	 * If updateModifiedColumnsOnly is false, this is rowSet.updateRow().
+	 * Otherwise a row without modified columns is not written, and the modified
+	 * columns of a row are written with an UPDATE statement on the primary key
+	 * followed by rowSet.refreshRow(). When that is not possible, e.g. the
+	 * query is a join or the table has no primary key, rowSet.updateRow() is
+	 * used.
+	 *
+	 * @throws SQLException SQL Exception if the row can not be written
+	 */
+	private void writeRow() throws SQLException {
+		try {
+			if (updateModifiedColumnsOnly) {
+				final Map<Integer,Object> modifiedColumns = getModifiedColumns(rowSet);
+				if (modifiedColumns.isEmpty()) {
+					logger.debug("Row {} has no modified columns, skipping update.", currentRow);
+					return;
+				}
+				if (updateModifiedColumns(modifiedColumns)) {
+					return;
+				}
+			}
+			rowSet.updateRow();
+		} finally {
+			clearModifiedColumns(rowSet);
+		}
+	}
+
+	/**
+	 * Writes the modified columns of the current row with an UPDATE statement
+	 * on the primary key, then refreshes the row so the RowSet drops its own
+	 * pending updates. If the refresh fails the pending updates are cancelled
+	 * rather than written again with updateRow().
+	 *
+	 * @param _modifiedColumns values to write by column index
+	 * @return false if the UPDATE was not possible or did not match exactly one
+	 *         row, in which case nothing was written
+	 * @throws SQLException SQL Exception if the UPDATE fails
+	 */
+	private boolean updateModifiedColumns(final Map<Integer,Object> _modifiedColumns) throws SQLException {
+		if (_modifiedColumns.containsValue(UNKNOWN_VALUE)) {
+			return false;
+		}
+		final UpdatePlan plan = getUpdatePlan(rowSet);
+		if (plan.tableName == null) {
+			return false;
+		}
+
+		// THE KEY IS READ BEFORE ANY UPDATE, A KEY COLUMN THAT IS MODIFIED OR NULL CAN NOT FIND THE ROW
+		final Object[] keyValues = new Object[plan.keyColumns.length];
+		for (int i = 0; i < keyValues.length; i++) {
+			keyValues[i] = rowSet.getObject(plan.keyColumns[i]);
+			if (keyValues[i] == null || _modifiedColumns.containsKey(plan.keyColumns[i])) {
+				return false;
+			}
+		}
+
+		final String sql = plan.createUpdateSql(_modifiedColumns.keySet());
+		if (sql == null) {
+			return false;
+		}
+
+		final int count;
+		try (PreparedStatement statement = rowSet.getStatement().getConnection().prepareStatement(sql)) {
+			int parameter = 1;
+			for (final Map.Entry<Integer,Object> entry : _modifiedColumns.entrySet()) {
+				final Object value = entry.getValue();
+				if (value == null) {
+					statement.setNull(parameter++, plan.columnTypes[entry.getKey()]);
+				} else {
+					statement.setObject(parameter++, value);
+				}
+			}
+			for (final Object keyValue : keyValues) {
+				statement.setObject(parameter++, keyValue);
+			}
+			logger.debug(() -> "Row " + currentRow + ": " + sql);
+			count = statement.executeUpdate();
+		}
+
+		if (count != 1) {
+			logger.warn("Row {}: UPDATE matched {} rows, falling back to updateRow().", currentRow, count);
+			return false;
+		}
+
+		try {
+			rowSet.refreshRow();
+		} catch (final SQLException se) {
+			// THE DATABASE HAS THE NEW VALUES. updateRow() WOULD WRITE EVERY COLUMN A SECOND TIME,
+			// SO DROP THE PENDING UPDATES; THE ROWSET SHOWS THE OLD VALUES UNTIL IT IS RE-EXECUTED.
+			logger.warn("Row {}: refreshRow() failed after the UPDATE, the RowSet does not show the new values.",
+					currentRow, se);
+			try {
+				rowSet.cancelRowUpdates();
+			} catch (final SQLException cancelException) {
+				logger.debug("cancelRowUpdates() failed.", cancelException);
+			}
+		}
+		return true;
+	}
+
+	private static UpdatePlan getUpdatePlan(final RowSet rs) throws SQLException {
+		final RowSetState state = getRowSetState(rs);
+		if (state.updatePlan == null || !Objects.equals(state.updatePlan.command, rs.getCommand())) {
+			state.updatePlan = createUpdatePlan(rs);
+		}
+		return state.updatePlan;
+	}
+
+	/**
+	 * Looks up the table and primary key of the columns of a RowSet.
+	 *
+	 * @param _rowSet RowSet for which to build the plan
+	 * @return the plan, with a null tableName if an UPDATE of the modified
+	 *         columns is not possible
+	 */
+	static UpdatePlan createUpdatePlan(final RowSet _rowSet) {
+		final String command = _rowSet.getCommand();
+		final UpdatePlan unusable = new UpdatePlan(command, null, null, null, null);
+		try {
+			final ResultSetMetaData metaData = _rowSet.getMetaData();
+			final int columnCount = metaData.getColumnCount();
+
+			// ALL COLUMNS MUST COME FROM ONE TABLE
+			String catalog = null;
+			String schema = null;
+			String table = null;
+			for (int column = 1; column <= columnCount; column++) {
+				final String columnTable = metaData.getTableName(column);
+				if (columnTable == null || columnTable.isEmpty()) {
+					logger.debug("Column {} has no table, modified columns can not be updated alone.", column);
+					return unusable;
+				}
+				if (table == null) {
+					catalog = metaData.getCatalogName(column);
+					schema = metaData.getSchemaName(column);
+					table = columnTable;
+				} else if (!table.equals(columnTable) || !Objects.equals(schema, metaData.getSchemaName(column))) {
+					logger.debug("Columns come from more than one table, modified columns can not be updated alone.");
+					return unusable;
+				}
+			}
+			if (table == null) {
+				return unusable;
+			}
+
+			final DatabaseMetaData dbMetaData = _rowSet.getStatement().getConnection().getMetaData();
+			final List<String> keyNames = new ArrayList<>();
+			try (ResultSet keys = dbMetaData.getPrimaryKeys(emptyToNull(catalog), emptyToNull(schema), table)) {
+				while (keys.next()) {
+					final int keySeq = keys.getInt("KEY_SEQ");
+					while (keyNames.size() < keySeq) {
+						keyNames.add(null);
+					}
+					keyNames.set(keySeq - 1, keys.getString("COLUMN_NAME"));
+				}
+			}
+			if (keyNames.isEmpty() || keyNames.contains(null)) {
+				logger.debug("Table {} has no primary key, modified columns can not be updated alone.", table);
+				return unusable;
+			}
+
+			final String quote = dbMetaData.getIdentifierQuoteString();
+
+			final String[] columnNames = new String[columnCount + 1];
+			final int[] columnTypes = new int[columnCount + 1];
+			for (int column = 1; column <= columnCount; column++) {
+				columnNames[column] = quoteIdentifier(quote, metaData.getColumnName(column));
+				columnTypes[column] = metaData.getColumnType(column);
+			}
+
+			final int[] keyColumns = new int[keyNames.size()];
+			for (int i = 0; i < keyColumns.length; i++) {
+				for (int column = 1; column <= columnCount; column++) {
+					if (keyNames.get(i).equalsIgnoreCase(metaData.getColumnName(column))) {
+						keyColumns[i] = column;
+						break;
+					}
+				}
+				if (keyColumns[i] == 0) {
+					logger.debug("Primary key column {} is not in the RowSet, modified columns can not be updated alone.",
+							keyNames.get(i));
+					return unusable;
+				}
+			}
+
+			final String tableName = (schema == null || schema.isEmpty() ? "" : quoteIdentifier(quote, schema) + ".")
+					+ quoteIdentifier(quote, table);
+			return new UpdatePlan(command, tableName, columnNames, columnTypes, keyColumns);
+
+		} catch (final SQLException | RuntimeException e) {
+			logger.debug("Unable to read table metadata, modified columns can not be updated alone.", e);
+			return unusable;
+		}
+	}
+
+	/**
+	 * Quotes an identifier for SQL, doubling any quote it contains.
+	 *
+	 * @param _quote the database's identifier quote string, a space or null if
+	 *               identifiers can not be quoted
+	 * @param _identifier the identifier
+	 * @return the quoted identifier, or the identifier if it can not be quoted
+	 */
+	static String quoteIdentifier(final String _quote, final String _identifier) {
+		if (_quote == null || _quote.trim().isEmpty()) {
+			return _identifier;
+		}
+		return _quote + _identifier.replace(_quote, _quote + _quote) + _quote;
+	}
+
+	private static String emptyToNull(final String _value) {
+		return _value == null || _value.isEmpty() ? null : _value;
+	}
+
 	/**
 	 * Returns true if the RowSet contains one or more rows, else false.
 	 *
@@ -1517,6 +1908,38 @@ public class SSDataNavigator extends JPanel {
 		updateButtonState();
 	}
 
+	/**
+	 * Indicates if only the columns modified through SwingSet components are
+	 * written when the current row is committed.
+	 *
+	 * @return true if only modified columns are written
+	 * @since 4.0.14
+	 */
+	public boolean isUpdateModifiedColumnsOnly() {
+		return updateModifiedColumnsOnly;
+	}
+
+	/**
+	 * Sets whether only the columns modified through SwingSet components are
+	 * written when the current row is committed, e.g. on navigation. When true,
+	 * a row without modifications is not written at all, and a modified row
+	 * is written with an UPDATE of only its modified columns, located by the
+	 * table's primary key. Default value is false, which calls updateRow() on
+	 * the RowSet and writes every column.
+	 * <p>
+	 * Values written to the RowSet by application code, e.g. in
+	 * {@link SSDBNav#allowUpdate()}, must be recorded with
+	 * {@link #setColumnModified(RowSet, String, Object)} when this is enabled.
+	 *
+	 * @param _updateModifiedColumnsOnly true to only write modified columns
+	 * @since 4.0.14
+	 */
+	public void setUpdateModifiedColumnsOnly(final boolean _updateModifiedColumnsOnly) {
+		final boolean oldValue = updateModifiedColumnsOnly;
+		updateModifiedColumnsOnly = _updateModifiedColumnsOnly;
+		firePropertyChange("updateModifiedColumnsOnly", oldValue, updateModifiedColumnsOnly);
+	}
+
 	/**
 	 * @param _navCombo the navCombo to set
 	 */
@@ -1534,6 +1957,7 @@ public class SSDataNavigator extends JPanel {
 		// RESET INSERT FLAG THIS IS NEED IF USERS LEFT THE LAST ROWSET
 		// IN INSERTION MODE WITH OUT SAVING THE RECORD OR UNDOING THE INSERTION
 		setInserting(rowSet, false);
+		clearModifiedColumns(rowSet);
 
 		// REMOVE ROWSET LISTENER
 		if (rowSet != null) {
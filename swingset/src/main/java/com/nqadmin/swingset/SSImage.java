@@ -108,6 +108,7 @@ public class SSImage extends JPanel implements SSComponentInterface {
 							}
 							// inStream.close();
 							getRowSet().updateBytes(getBoundColumnName(), bytes);
+							SSDataNavigator.setColumnModified(getRowSet(), getBoundColumnName(), bytes);
 							img = new ImageIcon(bytes);
 							lblImage.setPreferredSize(new Dimension(img.getIconWidth(), img.getIconHeight()));
 							lblImage.setIcon(img);
@@ -202,7 +202,10 @@ public class SSList extends JList<SSListItem> implements SSComponentInterface {
 		//super();
 		this.selectedDBModel = _collectionModel;
 		// last line of constructor safe to access this
-		Model.install(this);
+		Model model = Model.install(this);
+		model.setIndexed(true);
+		// setOptions REPLACES ALL ITEMS, LISTENERS ONLY NEED THE RESULT
+		model.setCoalesceEvents(true);
 
 		// uncomment this to run some tests
 		// testStuff(this);
@@ -516,6 +519,7 @@ public class SSList extends JList<SSListItem> implements SSComponentInterface {
 		try {
 			selectedDBModel.writeData(getRowSet(), getBoundColumnName(),
 							getSelectedMappings().toArray());
+			SSDataNavigator.setColumnModified(getRowSet(), getBoundColumnName());
 		} catch (final SQLException se) {
 			logger.error(getColumnForLog() + ": SQL Exception.", se);
 		}
@@ -40,7 +40,6 @@ package com.nqadmin.swingset;
 import java.awt.Toolkit;
 import java.awt.datatransfer.Clipboard;
 import java.awt.datatransfer.DataFlavor;
-import java.awt.datatransfer.StringSelection;
 import java.awt.datatransfer.Transferable;
 import java.awt.datatransfer.UnsupportedFlavorException;
 import java.awt.event.InputEvent;
@@ -50,10 +49,14 @@ import java.io.IOException;
 import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.StringTokenizer;
 
 import javax.swing.JOptionPane;
 import javax.swing.JTable;
+import javax.swing.table.TableModel;
 
 import org.apache.logging.log4j.Logger;
 
@@ -69,6 +72,19 @@ import com.nqadmin.swingset.utils.SSUtils;
  */
 public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 
+	/**
+	 * Converts the clipboard text for a cell to the class of its column.
+	 */
+	protected interface CellConverter {
+
+		/**
+		 * @param _value string representation of the value, may be null
+		 * @return the value as a column class object
+		 * @throws Exception if the conversion fails
+		 */
+		Object convert(String _value) throws Exception;
+	}
+
 	/**
 	 * Log4j Logger for component
 	 */
@@ -119,6 +135,63 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 
 	}
 
+	/**
+	 * Returns a converter from a string to the class of a column. The class is
+	 * found by calling the getColumnClass() method of the JTable, and the
+	 * String constructor is looked up once, so the converter can be reused
+	 * for every cell of the column. The conversion matches getObjectToSet().
+	 *
+	 * @param _jTable JTable containing target object
+	 * @param _column the column number for which values are converted
+	 *
+	 * @return the converter for the column
+	 * @throws Exception catch all exception
+	 */
+	protected static CellConverter getCellConverter(final JTable _jTable, final int _column) throws Exception {
+		// GET THE COLUMN CLASS
+		final Class<?> objectClass = _jTable.getColumnClass(_column);
+
+		// DATE CLASS DOESN'T HAVE A CONSTRUCTOR THAT TAKES A STRING
+		if (objectClass.equals(java.sql.Date.class)) {
+			return _value -> _value == null ? null : Date.valueOf(_value);
+		}
+		if (objectClass.equals(String.class)) {
+			return _value -> _value;
+		}
+
+		try {
+			// GET THE CONSTRUCTOR FOR THE CLASS WHICH TAKES A STRING
+			final Constructor<?> constructor = objectClass.getConstructor(new Class<?>[] { String.class });
+			return _value -> _value == null ? null : constructor.newInstance(new Object[] { _value });
+		} catch (final NoSuchMethodException nsme) {
+			logger.warn("No Such Method Exception. Failed to copy data.",  nsme);
+			return _value -> _value;
+		}
+	}
+
+	/**
+	 * Splits clipboard text into rows on new lines and the rows into cells on
+	 * tabs.
+	 *
+	 * @param _data clipboard text
+	 *
+	 * @return cells of the text indexed by row and then by column
+	 */
+	protected static String[][] parseClipboardText(final String _data) {
+		final List<String[]> rows = new ArrayList<>();
+		final StringTokenizer rowTokens = new StringTokenizer(_data, "\n", false);
+		final List<String> cells = new ArrayList<>();
+		while (rowTokens.hasMoreTokens()) {
+			final StringTokenizer columnTokens = new StringTokenizer(rowTokens.nextToken(), "\t", false);
+			cells.clear();
+			while (columnTokens.hasMoreTokens()) {
+				cells.add(columnTokens.nextToken());
+			}
+			rows.add(cells.toArray(new String[cells.size()]));
+		}
+		return rows.toArray(new String[rows.size()][]);
+	}
+
 	/**
 	 * Indicates whether or not row insertions are allowed via cut/copy and paste.
 	 */
@@ -161,8 +234,6 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 	 */
 	@Override
 	public void keyReleased(final KeyEvent ke) {
-		final StringBuilder strBuf = new StringBuilder();
-
 		final JTable jTable = (JTable) ke.getSource();
 
 		logger.debug("Key Released on SSDataGrid. Key Released: {} {}.", () -> ke.getKeyCode(),
@@ -200,25 +271,7 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 			}
 
 			// COPY THE DATA IN THE SELECTED ROWS AND COLUMNS
-			// APPEND A TAB AFTER EACH CELL AND A NEW LINE CHAR AT END OF EACH ROW.
-			for (int i = 0; i < selectedRows.length; i++) {
-				for (int j = 0; j < selectedColumns.length; j++) {
-					strBuf.append(jTable.getValueAt(selectedRows[i], selectedColumns[j]));
-					if (j < (numColumns - 1)) {
-						strBuf.append("\t");
-					}
-				}
-				strBuf.append("\n");
-			}
-
-			// GET THE SYSTEM CLIPBOARD
-			final Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
-
-			// CREATE A TRANSFERABLE OBJECT
-			final StringSelection stringSelection = new StringSelection(strBuf.toString());
-
-			// COPY THE DATA TO CLIP BOARD
-			clipboard.setContents(stringSelection, stringSelection);
+			copyCells(jTable, selectedRows, selectedColumns);
 
 		} else if (((ke.getModifiersEx() & (onMask | offMask)) == onMask)
 				&& (ke.getKeyCode() == KeyEvent.VK_V)) {
@@ -254,29 +307,14 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 				final int[] selectedRows = jTable.getSelectedRows();
 				final int[] selectedColumns = jTable.getSelectedColumns();
 
-				// CREATE A STRING TOKENIZER TO BREAK THE DATA INTO ROWS.
-				StringTokenizer rowTokens = new StringTokenizer(strData, "\n", false);
+				// BREAK THE DATA INTO ROWS AND COLUMNS ONCE
+				final String[][] cells = parseClipboardText(strData);
 
-				// INITIALIZE THE NUMBER OF ROWS AND COLUMNS
-				int numRows = 0;
+				// THE NUMBER OF ROWS AND COLUMNS (COLUMNS ARE COUNTED IN THE WIDEST ROW)
+				final int numRows = cells.length;
 				int numColumns = 0;
-
-				StringTokenizer columnTokens;
-
-				// SEE IF THE DATA HAS ATLEAST ONE ROW
-				// IF IT DOES GET THE NUMBER OF COLUMNS PRESENT.
-				if (rowTokens.hasMoreTokens()) {
-					numRows++;
-					columnTokens = new StringTokenizer(rowTokens.nextToken(), "\t", false);
-					// WHILE THERE ARE TOKENS INCREMENT THE COLUMN COUNT
-					for (; columnTokens.hasMoreTokens(); numColumns++) {
-						columnTokens.nextToken();
-					}
-				}
-
-				// GET THE NUMBER OF ROWS PRESENT
-				for (; rowTokens.hasMoreTokens(); numRows++) {
-					rowTokens.nextToken();
+				for (final String[] rowCells : cells) {
+					numColumns = Math.max(numColumns, rowCells.length);
 				}
 
 				// GET THE NUMBER OF COLUMNS AND ROWS IN THE JTABLE.
@@ -328,26 +366,33 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 
 				// COPY THE DATA FROM CLIP BOARD TO JTABLE
 				try {
-					// TOKENIZE DATA IN TO ROWS
-					rowTokens = new StringTokenizer(strData, "\n", false);
-
-					// WHILE THERE ARE ROWS IN THE CLIP BOARD DATA AND NUMBER OF ROWS
-					// COPIED IS LESS THEN WE SHOULD COPY DATA TO JTABLE.
-					for (int i = 0; rowTokens.hasMoreTokens() && (i < numRowsToCopy); i++) {
-						// TOKENIZE THE ROW INFORMATION IN TO COLUMNS
-						columnTokens = new StringTokenizer(rowTokens.nextToken(), "\t", false);
-						// PASTE THE DATA IN TO JTABLE ROW.
-						for (int j = 0; columnTokens.hasMoreTokens(); j++) {
-							// GET THE VALUE FOR THIS CELL IN THE FORM OF THIS COLUMN CLASS OBJECT
-							final Object newValue = getObjectToSet(jTable, selectedColumns[0] + j, columnTokens.nextToken());
-							// SET THE VALUE FOR THE COLUMN
-							jTable.setValueAt(newValue, selectedRows[0] + i, selectedColumns[0] + j);
+					// CONVERT THE DATA TO THE COLUMN CLASSES, LOOKING UP EACH COLUMN'S
+					// CONVERSION ONCE
+					final int rowsToCopy = Math.min(numRowsToCopy, numRows);
+					final CellConverter[] converters = new CellConverter[numColumns];
+					final Object[][] values = new Object[rowsToCopy][];
+					for (int i = 0; i < rowsToCopy; i++) {
+						values[i] = new Object[cells[i].length];
+						for (int j = 0; j < cells[i].length; j++) {
+							if (converters[j] == null) {
+								converters[j] = getCellConverter(jTable, selectedColumns[0] + j);
+							}
+							values[i][j] = converters[j].convert(cells[i][j]);
 						}
 					}
 
-					// UPDATE THE UI AS WE HAVE UPDATED UNDERLIYING DATA
-					// THIS HAS TO PROPOGATE TO THE SCREEN.
-					jTable.updateUI();
+					if (!pasteValues(jTable, values, selectedRows[0], selectedColumns[0])) {
+						// PASTE THE DATA IN TO JTABLE CELL BY CELL.
+						for (int i = 0; i < values.length; i++) {
+							for (int j = 0; j < values[i].length; j++) {
+								jTable.setValueAt(values[i][j], selectedRows[0] + i, selectedColumns[0] + j);
+							}
+						}
+
+						// UPDATE THE UI AS WE HAVE UPDATED UNDERLIYING DATA
+						// THIS HAS TO PROPOGATE TO THE SCREEN.
+						jTable.updateUI();
+					}
 
 				} catch (final NoSuchMethodException nsme) {
 					logger.error("No Such Method Exception. One of the column classes does not provide a constructor that takes a single String argument.",  nsme);
@@ -370,6 +415,105 @@ public class SSTableKeyAdapter extends KeyAdapter implements Serializable {
 
 	} // end public void keyReleased(KeyEvent ke) {
 
+	/**
+	 * Copies the selected cells to the system clipboard as an
+	 * SSTableTransferable. When the table's model is an SSTableModel the
+	 * values are read off the event dispatch thread, in RowSet order, and the
+	 * clipboard is set once they are read; otherwise they are read with
+	 * getValueAt().
+	 *
+	 * @param _jTable          JTable to copy from
+	 * @param _selectedRows    selected view rows
+	 * @param _selectedColumns selected view columns
+	 */
+	protected void copyCells(final JTable _jTable, final int[] _selectedRows, final int[] _selectedColumns) {
+		final TableModel model = _jTable.getModel();
+		if (!(model instanceof SSTableModel)) {
+			final Object[][] values = new Object[_selectedRows.length][_selectedColumns.length];
+			for (int i = 0; i < _selectedRows.length; i++) {
+				for (int j = 0; j < _selectedColumns.length; j++) {
+					values[i][j] = _jTable.getValueAt(_selectedRows[i], _selectedColumns[j]);
+				}
+			}
+			setClipboardContents(new SSTableTransferable(values));
+			return;
+		}
+
+		// READ THE MODEL ROWS IN ASCENDING ORDER SO THE CURSOR ONLY MOVES FORWARD
+		final int[] modelRows = new int[_selectedRows.length];
+		for (int i = 0; i < _selectedRows.length; i++) {
+			modelRows[i] = _jTable.convertRowIndexToModel(_selectedRows[i]);
+		}
+		final int[] sortedRows = modelRows.clone();
+		Arrays.sort(sortedRows);
+		final int[] modelColumns = new int[_selectedColumns.length];
+		for (int j = 0; j < _selectedColumns.length; j++) {
+			modelColumns[j] = _jTable.convertColumnIndexToModel(_selectedColumns[j]);
+		}
+
+		((SSTableModel) model).readCellsInBackground(sortedRows, modelColumns, _sortedValues -> {
+			// PUT THE ROWS BACK IN VIEW ORDER
+			final Object[][] values = new Object[modelRows.length][];
+			for (int i = 0; i < modelRows.length; i++) {
+				values[i] = _sortedValues[Arrays.binarySearch(sortedRows, modelRows[i])];
+			}
+			setClipboardContents(new SSTableTransferable(values));
+		});
+	}
+
+	private static void setClipboardContents(final SSTableTransferable _transferable) {
+		// GET THE SYSTEM CLIPBOARD
+		final Clipboard clipboard = Toolkit.getDefaultToolkit().getSystemClipboard();
+
+		// COPY THE DATA TO CLIP BOARD
+		clipboard.setContents(_transferable, _transferable);
+	}
+
+	/**
+	 * Pastes a block of converted values in one operation when the table's
+	 * model is an SSTableModel and the pasted cells map to a contiguous block
+	 * of the model (no reordered columns or sorted rows in the way). The model
+	 * writes the block with batched statements in one transaction and fires a
+	 * single table model event.
+	 *
+	 * @param _jTable      JTable to paste into
+	 * @param _values      converted values indexed by row and then by column
+	 * @param _firstRow    view row of the first value
+	 * @param _firstColumn view column of the first value
+	 *
+	 * @return true if the values were pasted, false if they have to be set
+	 *         cell by cell
+	 */
+	protected boolean pasteValues(final JTable _jTable, final Object[][] _values, final int _firstRow,
+			final int _firstColumn) {
+		final TableModel model = _jTable.getModel();
+		if (!(model instanceof SSTableModel) || (_values.length == 0)) {
+			return false;
+		}
+
+		int width = 0;
+		for (final Object[] rowValues : _values) {
+			width = Math.max(width, rowValues.length);
+		}
+		final int modelColumn = _jTable.convertColumnIndexToModel(_firstColumn);
+		for (int j = 1; j < width; j++) {
+			if (_jTable.convertColumnIndexToModel(_firstColumn + j) != (modelColumn + j)) {
+				return false;
+			}
+		}
+		// ROWS PAST THE END OF THE VIEW ARE NEW ROWS WITH NO VIEW INDEX
+		final int modelRow = _jTable.convertRowIndexToModel(_firstRow);
+		final int viewRows = Math.min(_values.length, _jTable.getRowCount() - _firstRow);
+		for (int i = 1; i < viewRows; i++) {
+			if (_jTable.convertRowIndexToModel(_firstRow + i) != (modelRow + i)) {
+				return false;
+			}
+		}
+
+		((SSTableModel) model).setValuesAt(_values, modelRow, modelColumn);
+		return true;
+	}
+
 	/**
 	 * Sets allowInsertion indicator. Set true if new rows can be added to JTable
 	 * via cut/copy and paste - otherwise false. False by default.
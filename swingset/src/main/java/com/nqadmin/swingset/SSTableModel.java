@@ -38,23 +38,49 @@
 package com.nqadmin.swingset;
 
 import java.awt.Component;
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.io.Serializable;
+import java.sql.Connection;
 import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Savepoint;
+import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 import javax.sql.RowSet;
+import javax.sql.RowSetEvent;
+import javax.sql.RowSetListener;
+import javax.sql.rowset.BaseRowSet;
 import javax.swing.JOptionPane;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListSelectionEvent;
+import javax.swing.event.ListSelectionListener;
 import javax.swing.table.AbstractTableModel;
 
 import org.apache.logging.log4j.Logger;
 
+import com.nqadmin.swingset.datasources.ColumnMetadata;
 import com.nqadmin.swingset.datasources.RowSetOps;
+import com.nqadmin.swingset.utils.SSMetrics;
 import com.nqadmin.swingset.utils.SSUtils;
 
 // SSTableModel.java
@@ -72,6 +98,306 @@ import com.nqadmin.swingset.utils.SSUtils;
  */
 public class SSTableModel extends AbstractTableModel {
 
+	/**
+	 * Row-window cache used by getValueAt(). Rows are read from the RowSet a
+	 * block at a time, decoded once, and held until the block is evicted as the
+	 * least recently used or the cache is invalidated.
+	 * <p>
+	 * Blocks are keyed by block number, i.e. (row / blockSize). The most
+	 * recently used block is also held outside the map, so reading the rows of
+	 * one block does not box its number for every row.
+	 */
+	private static class RowWindowCache {
+
+		private final int blockSize;
+
+		private final Map<Integer, Object[][]> blocks;
+
+		// MOST RECENTLY USED BLOCK, ALREADY AT THE YOUNG END OF THE MAP
+		private int lastBlockNumber = -1;
+
+		private Object[][] lastBlock = null;
+
+		RowWindowCache(final int _blockSize, final int _maxBlocks) {
+			blockSize = _blockSize;
+			// ACCESS ORDERED SO THE ELDEST ENTRY IS THE LEAST RECENTLY USED BLOCK
+			blocks = new LinkedHashMap<Integer, Object[][]>(_maxBlocks + 1, 1.0f, true) {
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected boolean removeEldestEntry(final Map.Entry<Integer, Object[][]> _eldest) {
+					return size() > _maxBlocks;
+				}
+			};
+		}
+
+		int getBlockSize() {
+			return blockSize;
+		}
+
+		/**
+		 * @param _row row number (starting from 0)
+		 * @return decoded column values for the row or null if the row's block
+		 *         is not resident
+		 */
+		Object[] getRow(final int _row) {
+			final int blockNumber = _row / blockSize;
+			Object[][] block = lastBlock;
+			if (blockNumber != lastBlockNumber) {
+				block = blocks.get(blockNumber);
+				if (block == null) {
+					return null;
+				}
+				lastBlockNumber = blockNumber;
+				lastBlock = block;
+			}
+			final int offset = _row % blockSize;
+			return offset < block.length ? block[offset] : null;
+		}
+
+		void putBlock(final int _firstRow, final Object[][] _block) {
+			blocks.put(_firstRow / blockSize, _block);
+			lastBlockNumber = _firstRow / blockSize;
+			lastBlock = _block;
+		}
+
+		void invalidateRow(final int _row) {
+			blocks.remove(_row / blockSize);
+			if ((_row / blockSize) == lastBlockNumber) {
+				lastBlockNumber = -1;
+				lastBlock = null;
+			}
+		}
+
+		void clear() {
+			blocks.clear();
+			lastBlockNumber = -1;
+			lastBlock = null;
+		}
+	}
+
+	/**
+	 * Listener for the underlying RowSet used to invalidate the row-window cache
+	 * when the data changes outside of the table model.
+	 * <p>
+	 * Cursor movements (including the ones made by the table model itself) do
+	 * not change any data so they are ignored.
+	 */
+	protected class SSTableModelRowSetListener implements RowSetListener, Serializable {
+
+		/**
+		 * unique serial id
+		 */
+		private static final long serialVersionUID = 2891361437329867130L;
+
+		@Override
+		public void cursorMoved(final RowSetEvent _event) {
+			// nothing cached depends on the cursor position
+		}
+
+		@Override
+		public void rowChanged(final RowSetEvent _event) {
+			invalidateRowCache();
+		}
+
+		@Override
+		public void rowSetChanged(final RowSetEvent _event) {
+			invalidateRowCache();
+		}
+	}
+
+	/**
+	 * Connection, table and primary column used to write rows with JDBC
+	 * batches. Names are ready for SQL, quoted where they come from the
+	 * metadata.
+	 */
+	private static final class BatchTarget {
+
+		final Connection connection;
+
+		final String tableName;
+
+		final String keyColumnName;
+
+		// IDENTIFIER QUOTE STRING OF THE DATABASE, FOR THE COLUMN NAMES
+		final String quote;
+
+		BatchTarget(final Connection _connection, final String _tableName, final String _keyColumnName,
+				final String _quote) {
+			connection = _connection;
+			tableName = _tableName;
+			keyColumnName = _keyColumnName;
+			quote = _quote;
+		}
+
+		String quote(final String _identifier) {
+			return SSDataNavigator.quoteIdentifier(quote, _identifier);
+		}
+	}
+
+	/**
+	 * Listener for the JTable row selection used to write the buffered edits
+	 * of a row once the user moves off the row.
+	 */
+	protected class SSTableModelSelectionListener implements ListSelectionListener, Serializable {
+
+		/**
+		 * unique serial id
+		 */
+		private static final long serialVersionUID = -3306741718227307170L;
+
+		@Override
+		public void valueChanged(final ListSelectionEvent _event) {
+			if (_event.getValueIsAdjusting() || pendingEdits.isEmpty() || (table == null)) {
+				return;
+			}
+			final int leadRow = table.getSelectionModel().getLeadSelectionIndex();
+			final int modelRow = leadRow < 0 ? -1 : table.convertRowIndexToModel(leadRow);
+			flushEditsExcept(modelRow);
+		}
+	}
+
+	/**
+	 * Background loader that runs the RowSet command on its own statement,
+	 * decodes the rows and hands them to the event dispatch thread in chunks.
+	 * Chunks start small so the first screen of rows is displayed quickly and
+	 * grow as the load continues.
+	 * <p>
+	 * The loader never uses the RowSet, so the RowSet cursor stays with the
+	 * event dispatch thread and a superseded loader does not need to be
+	 * waited for. The RowSet notifies its listeners, other bound components,
+	 * on the thread that moves it, so it can not be read here instead. The
+	 * table model serves getValueAt() from the rows already handed over and
+	 * refuses edits until the load is done. Then it drops those rows and
+	 * reads the RowSet, so the rows displayed are the rows written to.
+	 */
+	protected class SSTableModelLoader implements Runnable {
+
+		private final Connection connection;
+
+		private final String command;
+
+		private final Object[] parameters;
+
+		private final int[] types;
+
+		private final boolean executeRowSet;
+
+		private final boolean setRowSetCommand;
+
+		private volatile boolean cancelled = false;
+
+		/**
+		 * @param _connection    connection to run the command on
+		 * @param _command       SQL query of the RowSet
+		 * @param _parameters    parameters of the query, in the form returned by
+		 *                       BaseRowSet.getParams()
+		 * @param _types         SQL type of each column from java.sql.Types
+		 * @param _executeRowSet    true to execute the RowSet on the event
+		 *                          dispatch thread once the rows are loaded
+		 * @param _setRowSetCommand true to set the command and parameters on
+		 *                          the RowSet before executing it
+		 */
+		SSTableModelLoader(final Connection _connection, final String _command, final Object[] _parameters,
+				final int[] _types, final boolean _executeRowSet, final boolean _setRowSetCommand) {
+			connection = _connection;
+			command = _command;
+			parameters = _parameters;
+			types = _types;
+			executeRowSet = _executeRowSet;
+			setRowSetCommand = _setRowSetCommand;
+		}
+
+		@Override
+		public void run() {
+			final long start = SSMetrics.startTimer();
+			SQLException error = null;
+			try (PreparedStatement statement = connection.prepareStatement(command)) {
+				setCommandParameters(statement, parameters);
+				try (ResultSet resultSet = statement.executeQuery()) {
+					int chunkSize = LOAD_FIRST_CHUNK_SIZE;
+					List<Object[]> chunk = new ArrayList<>(chunkSize);
+					long lastPublished = System.nanoTime();
+
+					while (!cancelled && resultSet.next()) {
+						final Object[] rowValues = new Object[types.length];
+						for (int column = 0; column < types.length; column++) {
+							rowValues[column] = readColumnValue(resultSet, column, types[column]);
+						}
+						chunk.add(rowValues);
+
+						final long now = System.nanoTime();
+						if ((chunk.size() >= chunkSize) || ((now - lastPublished) >= LOAD_PUBLISH_INTERVAL_NANOS)) {
+							publish(chunk);
+							chunkSize = Math.min(chunkSize * 2, LOAD_MAX_CHUNK_SIZE);
+							chunk = new ArrayList<>(chunkSize);
+							lastPublished = now;
+						}
+					}
+					publish(chunk);
+				}
+			} catch (final SQLException se) {
+				error = se;
+			} finally {
+				SSMetrics.stopTimer(SSMetrics.GRID_FETCH, start);
+				final SQLException loadError = error;
+				// QUEUED AFTER THE LAST CHUNK SO THE MODEL SEES EVERY ROW FIRST
+				SwingUtilities.invokeLater(() -> finishLoad(this, loadError));
+			}
+		}
+
+		private void publish(final List<Object[]> _chunk) {
+			if (!_chunk.isEmpty() && !cancelled) {
+				SwingUtilities.invokeLater(() -> appendLoadedRows(this, _chunk));
+			}
+		}
+
+		/**
+		 * Asks the loader to stop after the row being read. Rows already read
+		 * remain in the model.
+		 */
+		void cancel() {
+			cancelled = true;
+		}
+	}
+
+	/**
+	 * Default number of consecutive rows read into each block of the row-window
+	 * cache.
+	 */
+	public static final int DEFAULT_CACHE_BLOCK_SIZE = 64;
+
+	/**
+	 * Default number of blocks kept in the row-window cache.
+	 */
+	public static final int DEFAULT_CACHE_MAX_BLOCKS = 16;
+
+	/**
+	 * Number of rows in the first chunk handed over by the background loader.
+	 */
+	private static final int LOAD_FIRST_CHUNK_SIZE = 64;
+
+	/**
+	 * Largest chunk of rows handed over by the background loader.
+	 */
+	private static final int LOAD_MAX_CHUNK_SIZE = 8192;
+
+	/**
+	 * Longest time the background loader holds rows before handing them over.
+	 */
+	private static final long LOAD_PUBLISH_INTERVAL_NANOS = 100_000_000L;
+
+	/**
+	 * Name of the bound load property, true while rows are being loaded in the
+	 * background.
+	 */
+	public static final String LOADING_PROPERTY = "loading";
+
+	/**
+	 * Name of the load property holding the number of rows loaded so far.
+	 */
+	public static final String ROWS_LOADED_PROPERTY = "rowsLoaded";
+
 	/**
 	 * Log4j Logger for component
 	 */
@@ -147,6 +473,23 @@ public class SSTableModel extends AbstractTableModel {
 	 */
 	protected SSDataValue dataValue = null;
 
+	/**
+	 * Indicator to determine if init() loads the rows in the background.
+	 */
+	private boolean asyncLoad = false;
+
+	/**
+	 * Indicator to determine if cell edits are buffered rather than written to
+	 * the RowSet as each cell is changed.
+	 */
+	private boolean bufferedEdits = false;
+
+	/**
+	 * Indicator to determine if init() copies the rows into a read-only
+	 * column store.
+	 */
+	private boolean snapshotMode = false;
+
 	/**
 	 * Map to store the default values of different columns.
 	 */
@@ -167,11 +510,101 @@ public class SSTableModel extends AbstractTableModel {
 	 */
 	protected boolean inInsertRow = false;
 
+	/**
+	 * Support for listeners to background load progress.
+	 */
+	private transient PropertyChangeSupport loadChangeSupport = null;
+
+	/**
+	 * Column metadata of the RowSet as of the last init(), used while the
+	 * background loader owns the RowSet.
+	 */
+	private transient ColumnMetadata rowSetMetadata = null;
+
+	/**
+	 * Rows decoded by the background loader while it runs, null otherwise.
+	 * They come from the loader's own execution of the command, so once the
+	 * load is done the model reads the RowSet, whose rows its writes go
+	 * through.
+	 */
+	private transient List<Object[]> loadedRows = null;
+
+	/**
+	 * Connection of the RowSet as of the last init(), used by the background
+	 * loader once the RowSet command has changed.
+	 */
+	private transient Connection rowSetConnection = null;
+
+	/**
+	 * Column store holding the rows in snapshot mode, null otherwise.
+	 */
+	private transient SSTableSnapshot snapshot = null;
+
+	/**
+	 * Background loader reading the RowSet, null when not loading.
+	 */
+	private transient SSTableModelLoader loader = null;
+
+	/**
+	 * Buffered cell edits not yet written to the database, by row and then by
+	 * column (both starting from 0).
+	 */
+	private final Map<Integer, Map<Integer, Object>> pendingEdits = new TreeMap<>();
+
+	/**
+	 * Indicates that a failure to write the buffered edits has been reported.
+	 * Writes attempted as the selection changes do not report it again until
+	 * the edits are written or discarded.
+	 */
+	private transient boolean editWriteErrorReported = false;
+
 	/**
 	 * Column containing primary key.
 	 */
 	private int primaryColumn = -1;
 
+	/**
+	 * Pager supplying the rows in paged mode, null when the rows come from the
+	 * RowSet.
+	 */
+	private transient SSTablePager pager = null;
+
+	/**
+	 * Indicates that a check of the pager's row count has been scheduled.
+	 */
+	private transient boolean pagerRowCountCheckPending = false;
+
+	/**
+	 * Pages being read in the background, or whose read failed, in paged
+	 * mode. Only changed on the event dispatch thread.
+	 */
+	private final transient Set<Integer> pageReads = new HashSet<>();
+
+	/**
+	 * Number of rows read into each block of the row-window cache.
+	 */
+	private int rowCacheBlockSize = DEFAULT_CACHE_BLOCK_SIZE;
+
+	/**
+	 * Indicator to determine if getValueAt() reads through the row-window cache.
+	 */
+	private boolean rowCacheEnabled = true;
+
+	/**
+	 * Maximum number of blocks held in the row-window cache.
+	 */
+	private int rowCacheMaxBlocks = DEFAULT_CACHE_MAX_BLOCKS;
+
+	/**
+	 * Row-window cache of decoded values. Lazily constructed.
+	 */
+	private transient RowWindowCache rowCache = null;
+
+	/**
+	 * Listener used to invalidate the row-window cache on RowSet changes.
+	 */
+	private transient SSTableModelRowSetListener rowSetListener = null;
+
 	/**
 	 * Number of rows in the RowSet.
 	 */
@@ -189,6 +622,17 @@ public class SSTableModel extends AbstractTableModel {
 	 */
 	protected int[] uneditableColumns = null;
 
+	/**
+	 * Table updated by flushEdits(), null to use the table reported by the
+	 * RowSet metadata.
+	 */
+	private String updateTableName = null;
+
+	/**
+	 * Listener writing buffered edits when the user leaves a row.
+	 */
+	private transient SSTableModelSelectionListener selectionListener = null;
+
 	/**
 	 * Constructs a SSTableModel object. If this contructor is used the
 	 * setRowSet() method has to be used to set the RowSet before constructing
@@ -207,10 +651,29 @@ public class SSTableModel extends AbstractTableModel {
 	 */
 	public SSTableModel(final RowSet _rowset) {
 		this();
-		rowset = _rowset;
+		attachRowSet(_rowset);
 		init();
 	}
 
+	/**
+	 * Makes _rowset the RowSet for the model and moves the cache invalidation
+	 * listener from the old RowSet, if any, to the new one.
+	 *
+	 * @param _rowset RowSet to model
+	 */
+	private void attachRowSet(final RowSet _rowset) {
+		if (rowSetListener == null) {
+			rowSetListener = new SSTableModelRowSetListener();
+		}
+		if (rowset != null) {
+			rowset.removeRowSetListener(rowSetListener);
+		}
+		rowset = _rowset;
+		if (rowset != null) {
+			rowset.addRowSetListener(rowSetListener);
+		}
+	}
+
 	/**
 	 * Deletes the specified row from the database. The rows are numbered as: 0, 1,
 	 * ..., n-1
@@ -220,6 +683,22 @@ public class SSTableModel extends AbstractTableModel {
 	 * @return returns true on succesful deletion else false.
 	 */
 	public boolean deleteRow(final int _row) {
+		if (pager != null) {
+			logger.warn("Rows can not be deleted in paged mode.");
+			return false;
+		}
+		if (snapshotMode) {
+			logger.warn("Rows can not be deleted in snapshot mode.");
+			return false;
+		}
+		if (isLoading()) {
+			logger.warn("Rows can not be deleted while loading.");
+			return false;
+		}
+		// ROW NUMBERS OF BUFFERED EDITS WOULD SHIFT
+		if (!pendingEdits.isEmpty() && !flushEditsExcept(-1)) {
+			return false;
+		}
 		if (dataGridHandler != null) {
 			dataGridHandler.performPreDeletionOps(_row);
 		}
@@ -231,6 +710,8 @@ public class SSTableModel extends AbstractTableModel {
 				rowset.absolute(_row + 1);
 				rowset.deleteRow();
 				rowCount--;
+				// ROWS AFTER THE DELETED ROW HAVE SHIFTED
+				invalidateRowCache();
 				if (dataGridHandler != null) {
 					dataGridHandler.performPostDeletionOps(_row);
 				}
@@ -265,7 +746,7 @@ public class SSTableModel extends AbstractTableModel {
 		int type;
 		try {
 			//type = rowset.getColumnType(_column + 1);
-			type = RowSetOps.getColumnType(rowset, _column + 1);
+			type = getColumnType(_column);
 		} catch (final SQLException se) {
 			logger.debug("SQL Exception.",  se);
 			return super.getColumnClass(_column);
@@ -349,7 +830,7 @@ public class SSTableModel extends AbstractTableModel {
 	public Object getDefaultValue(final int _columnNumber) {
 		Object value = null;
 		if (defaultValuesMap != null) {
-			value = defaultValuesMap.get(new Integer(_columnNumber));
+			value = defaultValuesMap.get(Integer.valueOf(_columnNumber));
 		}
 		return value;
 	}
@@ -364,7 +845,8 @@ public class SSTableModel extends AbstractTableModel {
 	public int getRowCount() {
 		// RETURN THE NUMBER OF ROWS AS ONE GREATER THAN THOSE IN DATABASE
 		// ITS USED FOR INSERTING NEW ROWS
-		if (allowInsertion) {
+		// PAGED AND SNAPSHOT MODELS ARE READ-ONLY SO THERE IS NO INSERTION ROW
+		if (allowInsertion && (pager == null) && !snapshotMode) {
 			return rowCount + 1;
 		}
 		// IF INSERTION IS NOT ALLOWED THEN RETURN THE ACTUAL ROW COUNT
@@ -373,6 +855,11 @@ public class SSTableModel extends AbstractTableModel {
 
 	/**
 	 * Returns the value for the cell at the specified row and column.
+	 * <p>
+	 * When the row-window cache is enabled (the default) the value comes from
+	 * the cache, reading the row's block from the RowSet if it is not resident.
+	 * While a background load runs the value comes from the rows loaded so
+	 * far. In snapshot mode the value comes from the column store.
 	 *
 	 * @param _row    the row whose value to be queried.
 	 * @param _column the column whose value to be queried.
@@ -382,61 +869,52 @@ public class SSTableModel extends AbstractTableModel {
 	@Override
 	public Object getValueAt(final int _row, final int _column) {
 
+		if (snapshot != null) {
+			return _row < snapshot.getRowCount() ? snapshot.getValue(_row, _column) : null;
+		}
+
 		Object value = null;
-		if (_row == rowCount) {
+		if ((_row == rowCount) && (pager == null)) {
 			value = getDefaultValue(_column);
 			return value;
 		}
 
+		// BUFFERED EDITS HAVE NOT REACHED THE ROWSET YET
+		// (CHECK FOR NONE FIRST, LOOKING UP A ROW BOXES ITS NUMBER)
+		if (!pendingEdits.isEmpty()) {
+			final Map<Integer, Object> rowEdits = pendingEdits.get(_row);
+			if ((rowEdits != null) && rowEdits.containsKey(_column)) {
+				return rowEdits.get(_column);
+			}
+		}
+
+		if (loadedRows != null) {
+			return _row < loadedRows.size() ? loadedRows.get(_row)[_column] : null;
+		}
+
 		try {
+			if (pager != null) {
+				final Object[] rowValues = pager.getResidentRow(_row);
+				if ((rowValues == null) && !pager.isRowResident(_row)) {
+					// SHOWN EMPTY UNTIL THE PAGE ARRIVES
+					readPageInBackground(_row);
+				}
+				return rowValues == null ? null : rowValues[_column];
+			}
+
+			if (rowCacheEnabled) {
+				final Object[] rowValues = getCachedRow(_row);
+				return rowValues == null ? null : rowValues[_column];
+			}
+
 			// ROW NUMBERS IN SSROWSET START FROM 1 WHERE AS ROW NUMBERING FOR JTABLE START
 			// FROM 0
 			rowset.absolute(_row + 1);
 
-			// IF IT IS NULL RETURN NULL
-			if (rowset.getObject(_column + 1) == null) {
-				return null;
-			}
-			
-			// TODO May be able to utilize JDBCType Enum here.
-			// TODO This may be better as a static method in RowSetOps. Could use getObject() and instanceof.
-
 			// COLUMN NUMBERS IN SSROWSET START FROM 1 WHERE AS COLUMN NUMBERING FOR JTABLE
 			// START FROM 0
 			//final int type = rowset.getColumnType(_column + 1);
-			final int type = RowSetOps.getColumnType(rowset, _column + 1);
-			switch (type) {
-			case Types.INTEGER:
-			case Types.SMALLINT:
-			case Types.TINYINT:
-				value = new Integer(rowset.getInt(_column + 1));
-				break;
-			case Types.BIGINT:
-				value = new Long(rowset.getLong(_column + 1));
-				break;
-			case Types.FLOAT:
-				value = new Float(rowset.getFloat(_column + 1));
-				break;
-			case Types.DOUBLE:
-			case Types.NUMERIC:
-				value = new Double(rowset.getDouble(_column + 1));
-				break;
-			case Types.BOOLEAN:
-			case Types.BIT:
-				value = new Boolean(rowset.getBoolean(_column + 1));
-				break;
-			case Types.DATE:
-			case Types.TIMESTAMP:
-				value = rowset.getDate(_column + 1);
-				break;
-			case Types.CHAR:
-			case Types.VARCHAR:
-			case Types.LONGVARCHAR:
-				value = rowset.getString(_column + 1);
-				break;
-			default:
-				logger.warn("Unknown data type of " + type);
-			}
+			value = readColumnValue(_column, getColumnType(_column));
 		} catch (final SQLException se) {
 			logger.error("SQL Exception while retrieving value.",  se);
 			if (component != null) {
@@ -450,571 +928,2357 @@ public class SSTableModel extends AbstractTableModel {
 	} // end public Object getValueAt(int _row, int _column) {
 
 	/**
-	 * Initializes the SSTableModel. (Gets the column count and row count for the
-	 * given RowSet.)
+	 * Reads the values of a block of cells, e.g. for copying to the clipboard.
+	 * Rows that are already resident (in the row-window cache or, in paged
+	 * mode, in a resident page) are served on the calling thread. The other
+	 * rows are read on a background thread, in one forward pass of the RowSet
+	 * command run on a statement of its own, so the RowSet cursor is not moved
+	 * off the event dispatch thread. Buffered edits are applied to the values
+	 * read.
+	 * <p>
+	 * In paged mode the pages that are not resident are read on the
+	 * background thread. In snapshot mode, when the rows of a background load
+	 * are being loaded, or when the RowSet has no connection to read from, the
+	 * cells are read on the calling thread.
+	 *
+	 * @param _rows     model rows to read, in ascending order
+	 * @param _columns  model columns to read (first column is 0)
+	 * @param _whenRead called on the event dispatch thread with the values
+	 *                  indexed by position in _rows and then in _columns, or
+	 *                  not at all if the read fails
 	 */
-	protected void init() {
-		try {
+	public void readCellsInBackground(final int[] _rows, final int[] _columns, final Consumer<Object[][]> _whenRead) {
+		final Object[][] values = new Object[_rows.length][_columns.length];
 
-			//columnCount = rowset.getColumnCount();
-			columnCount = RowSetOps.getColumnCount(rowset);
-			rowset.last();
-			// ROWS IN THE SSROWSET ARE NUMBERED FROM 1, SO LAST ROW NUMBER GIVES THE
-			// ROW COUNT
-			rowCount = rowset.getRow();
-			rowset.first();
+		if ((snapshot != null) || (loadedRows != null)) {
+			readCellsNow(_rows, _columns, values);
+			_whenRead.accept(values);
+			return;
+		}
 
-			// *** Following code added 11-01-2004 per forum suggestion from Diego Gil (dags).
-			// IF DATA CHANGES, ALERT LISTENERS
-			fireTableDataChanged();
-			// *** End addition
+		// SERVE THE RESIDENT ROWS AND COLLECT THE POSITIONS OF THE OTHERS
+		final SSTablePager readPager = pager;
+		final int readRowCount = rowCount;
+		final int[] missing = new int[_rows.length];
+		int missingCount = 0;
+		for (int i = 0; i < _rows.length; i++) {
+			final int row = _rows[i];
+			Object[] rowValues = null;
+			if (readPager != null) {
+				rowValues = readPager.getResidentRow(row);
+				if ((rowValues == null) && readPager.isRowResident(row)) {
+					// RESIDENT PAGE WITHOUT THE ROW
+					continue;
+				}
+			} else if (row >= readRowCount) {
+				// THE INSERTION ROW IS FILLED IN BY applyEditsAndDefaults()
+				continue;
+			} else if (rowCacheEnabled && (rowCache != null)) {
+				rowValues = rowCache.getRow(row);
+			}
+			if (rowValues == null) {
+				missing[missingCount++] = i;
+				continue;
+			}
+			for (int j = 0; j < _columns.length; j++) {
+				values[i][j] = rowValues[_columns[j]];
+			}
+		}
 
-		} catch (final SQLException se) {
-			logger.error("SQL Exception.",  se);
+		if (missingCount == 0) {
+			applyEditsAndDefaults(_rows, _columns, readRowCount, values);
+			_whenRead.accept(values);
+			return;
 		}
-	}
 
-	/**
-	 * Inserts a new row into the database. While doing so it inserts all the
+		String command = null;
+		Object[] parameters = null;
+		int[] types = null;
+		if (readPager == null) {
+			try {
+				final Statement statement = rowset.getStatement();
+				if (statement != null) {
+					rowSetConnection = statement.getConnection();
+				}
+				command = rowset.getCommand();
+				parameters = getRowSetParameters(rowset);
+				types = new int[_columns.length];
+				for (int j = 0; j < _columns.length; j++) {
+					types[j] = getColumnType(_columns[j]);
+				}
+			} catch (final SQLException se) {
+				logger.debug("RowSet command not available, reading cells on the calling thread.", se);
+				command = null;
+			}
+
+			if ((rowSetConnection == null) || (command == null)) {
+				readCellsNow(_rows, _columns, values);
+				_whenRead.accept(values);
+				return;
+			}
+		}
+
+		// THE MISSING ROWS SHARE THEIR VALUE ARRAYS WITH values SO THE READ
+		// FILLS THEM IN PLACE
+		final int[] missingRows = new int[missingCount];
+		final Object[][] missingValues = new Object[missingCount][];
+		for (int k = 0; k < missingCount; k++) {
+			missingRows[k] = _rows[missing[k]];
+			missingValues[k] = values[missing[k]];
+		}
+
+		final Connection connection = rowSetConnection;
+		final String readCommand = command;
+		final Object[] readParameters = parameters;
+		final int[] readTypes = types;
+		final Runnable reader = () -> {
+			SQLException error = null;
+			try {
+				if (readPager != null) {
+					readPagerCells(readPager, missingRows, _columns, missingValues);
+				} else {
+					readCells(connection, readCommand, readParameters, readRowCount, missingRows, _columns, readTypes,
+							missingValues);
+				}
+			} catch (final SQLException se) {
+				error = se;
+			}
+			final SQLException readError = error;
+			SwingUtilities.invokeLater(() -> {
+				if (readError != null) {
+					logger.error("SQL Exception while reading values.",  readError);
+					if (component != null) {
+						JOptionPane.showMessageDialog(component, "Error while reading values.\n" + readError.getMessage());
+					}
+					return;
+				}
+				applyEditsAndDefaults(_rows, _columns, readRowCount, values);
+				_whenRead.accept(values);
+			});
+		};
+		SSUtils.newBackgroundThread(reader, "SSTableModel reader").start();
+	}
+
+	/**
+	 * Reads a block of cells for readCellsInBackground() on the calling thread.
+	 *
+	 * @param _rows    model rows to read
+	 * @param _columns model columns to read
+	 * @param _values  receives the values
+	 */
+	private void readCellsNow(final int[] _rows, final int[] _columns, final Object[][] _values) {
+		for (int i = 0; i < _rows.length; i++) {
+			for (int j = 0; j < _columns.length; j++) {
+				_values[i][j] = getValueAt(_rows[i], _columns[j]);
+			}
+		}
+	}
+
+	/**
+	 * Reads a block of cells for readCellsInBackground() in paged mode.
+	 *
+	 * @param _pager   pager supplying the rows
+	 * @param _rows    model rows to read
+	 * @param _columns model columns to read
+	 * @param _values  receives the values
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	private static void readPagerCells(final SSTablePager _pager, final int[] _rows, final int[] _columns,
+			final Object[][] _values) throws SQLException {
+		for (int i = 0; i < _rows.length; i++) {
+			final Object[] rowValues = _pager.getRow(_rows[i]);
+			if (rowValues == null) {
+				continue;
+			}
+			for (int j = 0; j < _columns.length; j++) {
+				_values[i][j] = rowValues[_columns[j]];
+			}
+		}
+	}
+
+	/**
+	 * Reads a block of cells for readCellsInBackground() by running the RowSet
+	 * command on a statement of its own and reading forward to each row.
+	 *
+	 * @param _connection connection to run the command on
+	 * @param _command    RowSet command
+	 * @param _parameters parameters of the command
+	 * @param _rowCount   number of rows in the model, rows past it are the
+	 *                    insertion row and are not read
+	 * @param _rows       model rows to read, in ascending order
+	 * @param _columns    model columns to read
+	 * @param _types      SQL type of each column read
+	 * @param _values     receives the values
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	private static void readCells(final Connection _connection, final String _command, final Object[] _parameters,
+			final int _rowCount, final int[] _rows, final int[] _columns, final int[] _types, final Object[][] _values)
+			throws SQLException {
+		try (PreparedStatement statement = _connection.prepareStatement(_command)) {
+			setCommandParameters(statement, _parameters);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				int cursorRow = -1;
+				for (int i = 0; i < _rows.length; i++) {
+					final int row = _rows[i];
+					if (row >= _rowCount) {
+						// THE INSERTION ROW IS FILLED IN ON THE EVENT DISPATCH THREAD
+						break;
+					}
+					boolean onRow = cursorRow == row;
+					while (!onRow && resultSet.next()) {
+						onRow = ++cursorRow == row;
+					}
+					if (!onRow) {
+						break;
+					}
+					for (int j = 0; j < _columns.length; j++) {
+						_values[i][j] = readColumnValue(resultSet, _columns[j], _types[j]);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Completes values read from the database: the insertion row gets the
+	 * default values and cells with buffered edits get the edited values.
+	 *
+	 * @param _rows     model rows read
+	 * @param _columns  model columns read
+	 * @param _rowCount number of rows in the model when the values were read
+	 * @param _values   values indexed by position in _rows and then in _columns
+	 */
+	private void applyEditsAndDefaults(final int[] _rows, final int[] _columns, final int _rowCount,
+			final Object[][] _values) {
+		for (int i = 0; i < _rows.length; i++) {
+			if (_rows[i] >= _rowCount) {
+				for (int j = 0; j < _columns.length; j++) {
+					_values[i][j] = getDefaultValue(_columns[j]);
+				}
+				continue;
+			}
+			if (pendingEdits.isEmpty()) {
+				continue;
+			}
+			final Map<Integer, Object> rowEdits = pendingEdits.get(_rows[i]);
+			if (rowEdits == null) {
+				continue;
+			}
+			for (int j = 0; j < _columns.length; j++) {
+				if (rowEdits.containsKey(_columns[j])) {
+					_values[i][j] = rowEdits.get(_columns[j]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the decoded values of all columns for the specified row from the
+	 * row-window cache. If the block containing the row is not resident, it is
+	 * read from the RowSet with a single absolute() followed by next() calls.
+	 *
+	 * @param _row the row to retrieve (first row is 0)
+	 *
+	 * @return values for the row indexed by column (first column is 0), or null
+	 *         if the row does not exist in the RowSet
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	protected Object[] getCachedRow(final int _row) throws SQLException {
+		final RowWindowCache cache = getRowCache();
+		Object[] rowValues = cache.getRow(_row);
+		if (rowValues == null) {
+			loadBlock(cache, _row);
+			rowValues = cache.getRow(_row);
+		}
+		return rowValues;
+	}
+
+	/**
+	 * Reads the block of rows containing _row into the cache. The RowSet cursor
+	 * is left on _row, as it would be after an uncached read.
+	 *
+	 * @param _cache cache to fill
+	 * @param _row row whose block is to be read (first row is 0)
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	private void loadBlock(final RowWindowCache _cache, final int _row) throws SQLException {
+		final int firstRow = (_row / _cache.getBlockSize()) * _cache.getBlockSize();
+		final int numRows = Math.min(_cache.getBlockSize(), rowCount - firstRow);
+		if (numRows <= 0) {
+			return;
+		}
+
+		// LOOK UP THE COLUMN TYPES ONCE FOR THE WHOLE BLOCK
+		final ColumnMetadata metadata = RowSetOps.getColumnMetadata(rowset);
+		final int[] types = new int[columnCount];
+		for (int column = 0; column < columnCount; column++) {
+			types[column] = metadata.getColumnType(column + 1);
+		}
+
+		final long start = SSMetrics.startTimer();
+		Object[][] block = new Object[numRows][];
+		boolean onRow = rowset.absolute(firstRow + 1);
+		int rowsRead = 0;
+		while (onRow && (rowsRead < numRows)) {
+			final Object[] rowValues = new Object[columnCount];
+			for (int column = 0; column < columnCount; column++) {
+				rowValues[column] = readColumnValue(column, types[column]);
+			}
+			block[rowsRead++] = rowValues;
+			if (rowsRead < numRows) {
+				onRow = rowset.next();
+			}
+		}
+
+		if (rowsRead < numRows) {
+			final Object[][] partialBlock = new Object[rowsRead][];
+			System.arraycopy(block, 0, partialBlock, 0, rowsRead);
+			block = partialBlock;
+		}
+		SSMetrics.stopTimer(SSMetrics.GRID_FETCH, start);
+
+		_cache.putBlock(firstRow, block);
+
+		rowset.absolute(_row + 1);
+	}
+
+	/**
+	 * Reads and decodes the value of a column on the current row of the RowSet.
+	 *
+	 * @param _column the column to read (first column is 0)
+	 * @param _type SQL type of the column from java.sql.Types
+	 *
+	 * @return the decoded value, null if the column is null or of an unknown type
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	protected Object readColumnValue(final int _column, final int _type) throws SQLException {
+		return readColumnValue(rowset, _column, _type);
+	}
+
+	/**
+	 * Reads and decodes the value of a column on the current row of a
+	 * ResultSet, using the same type handling as getValueAt().
+	 *
+	 * @param _resultSet the ResultSet to read
+	 * @param _column the column to read (first column is 0)
+	 * @param _type SQL type of the column from java.sql.Types
+	 *
+	 * @return the decoded value, null if the column is null or of an unknown type
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	static Object readColumnValue(final ResultSet _resultSet, final int _column, final int _type) throws SQLException {
+
+		Object value = null;
+
+		// IF IT IS NULL RETURN NULL
+		if (_resultSet.getObject(_column + 1) == null) {
+			return null;
+		}
+
+		// TODO May be able to utilize JDBCType Enum here.
+		// TODO This may be better as a static method in RowSetOps. Could use getObject() and instanceof.
+
+		switch (_type) {
+		case Types.INTEGER:
+		case Types.SMALLINT:
+		case Types.TINYINT:
+			value = Integer.valueOf(_resultSet.getInt(_column + 1));
+			break;
+		case Types.BIGINT:
+			value = Long.valueOf(_resultSet.getLong(_column + 1));
+			break;
+		case Types.FLOAT:
+			value = Float.valueOf(_resultSet.getFloat(_column + 1));
+			break;
+		case Types.DOUBLE:
+		case Types.NUMERIC:
+			value = Double.valueOf(_resultSet.getDouble(_column + 1));
+			break;
+		case Types.BOOLEAN:
+		case Types.BIT:
+			value = Boolean.valueOf(_resultSet.getBoolean(_column + 1));
+			break;
+		case Types.DATE:
+		case Types.TIMESTAMP:
+			value = _resultSet.getDate(_column + 1);
+			break;
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+			value = _resultSet.getString(_column + 1);
+			break;
+		default:
+			logger.warn("Unknown data type of " + _type);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Returns the SQL type of a column from the RowSet or, in paged mode, from
+	 * the pager. While loading in the background the type comes from the
+	 * metadata read before the load started.
+	 *
+	 * @param _column the column (first column is 0)
+	 *
+	 * @return SQL type from java.sql.Types
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	protected int getColumnType(final int _column) throws SQLException {
+		if (pager != null) {
+			return pager.getColumnMetadata().getColumnType(_column + 1);
+		}
+		if (isLoading() && (rowSetMetadata != null)) {
+			// THE ROWSET MAY NOT BE EXECUTED WITH THE LOADER'S COMMAND YET
+			return rowSetMetadata.getColumnType(_column + 1);
+		}
+		return RowSetOps.getColumnType(rowset, _column + 1);
+	}
+
+	/**
+	 * Schedules a check of the pager's row count. In paged mode the row count
+	 * can change when a page is read; the check fires the table model event for
+	 * the change after painting is done.
+	 */
+	private void checkPagerRowCount() {
+		if (pagerRowCountCheckPending) {
+			return;
+		}
+		pagerRowCountCheckPending = true;
+		SwingUtilities.invokeLater(() -> {
+			pagerRowCountCheckPending = false;
+			if (pager == null) {
+				return;
+			}
+			final int oldRowCount = rowCount;
+			final int newRowCount = pager.getRowCount();
+			if (newRowCount > oldRowCount) {
+				rowCount = newRowCount;
+				fireTableRowsInserted(oldRowCount, newRowCount - 1);
+			} else if (newRowCount < oldRowCount) {
+				rowCount = newRowCount;
+				fireTableRowsDeleted(newRowCount, oldRowCount - 1);
+			}
+		});
+	}
+
+	/**
+	 * Reads the page holding a row on a background thread, then repaints the
+	 * page's rows and checks the row count on the event dispatch thread. A
+	 * page is read once: if the read fails the error is reported and the
+	 * page stays empty until the pager is set again.
+	 *
+	 * @param _row row whose page is to be read (first row is 0)
+	 */
+	private void readPageInBackground(final int _row) {
+		final SSTablePager readPager = pager;
+		final int pageSize = readPager.getOpenPageSize();
+		final int page = _row / pageSize;
+		if (!pageReads.add(page)) {
+			return;
+		}
+		final Runnable reader = () -> {
+			SQLException error = null;
+			try {
+				readPager.getRow(_row);
+			} catch (final SQLException se) {
+				error = se;
+			}
+			final SQLException readError = error;
+			SwingUtilities.invokeLater(() -> {
+				if (readPager != pager) {
+					// SUPERSEDED
+					return;
+				}
+				if (readError != null) {
+					logger.error("SQL Exception while reading page.",  readError);
+					if (component != null) {
+						JOptionPane.showMessageDialog(component, "Error while reading page.\n" + readError.getMessage());
+					}
+					return;
+				}
+				pageReads.remove(page);
+				final int firstRow = page * pageSize;
+				final int lastRow = Math.min(firstRow + pageSize, rowCount) - 1;
+				if (firstRow <= lastRow) {
+					fireTableRowsUpdated(firstRow, lastRow);
+				}
+				checkPagerRowCount();
+			});
+		};
+		SSUtils.newBackgroundThread(reader, "SSTableModel page reader").start();
+	}
+
+	/**
+	 * Returns the pager used in paged mode.
+	 *
+	 * @return the pager, or null if the rows come from the RowSet
+	 */
+	public SSTablePager getPager() {
+		return pager;
+	}
+
+	/**
+	 * Puts the model in paged mode: the rows are read a page at a time by the
+	 * pager rather than from the RowSet. A paged model is read-only and has no
+	 * insertion row. The pager's key column becomes the primary column.
+	 * <p>
+	 * The pager is opened, reading the first page, on the calling thread since
+	 * the columns are needed to build the table. Further pages are read on a
+	 * background thread as they are displayed; their rows are empty until
+	 * they arrive.
+	 * <p>
+	 * Pass null to return to reading from the RowSet; setRowSet() should then
+	 * be called.
+	 *
+	 * @param _pager pager supplying the rows, or null
+	 */
+	public void setPager(final SSTablePager _pager) {
+		stopLoad();
+		snapshot = null;
+		pager = _pager;
+		pageReads.clear();
+		invalidateRowCache();
+		if (pager == null) {
+			return;
+		}
+		attachRowSet(null);
+		try {
+			pager.open();
+			columnCount = pager.getColumnMetadata().getColumnCount();
+			rowCount = pager.getRowCount();
+			primaryColumn = pager.getKeyColumnIndex() - 1;
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while reading the first page.",  se);
+			columnCount = 0;
+			rowCount = 0;
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while reading the first page.\n" + se.getMessage());
+			}
+		}
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Returns the row-window cache, constructing it if needed.
+	 *
+	 * @return the row-window cache
+	 */
+	private RowWindowCache getRowCache() {
+		if (rowCache == null) {
+			rowCache = new RowWindowCache(rowCacheBlockSize, rowCacheMaxBlocks);
+		}
+		return rowCache;
+	}
+
+	/**
+	 * Discards all values held in the row-window cache. The next call to
+	 * getValueAt() re-reads from the RowSet.
+	 * <p>
+	 * The model invalidates the cache itself for setValueAt(), deleteRow(),
+	 * insertRow() and RowSet change events. Call this if the RowSet data is
+	 * changed in a way that does not notify RowSet listeners.
+	 */
+	public void invalidateRowCache() {
+		if (rowCache != null) {
+			rowCache.clear();
+		}
+	}
+
+	/**
+	 * Discards the cached values for the block containing the specified row.
+	 *
+	 * @param _row row whose cached values are stale (first row is 0)
+	 */
+	protected void invalidateRowCache(final int _row) {
+		if (rowCache != null) {
+			rowCache.invalidateRow(_row);
+		}
+	}
+
+	/**
+	 * Returns the row-window cache enabled indicator.
+	 *
+	 * @return true if getValueAt() reads through the row-window cache
+	 */
+	public boolean isRowCacheEnabled() {
+		return rowCacheEnabled;
+	}
+
+	/**
+	 * Enables or disables the row-window cache. When disabled, every call to
+	 * getValueAt() positions the RowSet cursor and reads the column from the
+	 * RowSet. Enabled by default.
+	 *
+	 * @param _rowCacheEnabled true to read cell values through the cache
+	 */
+	public void setRowCacheEnabled(final boolean _rowCacheEnabled) {
+		rowCacheEnabled = _rowCacheEnabled;
+		invalidateRowCache();
+	}
+
+	/**
+	 * Sets the size of the row-window cache. Discards any cached values.
+	 *
+	 * @param _blockSize number of consecutive rows read from the RowSet at a
+	 *                   time
+	 * @param _maxBlocks number of blocks held before the least recently used
+	 *                   block is evicted
+	 */
+	public void setRowCacheSize(final int _blockSize, final int _maxBlocks) {
+		if ((_blockSize < 1) || (_maxBlocks < 1)) {
+			throw new IllegalArgumentException("Row cache block size and block count must be positive.");
+		}
+		rowCacheBlockSize = _blockSize;
+		rowCacheMaxBlocks = _maxBlocks;
+		rowCache = null;
+	}
+
+	/**
+	 * Starts loading the rows of a query in the background, on a statement of
+	 * its own on the RowSet's connection. The model starts out empty and grows
+	 * as the rows arrive.
+	 *
+	 * @param _command          query to load, with the columns of the RowSet
+	 * @param _parameters       parameters of the query, in the form returned by
+	 *                          BaseRowSet.getParams()
+	 * @param _executeRowSet    true to execute the RowSet on the event dispatch
+	 *                          thread once the rows are loaded
+	 * @param _setRowSetCommand true to set the query and parameters on the
+	 *                          RowSet before executing it
+	 *
+	 * @return false if there is no command or connection to load from
+	 *
+	 * @throws SQLException if the column metadata can not be read
+	 */
+	private boolean startLoad(final String _command, final Object[] _parameters, final boolean _executeRowSet,
+			final boolean _setRowSetCommand) throws SQLException {
+		final Statement statement = rowset.getStatement();
+		if (statement != null) {
+			rowSetConnection = statement.getConnection();
+		}
+		if ((rowSetConnection == null) || (_command == null)) {
+			return false;
+		}
+		if (rowSetMetadata == null) {
+			rowSetMetadata = RowSetOps.getColumnMetadata(rowset);
+		}
+		final ColumnMetadata metadata = rowSetMetadata;
+		final int[] types = new int[columnCount];
+		for (int column = 0; column < columnCount; column++) {
+			types[column] = metadata.getColumnType(column + 1);
+		}
+
+		loader = new SSTableModelLoader(rowSetConnection, _command, _parameters, types, _executeRowSet,
+				_setRowSetCommand);
+		if (snapshotMode) {
+			snapshot = new SSTableSnapshot(types, LOAD_FIRST_CHUNK_SIZE);
+		} else {
+			loadedRows = new ArrayList<>();
+		}
+		rowCount = 0;
+		fireTableDataChanged();
+		fireLoadPropertyChange(LOADING_PROPERTY, false, true);
+
+		SSUtils.newBackgroundThread(loader, "SSTableModel loader").start();
+		return true;
+	}
+
+	/**
+	 * Returns the parameters set on a RowSet. Only a BaseRowSet (as used by the
+	 * JDBC RowSet implementations) exposes them; other RowSets are assumed to
+	 * have none.
+	 *
+	 * @param _rowSet RowSet
+	 * @return the parameters, in order
+	 */
+	static Object[] getRowSetParameters(final RowSet _rowSet) {
+		if (_rowSet instanceof BaseRowSet) {
+			try {
+				final Object[] parameters = ((BaseRowSet) _rowSet).getParams();
+				if (parameters != null) {
+					return parameters;
+				}
+			} catch (final SQLException se) {
+				logger.warn("Unable to read RowSet parameters.", se);
+			}
+		}
+		return new Object[0];
+	}
+
+	/**
+	 * Sets a command and its parameters on a RowSet.
+	 *
+	 * @param _rowSet     RowSet
+	 * @param _command    SQL query
+	 * @param _parameters parameters, in the form returned by
+	 *                    BaseRowSet.getParams()
+	 * @throws SQLException if a database access error occurs
+	 */
+	static void setCommand(final RowSet _rowSet, final String _command, final Object[] _parameters)
+			throws SQLException {
+		_rowSet.setCommand(_command);
+		// SETTING THE COMMAND CLEARS THE PARAMETERS
+		for (int i = 0; i < _parameters.length; i++) {
+			Object value = _parameters[i];
+			if (value instanceof Object[]) {
+				// BaseRowSet KEEPS SOME PARAMETERS WITH THEIR TYPE, e.g. {null, sqlType} FOR setNull()
+				final Object[] parameter = (Object[]) value;
+				if ((parameter.length >= 2) && (parameter[0] == null) && (parameter[1] instanceof Integer)) {
+					_rowSet.setNull(i + 1, (Integer) parameter[1]);
+					continue;
+				}
+				value = parameter.length > 0 ? parameter[0] : null;
+			}
+			_rowSet.setObject(i + 1, value);
+		}
+	}
+
+	/**
+	 * Sets the parameters of a RowSet command on a statement.
+	 *
+	 * @param _statement  statement for the command
+	 * @param _parameters parameters, in the form returned by
+	 *                    BaseRowSet.getParams()
+	 * @throws SQLException if a database access error occurs
+	 */
+	static void setCommandParameters(final PreparedStatement _statement, final Object[] _parameters)
+			throws SQLException {
+		for (int i = 0; i < _parameters.length; i++) {
+			Object value = _parameters[i];
+			if (value instanceof Object[]) {
+				// BaseRowSet KEEPS SOME PARAMETERS WITH THEIR TYPE, e.g. {null, sqlType} FOR setNull()
+				final Object[] parameter = (Object[]) value;
+				if ((parameter.length >= 2) && (parameter[0] == null) && (parameter[1] instanceof Integer)) {
+					_statement.setNull(i + 1, (Integer) parameter[1]);
+					continue;
+				}
+				value = parameter.length > 0 ? parameter[0] : null;
+			}
+			_statement.setObject(i + 1, value);
+		}
+	}
+
+	/**
+	 * Adds the rows of a chunk handed over by the background loader. Called on
+	 * the event dispatch thread.
+	 *
+	 * @param _loader loader that read the rows
+	 * @param _chunk  decoded rows
+	 */
+	private void appendLoadedRows(final SSTableModelLoader _loader, final List<Object[]> _chunk) {
+		if (_loader != loader) {
+			// SUPERSEDED
+			return;
+		}
+		final int oldRowCount = rowCount;
+		if (snapshot != null) {
+			snapshot.addRows(_chunk);
+			rowCount = snapshot.getRowCount();
+		} else {
+			loadedRows.addAll(_chunk);
+			rowCount = loadedRows.size();
+		}
+		fireTableRowsInserted(oldRowCount, rowCount - 1);
+		fireLoadPropertyChange(ROWS_LOADED_PROPERTY, oldRowCount, rowCount);
+	}
+
+	/**
+	 * Ends a background load. Called on the event dispatch thread once the
+	 * last chunk has been added. If the load was started by
+	 * executeInBackground() the RowSet is executed here, so its listeners are
+	 * notified on the event dispatch thread.
+	 * <p>
+	 * The rows loaded come from the loader's own execution of the command,
+	 * which may differ from the RowSet's, e.g. in the order of rows with equal
+	 * sort keys or in rows changed in between. Edits, deletes and batch writes
+	 * address rows through the RowSet, so the rows loaded are dropped here
+	 * and the model reads the RowSet from now on. A snapshot is read-only
+	 * and is kept.
+	 *
+	 * @param _loader loader that finished
+	 * @param _error  exception that ended the load, or null
+	 */
+	private void finishLoad(final SSTableModelLoader _loader, final SQLException _error) {
+		if (_loader != loader) {
+			// SUPERSEDED
+			return;
+		}
+		if (snapshot != null) {
+			snapshot.finish();
+		}
+
+		SQLException error = _error;
+		String action = "loading rows";
+		int rowSetRowCount = 0;
+		try {
+			if (_loader.executeRowSet) {
+				action = "executing RowSet";
+				if (_loader.setRowSetCommand) {
+					setCommand(rowset, _loader.command, _loader.parameters);
+				}
+				rowset.execute();
+			}
+			if (snapshot == null) {
+				rowset.last();
+				rowSetRowCount = rowset.getRow();
+			}
+			// LEAVE THE CURSOR WHERE A SYNCHRONOUS init() WOULD
+			rowset.first();
+		} catch (final SQLException se) {
+			if (error == null) {
+				error = se;
+			}
+		}
+
+		loader = null;
+		if (snapshot == null) {
+			// FROM NOW ON THE ROWS COME FROM THE ROWSET, THE ROWS WRITES GO THROUGH
+			loadedRows = null;
+			invalidateRowCache();
+			final int oldRowCount = rowCount;
+			rowCount = rowSetRowCount;
+			if (rowCount != oldRowCount) {
+				fireTableDataChanged();
+			} else if (rowCount > 0) {
+				// SAME SHAPE, THE SELECTION STAYS; ONLY THE ROWS DISPLAYED ARE READ AGAIN
+				fireTableRowsUpdated(0, rowCount - 1);
+			}
+		}
+		fireLoadPropertyChange(LOADING_PROPERTY, true, false);
+
+		if (error != null) {
+			logger.error("SQL Exception while " + action + ".",  error);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while " + action + ".\n" + error.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Stops any background load. The loader has its own statement, so there
+	 * is nothing to wait for: it stops after the row being read and its rows
+	 * are ignored. Rows loaded so far are discarded.
+	 */
+	private void stopLoad() {
+		final SSTableModelLoader oldLoader = loader;
+		if (oldLoader == null) {
+			return;
+		}
+		oldLoader.cancel();
+		loader = null;
+		loadedRows = null;
+		fireLoadPropertyChange(LOADING_PROPERTY, true, false);
+	}
+
+	/**
+	 * Runs the RowSet command on a background thread (e.g. after the command
+	 * has changed) and loads its rows in the background as described in
+	 * setAsyncLoad(). Once the rows are loaded the RowSet itself is executed
+	 * on the event dispatch thread. The columns of the RowSet must not change:
+	 * their types are taken from the metadata read by the last init().
+	 * Buffered edits are discarded.
+	 * <p>
+	 * If the RowSet has no connection yet it is executed on the calling
+	 * thread instead.
+	 * <p>
+	 * Changing the command of a connected RowSet closes its cursor, which
+	 * other components bound to the RowSet may still be using. Use
+	 * executeInBackground(String, Object[]) to leave the RowSet alone until
+	 * the new rows are loaded.
+	 */
+	public void executeInBackground() {
+		try {
+			executeInBackground(rowset.getCommand(), getRowSetParameters(rowset), false);
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while executing RowSet.",  se);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while executing RowSet.\n" + se.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Loads the rows of a new RowSet command in the background (e.g. the
+	 * RowSet's query re-sorted or filtered) as described in setAsyncLoad().
+	 * The RowSet is not touched until the rows are loaded: then the command
+	 * and parameters are set on it and it is executed, on the event dispatch
+	 * thread. A load already running is stopped first, so its command never
+	 * reaches the RowSet. The columns of the command must be those of the
+	 * RowSet. Buffered edits are discarded.
+	 *
+	 * @param _command    new RowSet command
+	 * @param _parameters parameters of the command, plain values or in the
+	 *                    form returned by BaseRowSet.getParams()
+	 *
+	 * @since 4.0.14
+	 */
+	public void executeInBackground(final String _command, final Object[] _parameters) {
+		try {
+			executeInBackground(_command, _parameters, true);
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while executing RowSet.",  se);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while executing RowSet.\n" + se.getMessage());
+			}
+		}
+	}
+
+	private void executeInBackground(final String _command, final Object[] _parameters,
+			final boolean _setRowSetCommand) throws SQLException {
+		stopLoad();
+		snapshot = null;
+		invalidateRowCache();
+		if (!pendingEdits.isEmpty()) {
+			logger.warn("Discarding buffered edits of {} rows.", pendingEdits.size());
+			pendingEdits.clear();
+		}
+		if (!startLoad(_command, _parameters, true, _setRowSetCommand)) {
+			if (_setRowSetCommand) {
+				setCommand(rowset, _command, _parameters);
+			}
+			rowset.execute();
+			init();
+		}
+	}
+
+	/**
+	 * Asks a background load to stop. LOADING_PROPERTY changes to false once
+	 * the loader has stopped; then, as after any load, the model reads the
+	 * rows of the RowSet. A load started by executeInBackground() still
+	 * executes the RowSet.
+	 */
+	public void cancelLoad() {
+		if (loader != null) {
+			loader.cancel();
+		}
+	}
+
+	/**
+	 * Returns true while rows are being loaded in the background. The model is
+	 * read-only while loading.
+	 *
+	 * @return true if a background load is running
+	 */
+	public boolean isLoading() {
+		return loader != null;
+	}
+
+	/**
+	 * Returns the number of rows loaded so far by the background load.
+	 *
+	 * @return the number of rows loaded
+	 */
+	public int getRowsLoaded() {
+		return loadedRows == null ? rowCount : loadedRows.size();
+	}
+
+	/**
+	 * Returns the background load indicator.
+	 *
+	 * @return true if setting the RowSet loads its rows in the background
+	 */
+	public boolean isAsyncLoad() {
+		return asyncLoad;
+	}
+
+	/**
+	 * Sets the background load indicator. When true, setting the RowSet
+	 * returns without reading the rows. The rows are read on a background
+	 * thread (a virtual thread where available) and added to the model in
+	 * chunks on the event dispatch thread, so the first rows are displayed
+	 * without waiting for the rest. Load progress is reported to listeners
+	 * added with addLoadPropertyChangeListener().
+	 * <p>
+	 * The loader runs the RowSet command on its own statement on the RowSet's
+	 * connection and does not move the RowSet cursor, so the RowSet can be
+	 * shared with other bound components while loading. The model is
+	 * read-only while loading; once the load is done it counts the rows of
+	 * the RowSet and reads them from the RowSet, like a synchronous load, so
+	 * edits address the rows displayed. A RowSet without a statement (e.g. a
+	 * CachedRowSet) is read on the calling thread.
+	 *
+	 * @param _asyncLoad true to load the rows in the background
+	 */
+	public void setAsyncLoad(final boolean _asyncLoad) {
+		asyncLoad = _asyncLoad;
+	}
+
+	/**
+	 * Returns the snapshot mode indicator.
+	 *
+	 * @return true if setting the RowSet copies its rows into a column store
+	 */
+	public boolean isSnapshotMode() {
+		return snapshotMode;
+	}
+
+	/**
+	 * Sets the snapshot mode indicator. When true, setting the RowSet copies
+	 * its rows once into a read-only column store (see SSTableSnapshot) and
+	 * getValueAt() reads from the store. Numeric, boolean and date columns are
+	 * held in primitive arrays, so a large grid does not keep a boxed object
+	 * per cell. With setAsyncLoad() the store is filled in the background.
+	 * <p>
+	 * The model is read-only in snapshot mode and does not see later changes
+	 * to the RowSet until the RowSet is set again (or re-executed with
+	 * executeInBackground()).
+	 *
+	 * @param _snapshotMode true to copy the rows into a column store
+	 */
+	public void setSnapshotMode(final boolean _snapshotMode) {
+		snapshotMode = _snapshotMode;
+	}
+
+	/**
+	 * Copies the rows of the RowSet into a new column store in one forward
+	 * pass.
+	 *
+	 * @param _expectedRows number of rows in the RowSet
+	 *
+	 * @return the column store
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	private SSTableSnapshot readSnapshot(final int _expectedRows) throws SQLException {
+		final int[] types = new int[columnCount];
+		for (int column = 0; column < columnCount; column++) {
+			types[column] = rowSetMetadata.getColumnType(column + 1);
+		}
+		rowset.beforeFirst();
+		return SSTableSnapshot.read(rowset, types, _expectedRows);
+	}
+
+	/**
+	 * Adds a listener notified on the event dispatch thread of changes to
+	 * LOADING_PROPERTY and ROWS_LOADED_PROPERTY.
+	 *
+	 * @param _listener listener to add
+	 */
+	public void addLoadPropertyChangeListener(final PropertyChangeListener _listener) {
+		if (loadChangeSupport == null) {
+			loadChangeSupport = new PropertyChangeSupport(this);
+		}
+		loadChangeSupport.addPropertyChangeListener(_listener);
+	}
+
+	/**
+	 * Removes a listener added with addLoadPropertyChangeListener().
+	 *
+	 * @param _listener listener to remove
+	 */
+	public void removeLoadPropertyChangeListener(final PropertyChangeListener _listener) {
+		if (loadChangeSupport != null) {
+			loadChangeSupport.removePropertyChangeListener(_listener);
+		}
+	}
+
+	private void fireLoadPropertyChange(final String _propertyName, final Object _oldValue, final Object _newValue) {
+		if (loadChangeSupport != null) {
+			loadChangeSupport.firePropertyChange(_propertyName, _oldValue, _newValue);
+		}
+	}
+
+	/**
+	 * Initializes the SSTableModel. (Gets the column count and row count for the
+	 * given RowSet.)
+	 * <p>
+	 * If the background load indicator is set, the rows are loaded in the
+	 * background instead (see setAsyncLoad()). In snapshot mode the rows are
+	 * copied into a column store (see setSnapshotMode()).
+	 */
+	protected void init() {
+		stopLoad();
+		snapshot = null;
+		invalidateRowCache();
+		if (!pendingEdits.isEmpty()) {
+			logger.warn("Discarding buffered edits of {} rows.", pendingEdits.size());
+			pendingEdits.clear();
+		}
+		try {
+
+			//columnCount = rowset.getColumnCount();
+			columnCount = RowSetOps.getColumnCount(rowset);
+			rowSetMetadata = RowSetOps.getColumnMetadata(rowset);
+
+			if (asyncLoad) {
+				if (startLoad(rowset.getCommand(), getRowSetParameters(rowset), false, false)) {
+					return;
+				}
+				logger.debug("RowSet has no connection to load from, reading it on the calling thread.");
+			}
+
+			rowset.last();
+			// ROWS IN THE SSROWSET ARE NUMBERED FROM 1, SO LAST ROW NUMBER GIVES THE
+			// ROW COUNT
+			rowCount = rowset.getRow();
+			if (snapshotMode) {
+				snapshot = readSnapshot(rowCount);
+				rowCount = snapshot.getRowCount();
+			}
+			rowset.first();
+
+			// *** Following code added 11-01-2004 per forum suggestion from Diego Gil (dags).
+			// IF DATA CHANGES, ALERT LISTENERS
+			fireTableDataChanged();
+			// *** End addition
+
+		} catch (final SQLException se) {
+			logger.error("SQL Exception.",  se);
+		}
+	}
+
+	/**
+	 * Inserts a new row into the database. While doing so it inserts all the
 	 * defaults provided by user and if the primary column is specified along with
 	 * an SSDataValue implementation then the primary column value will be inserted.
 	 *
-	 * @param _value  value entererd of a column
-	 * @param _column the column number for which the value is entered.
+	 * @param _value  value entererd of a column
+	 * @param _column the column number for which the value is entered.
+	 */
+	protected void insertRow(final Object _value, final int _column) {
+		if (_value == null) {
+			return;
+		}
+		if (dataGridHandler != null) {
+			dataGridHandler.performPreInsertOps(rowCount);
+		}
+
+		try {
+			// IF NOT ON INSERT ROW MOVE TO INSERT ROW.
+			if (!inInsertRow) {
+				rowset.moveToInsertRow();
+				// SET THE DEFAULTS
+				setDefaults();
+				inInsertRow = true;
+				// IS SSDATAVALUE IS PROVIDED SET PRIMARY KEY VALUE
+				if (dataValue != null) {
+					setPrimaryColumn();
+				}
+
+			}
+			
+			// TODO May be able to utilize JDBCType Enum here.
+			// TODO This may be better as a static method in RowSetOps
+
+			//final int type = rowset.getColumnType(_column + 1);
+			final int type = RowSetOps.getColumnType(rowset, _column + 1);
+
+			switch (type) {
+			case Types.INTEGER:
+			case Types.SMALLINT:
+			case Types.TINYINT:
+				rowset.updateInt(_column + 1, ((Integer) _value));
+				break;
+			case Types.BIGINT:
+// adding update long support 11-01-2004
+				rowset.updateLong(_column + 1, ((Long) _value));
+				break;
+			case Types.FLOAT:
+				rowset.updateFloat(_column + 1, ((Float) _value));
+				break;
+			case Types.DOUBLE:
+			case Types.NUMERIC:
+				rowset.updateDouble(_column + 1, ((Double) _value));
+				break;
+			case Types.BOOLEAN:
+			case Types.BIT:
+				rowset.updateBoolean(_column + 1, ((Boolean) _value));
+				break;
+			case Types.DATE:
+				if (_value instanceof String) {
+					rowset.updateDate(_column + 1, getSQLDate((String) _value));
+				} else {
+					rowset.updateDate(_column + 1, (Date) _value);
+				}
+				break;
+			case Types.CHAR:
+			case Types.VARCHAR:
+			case Types.LONGVARCHAR:
+				rowset.updateString(_column + 1, (String) _value);
+				break;
+			default:
+				logger.warn("SSTableModel.setValueAt(): Unknown data type.");
+			}
+
+			rowset.insertRow();
+			if (rowCount != 0) {
+				rowset.moveToCurrentRow();
+			} else {
+				rowset.first();
+			}
+			rowset.refreshRow();
+
+			logger.debug("Row number of inserted row : {}", () -> {
+				try {
+					return rowset.getRow();
+				} catch (SQLException e) {
+					return "*** getRow() threw an SQLException ***";
+				}
+			});
+
+			if (table != null) {
+				table.updateUI();
+			}
+			inInsertRow = false;
+			rowCount++;
+			invalidateRowCache();
+
+			if (dataGridHandler != null) {
+				dataGridHandler.performPostInsertOps(rowCount - 1);
+			}
+
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while inserting row.",  se);
+			inInsertRow = false;
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while inserting row.\n" + se.getMessage());
+			}
+		}
+
+		logger.debug("Successfully added row.");
+
+	} // end protected void insertRow(Object _value, int _column) {
+
+	/**
+	 * Returns true if the cell at rowIndex and columnIndex is editable. Otherwise,
+	 * a call to setValueAt() on the cell will not change the value of that cell.
+	 *
+	 * @param _row    the row whose value to be queried
+	 * @param _column the column whose value to be queried
+	 *
+	 * @return editable indicator for cell at row and column specified
+	 */
+	@Override
+	public boolean isCellEditable(final int _row, final int _column) {
+
+		if ((pager != null) || snapshotMode || isLoading()) {
+			return false;
+		}
+
+		if (uneditableColumns != null) {
+			for (int i = 0; i < uneditableColumns.length; i++) {
+				if (_column == uneditableColumns[i]) {
+					return false;
+				}
+			}
+		}
+
+		if (cellEditing != null) {
+			return cellEditing.isCellEditable(_row, _column);
+		}
+
+		return true;
+
+	} // end public boolean isCellEditable(int _row, int _column) {
+
+	/**
+	 * This function sets the default values for the present row.
+	 */
+	protected void setDefaults() {
+		if (defaultValuesMap == null) {
+			return;
+		}
+
+		final Set<Integer> keySet = defaultValuesMap.keySet();
+		final Iterator<?> iterator = keySet.iterator();
+		try {
+			while (iterator.hasNext()) {
+				final Integer column = (Integer) iterator.next();
+
+				logger.debug("Column number is:" + column);
+				
+				// TODO May be able to utilize JDBCType Enum here.
+				// TODO This may be better as a static method in RowSetOps
+
+				// COLUMNS SPECIFIED START FROM 0 BUT FOR SSROWSET THEY START FROM 1
+				//final int type = rowset.getColumnType(column.intValue() + 1);
+				final int type = RowSetOps.getColumnType(rowset, column.intValue() + 1);
+				switch (type) {
+				case Types.INTEGER:
+				case Types.SMALLINT:
+				case Types.TINYINT:
+					rowset.updateInt(column.intValue() + 1,
+							((Integer) defaultValuesMap.get(column)));
+					break;
+				case Types.BIGINT:
+					rowset.updateLong(column.intValue() + 1,
+							((Long) defaultValuesMap.get(column)));
+					break;
+				case Types.FLOAT:
+					rowset.updateFloat(column.intValue() + 1,
+							((Float) defaultValuesMap.get(column)));
+					break;
+				case Types.DOUBLE:
+				case Types.NUMERIC:
+					rowset.updateDouble(column.intValue() + 1,
+							((Double) defaultValuesMap.get(column)));
+					break;
+				case Types.BOOLEAN:
+				case Types.BIT:
+					rowset.updateBoolean(column.intValue() + 1,
+							((Boolean) defaultValuesMap.get(column)));
+					break;
+				case Types.DATE:
+					rowset.updateDate(column.intValue() + 1, (Date) defaultValuesMap.get(column));
+					break;
+				case Types.CHAR:
+				case Types.VARCHAR:
+				case Types.LONGVARCHAR:
+					rowset.updateString(column.intValue() + 1, (String) defaultValuesMap.get(column));
+					break;
+				default:
+					logger.warn("Unknown data type of " + type);
+				} // END OF SWITCH
+
+			} // END OF WHILE
+
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while setting defaults for row.",  se);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while setting defaults for row.\n" + se.getMessage());
+			}
+		}
+	} // end protected void setDefaults() {
+
+	/**
+	 * Sets the default values for different columns. These values will be used
+	 * while inserting a new row.
+	 *
+	 * @param _columnNumbers the column numbers for which defaults are required
+	 * @param _values        the values for all the columns specified in first
+	 *                       argument
+	 */
+	public void setDefaultValues(final int[] _columnNumbers, final Object[] _values) {
+		if ((_columnNumbers == null) || (_values == null)) {
+			defaultValuesMap = null;
+		}
+
+		if (defaultValuesMap == null) {
+			defaultValuesMap = new HashMap<>();
+		} else {
+			defaultValuesMap.clear();
+		}
+		if ((_columnNumbers != null) && (_values != null)) {
+			for (int i = 0; i < _columnNumbers.length; i++) {
+				defaultValuesMap.put(Integer.valueOf(_columnNumbers[i]), _values[i]);
+			}
+		}
+	}
+
+	/**
+	 * Sets the headers for the JTable. This function has to be called before
+	 * setting the RowSet for SSDataGrid.
+	 *
+	 * @param _headers array of string objects representing the header for each
+	 *                 column.
 	 */
-	protected void insertRow(final Object _value, final int _column) {
-		if (_value == null) {
-			return;
+	public void setHeaders(final String[] _headers) {
+		headers = _headers;
+	}
+
+	/**
+	 * Sets the column numbers that should be hidden. The SSDataGrid sets the column
+	 * width of these columns to 0. The columns are set to zero width rather than
+	 * removing the column from the table. Thus preserving the column numbering. If
+	 * a column is removed then the column numbers for columns after the removed
+	 * column will change. Even if the column is specified as hidden user will be
+	 * seeing a tiny strip. Make sure that you specify the hidden column numbers in
+	 * the uneditable column list.
+	 *
+	 * @param _columnNumbers array specifying the column numbers which should be
+	 *                       hidden.
+	 */
+	public void setHiddenColumns(final int[] _columnNumbers) {
+		hiddenColumns = _columnNumbers;
+	}
+
+	/**
+	 * Sets row insertion indicator.
+	 *
+	 * @param _insert true if user can insert new rows, else false.
+	 */
+	public void setInsertion(final boolean _insert) {
+		allowInsertion = _insert;
+	}
+
+	/**
+	 * This sets the JTable to which the table model is bound to. When an insert row
+	 * has taken place TableModel tries to update the UI.
+	 *
+	 * @param _table JTable to which SSTableModel is bound to.
+	 */
+	public void setJTable(final JTable _table) {
+		if (selectionListener == null) {
+			selectionListener = new SSTableModelSelectionListener();
 		}
-		if (dataGridHandler != null) {
-			dataGridHandler.performPreInsertOps(rowCount);
+		if (table != null) {
+			table.getSelectionModel().removeListSelectionListener(selectionListener);
+		}
+		table = _table;
+		if (table != null) {
+			table.getSelectionModel().addListSelectionListener(selectionListener);
 		}
+	}
 
-		try {
-			// IF NOT ON INSERT ROW MOVE TO INSERT ROW.
-			if (!inInsertRow) {
-				rowset.moveToInsertRow();
-				// SET THE DEFAULTS
-				setDefaults();
-				inInsertRow = true;
-				// IS SSDATAVALUE IS PROVIDED SET PRIMARY KEY VALUE
-				if (dataValue != null) {
-					setPrimaryColumn();
-				}
+	/**
+	 * Sets the message window. This is used as parent component for pop up message
+	 * dialogs.
+	 *
+	 * @param _component the component that should be used for message dialogs.
+	 */
+	public void setMessageWindow(final Component _component) {
+		component = _component;
+	}
 
-			}
+	/**
+	 * Updates the primary key column based on the SSDataValue implementation
+	 * specified for the SSTableModel and the underlying SQL data type.
+	 */
+	protected void setPrimaryColumn() {
+		try {
 			
 			// TODO May be able to utilize JDBCType Enum here.
 			// TODO This may be better as a static method in RowSetOps
 
-			//final int type = rowset.getColumnType(_column + 1);
-			final int type = RowSetOps.getColumnType(rowset, _column + 1);
+			//final int type = rowset.getColumnType(primaryColumn + 1);
+			final int type = RowSetOps.getColumnType(rowset, primaryColumn + 1);
 
 			switch (type) {
 			case Types.INTEGER:
 			case Types.SMALLINT:
 			case Types.TINYINT:
-				rowset.updateInt(_column + 1, ((Integer) _value));
+				rowset.updateInt(primaryColumn + 1,
+						((Integer) dataValue.getPrimaryColumnValue()));
 				break;
 			case Types.BIGINT:
-// adding update long support 11-01-2004
-				rowset.updateLong(_column + 1, ((Long) _value));
+				rowset.updateLong(primaryColumn + 1,
+						((Long) dataValue.getPrimaryColumnValue()));
 				break;
 			case Types.FLOAT:
-				rowset.updateFloat(_column + 1, ((Float) _value));
+				rowset.updateFloat(primaryColumn + 1,
+						((Float) dataValue.getPrimaryColumnValue()));
 				break;
 			case Types.DOUBLE:
 			case Types.NUMERIC:
-				rowset.updateDouble(_column + 1, ((Double) _value));
+				rowset.updateDouble(primaryColumn + 1,
+						((Double) dataValue.getPrimaryColumnValue()));
 				break;
 			case Types.BOOLEAN:
 			case Types.BIT:
-				rowset.updateBoolean(_column + 1, ((Boolean) _value));
+				rowset.updateBoolean(primaryColumn + 1,
+						((Boolean) dataValue.getPrimaryColumnValue()));
 				break;
 			case Types.DATE:
-				if (_value instanceof String) {
-					rowset.updateDate(_column + 1, getSQLDate((String) _value));
-				} else {
-					rowset.updateDate(_column + 1, (Date) _value);
-				}
+				rowset.updateDate(primaryColumn + 1, (Date) dataValue.getPrimaryColumnValue());
 				break;
 			case Types.CHAR:
 			case Types.VARCHAR:
 			case Types.LONGVARCHAR:
-				rowset.updateString(_column + 1, (String) _value);
+				rowset.updateString(primaryColumn + 1, (String) dataValue.getPrimaryColumnValue());
 				break;
 			default:
-				logger.warn("SSTableModel.setValueAt(): Unknown data type.");
+				logger.warn("Unknown data type of " + type);
 			}
-
-			rowset.insertRow();
-			if (rowCount != 0) {
-				rowset.moveToCurrentRow();
-			} else {
-				rowset.first();
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while insering Primary Key value.",  se);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component,
+						"Error while inserting Primary Key value.\n" + se.getMessage());
 			}
-			rowset.refreshRow();
+		}
+	} // end protected void setPrimaryColumn() {
 
-			logger.debug("Row number of inserted row : {}", () -> {
-				try {
-					return rowset.getRow();
-				} catch (SQLException e) {
-					return "*** getRow() threw an SQLException ***";
-				}
-			});
+	/**
+	 * Sets the column number which is the primary column for the table. This is
+	 * required if new rows have to be added to the JTable. For this to properly
+	 * work the SSDataValue object should also be provided SSDataValue is used to
+	 * get the value for the primary column.
+	 *
+	 * @param _columnNumber the column which is the primary column.
+	 */
+	public void setPrimaryColumn(final int _columnNumber) {
+		primaryColumn = _columnNumber;
+	}
 
-			if (table != null) {
-				table.updateUI();
-			}
-			inInsertRow = false;
-			rowCount++;
+	/**
+	 * Returns the column containing the primary key.
+	 *
+	 * @return the primary column (first column is 0), or -1 if not set
+	 */
+	public int getPrimaryColumn() {
+		return primaryColumn;
+	}
 
-			if (dataGridHandler != null) {
-				dataGridHandler.performPostInsertOps(rowCount - 1);
-			}
+	/**
+	 * Returns the RowSet whose rows are modeled.
+	 *
+	 * @return the RowSet, null in paged mode
+	 */
+	public RowSet getRowSet() {
+		return rowset;
+	}
 
-		} catch (final SQLException se) {
-			logger.error("SQL Exception while inserting row.",  se);
-			inInsertRow = false;
-			if (component != null) {
-				JOptionPane.showMessageDialog(component, "Error while inserting row.\n" + se.getMessage());
-			}
-		}
+	/**
+	 * Sets the RowSet for SSTableModel to the given RowSet. This RowSet will
+	 * be used to get the data for JTable.
+	 *
+	 * @param _rowset RowSet object whose records has to be displayed in JTable.
+	 */
+	public void setRowSet(final RowSet _rowset) {
+		pager = null;
+		attachRowSet(_rowset);
+		init();
+	}
+	
+	/**
+	 * Used to set an implementation of SSCellEditing interface which can be used to
+	 * determine dynamically if a given cell can be edited and to determine if a
+	 * given value is valid.
+	 *
+	 * @param _cellEditing implementation of SSCellEditing interface.
+	 */
+	public void setSSCellEditing(final SSCellEditing _cellEditing) {
+		cellEditing = _cellEditing;
+	}
 
-		logger.debug("Successfully added row.");
+	/**
+	 * Used to set an implementation of SSDataGridHandler interface which can be
+	 * used to determine dynamically if a given row can be deleted, and what should
+	 * be done after row insertion, and deletion.
+	 *
+	 * @param _dataGridHandler implementation of SSDataGridHandler interface.
+	 */
+	public void setSSDataGridHandler(final SSDataGridHandler _dataGridHandler) {
+		dataGridHandler = _dataGridHandler;
+	}
 
-	} // end protected void insertRow(Object _value, int _column) {
+	/**
+	 * Sets the SSDataValue interface implemention. This interface specifies
+	 * function to retrieve primary column values for a new row to be added.
+	 *
+	 * @param _dataValue implementation of SSDataValue for determining PK
+	 */
+	public void setSSDataValue(final SSDataValue _dataValue) {
+		dataValue = _dataValue;
+	}
 
 	/**
-	 * Returns true if the cell at rowIndex and columnIndex is editable. Otherwise,
-	 * a call to setValueAt() on the cell will not change the value of that cell.
+	 * Sets the uneditable columns. The columns specified as uneditable will not be
+	 * available for user to edit. This overrides the isCellEditable function in
+	 * SSCellEditing.
 	 *
-	 * @param _row    the row whose value to be queried
-	 * @param _column the column whose value to be queried
+	 * @param _columnNumbers array specifying the column numbers which should be
+	 *                       uneditable.
+	 */
+	public void setUneditableColumns(final int[] _columnNumbers) {
+		uneditableColumns = _columnNumbers;
+	}
+
+	/**
+	 * Sets the value in the cell at _row and _column to _value.
 	 *
-	 * @return editable indicator for cell at row and column specified
+	 * @param _value  the new value
+	 * @param _row    the row whose value is to be changed
+	 * @param _column the column whose value is to be changed
 	 */
 	@Override
-	public boolean isCellEditable(final int _row, final int _column) {
+	public void setValueAt(final Object _value, final int _row, final int _column) {
 
-		if (uneditableColumns != null) {
-			for (int i = 0; i < uneditableColumns.length; i++) {
-				if (_column == uneditableColumns[i]) {
-					return false;
-				}
+		if (pager != null) {
+			logger.warn("Values can not be changed in paged mode.");
+			return;
+		}
+		if (snapshotMode) {
+			logger.warn("Values can not be changed in snapshot mode.");
+			return;
+		}
+		if (isLoading()) {
+			logger.warn("Values can not be changed while loading.");
+			return;
+		}
+
+		// MAKE LOCAL COPY OF OBJECT FOR DATE MANIPULATIONS
+		Object valueCopy = _value;
+
+		// GET THE TYPE OF THE COLUMN
+		int type = -1;
+		try {
+			//type = rowset.getColumnType(_column + 1);
+			type = RowSetOps.getColumnType(rowset, _column + 1);
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while updating value.",  se);
+			if (component != null) {
+				JOptionPane.showMessageDialog(component, "Error while updating value.\n" + se.getMessage());
 			}
+			return;
 		}
+		
+		// TODO Clean this up. Utilize java.util.Time.
+
+		// IF COPYING VALUES THE DATE WILL COME AS STRING SO CONVERT IT TO DATE OBJECT.
+		valueCopy = convertDateString(valueCopy, type);
 
+		// IF CELL EDITING INTERFACE IMPLEMENTATION IS PROVIDED INFO THE USER
+		// THAT AN UPDATE FOR CELL HAS BEEN REQUESTED.
 		if (cellEditing != null) {
-			return cellEditing.isCellEditable(_row, _column);
-		}
+			// THE ROW AND COLUMN NUMBERING STARTS FROM 0 FOR JTABLE BUT THE COLUMNS AND
+			// ROWS ARE NUMBERED FROM 1 FOR SSROWSET.
+			boolean allowEdit;
 
-		return true;
+			// IF ITS NEW ROW SEND A NULL FOR THE OLD VALUE
+			if (_row == rowCount) {
+				allowEdit = cellEditing.cellUpdateRequested(_row, _column, null, valueCopy);
+			} else {
+				allowEdit = cellEditing.cellUpdateRequested(_row, _column, getValueAt(_row, _column), valueCopy);
+			}
 
-	} // end public boolean isCellEditable(int _row, int _column) {
+			// IF THE USER DOES NOT PERMIT THE UPDATE RETURN ELSE GO AHEAD AND UPDATE THE
+			// DATABASE.
+			if (!allowEdit) {
+				return;
+			}
+		}
 
-	/**
-	 * This function sets the default values for the present row.
-	 */
-	protected void setDefaults() {
-		if (defaultValuesMap == null) {
+		// IF CHANGE IS MADE IN INSERT ROW ADD ROW TO THE DATABASE
+		// INSERTROW FUNCTION ALSO INCREMENTS THE ROW COUNT
+		if (_row == rowCount) {
+			insertRow(valueCopy, _column);
 			return;
 		}
 
-		final Set<Integer> keySet = defaultValuesMap.keySet();
-		final Iterator<?> iterator = keySet.iterator();
-		try {
-			while (iterator.hasNext()) {
-				final Integer column = (Integer) iterator.next();
+		if (bufferedEdits) {
+			// WRITE ANY ROW THE USER HAS MOVED OFF BEFORE BUFFERING THIS EDIT
+			flushEditsExcept(_row);
+			logger.debug("Buffered value at "+ _row + "  " + _column + " with "+ valueCopy);
+			pendingEdits.computeIfAbsent(_row, k -> new TreeMap<>()).put(_column, valueCopy);
+			fireTableCellUpdated(_row, _column);
+			return;
+		}
 
-				logger.debug("Column number is:" + column);
-				
-				// TODO May be able to utilize JDBCType Enum here.
-				// TODO This may be better as a static method in RowSetOps
+		logger.debug("Set value at "+ _row + "  " + _column + " with "+ valueCopy);
 
-				// COLUMNS SPECIFIED START FROM 0 BUT FOR SSROWSET THEY START FROM 1
-				//final int type = rowset.getColumnType(column.intValue() + 1);
-				final int type = RowSetOps.getColumnType(rowset, column.intValue() + 1);
-				switch (type) {
-				case Types.INTEGER:
-				case Types.SMALLINT:
-				case Types.TINYINT:
-					rowset.updateInt(column.intValue() + 1,
-							((Integer) defaultValuesMap.get(column)));
-					break;
-				case Types.BIGINT:
-					rowset.updateLong(column.intValue() + 1,
-							((Long) defaultValuesMap.get(column)));
-					break;
-				case Types.FLOAT:
-					rowset.updateFloat(column.intValue() + 1,
-							((Float) defaultValuesMap.get(column)));
-					break;
-				case Types.DOUBLE:
-				case Types.NUMERIC:
-					rowset.updateDouble(column.intValue() + 1,
-							((Double) defaultValuesMap.get(column)));
-					break;
-				case Types.BOOLEAN:
-				case Types.BIT:
-					rowset.updateBoolean(column.intValue() + 1,
-							((Boolean) defaultValuesMap.get(column)));
-					break;
-				case Types.DATE:
-					rowset.updateDate(column.intValue() + 1, (Date) defaultValuesMap.get(column));
-					break;
-				case Types.CHAR:
-				case Types.VARCHAR:
-				case Types.LONGVARCHAR:
-					rowset.updateString(column.intValue() + 1, (String) defaultValuesMap.get(column));
-					break;
-				default:
-					logger.warn("Unknown data type of " + type);
-				} // END OF SWITCH
+		try {
+			// YOU SHOULD BE ON THE RIGHT ROW IN THE SSROWSET
+			if (rowset.getRow() != (_row + 1)) {
+				rowset.absolute(_row + 1);
+			}
+			// THE CACHED ROW NO LONGER MATCHES THE ROWSET
+			invalidateRowCache(_row);
+			if (valueCopy == null) {
+				rowset.updateNull(_column + 1);
+				return;
+			}
 
-			} // END OF WHILE
+			updateColumnValue(_column, type, valueCopy);
+			rowset.updateRow();
 
+			logger.debug("Updated value: {}.", () -> getValueAt(_row,_column));
 		} catch (final SQLException se) {
-			logger.error("SQL Exception while setting defaults for row.",  se);
+			logger.error("SQL Exception while updating value.",  se);
 			if (component != null) {
-				JOptionPane.showMessageDialog(component, "Error while setting defaults for row.\n" + se.getMessage());
+				JOptionPane.showMessageDialog(component, "Error while updating value.\n" + se.getMessage());
 			}
 		}
-	} // end protected void setDefaults() {
+
+	} // end public void setValueAt(Object _value, int _row, int _column) {
 
 	/**
-	 * Sets the default values for different columns. These values will be used
-	 * while inserting a new row.
+	 * Updates a column of the current row of the RowSet with a value of the
+	 * column's type. The row itself is not written (see RowSet.updateRow()).
 	 *
-	 * @param _columnNumbers the column numbers for which defaults are required
-	 * @param _values        the values for all the columns specified in first
-	 *                       argument
+	 * @param _column the column to update (first column is 0)
+	 * @param _type SQL type of the column from java.sql.Types
+	 * @param _value the new value, null to set the column to null
+	 *
+	 * @throws SQLException if a database access error occurs
 	 */
-	public void setDefaultValues(final int[] _columnNumbers, final Object[] _values) {
-		if ((_columnNumbers == null) || (_values == null)) {
-			defaultValuesMap = null;
+	protected void updateColumnValue(final int _column, final int _type, final Object _value) throws SQLException {
+		if (_value == null) {
+			rowset.updateNull(_column + 1);
+			return;
 		}
 
-		if (defaultValuesMap == null) {
-			defaultValuesMap = new HashMap<>();
-		} else {
-			defaultValuesMap.clear();
-		}
-		if ((_columnNumbers != null) && (_values != null)) {
-			for (int i = 0; i < _columnNumbers.length; i++) {
-				defaultValuesMap.put(new Integer(_columnNumbers[i]), _values[i]);
-			}
+		// TODO May be able to utilize JDBCType Enum here.
+		// TODO This may be better as a static method in RowSetOps
+
+		switch (_type) {
+		case Types.INTEGER:
+		case Types.SMALLINT:
+		case Types.TINYINT:
+			rowset.updateInt(_column + 1, ((Integer) _value));
+			break;
+		case Types.BIGINT:
+// adding update long support 11-01-2004
+			rowset.updateLong(_column + 1, ((Long) _value));
+			break;
+		case Types.FLOAT:
+			rowset.updateFloat(_column + 1, ((Float) _value));
+			break;
+		case Types.DOUBLE:
+		case Types.NUMERIC:
+			rowset.updateDouble(_column + 1, ((Double) _value));
+			break;
+		case Types.BOOLEAN:
+		case Types.BIT:
+			rowset.updateBoolean(_column + 1, ((Boolean) _value));
+			break;
+		case Types.DATE:
+			rowset.updateDate(_column + 1, (Date) _value);
+			break;
+		case Types.TIMESTAMP:
+			rowset.updateTimestamp(_column + 1, (Timestamp) _value);
+			break;
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+			rowset.updateString(_column + 1, (String) _value);
+			break;
+		default:
+			logger.warn("Unknown data type of " + _type);
 		}
 	}
 
 	/**
-	 * Sets the headers for the JTable. This function has to be called before
-	 * setting the RowSet for SSDataGrid.
+	 * Returns the buffered edits indicator.
 	 *
-	 * @param _headers array of string objects representing the header for each
-	 *                 column.
+	 * @return true if cell edits are buffered
 	 */
-	public void setHeaders(final String[] _headers) {
-		headers = _headers;
+	public boolean isBufferedEdits() {
+		return bufferedEdits;
 	}
 
 	/**
-	 * Sets the column numbers that should be hidden. The SSDataGrid sets the column
-	 * width of these columns to 0. The columns are set to zero width rather than
-	 * removing the column from the table. Thus preserving the column numbering. If
-	 * a column is removed then the column numbers for columns after the removed
-	 * column will change. Even if the column is specified as hidden user will be
-	 * seeing a tiny strip. Make sure that you specify the hidden column numbers in
-	 * the uneditable column list.
+	 * Sets the buffered edits indicator. By default each cell edit is written
+	 * to the database as it is made. When buffering, cell edits collect per row
+	 * and each row is written with a single update when the user leaves the
+	 * row (selects or edits another row). flushEdits() writes all buffered
+	 * rows as one JDBC batch in one transaction.
+	 * <p>
+	 * SSCellEditing.cellUpdateRequested() is still called for each cell edit,
+	 * before the edit is buffered. Turning buffering off writes any buffered
+	 * edits.
 	 *
-	 * @param _columnNumbers array specifying the column numbers which should be
-	 *                       hidden.
+	 * @param _bufferedEdits true to buffer cell edits
 	 */
-	public void setHiddenColumns(final int[] _columnNumbers) {
-		hiddenColumns = _columnNumbers;
+	public void setBufferedEdits(final boolean _bufferedEdits) {
+		if (!_bufferedEdits && bufferedEdits) {
+			flushEdits();
+		}
+		bufferedEdits = _bufferedEdits;
 	}
 
 	/**
-	 * Sets row insertion indicator.
+	 * @return true if there are buffered cell edits not yet written
+	 */
+	public boolean hasPendingEdits() {
+		return !pendingEdits.isEmpty();
+	}
+
+	/**
+	 * Throws away the buffered cell edits. The cells show the values in the
+	 * RowSet again.
+	 */
+	public void discardEdits() {
+		if (pendingEdits.isEmpty()) {
+			return;
+		}
+		pendingEdits.clear();
+		editWriteErrorReported = false;
+		fireTableDataChanged();
+	}
+
+	/**
+	 * Returns the name of the table updated by flushEdits().
 	 *
-	 * @param _insert true if user can insert new rows, else false.
+	 * @return the table name, or null if it comes from the RowSet metadata
 	 */
-	public void setInsertion(final boolean _insert) {
-		allowInsertion = _insert;
+	public String getUpdateTableName() {
+		return updateTableName;
 	}
 
 	/**
-	 * This sets the JTable to which the table model is bound to. When an insert row
-	 * has taken place TableModel tries to update the UI.
+	 * Sets the name of the table updated by flushEdits(), for drivers whose
+	 * metadata does not report the table of a column. The name is used in the
+	 * SQL as given, so it may be qualified with a schema and must be quoted
+	 * by the caller if needed; a table name read from the metadata is quoted
+	 * by the model.
 	 *
-	 * @param _table JTable to which SSTableModel is bound to.
+	 * @param _updateTableName table name, or null to use the RowSet metadata
 	 */
-	public void setJTable(final JTable _table) {
-		table = _table;
+	public void setUpdateTableName(final String _updateTableName) {
+		updateTableName = _updateTableName;
 	}
 
 	/**
-	 * Sets the message window. This is used as parent component for pop up message
-	 * dialogs.
+	 * Writes the buffered edits of every row other than _row, each row with a
+	 * single RowSet.updateRow().
 	 *
-	 * @param _component the component that should be used for message dialogs.
+	 * @param _row row whose edits stay buffered, -1 to write all rows
+	 *
+	 * @return true if the edits were written
 	 */
-	public void setMessageWindow(final Component _component) {
-		component = _component;
+	protected boolean flushEditsExcept(final int _row) {
+		final Iterator<Map.Entry<Integer, Map<Integer, Object>>> iterator = pendingEdits.entrySet().iterator();
+		while (iterator.hasNext()) {
+			final Map.Entry<Integer, Map<Integer, Object>> entry = iterator.next();
+			final int row = entry.getKey();
+			if (row == _row) {
+				continue;
+			}
+			try {
+				rowset.absolute(row + 1);
+				for (final Map.Entry<Integer, Object> edit : entry.getValue().entrySet()) {
+					updateColumnValue(edit.getKey(), getColumnType(edit.getKey()), edit.getValue());
+				}
+				rowset.updateRow();
+				iterator.remove();
+				invalidateRowCache(row);
+				logger.debug("Wrote buffered edits of row {}.", row);
+			} catch (final SQLException se) {
+				// THE EDITS STAY BUFFERED, NOT HALF APPLIED TO THE ROWSET
+				try {
+					rowset.cancelRowUpdates();
+				} catch (final SQLException cancelException) {
+					logger.debug("Unable to cancel row updates.", cancelException);
+				}
+				reportEditWriteError("Error while updating row.", se);
+				return false;
+			}
+		}
+		editWriteErrorReported = false;
+		return true;
 	}
 
 	/**
-	 * Updates the primary key column based on the SSDataValue implementation
-	 * specified for the SSTableModel and the underlying SQL data type.
+	 * Logs a failure to write the buffered edits and reports it to the user
+	 * unless it has already been reported.
+	 *
+	 * @param _message message for the user
+	 * @param _exception exception that ended the write
 	 */
-	protected void setPrimaryColumn() {
-		try {
-			
-			// TODO May be able to utilize JDBCType Enum here.
-			// TODO This may be better as a static method in RowSetOps
+	private void reportEditWriteError(final String _message, final SQLException _exception) {
+		logger.error("SQL Exception while writing buffered edits.",  _exception);
+		if ((component != null) && !editWriteErrorReported) {
+			JOptionPane.showMessageDialog(component, _message + "\n" + _exception.getMessage());
+		}
+		editWriteErrorReported = true;
+	}
 
-			//final int type = rowset.getColumnType(primaryColumn + 1);
-			final int type = RowSetOps.getColumnType(rowset, primaryColumn + 1);
+	/**
+	 * Writes all buffered edits. When the RowSet exposes its Connection (as a
+	 * JdbcRowSet does) and the table and primary column are known, the rows
+	 * are written as one JDBC batch of UPDATE statements and the RowSet is
+	 * then re-executed to pick up the new values. Otherwise each row is
+	 * written with RowSet.updateRow().
+	 * <p>
+	 * If the Connection is in auto-commit mode the batch is one transaction
+	 * of its own. Otherwise the batch joins the caller's transaction, which
+	 * the caller commits.
+	 * <p>
+	 * On failure, including an UPDATE that finds no row (e.g. one deleted by
+	 * another user), the batch is rolled back, the edits stay buffered and
+	 * the error is reported. Within the caller's transaction the batch is
+	 * rolled back to a savepoint set before it; if the driver does not
+	 * support savepoints, rolling back is left to the caller.
+	 *
+	 * @return true if the edits were written
+	 */
+	public boolean flushEdits() {
+		if (pendingEdits.isEmpty()) {
+			return true;
+		}
+		// AN EXPLICIT WRITE ALWAYS REPORTS ITS ERROR
+		editWriteErrorReported = false;
 
-			switch (type) {
-			case Types.INTEGER:
-			case Types.SMALLINT:
-			case Types.TINYINT:
-				rowset.updateInt(primaryColumn + 1,
-						((Integer) dataValue.getPrimaryColumnValue()));
-				break;
-			case Types.BIGINT:
-				rowset.updateLong(primaryColumn + 1,
-						((Long) dataValue.getPrimaryColumnValue()));
-				break;
-			case Types.FLOAT:
-				rowset.updateFloat(primaryColumn + 1,
-						((Float) dataValue.getPrimaryColumnValue()));
-				break;
-			case Types.DOUBLE:
-			case Types.NUMERIC:
-				rowset.updateDouble(primaryColumn + 1,
-						((Double) dataValue.getPrimaryColumnValue()));
-				break;
-			case Types.BOOLEAN:
-			case Types.BIT:
-				rowset.updateBoolean(primaryColumn + 1,
-						((Boolean) dataValue.getPrimaryColumnValue()));
-				break;
-			case Types.DATE:
-				rowset.updateDate(primaryColumn + 1, (Date) dataValue.getPrimaryColumnValue());
-				break;
-			case Types.CHAR:
-			case Types.VARCHAR:
-			case Types.LONGVARCHAR:
-				rowset.updateString(primaryColumn + 1, (String) dataValue.getPrimaryColumnValue());
-				break;
-			default:
-				logger.warn("Unknown data type of " + type);
+		final BatchTarget target = findBatchTarget();
+		if (target == null) {
+			logger.debug("Writing buffered edits row by row.");
+			return flushEditsExcept(-1);
+		}
+
+		return writeBatch(target, Collections.<Object[]>emptyList());
+	}
+
+	/**
+	 * Returns the Connection, table and primary column used to write rows with
+	 * JDBC batches.
+	 *
+	 * @return the batch target, or null if the RowSet does not expose its
+	 *         Connection or the table or primary column is not known
+	 */
+	private BatchTarget findBatchTarget() {
+		if (primaryColumn < 0) {
+			return null;
+		}
+		try {
+			if (rowset.getStatement() == null) {
+				return null;
 			}
-		} catch (final SQLException se) {
-			logger.error("SQL Exception while insering Primary Key value.",  se);
-			if (component != null) {
-				JOptionPane.showMessageDialog(component,
-						"Error while inserting Primary Key value.\n" + se.getMessage());
+			final Connection connection = rowset.getStatement().getConnection();
+			final String keyColumnName = RowSetOps.getColumnMetadata(rowset).getColumnName(primaryColumn + 1);
+			if ((connection == null) || (keyColumnName == null)) {
+				return null;
 			}
+			final String quote = connection.getMetaData().getIdentifierQuoteString();
+			String tableName = updateTableName;
+			if (tableName == null) {
+				final String table = rowset.getMetaData().getTableName(primaryColumn + 1);
+				if ((table == null) || table.isEmpty()) {
+					return null;
+				}
+				final String schema = rowset.getMetaData().getSchemaName(primaryColumn + 1);
+				tableName = ((schema == null) || schema.isEmpty() ? ""
+						: SSDataNavigator.quoteIdentifier(quote, schema) + ".")
+						+ SSDataNavigator.quoteIdentifier(quote, table);
+			} else if (tableName.isEmpty()) {
+				return null;
+			}
+			return new BatchTarget(connection, tableName, SSDataNavigator.quoteIdentifier(quote, keyColumnName),
+					quote);
+		} catch (final SQLException se) {
+			logger.debug("Batch update target not available.", se);
+			return null;
 		}
-	} // end protected void setPrimaryColumn() {
+	}
 
 	/**
-	 * Sets the column number which is the primary column for the table. This is
-	 * required if new rows have to be added to the JTable. For this to properly
-	 * work the SSDataValue object should also be provided SSDataValue is used to
-	 * get the value for the primary column.
+	 * Writes all buffered edits and inserts new rows in one batch (see
+	 * flushEdits() for the transaction), then brings the RowSet up to date (a connected RowSet does not see the
+	 * changes otherwise): updated rows are refreshed, or if there are new
+	 * rows the RowSet is re-executed. The model fires update and insert
+	 * events, so the table keeps its selection and scroll position.
 	 *
-	 * @param _columnNumber the column which is the primary column.
+	 * @param _target  where to write the rows
+	 * @param _newRows values of the rows to insert indexed by column (first
+	 *                 column is 0); null values are left to the database
+	 *
+	 * @return true if the rows were written; on failure the batch is rolled
+	 *         back and the edits stay buffered
 	 */
-	public void setPrimaryColumn(final int _columnNumber) {
-		primaryColumn = _columnNumber;
+	private boolean writeBatch(final BatchTarget _target, final List<Object[]> _newRows) {
+		try {
+			executeBatch(_target, _newRows);
+		} catch (final SQLException se) {
+			reportEditWriteError("Error while updating rows.", se);
+			return false;
+		}
+
+		final TreeSet<Integer> updatedRows = new TreeSet<>(pendingEdits.keySet());
+		pendingEdits.clear();
+		editWriteErrorReported = false;
+		final int oldRowCount = rowCount;
+		try {
+			if (_newRows.isEmpty() && refreshRows(updatedRows)) {
+				invalidateRowCache();
+				if (!updatedRows.isEmpty()) {
+					fireTableRowsUpdated(updatedRows.first(), updatedRows.last());
+				}
+				return true;
+			}
+			// NEW ROWS ONLY APPEAR ONCE THE ROWSET IS RE-EXECUTED
+			rowset.execute();
+			rowset.last();
+			rowCount = rowset.getRow();
+			rowset.first();
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while re-executing RowSet.",  se);
+			init();
+			return true;
+		}
+		invalidateRowCache();
+		if (oldRowCount > 0) {
+			fireTableRowsUpdated(0, Math.min(oldRowCount, rowCount) - 1);
+		}
+		if (rowCount > oldRowCount) {
+			fireTableRowsInserted(oldRowCount, rowCount - 1);
+		} else if (rowCount < oldRowCount) {
+			fireTableRowsDeleted(rowCount, oldRowCount - 1);
+		}
+		return true;
 	}
 
 	/**
-	 * Sets the RowSet for SSTableModel to the given RowSet. This RowSet will
-	 * be used to get the data for JTable.
+	 * Re-reads rows of the RowSet from the database with refreshRow().
 	 *
-	 * @param _rowset RowSet object whose records has to be displayed in JTable.
+	 * @param _rows rows to refresh (first row is 0)
+	 *
+	 * @return false if the RowSet can not refresh rows
 	 */
-	public void setRowSet(final RowSet _rowset) {
-		rowset = _rowset;
-		init();
+	private boolean refreshRows(final Set<Integer> _rows) {
+		try {
+			for (final Integer row : _rows) {
+				rowset.absolute(row + 1);
+				rowset.refreshRow();
+			}
+			return true;
+		} catch (final SQLException se) {
+			logger.debug("Unable to refresh rows, re-executing RowSet.", se);
+			return false;
+		}
 	}
-	
+
 	/**
-	 * Used to set an implementation of SSCellEditing interface which can be used to
-	 * determine dynamically if a given cell can be edited and to determine if a
-	 * given value is valid.
+	 * Executes one UPDATE per row with buffered edits and one INSERT per new
+	 * row, batched per set of columns. In auto-commit mode the statements are
+	 * one transaction, committed here; otherwise they are part of the
+	 * caller's transaction and are not committed.
 	 *
-	 * @param _cellEditing implementation of SSCellEditing interface.
+	 * @param _target  where to write the rows
+	 * @param _newRows values of the rows to insert
+	 *
+	 * @throws SQLException if a database access error occurs; the transaction,
+	 *                      or within the caller's transaction the batch, is
+	 *                      rolled back
 	 */
-	public void setSSCellEditing(final SSCellEditing _cellEditing) {
-		cellEditing = _cellEditing;
+	private void executeBatch(final BatchTarget _target, final List<Object[]> _newRows) throws SQLException {
+		final Connection connection = _target.connection;
+		final ColumnMetadata metadata = RowSetOps.getColumnMetadata(rowset);
+		final int keyType = metadata.getColumnType(primaryColumn + 1);
+		final boolean autoCommit = connection.getAutoCommit();
+		final Map<Set<Integer>, PreparedStatement> updateStatements = new HashMap<>();
+		final Map<Set<Integer>, List<Object>> updateKeys = new HashMap<>();
+		final Map<Set<Integer>, PreparedStatement> insertStatements = new HashMap<>();
+		Savepoint savepoint = null;
+		try {
+			if (autoCommit) {
+				connection.setAutoCommit(false);
+			} else {
+				savepoint = setSavepoint(connection);
+			}
+			for (final Map.Entry<Integer, Map<Integer, Object>> entry : pendingEdits.entrySet()) {
+				final Map<Integer, Object> rowEdits = entry.getValue();
+				PreparedStatement statement = updateStatements.get(rowEdits.keySet());
+				if (statement == null) {
+					final StringBuilder sql = new StringBuilder("UPDATE ").append(_target.tableName).append(" SET ");
+					String separator = "";
+					for (final Integer column : rowEdits.keySet()) {
+						sql.append(separator).append(_target.quote(metadata.getColumnName(column + 1))).append(" = ?");
+						separator = ", ";
+					}
+					sql.append(" WHERE ").append(_target.keyColumnName).append(" = ?");
+					statement = connection.prepareStatement(sql.toString());
+					updateStatements.put(rowEdits.keySet(), statement);
+					updateKeys.put(rowEdits.keySet(), new ArrayList<>());
+				}
+
+				int parameter = 1;
+				for (final Map.Entry<Integer, Object> edit : rowEdits.entrySet()) {
+					setParameter(statement, parameter++, edit.getValue(), metadata.getColumnType(edit.getKey() + 1));
+				}
+				// THE KEY IS READ FROM THE ROWSET SO AN EDITED KEY STILL FINDS ITS ROW
+				rowset.absolute(entry.getKey() + 1);
+				final Object key = readKeyValue(primaryColumn, keyType);
+				statement.setObject(parameter, key);
+				statement.addBatch();
+				updateKeys.get(rowEdits.keySet()).add(key);
+			}
+
+			for (final Object[] newRow : _newRows) {
+				final Set<Integer> columns = new TreeSet<>();
+				for (int column = 0; column < newRow.length; column++) {
+					if (newRow[column] != null) {
+						columns.add(column);
+					}
+				}
+				PreparedStatement statement = insertStatements.get(columns);
+				if (statement == null) {
+					final StringBuilder sql = new StringBuilder("INSERT INTO ").append(_target.tableName).append(" (");
+					String separator = "";
+					for (final Integer column : columns) {
+						sql.append(separator).append(_target.quote(metadata.getColumnName(column + 1)));
+						separator = ", ";
+					}
+					sql.append(") VALUES (");
+					separator = "";
+					for (int i = 0; i < columns.size(); i++) {
+						sql.append(separator).append('?');
+						separator = ", ";
+					}
+					sql.append(')');
+					statement = connection.prepareStatement(sql.toString());
+					insertStatements.put(columns, statement);
+				}
+
+				int parameter = 1;
+				for (final Integer column : columns) {
+					statement.setObject(parameter++, newRow[column]);
+				}
+				statement.addBatch();
+			}
+
+			for (final Map.Entry<Set<Integer>, PreparedStatement> entry : updateStatements.entrySet()) {
+				checkUpdateCounts(entry.getValue().executeBatch(), updateKeys.get(entry.getKey()));
+			}
+			for (final PreparedStatement statement : insertStatements.values()) {
+				checkUpdateCounts(statement.executeBatch(), null);
+			}
+			if (autoCommit) {
+				connection.commit();
+			} else if (savepoint != null) {
+				releaseSavepoint(connection, savepoint);
+			}
+			logger.debug("Wrote {} updated and {} new rows in one batch.", pendingEdits.size(), _newRows.size());
+		} catch (final SQLException se) {
+			if (autoCommit) {
+				connection.rollback();
+			} else if (savepoint != null) {
+				connection.rollback(savepoint);
+			}
+			throw se;
+		} finally {
+			for (final PreparedStatement statement : updateStatements.values()) {
+				statement.close();
+			}
+			for (final PreparedStatement statement : insertStatements.values()) {
+				statement.close();
+			}
+			if (autoCommit) {
+				connection.setAutoCommit(true);
+			}
+		}
 	}
 
 	/**
-	 * Used to set an implementation of SSDataGridHandler interface which can be
-	 * used to determine dynamically if a given row can be deleted, and what should
-	 * be done after row insertion, and deletion.
+	 * Sets a savepoint in the caller's transaction, so a failed batch can be
+	 * undone without undoing the rest of the transaction.
 	 *
-	 * @param _dataGridHandler implementation of SSDataGridHandler interface.
+	 * @param _connection Connection in a transaction
+	 *
+	 * @return the savepoint, or null if the driver does not support them
+	 *
+	 * @throws SQLException if a database access error occurs
 	 */
-	public void setSSDataGridHandler(final SSDataGridHandler _dataGridHandler) {
-		dataGridHandler = _dataGridHandler;
+	private static Savepoint setSavepoint(final Connection _connection) throws SQLException {
+		try {
+			return _connection.setSavepoint();
+		} catch (final SQLFeatureNotSupportedException se) {
+			logger.debug("Savepoints not supported, a failed batch is left to the caller's transaction.", se);
+			return null;
+		}
+	}
+
+	private static void releaseSavepoint(final Connection _connection, final Savepoint _savepoint) {
+		try {
+			_connection.releaseSavepoint(_savepoint);
+		} catch (final SQLException se) {
+			// RELEASED WITH THE TRANSACTION ANYWAY
+			logger.debug("Unable to release savepoint.", se);
+		}
 	}
 
 	/**
-	 * Sets the SSDataValue interface implemention. This interface specifies
-	 * function to retrieve primary column values for a new row to be added.
+	 * Checks the update counts of a batch: each statement must have changed a
+	 * row. Drivers that do not know the count (Statement.SUCCESS_NO_INFO) are
+	 * trusted.
 	 *
-	 * @param _dataValue implementation of SSDataValue for determining PK
+	 * @param _counts update counts returned by executeBatch()
+	 * @param _keys   key of the row of each UPDATE, or null for INSERTs
+	 *
+	 * @throws SQLException if a statement changed no row or failed
 	 */
-	public void setSSDataValue(final SSDataValue _dataValue) {
-		dataValue = _dataValue;
+	private static void checkUpdateCounts(final int[] _counts, final List<Object> _keys) throws SQLException {
+		for (int i = 0; i < _counts.length; i++) {
+			if ((_counts[i] == 0) || (_counts[i] == Statement.EXECUTE_FAILED)) {
+				if (_keys == null) {
+					throw new SQLException("A new row was not inserted.");
+				}
+				throw new SQLException("No row was updated for key " + _keys.get(i)
+						+ ". It may have been deleted or its key changed by another user.");
+			}
+		}
 	}
 
 	/**
-	 * Sets the uneditable columns. The columns specified as uneditable will not be
-	 * available for user to edit. This overrides the isCellEditable function in
-	 * SSCellEditing.
+	 * Reads the value of a key column on the current row of the RowSet
+	 * without losing precision, for binding in a WHERE clause.
 	 *
-	 * @param _columnNumbers array specifying the column numbers which should be
-	 *                       uneditable.
+	 * @param _column the column to read (first column is 0)
+	 * @param _type SQL type of the column from java.sql.Types
+	 *
+	 * @return the value of the column
+	 *
+	 * @throws SQLException if a database access error occurs
 	 */
-	public void setUneditableColumns(final int[] _columnNumbers) {
-		uneditableColumns = _columnNumbers;
+	private Object readKeyValue(final int _column, final int _type) throws SQLException {
+		switch (_type) {
+		case Types.NUMERIC:
+		case Types.DECIMAL:
+			return rowset.getBigDecimal(_column + 1);
+		default:
+			return rowset.getObject(_column + 1);
+		}
+	}
+
+	private static void setParameter(final PreparedStatement _statement, final int _parameter, final Object _value,
+			final int _type) throws SQLException {
+		if (_value == null) {
+			_statement.setNull(_parameter, _type);
+		} else {
+			_statement.setObject(_parameter, _value);
+		}
 	}
 
 	/**
-	 * Sets the value in the cell at _row and _column to _value.
+	 * Sets a block of cell values, as when pasting from the clipboard. Rows
+	 * past the last row of the RowSet are inserted (with the default values
+	 * and, if an SSDataValue is set, the primary column value).
+	 * <p>
+	 * Each value is checked with SSCellEditing.cellUpdateRequested() as in
+	 * setValueAt(). When the RowSet exposes its Connection and the table and
+	 * primary column are known, all updates and inserts are written as JDBC
+	 * batches in one transaction, followed by a single table model event.
+	 * Otherwise the values are set cell by cell with setValueAt().
 	 *
-	 * @param _value  the new value
-	 * @param _row    the row whose value is to be changed
-	 * @param _column the column whose value is to be changed
+	 * @param _values      values indexed by row and then by column; a null
+	 *                     row or a row shorter than the others is allowed
+	 * @param _firstRow    row of the first value (first row is 0)
+	 * @param _firstColumn column of the first value (first column is 0)
+	 *
+	 * @return true if the values were written
 	 */
-	@Override
-	public void setValueAt(final Object _value, final int _row, final int _column) {
+	public boolean setValuesAt(final Object[][] _values, final int _firstRow, final int _firstColumn) {
+		if ((pager != null) || snapshotMode || isLoading()) {
+			logger.warn("Values can not be changed in paged or snapshot mode or while loading.");
+			return false;
+		}
 
-		// MAKE LOCAL COPY OF OBJECT FOR DATE MANIPULATIONS
-		Object valueCopy = _value;
+		final BatchTarget target = findBatchTarget();
+		if (target == null) {
+			logger.debug("Setting values cell by cell.");
+			for (int i = 0; i < _values.length; i++) {
+				if (_values[i] == null) {
+					continue;
+				}
+				for (int j = 0; j < _values[i].length; j++) {
+					setValueAt(_values[i][j], _firstRow + i, _firstColumn + j);
+				}
+			}
+			return true;
+		}
 
-		// GET THE TYPE OF THE COLUMN
-		int type = -1;
+		final int[] types = new int[columnCount];
 		try {
-			//type = rowset.getColumnType(_column + 1);
-			type = RowSetOps.getColumnType(rowset, _column + 1);
+			for (int column = 0; column < columnCount; column++) {
+				types[column] = getColumnType(column);
+			}
 		} catch (final SQLException se) {
-			logger.error("SQL Exception while updating value.",  se);
+			logger.error("SQL Exception while updating values.",  se);
 			if (component != null) {
-				JOptionPane.showMessageDialog(component, "Error while updating value.\n" + se.getMessage());
+				JOptionPane.showMessageDialog(component, "Error while updating values.\n" + se.getMessage());
 			}
-			return;
+			return false;
 		}
-		
-		// TODO Clean this up. Utilize java.util.Time.
 
-		// IF COPYING VALUES THE DATE WILL COME AS STRING SO CONVERT IT TO DATE OBJECT.
-		if (type == Types.DATE) {
-			if (valueCopy instanceof String) {
-				valueCopy = getSQLDate((String) valueCopy);
-			}
-		} else if (type == Types.TIMESTAMP) {
-			if (valueCopy instanceof String) {
-				valueCopy = new Timestamp(getSQLDate((String) valueCopy).getTime());
-			}
+		// KEEP THE EDITS BUFFERED BEFORE THE PASTE IN CASE THE WRITE FAILS
+		final Map<Integer, Map<Integer, Object>> savedEdits = new TreeMap<>();
+		for (final Map.Entry<Integer, Map<Integer, Object>> entry : pendingEdits.entrySet()) {
+			savedEdits.put(entry.getKey(), new TreeMap<>(entry.getValue()));
 		}
 
-		// IF CELL EDITING INTERFACE IMPLEMENTATION IS PROVIDED INFO THE USER
-		// THAT AN UPDATE FOR CELL HAS BEEN REQUESTED.
-		if (cellEditing != null) {
-			// THE ROW AND COLUMN NUMBERING STARTS FROM 0 FOR JTABLE BUT THE COLUMNS AND
-			// ROWS ARE NUMBERED FROM 1 FOR SSROWSET.
-			boolean allowEdit;
-
-			// IF ITS NEW ROW SEND A NULL FOR THE OLD VALUE
-			if (_row == rowCount) {
-				allowEdit = cellEditing.cellUpdateRequested(_row, _column, null, valueCopy);
-			} else {
-				allowEdit = cellEditing.cellUpdateRequested(_row, _column, getValueAt(_row, _column), valueCopy);
-			}
-
-			// IF THE USER DOES NOT PERMIT THE UPDATE RETURN ELSE GO AHEAD AND UPDATE THE
-			// DATABASE.
-			if (!allowEdit) {
-				return;
+		final List<Object[]> newRows = new ArrayList<>();
+		for (int i = 0; i < _values.length; i++) {
+			if (_values[i] == null) {
+				continue;
 			}
-		}
-
-		// IF CHANGE IS MADE IN INSERT ROW ADD ROW TO THE DATABASE
-		// INSERTROW FUNCTION ALSO INCREMENTS THE ROW COUNT
-		if (_row == rowCount) {
-			insertRow(valueCopy, _column);
-			return;
-		}
+			final int row = _firstRow + i;
+			final boolean newRow = row >= rowCount;
+			Object[] newRowValues = null;
+			for (int j = 0; j < _values[i].length; j++) {
+				final int column = _firstColumn + j;
+				if (column >= columnCount) {
+					break;
+				}
+				final Object value = convertDateString(_values[i][j], types[column]);
 
-		logger.debug("Set value at "+ _row + "  " + _column + " with "+ valueCopy);
+				// IF ITS NEW ROW SEND A NULL FOR THE OLD VALUE
+				if ((cellEditing != null) && !cellEditing.cellUpdateRequested(row, column,
+						newRow ? null : getValueAt(row, column), value)) {
+					continue;
+				}
 
-		try {
-			// YOU SHOULD BE ON THE RIGHT ROW IN THE SSROWSET
-			if (rowset.getRow() != (_row + 1)) {
-				rowset.absolute(_row + 1);
+				if (!newRow) {
+					pendingEdits.computeIfAbsent(row, k -> new TreeMap<>()).put(column, value);
+				} else if (value != null) {
+					if (newRowValues == null) {
+						newRowValues = newRowDefaults();
+					}
+					newRowValues[column] = value;
+				}
 			}
-			if (valueCopy == null) {
-				rowset.updateNull(_column + 1);
-				return;
+			if (newRowValues != null) {
+				newRows.add(newRowValues);
 			}
-			
-			// TODO May be able to utilize JDBCType Enum here.
-			// TODO This may be better as a static method in RowSetOps
+		}
 
-			switch (type) {
-			case Types.INTEGER:
-			case Types.SMALLINT:
-			case Types.TINYINT:
-				rowset.updateInt(_column + 1, ((Integer) valueCopy));
-				break;
-			case Types.BIGINT:
-// adding update long support 11-01-2004
-				rowset.updateLong(_column + 1, ((Long) valueCopy));
-				break;
-			case Types.FLOAT:
-				rowset.updateFloat(_column + 1, ((Float) valueCopy));
-				break;
-			case Types.DOUBLE:
-			case Types.NUMERIC:
-				rowset.updateDouble(_column + 1, ((Double) valueCopy));
-				break;
-			case Types.BOOLEAN:
-			case Types.BIT:
-				rowset.updateBoolean(_column + 1, ((Boolean) valueCopy));
-				break;
-			case Types.DATE:
-				rowset.updateDate(_column + 1, (Date) valueCopy);
-				break;
-			case Types.TIMESTAMP:
-				rowset.updateTimestamp(_column + 1, (Timestamp) valueCopy);
-				break;
-			case Types.CHAR:
-			case Types.VARCHAR:
-			case Types.LONGVARCHAR:
-				rowset.updateString(_column + 1, (String) valueCopy);
-				break;
-			default:
-				logger.warn("Unknown data type of " + type);
+		if (dataGridHandler != null) {
+			for (int i = 0; i < newRows.size(); i++) {
+				dataGridHandler.performPreInsertOps(rowCount + i);
 			}
-			rowset.updateRow();
+		}
+		final int firstNewRow = rowCount;
+		// AN EXPLICIT WRITE ALWAYS REPORTS ITS ERROR
+		editWriteErrorReported = false;
+		if (!writeBatch(target, newRows)) {
+			pendingEdits.clear();
+			pendingEdits.putAll(savedEdits);
+			return false;
+		}
+		if (dataGridHandler != null) {
+			for (int i = 0; i < newRows.size(); i++) {
+				dataGridHandler.performPostInsertOps(firstNewRow + i);
+			}
+		}
+		return true;
+	}
 
-			logger.debug("Updated value: {}.", () -> getValueAt(_row,_column));
-		} catch (final SQLException se) {
-			logger.error("SQL Exception while updating value.",  se);
-			if (component != null) {
-				JOptionPane.showMessageDialog(component, "Error while updating value.\n" + se.getMessage());
+	/**
+	 * Returns the values of a new row before any cell is set: the default
+	 * values and, if an SSDataValue is set, the primary column value.
+	 *
+	 * @return values indexed by column (first column is 0)
+	 */
+	private Object[] newRowDefaults() {
+		final Object[] rowValues = new Object[columnCount];
+		if (defaultValuesMap != null) {
+			for (final Map.Entry<Integer, Object> entry : defaultValuesMap.entrySet()) {
+				if (entry.getKey() < columnCount) {
+					rowValues[entry.getKey()] = entry.getValue();
+				}
 			}
 		}
+		if ((dataValue != null) && (primaryColumn >= 0)) {
+			rowValues[primaryColumn] = dataValue.getPrimaryColumnValue();
+		}
+		return rowValues;
+	}
 
-	} // end public void setValueAt(Object _value, int _row, int _column) {
+	/**
+	 * Converts a date pasted as a String ("MM/dd/yyyy") to the column's type,
+	 * as setValueAt() does.
+	 *
+	 * @param _value value to convert
+	 * @param _type SQL type of the column from java.sql.Types
+	 *
+	 * @return the converted value, or _value if no conversion applies
+	 */
+	private static Object convertDateString(final Object _value, final int _type) {
+		if (!(_value instanceof String)) {
+			return _value;
+		}
+		if (_type == Types.DATE) {
+			return getSQLDate((String) _value);
+		} else if (_type == Types.TIMESTAMP) {
+			return new Timestamp(getSQLDate((String) _value).getTime());
+		}
+		return _value;
+	}
 
 }
@@ -0,0 +1,576 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.logging.log4j.Logger;
+
+import com.nqadmin.swingset.datasources.ColumnMetadata;
+import com.nqadmin.swingset.utils.SSMetrics;
+import com.nqadmin.swingset.utils.SSUtils;
+
+// SSTablePager.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * SSTablePager supplies the rows of an SSTableModel/SSDataGrid a page at a time
+ * using keyset pagination, so a grid over a very large table can be shown
+ * without the JDBC driver materializing the whole result.
+ * <p>
+ * Pages are read with queries of the form
+ * <pre>
+ * {@code
+ * SELECT * FROM (<query>) swingset_page WHERE <key> > ? ORDER BY <key> LIMIT <pageSize>
+ * }
+ * </pre>
+ * where {@code <key>} is the grid's primary column. The key must be unique and
+ * not null. Only {@link #getMaxResidentPages()} pages are held in memory; the
+ * least recently used page is dropped when another page is read.
+ * <p>
+ * The row count is either an exact {@code COUNT(*)} (see
+ * {@link #setCountRows(boolean)}) or an estimate that grows by a page as the
+ * user scrolls towards the end of the rows read so far.
+ * <p>
+ * Jumping to a page whose starting key is not yet known (only possible with an
+ * exact row count) looks the key up with an OFFSET query on the key column.
+ * <p>
+ * The default SQL uses LIMIT/OFFSET. Override {@link #getPageQuery(boolean)}
+ * and {@link #getSeekQuery()} for databases that use another syntax, e.g.
+ * {@code FETCH FIRST n ROWS ONLY}.
+ * <p>
+ * A paged SSDataGrid is read-only. It reads the pages that are not resident
+ * on a background thread: {@link #getResidentRow(int)} never waits for the
+ * database, while {@link #getRow(int)} may be called from any thread. Page
+ * queries are run one at a time.
+ * <pre>
+ * {@code
+ * SSTablePager pager = new SSTablePager(connection, "SELECT * FROM audit_log", "audit_id");
+ * pager.setPageSize(500);
+ * dataGrid.setPager(pager);
+ * }
+ * </pre>
+ *
+ * @since 4.0.14
+ */
+public class SSTablePager {
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static Logger logger = SSUtils.getLogger();
+
+	/**
+	 * Default number of rows per page.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 200;
+
+	/**
+	 * Default number of pages held in memory.
+	 */
+	public static final int DEFAULT_MAX_RESIDENT_PAGES = 20;
+
+	/**
+	 * Database connection used for the page queries.
+	 */
+	private final Connection connection;
+
+	/**
+	 * Query whose rows are paged. Must not contain an ORDER BY.
+	 */
+	private final String query;
+
+	/**
+	 * Name of the unique key column used for the keyset.
+	 */
+	private final String keyColumnName;
+
+	private int pageSize = DEFAULT_PAGE_SIZE;
+
+	private int maxResidentPages = DEFAULT_MAX_RESIDENT_PAGES;
+
+	/**
+	 * Number of rows per page of the resident pages, fixed by {@link #open()}.
+	 */
+	private int openPageSize = DEFAULT_PAGE_SIZE;
+
+	/**
+	 * Lock held while a query is run, so only one query uses the connection
+	 * at a time. The other state is guarded by the pager itself, which is
+	 * never locked while waiting for the database.
+	 */
+	private final Object queryLock = new Object();
+
+	private boolean countRows = false;
+
+	/**
+	 * Column metadata of the query, from the first page read.
+	 */
+	private ColumnMetadata metadata = null;
+
+	/**
+	 * Index (starting from 1) of the key column.
+	 */
+	private int keyColumnIndex = 0;
+
+	/**
+	 * Resident pages of decoded rows, in access order.
+	 */
+	private Map<Integer, Object[][]> pages = null;
+
+	/**
+	 * Key of the last row of the page before, for each page that has been
+	 * reached. The entry for page 0 is absent.
+	 */
+	private final Map<Integer, Object> afterKeyByPage = new HashMap<>();
+
+	/**
+	 * Highest page read so far.
+	 */
+	private int highestPage = -1;
+
+	/**
+	 * Exact number of rows, or -1 if not yet known.
+	 */
+	private int totalRows = -1;
+
+	/**
+	 * Constructs a pager for the rows of _query, ordered by _keyColumnName.
+	 *
+	 * @param _connection    database connection
+	 * @param _query         SELECT statement whose rows are displayed, without an
+	 *                       ORDER BY clause
+	 * @param _keyColumnName name of a unique, not null column of the query used
+	 *                       to order and page the rows
+	 */
+	public SSTablePager(final Connection _connection, final String _query, final String _keyColumnName) {
+		connection = Objects.requireNonNull(_connection);
+		query = Objects.requireNonNull(_query);
+		keyColumnName = Objects.requireNonNull(_keyColumnName);
+	}
+
+	/**
+	 * Discards any resident pages and known keys, reads the first page and, if
+	 * requested, counts the rows.
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	public void open() throws SQLException {
+		synchronized (queryLock) {
+			synchronized (this) {
+				final int maxPages = maxResidentPages;
+				pages = new LinkedHashMap<Integer, Object[][]>(maxPages + 1, 1.0f, true) {
+					private static final long serialVersionUID = 1L;
+
+					@Override
+					protected boolean removeEldestEntry(final Map.Entry<Integer, Object[][]> _eldest) {
+						return size() > maxPages;
+					}
+				};
+				openPageSize = pageSize;
+				afterKeyByPage.clear();
+				highestPage = -1;
+				totalRows = -1;
+				metadata = null;
+			}
+
+			readPage(0);
+
+			if (getCountRows() && !isRowCountExact()) {
+				try (PreparedStatement statement = connection.prepareStatement(getCountQuery());
+						ResultSet resultSet = statement.executeQuery()) {
+					resultSet.next();
+					final int count = resultSet.getInt(1);
+					synchronized (this) {
+						totalRows = count;
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return column metadata of the query, null until {@link #open()} is called
+	 */
+	public synchronized ColumnMetadata getColumnMetadata() {
+		return metadata;
+	}
+
+	/**
+	 * @return index (starting from 1) of the key column, 0 until {@link #open()}
+	 *         is called
+	 */
+	public synchronized int getKeyColumnIndex() {
+		return keyColumnIndex;
+	}
+
+	/**
+	 * @return name of the key column
+	 */
+	public String getKeyColumnName() {
+		return keyColumnName;
+	}
+
+	/**
+	 * Returns the number of rows. This is exact if the rows were counted or the
+	 * last page has been read, otherwise it is the number of rows read so far
+	 * plus one more page.
+	 *
+	 * @return the number of rows to display
+	 */
+	public synchronized int getRowCount() {
+		if (totalRows != -1) {
+			return totalRows;
+		}
+		return (highestPage + 2) * openPageSize;
+	}
+
+	/**
+	 * @return true if getRowCount() is exact
+	 */
+	public synchronized boolean isRowCountExact() {
+		return totalRows != -1;
+	}
+
+	/**
+	 * Returns the number of rows per page of the resident pages. This is the
+	 * page size in effect when {@link #open()} was last called.
+	 *
+	 * @return the number of rows per page read since the last open()
+	 */
+	public synchronized int getOpenPageSize() {
+		return openPageSize;
+	}
+
+	/**
+	 * Returns true if the page holding a row is resident, so
+	 * {@link #getResidentRow(int)} returns the row (or null if there is no
+	 * such row) without a query.
+	 *
+	 * @param _row the row (first row is 0)
+	 * @return true if the row's page is resident
+	 */
+	public synchronized boolean isRowResident(final int _row) {
+		return (pages != null) && pages.containsKey(_row / openPageSize);
+	}
+
+	/**
+	 * Returns the decoded values of a row if its page is resident. Never
+	 * waits for the database, so it may be called on the event dispatch
+	 * thread while another thread reads a page.
+	 *
+	 * @param _row the row (first row is 0)
+	 * @return values for the row indexed by column (first column is 0), or null
+	 *         if the page is not resident or there is no such row
+	 */
+	public synchronized Object[] getResidentRow(final int _row) {
+		final Object[][] rows = pages == null ? null : pages.get(_row / openPageSize);
+		if (rows == null) {
+			return null;
+		}
+		final int offset = _row % openPageSize;
+		return offset < rows.length ? rows[offset] : null;
+	}
+
+	/**
+	 * Returns the decoded values of a row, reading its page if it is not
+	 * resident. Queries the database, so should not be called on the event
+	 * dispatch thread for a row that is not resident.
+	 *
+	 * @param _row the row (first row is 0)
+	 * @return values for the row indexed by column (first column is 0), or null
+	 *         if there is no such row
+	 * @throws SQLException if a database access error occurs
+	 */
+	public Object[] getRow(final int _row) throws SQLException {
+		synchronized (this) {
+			if (isRowResident(_row)) {
+				return getResidentRow(_row);
+			}
+		}
+		synchronized (queryLock) {
+			if (getColumnMetadata() == null) {
+				open();
+			}
+			// ANOTHER THREAD MAY HAVE READ THE PAGE WHILE THIS ONE WAITED
+			if (!isRowResident(_row)) {
+				readPage(_row / getOpenPageSize());
+			}
+			return getResidentRow(_row);
+		}
+	}
+
+	/**
+	 * Reads a page from the database and makes it resident. Called with the
+	 * query lock held.
+	 *
+	 * @param _page page number (first page is 0)
+	 * @throws SQLException if a database access error occurs
+	 */
+	private void readPage(final int _page) throws SQLException {
+		final boolean first = _page == 0;
+		final int pageSize;
+		ColumnMetadata pageMetadata;
+		synchronized (this) {
+			pageSize = openPageSize;
+			pageMetadata = metadata;
+		}
+		final Object afterKey = first ? null : findAfterKey(_page, pageSize);
+		if (!first && (afterKey == null)) {
+			// PAGE IS PAST THE END OF THE ROWS
+			synchronized (this) {
+				pages.put(_page, new Object[0][]);
+			}
+			return;
+		}
+
+		logger.debug("Reading page {} of {}.", _page, query);
+
+		final long start = SSMetrics.startTimer();
+		final Object[][] rows = new Object[pageSize][];
+		int numRows = 0;
+		int keyIndex = 0;
+		Object lastKey = null;
+		try (PreparedStatement statement = connection.prepareStatement(getPageQuery(first))) {
+			statement.setFetchSize(pageSize);
+			if (!first) {
+				statement.setObject(1, afterKey);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				if (pageMetadata == null) {
+					pageMetadata = ColumnMetadata.of(resultSet);
+					keyIndex = pageMetadata.findColumnIndex(keyColumnName);
+					if (keyIndex == 0) {
+						keyIndex = resultSet.findColumn(keyColumnName);
+					}
+				} else {
+					synchronized (this) {
+						keyIndex = keyColumnIndex;
+					}
+				}
+				final int columnCount = pageMetadata.getColumnCount();
+				final int[] types = new int[columnCount];
+				for (int column = 0; column < columnCount; column++) {
+					types[column] = pageMetadata.getColumnType(column + 1);
+				}
+				while ((numRows < pageSize) && resultSet.next()) {
+					final Object[] rowValues = new Object[columnCount];
+					for (int column = 0; column < columnCount; column++) {
+						rowValues[column] = SSTableModel.readColumnValue(resultSet, column, types[column]);
+					}
+					rows[numRows++] = rowValues;
+					lastKey = resultSet.getObject(keyIndex);
+				}
+			}
+		}
+
+		SSMetrics.stopTimer(SSMetrics.GRID_FETCH, start);
+
+		final Object[][] page;
+		if (numRows < pageSize) {
+			page = new Object[numRows][];
+			System.arraycopy(rows, 0, page, 0, numRows);
+		} else {
+			page = rows;
+		}
+
+		synchronized (this) {
+			if (metadata == null) {
+				metadata = pageMetadata;
+				keyColumnIndex = keyIndex;
+			}
+			if (numRows < pageSize) {
+				// LAST PAGE REACHED, THE ROW COUNT IS NOW KNOWN
+				totalRows = (_page * pageSize) + numRows;
+			} else {
+				afterKeyByPage.put(_page + 1, lastKey);
+			}
+			highestPage = Math.max(highestPage, _page);
+			pages.put(_page, page);
+		}
+	}
+
+	/**
+	 * Returns the key of the last row before the page, looking it up with an
+	 * OFFSET query if it is not known. Called with the query lock held.
+	 *
+	 * @param _page     page number (greater than 0)
+	 * @param _pageSize number of rows per page
+	 * @return key value or null if there are not enough rows
+	 * @throws SQLException if a database access error occurs
+	 */
+	private Object findAfterKey(final int _page, final int _pageSize) throws SQLException {
+		synchronized (this) {
+			final Object afterKey = afterKeyByPage.get(_page);
+			if (afterKey != null) {
+				return afterKey;
+			}
+		}
+		try (PreparedStatement statement = connection.prepareStatement(getSeekQuery())) {
+			statement.setInt(1, (_page * _pageSize) - 1);
+			try (ResultSet resultSet = statement.executeQuery()) {
+				if (!resultSet.next()) {
+					return null;
+				}
+				final Object afterKey = resultSet.getObject(1);
+				synchronized (this) {
+					afterKeyByPage.put(_page, afterKey);
+				}
+				return afterKey;
+			}
+		}
+	}
+
+	/**
+	 * Returns the SQL for reading a page. The statement has a single parameter,
+	 * the key of the last row of the previous page, unless _first is true.
+	 * The page holds {@link #getOpenPageSize()} rows.
+	 *
+	 * @param _first true for the first page
+	 * @return SQL for reading a page
+	 */
+	protected String getPageQuery(final boolean _first) {
+		return "SELECT * FROM (" + query + ") swingset_page"
+				+ (_first ? "" : " WHERE " + keyColumnName + " > ?")
+				+ " ORDER BY " + keyColumnName + " LIMIT " + getOpenPageSize();
+	}
+
+	/**
+	 * Returns the SQL for finding the key at a row offset. The statement has a
+	 * single parameter, the offset of the row (first row is 0).
+	 *
+	 * @return SQL returning the key at a row offset
+	 */
+	protected String getSeekQuery() {
+		return "SELECT " + keyColumnName + " FROM (" + query + ") swingset_page"
+				+ " ORDER BY " + keyColumnName + " LIMIT 1 OFFSET ?";
+	}
+
+	/**
+	 * Returns the SQL for counting the rows.
+	 *
+	 * @return SQL returning the number of rows
+	 */
+	protected String getCountQuery() {
+		return "SELECT COUNT(*) FROM (" + query + ") swingset_count";
+	}
+
+	/**
+	 * @return the connection used for the page queries
+	 */
+	public Connection getConnection() {
+		return connection;
+	}
+
+	/**
+	 * @return the query whose rows are paged
+	 */
+	public String getQuery() {
+		return query;
+	}
+
+	/**
+	 * @return the number of rows per page
+	 */
+	public synchronized int getPageSize() {
+		return pageSize;
+	}
+
+	/**
+	 * Sets the number of rows read per query. Takes effect on the next call to
+	 * {@link #open()}; until then the resident pages and any pages read keep
+	 * the size in effect when the pager was opened (see
+	 * {@link #getOpenPageSize()}).
+	 *
+	 * @param _pageSize number of rows per page
+	 */
+	public synchronized void setPageSize(final int _pageSize) {
+		if (_pageSize < 1) {
+			throw new IllegalArgumentException("Page size must be positive.");
+		}
+		pageSize = _pageSize;
+	}
+
+	/**
+	 * @return the number of pages held in memory
+	 */
+	public synchronized int getMaxResidentPages() {
+		return maxResidentPages;
+	}
+
+	/**
+	 * Sets the number of pages held in memory. Takes effect on the next call to
+	 * {@link #open()}.
+	 *
+	 * @param _maxResidentPages number of pages held in memory
+	 */
+	public synchronized void setMaxResidentPages(final int _maxResidentPages) {
+		if (_maxResidentPages < 1) {
+			throw new IllegalArgumentException("Maximum resident pages must be positive.");
+		}
+		maxResidentPages = _maxResidentPages;
+	}
+
+	/**
+	 * @return true if the rows are counted with a COUNT(*) query
+	 */
+	public synchronized boolean getCountRows() {
+		return countRows;
+	}
+
+	/**
+	 * Determines how the row count is found. If true, a COUNT(*) query is run
+	 * when the pager is opened so the scroll bar reflects all rows. If false
+	 * (the default), the row count grows as the user scrolls. Takes effect on
+	 * the next call to {@link #open()}.
+	 *
+	 * @param _countRows true to count the rows
+	 */
+	public synchronized void setCountRows(final boolean _countRows) {
+		countRows = _countRows;
+	}
+
+}
@@ -0,0 +1,502 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.RowSet;
+import javax.swing.JOptionPane;
+import javax.swing.JTable;
+import javax.swing.RowSorter;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+
+import org.apache.logging.log4j.Logger;
+
+import com.nqadmin.swingset.datasources.ColumnMetadata;
+import com.nqadmin.swingset.datasources.RowSetOps;
+import com.nqadmin.swingset.utils.SSUtils;
+
+// SSTableRowSorter.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * SSTableRowSorter sorts and filters the rows of an SSDataGrid in the database
+ * rather than in the client. Header clicks and filters are turned into ORDER BY
+ * and WHERE clauses on the RowSet command, whose rows are loaded in the
+ * background (see {@link SSTableModel#executeInBackground(String, Object[])}),
+ * so the database indexes do the work and no row has to be read to sort.
+ * <p>
+ * The RowSet command when the sorter is constructed is the base command. The
+ * sorted and filtered command has the form
+ * <pre>
+ * {@code
+ * SELECT * FROM (<base command>) swingset_sort WHERE <filters> ORDER BY <sort keys>
+ * }
+ * </pre>
+ * so the base command must not have its own ORDER BY. Parameters already set
+ * on the RowSet for the base command are set again after the command changes.
+ * <p>
+ * The database returns the rows in view order, so view and model row indexes
+ * are the same. The selected rows are kept, by value of the model's primary
+ * column, across a re-sort. The primary column also ends the ORDER BY, so
+ * the rows shown while loading and the rows of the RowSet, which the model
+ * reads once loaded, are in the same order.
+ * <p>
+ * Column labels are quoted with the database's identifier quote string.
+ * <p>
+ * Usage:
+ * <pre>
+ * {@code
+ * dataGrid.setRowSet(rowSet);
+ * dataGrid.setPrimaryColumn("part_id");
+ * dataGrid.setRowSorter(new SSTableRowSorter(dataGrid));
+ * }
+ * </pre>
+ *
+ * @since 4.0.14
+ */
+public class SSTableRowSorter extends RowSorter<SSTableModel> {
+
+	/**
+	 * Listener for the table model used to re-select rows, by primary column
+	 * value, as the re-sorted rows arrive.
+	 */
+	protected class SSTableRowSorterModelListener implements TableModelListener {
+
+		@Override
+		public void tableChanged(final TableModelEvent _event) {
+			if (keysToSelect.isEmpty()) {
+				return;
+			}
+			if (!model.isLoading()) {
+				// LOAD IS OVER, THE REMAINING ROWS ARE GONE
+				keysToSelect.clear();
+				return;
+			}
+			if ((_event.getType() != TableModelEvent.INSERT) || (_event.getFirstRow() < 0)) {
+				return;
+			}
+			for (int row = _event.getFirstRow(); row <= _event.getLastRow(); row++) {
+				if (keysToSelect.remove(model.getValueAt(row, model.getPrimaryColumn()))) {
+					// SELECT ONCE THE TABLE HAS HANDLED THE INSERT, WHICH WOULD SHIFT THE SELECTION
+					final int foundRow = row;
+					SwingUtilities.invokeLater(() -> selectRow(foundRow));
+				}
+			}
+		}
+
+		private void selectRow(final int _row) {
+			if (_row >= table.getRowCount()) {
+				return;
+			}
+			table.addRowSelectionInterval(_row, _row);
+			if (!scrolled) {
+				table.scrollRectToVisible(table.getCellRect(_row, 0, true));
+				scrolled = true;
+			}
+		}
+	}
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static Logger logger = SSUtils.getLogger();
+
+	/**
+	 * Maximum number of sort keys kept by toggleSortOrder().
+	 */
+	private static final int MAX_SORT_KEYS = 3;
+
+	/**
+	 * Table whose rows are sorted.
+	 */
+	private final JTable table;
+
+	/**
+	 * Model of the table.
+	 */
+	private final SSTableModel model;
+
+	/**
+	 * Command of the RowSet when the sorter was constructed.
+	 */
+	private final String baseCommand;
+
+	/**
+	 * Column metadata of the base command. The RowSet metadata is not usable
+	 * while the RowSet is re-executed.
+	 */
+	private final ColumnMetadata baseMetadata;
+
+	/**
+	 * Parameters of the base command.
+	 */
+	private final Object[] baseParameters;
+
+	/**
+	 * Identifier quote string of the database, null if it is not known.
+	 */
+	private final String identifierQuote;
+
+	/**
+	 * Current sort keys.
+	 */
+	private List<SortKey> sortKeys = Collections.emptyList();
+
+	/**
+	 * Column filters by column (first column is 0), combined with AND.
+	 */
+	private final Map<Integer, Object> columnFilters = new LinkedHashMap<>();
+
+	/**
+	 * Free-form filter, combined with the column filters with AND.
+	 */
+	private String filterClause = null;
+
+	/**
+	 * Parameters of the free-form filter.
+	 */
+	private Object[] filterParameters = new Object[0];
+
+	/**
+	 * Primary column values of the rows to select once they are loaded.
+	 */
+	private final Set<Object> keysToSelect = new HashSet<>();
+
+	/**
+	 * Indicates that the table has been scrolled to the first re-selected row.
+	 */
+	private boolean scrolled = false;
+
+	/**
+	 * Constructs a sorter for the rows of the data grid's RowSet. The RowSet
+	 * must already be set on the grid.
+	 *
+	 * @param _dataGrid data grid to sort
+	 */
+	public SSTableRowSorter(final SSDataGrid _dataGrid) {
+		this(_dataGrid, (SSTableModel) _dataGrid.getModel());
+	}
+
+	/**
+	 * Constructs a sorter for the rows of a JTable using an SSTableModel. The
+	 * RowSet must already be set on the model.
+	 *
+	 * @param _table JTable to sort
+	 * @param _model model of the table
+	 */
+	public SSTableRowSorter(final JTable _table, final SSTableModel _model) {
+		table = _table;
+		model = _model;
+		final RowSet rowSet = model.getRowSet();
+		if (rowSet == null) {
+			throw new IllegalArgumentException("The table model has no RowSet.");
+		}
+		baseCommand = rowSet.getCommand();
+		baseParameters = SSTableModel.getRowSetParameters(rowSet);
+		try {
+			baseMetadata = RowSetOps.getColumnMetadata(rowSet);
+		} catch (final SQLException se) {
+			throw new IllegalArgumentException("The RowSet has no column metadata.", se);
+		}
+		String quote = null;
+		try {
+			final Statement statement = rowSet.getStatement();
+			if (statement != null) {
+				quote = statement.getConnection().getMetaData().getIdentifierQuoteString();
+			}
+		} catch (final SQLException se) {
+			logger.debug("Identifier quote string not available, column labels are not quoted.", se);
+		}
+		identifierQuote = quote;
+		model.addTableModelListener(new SSTableRowSorterModelListener());
+	}
+
+	/**
+	 * Returns the column label used for a column in the sorted command,
+	 * quoted with the database's identifier quote string so labels that are
+	 * keywords or hold other characters can be used.
+	 *
+	 * @param _column model column (first column is 0)
+	 * @return column label
+	 * @throws SQLException if the column is not valid
+	 */
+	protected String getColumnLabel(final int _column) throws SQLException {
+		return SSDataNavigator.quoteIdentifier(identifierQuote, baseMetadata.getColumnLabel(_column + 1));
+	}
+
+	/**
+	 * Builds the RowSet command for the current sort keys and filters. When
+	 * the model has a primary column it ends the ORDER BY, unless it is
+	 * already a sort key, so rows with equal sort keys come in the same order
+	 * every time the command runs: the model loads the rows on a statement of
+	 * its own and then reads them from the RowSet.
+	 *
+	 * @return the command
+	 * @throws SQLException if a column is not valid
+	 */
+	protected String getSortedCommand() throws SQLException {
+		if (sortKeys.isEmpty() && columnFilters.isEmpty() && (filterClause == null)) {
+			return baseCommand;
+		}
+
+		final StringBuilder command = new StringBuilder("SELECT * FROM (").append(baseCommand).append(") swingset_sort");
+
+		String separator = " WHERE ";
+		for (final Integer column : columnFilters.keySet()) {
+			command.append(separator).append(getColumnLabel(column)).append(" = ?");
+			separator = " AND ";
+		}
+		if (filterClause != null) {
+			command.append(separator).append('(').append(filterClause).append(')');
+		}
+
+		separator = " ORDER BY ";
+		boolean primaryColumnSorted = false;
+		for (final SortKey sortKey : sortKeys) {
+			if (sortKey.getSortOrder() == SortOrder.UNSORTED) {
+				continue;
+			}
+			command.append(separator).append(getColumnLabel(sortKey.getColumn()))
+					.append(sortKey.getSortOrder() == SortOrder.DESCENDING ? " DESC" : " ASC");
+			separator = ", ";
+			primaryColumnSorted |= sortKey.getColumn() == model.getPrimaryColumn();
+		}
+		if ((model.getPrimaryColumn() >= 0) && !primaryColumnSorted) {
+			command.append(separator).append(getColumnLabel(model.getPrimaryColumn())).append(" ASC");
+		}
+
+		return command.toString();
+	}
+
+	/**
+	 * Loads the rows for the current sort keys and filters in the background,
+	 * keeping the selected rows. The model changes the RowSet command once the
+	 * rows are loaded (see {@link SSTableModel#executeInBackground(String, Object[])}).
+	 */
+	protected void apply() {
+		// REMEMBER THE SELECTED ROWS BY PRIMARY COLUMN VALUE, KEEPING THOSE OF A
+		// RE-SORT STILL LOADING
+		if (!model.isLoading()) {
+			keysToSelect.clear();
+		}
+		scrolled = false;
+		final int primaryColumn = model.getPrimaryColumn();
+		if (primaryColumn >= 0) {
+			for (final int viewRow : table.getSelectedRows()) {
+				if (viewRow < model.getRowCount()) {
+					final Object key = model.getValueAt(viewRow, primaryColumn);
+					if (key != null) {
+						keysToSelect.add(key);
+					}
+				}
+			}
+		}
+
+		final String command;
+		try {
+			command = getSortedCommand();
+		} catch (final SQLException se) {
+			logger.error("SQL Exception while sorting.",  se);
+			JOptionPane.showMessageDialog(table, "Error while sorting.\n" + se.getMessage());
+			return;
+		}
+		logger.debug("Sorted command: {}.", command);
+
+		final List<Object> parameters = new ArrayList<>(Arrays.asList(baseParameters));
+		parameters.addAll(columnFilters.values());
+		parameters.addAll(Arrays.asList(filterParameters));
+
+		model.executeInBackground(command, parameters.toArray());
+	}
+
+	/**
+	 * Filters the rows to those where the column equals the value.
+	 *
+	 * @param _column model column (first column is 0)
+	 * @param _value value to match, or null to remove the filter for the column
+	 */
+	public void setColumnFilter(final int _column, final Object _value) {
+		if (_value == null) {
+			columnFilters.remove(_column);
+		} else {
+			columnFilters.put(_column, _value);
+		}
+		apply();
+	}
+
+	/**
+	 * Filters the rows with an SQL condition, for example
+	 * {@code "price > ? AND status <> 'X'"}. Columns are referred to by their
+	 * labels in the base command.
+	 *
+	 * @param _filterClause SQL condition, or null to remove the filter
+	 * @param _parameters   values for the ? placeholders in the condition
+	 */
+	public void setFilter(final String _filterClause, final Object... _parameters) {
+		filterClause = _filterClause;
+		filterParameters = ((_filterClause == null) || (_parameters == null)) ? new Object[0] : _parameters.clone();
+		apply();
+	}
+
+	/**
+	 * Removes all column filters and the SQL filter.
+	 */
+	public void clearFilters() {
+		columnFilters.clear();
+		filterClause = null;
+		filterParameters = new Object[0];
+		apply();
+	}
+
+	@Override
+	public SSTableModel getModel() {
+		return model;
+	}
+
+	/**
+	 * Reverses the sort order of the column if it is the primary sort key
+	 * (ascending, descending, then unsorted), otherwise makes it the primary
+	 * sort key in ascending order.
+	 */
+	@Override
+	public void toggleSortOrder(final int _column) {
+		final List<SortKey> keys = new ArrayList<>(sortKeys);
+		if (!keys.isEmpty() && (keys.get(0).getColumn() == _column)) {
+			final SortOrder sortOrder = keys.get(0).getSortOrder();
+			if (sortOrder == SortOrder.ASCENDING) {
+				keys.set(0, new SortKey(_column, SortOrder.DESCENDING));
+			} else {
+				keys.remove(0);
+			}
+		} else {
+			for (int i = keys.size() - 1; i >= 0; i--) {
+				if (keys.get(i).getColumn() == _column) {
+					keys.remove(i);
+				}
+			}
+			keys.add(0, new SortKey(_column, SortOrder.ASCENDING));
+			if (keys.size() > MAX_SORT_KEYS) {
+				keys.remove(MAX_SORT_KEYS);
+			}
+		}
+		setSortKeys(keys);
+	}
+
+	@Override
+	public int convertRowIndexToModel(final int _index) {
+		// THE DATABASE RETURNS THE ROWS IN VIEW ORDER
+		return _index;
+	}
+
+	@Override
+	public int convertRowIndexToView(final int _index) {
+		return _index;
+	}
+
+	@Override
+	public void setSortKeys(final List<? extends SortKey> _keys) {
+		final List<SortKey> keys = _keys == null ? Collections.<SortKey>emptyList()
+				: Collections.unmodifiableList(new ArrayList<SortKey>(_keys));
+		if (keys.equals(sortKeys)) {
+			return;
+		}
+		sortKeys = keys;
+		fireSortOrderChanged();
+		apply();
+	}
+
+	@Override
+	public List<? extends SortKey> getSortKeys() {
+		return sortKeys;
+	}
+
+	@Override
+	public int getViewRowCount() {
+		return model.getRowCount();
+	}
+
+	@Override
+	public int getModelRowCount() {
+		return model.getRowCount();
+	}
+
+	@Override
+	public void modelStructureChanged() {
+		// THE SORT KEYS STILL APPLY TO THE SAME COLUMNS OF THE BASE COMMAND
+	}
+
+	@Override
+	public void allRowsChanged() {
+		// NOTHING TO DO, THE ROWS ARE SORTED BY THE DATABASE
+	}
+
+	@Override
+	public void rowsInserted(final int _firstRow, final int _endRow) {
+		// NOTHING TO DO, THE ROWS ARE SORTED BY THE DATABASE
+	}
+
+	@Override
+	public void rowsDeleted(final int _firstRow, final int _endRow) {
+		// NOTHING TO DO, THE ROWS ARE SORTED BY THE DATABASE
+	}
+
+	@Override
+	public void rowsUpdated(final int _firstRow, final int _endRow) {
+		// NOTHING TO DO, THE ROWS ARE SORTED BY THE DATABASE
+	}
+
+	@Override
+	public void rowsUpdated(final int _firstRow, final int _endRow, final int _column) {
+		// NOTHING TO DO, THE ROWS ARE SORTED BY THE DATABASE
+	}
+
+}
@@ -0,0 +1,575 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.nqadmin.swingset.utils.SSUtils;
+
+// SSTableSnapshot.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Read-only, column-oriented copy of the rows of a ResultSet, used by
+ * SSTableModel in snapshot mode. Each column is held in a single array:
+ * <ul>
+ * <li>INTEGER, SMALLINT and TINYINT in an {@code int[]}</li>
+ * <li>BIGINT in a {@code long[]}</li>
+ * <li>FLOAT in a {@code float[]}</li>
+ * <li>DOUBLE and NUMERIC in a {@code double[]}</li>
+ * <li>BOOLEAN and BIT in a {@code BitSet}</li>
+ * <li>DATE and TIMESTAMP as milliseconds in a {@code long[]}</li>
+ * <li>CHAR, VARCHAR and LONGVARCHAR in a {@code String[]}, with repeated
+ * values sharing one String</li>
+ * </ul>
+ * Nulls are recorded in a {@code BitSet} per column. Columns of other types
+ * are not stored and read as null, as in SSTableModel.getValueAt().
+ * <p>
+ * Values are decoded the same way as SSTableModel.getValueAt() and boxed when
+ * read with getValue(). Each read of a date returns a new Date, so a caller
+ * changing it does not change the snapshot or other callers' values.
+ * <p>
+ * A snapshot is not thread safe: rows are added and read on one thread, or
+ * the snapshot is filled before it is handed to another thread.
+ *
+ * @since 4.0.14
+ */
+public class SSTableSnapshot {
+
+	/**
+	 * Storage for the values of one column.
+	 */
+	private abstract static class Column {
+
+		/**
+		 * Rows whose value is null.
+		 */
+		final BitSet nulls = new BitSet();
+
+		/**
+		 * Resizes the storage.
+		 *
+		 * @param _capacity new number of rows that can be stored
+		 */
+		abstract void resize(int _capacity);
+
+		/**
+		 * Stores the value of the column on the current row of a ResultSet.
+		 *
+		 * @param _row       row to store
+		 * @param _resultSet ResultSet to read
+		 * @param _column    column to read (first column is 1)
+		 *
+		 * @throws SQLException if a database access error occurs
+		 */
+		abstract void read(int _row, ResultSet _resultSet, int _column) throws SQLException;
+
+		/**
+		 * Stores a decoded, non-null value.
+		 *
+		 * @param _row   row to store
+		 * @param _value value as returned by SSTableModel.getValueAt()
+		 */
+		abstract void set(int _row, Object _value);
+
+		/**
+		 * Returns a non-null value, boxed.
+		 *
+		 * @param _row row to read
+		 *
+		 * @return the value
+		 */
+		abstract Object get(int _row);
+
+		/**
+		 * Called when no more rows will be added.
+		 */
+		void finish() {
+			// nothing to release by default
+		}
+	}
+
+	private static final class IntColumn extends Column {
+
+		int[] values = new int[0];
+
+		@Override
+		void resize(final int _capacity) {
+			values = Arrays.copyOf(values, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			values[_row] = _resultSet.getInt(_column);
+			if (_resultSet.wasNull()) {
+				nulls.set(_row);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values[_row] = ((Number) _value).intValue();
+		}
+
+		@Override
+		Object get(final int _row) {
+			return Integer.valueOf(values[_row]);
+		}
+	}
+
+	private static final class LongColumn extends Column {
+
+		long[] values = new long[0];
+
+		@Override
+		void resize(final int _capacity) {
+			values = Arrays.copyOf(values, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			values[_row] = _resultSet.getLong(_column);
+			if (_resultSet.wasNull()) {
+				nulls.set(_row);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values[_row] = ((Number) _value).longValue();
+		}
+
+		@Override
+		Object get(final int _row) {
+			return Long.valueOf(values[_row]);
+		}
+	}
+
+	private static final class FloatColumn extends Column {
+
+		float[] values = new float[0];
+
+		@Override
+		void resize(final int _capacity) {
+			values = Arrays.copyOf(values, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			values[_row] = _resultSet.getFloat(_column);
+			if (_resultSet.wasNull()) {
+				nulls.set(_row);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values[_row] = ((Number) _value).floatValue();
+		}
+
+		@Override
+		Object get(final int _row) {
+			return Float.valueOf(values[_row]);
+		}
+	}
+
+	private static final class DoubleColumn extends Column {
+
+		double[] values = new double[0];
+
+		@Override
+		void resize(final int _capacity) {
+			values = Arrays.copyOf(values, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			values[_row] = _resultSet.getDouble(_column);
+			if (_resultSet.wasNull()) {
+				nulls.set(_row);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values[_row] = ((Number) _value).doubleValue();
+		}
+
+		@Override
+		Object get(final int _row) {
+			return Double.valueOf(values[_row]);
+		}
+	}
+
+	private static final class BooleanColumn extends Column {
+
+		final BitSet values = new BitSet();
+
+		@Override
+		void resize(final int _capacity) {
+			// BITSET GROWS AS NEEDED
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			values.set(_row, _resultSet.getBoolean(_column));
+			if (_resultSet.wasNull()) {
+				nulls.set(_row);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values.set(_row, ((Boolean) _value).booleanValue());
+		}
+
+		@Override
+		Object get(final int _row) {
+			return Boolean.valueOf(values.get(_row));
+		}
+	}
+
+	private static final class DateColumn extends Column {
+
+		long[] millis = new long[0];
+
+		@Override
+		void resize(final int _capacity) {
+			millis = Arrays.copyOf(millis, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			final Date date = _resultSet.getDate(_column);
+			if (date == null) {
+				nulls.set(_row);
+			} else {
+				millis[_row] = date.getTime();
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			millis[_row] = ((java.util.Date) _value).getTime();
+		}
+
+		@Override
+		Object get(final int _row) {
+			// A DATE IS MUTABLE, SO EVERY READ GETS ITS OWN
+			return new Date(millis[_row]);
+		}
+	}
+
+	private static final class StringColumn extends Column {
+
+		String[] values = new String[0];
+
+		/**
+		 * Distinct values seen so far, so repeated values share one String.
+		 * Dropped when the column turns out to hold mostly distinct values, and
+		 * when the snapshot is complete.
+		 */
+		Map<String, String> distinctValues = new HashMap<>();
+
+		@Override
+		void resize(final int _capacity) {
+			values = Arrays.copyOf(values, _capacity);
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) throws SQLException {
+			final String value = _resultSet.getString(_column);
+			if (value == null) {
+				nulls.set(_row);
+			} else {
+				values[_row] = share(value);
+			}
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			values[_row] = share((String) _value);
+		}
+
+		@Override
+		Object get(final int _row) {
+			return values[_row];
+		}
+
+		@Override
+		void finish() {
+			distinctValues = null;
+		}
+
+		private String share(final String _value) {
+			if (distinctValues == null) {
+				return _value;
+			}
+			final String shared = distinctValues.putIfAbsent(_value, _value);
+			if ((shared == null) && (distinctValues.size() > MAX_SHARED_STRINGS)) {
+				// MOSTLY DISTINCT, SHARING WOULD ONLY COST MEMORY
+				distinctValues = null;
+			}
+			return shared == null ? _value : shared;
+		}
+	}
+
+	/**
+	 * Column kept for a type that is not stored. Always null.
+	 */
+	private static final class NullColumn extends Column {
+
+		@Override
+		void resize(final int _capacity) {
+			// nothing stored
+		}
+
+		@Override
+		void read(final int _row, final ResultSet _resultSet, final int _column) {
+			nulls.set(_row);
+		}
+
+		@Override
+		void set(final int _row, final Object _value) {
+			nulls.set(_row);
+		}
+
+		@Override
+		Object get(final int _row) {
+			return null;
+		}
+	}
+
+	/**
+	 * Number of distinct values of a String column shared before sharing is
+	 * abandoned for the column.
+	 */
+	private static final int MAX_SHARED_STRINGS = 8192;
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static final org.apache.logging.log4j.Logger logger = SSUtils.getLogger();
+
+	private final Column[] columns;
+
+	private int capacity = 0;
+
+	private int rowCount = 0;
+
+	/**
+	 * Constructs an empty snapshot.
+	 *
+	 * @param _types            SQL type of each column from java.sql.Types
+	 * @param _initialCapacity  number of rows to allocate room for
+	 */
+	public SSTableSnapshot(final int[] _types, final int _initialCapacity) {
+		columns = new Column[_types.length];
+		for (int column = 0; column < _types.length; column++) {
+			columns[column] = newColumn(_types[column]);
+		}
+		ensureCapacity(_initialCapacity);
+	}
+
+	/**
+	 * Reads the rows of a ResultSet into a new snapshot in one forward pass,
+	 * starting after the current row. Values are read with the primitive
+	 * getters so no boxed values are created.
+	 *
+	 * @param _resultSet    ResultSet to read, positioned before the first row
+	 *                      to read
+	 * @param _types        SQL type of each column from java.sql.Types
+	 * @param _expectedRows number of rows expected, used to size the columns
+	 *
+	 * @return the snapshot
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	public static SSTableSnapshot read(final ResultSet _resultSet, final int[] _types, final int _expectedRows)
+			throws SQLException {
+		final SSTableSnapshot snapshot = new SSTableSnapshot(_types, _expectedRows);
+		while (_resultSet.next()) {
+			snapshot.addRow(_resultSet);
+		}
+		snapshot.finish();
+		return snapshot;
+	}
+
+	private static Column newColumn(final int _type) {
+		switch (_type) {
+		case Types.INTEGER:
+		case Types.SMALLINT:
+		case Types.TINYINT:
+			return new IntColumn();
+		case Types.BIGINT:
+			return new LongColumn();
+		case Types.FLOAT:
+			return new FloatColumn();
+		case Types.DOUBLE:
+		case Types.NUMERIC:
+			return new DoubleColumn();
+		case Types.BOOLEAN:
+		case Types.BIT:
+			return new BooleanColumn();
+		case Types.DATE:
+		case Types.TIMESTAMP:
+			return new DateColumn();
+		case Types.CHAR:
+		case Types.VARCHAR:
+		case Types.LONGVARCHAR:
+			return new StringColumn();
+		default:
+			logger.warn("Unknown data type of " + _type);
+			return new NullColumn();
+		}
+	}
+
+	private void ensureCapacity(final int _rows) {
+		if (_rows <= capacity) {
+			return;
+		}
+		final int newCapacity = Math.max(_rows, capacity + (capacity >> 1));
+		for (final Column column : columns) {
+			column.resize(newCapacity);
+		}
+		capacity = newCapacity;
+	}
+
+	/**
+	 * Adds the current row of a ResultSet.
+	 *
+	 * @param _resultSet ResultSet positioned on the row to add
+	 *
+	 * @throws SQLException if a database access error occurs
+	 */
+	public void addRow(final ResultSet _resultSet) throws SQLException {
+		ensureCapacity(rowCount + 1);
+		for (int column = 0; column < columns.length; column++) {
+			columns[column].read(rowCount, _resultSet, column + 1);
+		}
+		rowCount++;
+	}
+
+	/**
+	 * Adds rows already decoded, e.g. by the background loader of
+	 * SSTableModel.
+	 *
+	 * @param _rows values of each row indexed by column (first column is 0)
+	 */
+	public void addRows(final List<Object[]> _rows) {
+		ensureCapacity(rowCount + _rows.size());
+		for (final Object[] rowValues : _rows) {
+			for (int column = 0; column < columns.length; column++) {
+				if (rowValues[column] == null) {
+					columns[column].nulls.set(rowCount);
+				} else {
+					columns[column].set(rowCount, rowValues[column]);
+				}
+			}
+			rowCount++;
+		}
+	}
+
+	/**
+	 * Releases the room reserved for rows that were not added, and the
+	 * structures only needed while rows are added. Rows can still be added
+	 * afterwards.
+	 */
+	public void finish() {
+		for (final Column column : columns) {
+			column.resize(rowCount);
+			column.finish();
+		}
+		capacity = rowCount;
+	}
+
+	/**
+	 * Returns the number of rows in the snapshot.
+	 *
+	 * @return the number of rows
+	 */
+	public int getRowCount() {
+		return rowCount;
+	}
+
+	/**
+	 * Returns the number of columns in the snapshot.
+	 *
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return columns.length;
+	}
+
+	/**
+	 * Returns true if the value of a cell is null.
+	 *
+	 * @param _row    the row (first row is 0)
+	 * @param _column the column (first column is 0)
+	 *
+	 * @return true if the value is null
+	 */
+	public boolean isNull(final int _row, final int _column) {
+		return columns[_column].nulls.get(_row);
+	}
+
+	/**
+	 * Returns the value of a cell, boxed as by SSTableModel.getValueAt().
+	 *
+	 * @param _row    the row (first row is 0)
+	 * @param _column the column (first column is 0)
+	 *
+	 * @return the value, or null
+	 */
+	public Object getValue(final int _row, final int _column) {
+		if ((_row < 0) || (_row >= rowCount)) {
+			throw new IndexOutOfBoundsException("Row " + _row + " of " + rowCount);
+		}
+		final Column column = columns[_column];
+		return column.nulls.get(_row) ? null : column.get(_row);
+	}
+}
@@ -0,0 +1,216 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+
+// SSTableTransferable.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Transferable for a block of table cells copied to the clipboard. The cell
+ * values are held as read; the text for a flavor is only produced when the
+ * flavor is requested, so a large copy does not keep several renderings of the
+ * same cells in memory.
+ * <p>
+ * Supported flavors:
+ * <ul>
+ * <li>{@link DataFlavor#stringFlavor}: tab separated values, as pasted by
+ * {@link SSTableKeyAdapter} and spreadsheets</li>
+ * <li>{@link #CSV_FLAVOR}: comma separated values (RFC 4180 quoting)</li>
+ * <li>{@link DataFlavor#allHtmlFlavor}: an HTML table</li>
+ * </ul>
+ *
+ * @since 4.0.14
+ */
+public class SSTableTransferable implements Transferable, ClipboardOwner {
+
+	/**
+	 * Flavor for comma separated values.
+	 */
+	public static final DataFlavor CSV_FLAVOR = new DataFlavor("text/csv;class=java.lang.String", "CSV");
+
+	private static final DataFlavor[] FLAVORS = { DataFlavor.stringFlavor, CSV_FLAVOR, DataFlavor.allHtmlFlavor };
+
+	/**
+	 * Cell values indexed by row and then by column.
+	 */
+	private final Object[][] values;
+
+	/**
+	 * Constructs a Transferable for a block of cells.
+	 *
+	 * @param _values cell values indexed by row and then by column
+	 */
+	public SSTableTransferable(final Object[][] _values) {
+		values = _values;
+	}
+
+	@Override
+	public DataFlavor[] getTransferDataFlavors() {
+		return FLAVORS.clone();
+	}
+
+	@Override
+	public boolean isDataFlavorSupported(final DataFlavor _flavor) {
+		for (final DataFlavor flavor : FLAVORS) {
+			if (flavor.equals(_flavor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public Object getTransferData(final DataFlavor _flavor) throws UnsupportedFlavorException, IOException {
+		if (DataFlavor.stringFlavor.equals(_flavor)) {
+			return toTabSeparated();
+		} else if (CSV_FLAVOR.equals(_flavor)) {
+			return toCommaSeparated();
+		} else if (DataFlavor.allHtmlFlavor.equals(_flavor)) {
+			return toHtml();
+		}
+		throw new UnsupportedFlavorException(_flavor);
+	}
+
+	@Override
+	public void lostOwnership(final Clipboard _clipboard, final Transferable _contents) {
+		// nothing to release
+	}
+
+	/**
+	 * Returns the cells as tab separated values, one line per row. As with the
+	 * original copy, a null cell is written as "null".
+	 *
+	 * @return tab separated values
+	 */
+	protected String toTabSeparated() {
+		final StringBuilder text = new StringBuilder(values.length * 16);
+		for (final Object[] rowValues : values) {
+			for (int j = 0; j < rowValues.length; j++) {
+				text.append(rowValues[j]);
+				if (j < (rowValues.length - 1)) {
+					text.append('\t');
+				}
+			}
+			text.append('\n');
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns the cells as comma separated values, one line per row. A null
+	 * cell is empty.
+	 *
+	 * @return comma separated values
+	 */
+	protected String toCommaSeparated() {
+		final StringBuilder text = new StringBuilder(values.length * 16);
+		for (final Object[] rowValues : values) {
+			for (int j = 0; j < rowValues.length; j++) {
+				if (j > 0) {
+					text.append(',');
+				}
+				if (rowValues[j] == null) {
+					continue;
+				}
+				final String value = rowValues[j].toString();
+				if ((value.indexOf(',') >= 0) || (value.indexOf('"') >= 0) || (value.indexOf('\n') >= 0)
+						|| (value.indexOf('\r') >= 0)) {
+					text.append('"').append(value.replace("\"", "\"\"")).append('"');
+				} else {
+					text.append(value);
+				}
+			}
+			text.append("\r\n");
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Returns the cells as an HTML table. A null cell is empty.
+	 *
+	 * @return HTML table
+	 */
+	protected String toHtml() {
+		final StringBuilder text = new StringBuilder(values.length * 32);
+		text.append("<html><body><table>\n");
+		for (final Object[] rowValues : values) {
+			text.append("<tr>");
+			for (final Object value : rowValues) {
+				text.append("<td>");
+				if (value != null) {
+					appendEscaped(text, value.toString());
+				}
+				text.append("</td>");
+			}
+			text.append("</tr>\n");
+		}
+		text.append("</table></body></html>\n");
+		return text.toString();
+	}
+
+	private static void appendEscaped(final StringBuilder _text, final String _value) {
+		for (int i = 0; i < _value.length(); i++) {
+			final char c = _value.charAt(i);
+			switch (c) {
+			case '<':
+				_text.append("&lt;");
+				break;
+			case '>':
+				_text.append("&gt;");
+				break;
+			case '&':
+				_text.append("&amp;");
+				break;
+			case '"':
+				_text.append("&quot;");
+				break;
+			default:
+				_text.append(c);
+			}
+		}
+	}
+
+}
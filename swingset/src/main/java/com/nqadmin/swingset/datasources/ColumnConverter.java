@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+// ColumnConverter.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Converts between the values of a column and the text displayed and edited
+ * by SwingSet components, see
+ * {@link RowSetOps#getColumnText(javax.sql.RowSet, String)} and
+ * {@link RowSetOps#updateColumnText(javax.sql.RowSet, String, String, boolean)}.
+ * <p>
+ * {@link StandardColumnConverter} provides the converter for each supported
+ * column type. A different converter can be set for a column of a RowSet with
+ * {@link RowSetOps#setColumnConverter(javax.sql.RowSet, String, ColumnConverter)}.
+ * <p>
+ * A converter may be used by several RowSets and threads at the same time.
+ *
+ * @since 4.0.14
+ */
+public interface ColumnConverter {
+
+	/**
+	 * Returned by {@link #fromText(String)} for text that can not be converted.
+	 */
+	Object INVALID = new Object() {
+		@Override
+		public String toString() {
+			return "INVALID";
+		}
+	};
+
+	/**
+	 * Returns the text for a value of the current row.
+	 *
+	 * @param _resultSet   ResultSet positioned on the row the value was read
+	 *                     from, to read the column again if needed
+	 * @param _columnIndex the column index where the first column is 1, second
+	 *                     column is 2, etc.
+	 * @param _value       non-null value of the column returned by getObject()
+	 * @return text representation of the value
+	 * @throws SQLException - if a database access error occurs
+	 */
+	String toText(ResultSet _resultSet, int _columnIndex, Object _value) throws SQLException;
+
+	/**
+	 * Converts non-empty text entered for the column to the value to write to
+	 * the column. Must not throw for text that is not valid, e.g. while the
+	 * user is part way through typing a value.
+	 *
+	 * @param _text text to convert
+	 * @return value to write to the column, {@link #INVALID} if the text can
+	 *         not be converted
+	 */
+	Object fromText(String _text);
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// ColumnMetadata.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Immutable snapshot of the column metadata of a {@link ResultSet}: the
+ * column name to index mapping and, for each column, its name, SQL type,
+ * {@link JDBCType}, Java class and nullability.
+ * <p>
+ * Reading the snapshot never goes back to the {@link ResultSetMetaData}, which
+ * on some drivers is a round trip to the database. {@link RowSetOps} keeps one
+ * snapshot per RowSet, see {@link RowSetOps#getColumnMetadata(javax.sql.RowSet)}.
+ * <p>
+ * Column indexes start from 1, as they do for {@link ResultSetMetaData}.
+ *
+ * @since 4.0.14
+ */
+public final class ColumnMetadata {
+
+	/**
+	 * Reads the metadata of the ResultSet into a new snapshot.
+	 *
+	 * @param _resultSet ResultSet whose columns are described
+	 * @return snapshot of the column metadata
+	 * @throws SQLException - if a database access error occurs
+	 */
+	public static ColumnMetadata of(final ResultSet _resultSet) throws SQLException {
+		return new ColumnMetadata(_resultSet.getMetaData());
+	}
+
+	/**
+	 * Column labels to index. Like {@link ResultSet#findColumn(String)} the
+	 * lookup is case insensitive and the first matching column wins.
+	 */
+	private final Map<String, Integer> indexByLabel = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+	private final String[] columnLabels;
+
+	private final String[] columnNames;
+
+	private final int[] columnTypes;
+
+	private final JDBCType[] jdbcTypes;
+
+	private final Class<?>[] javaClasses;
+
+	private final int[] nullable;
+
+	private ColumnMetadata(final ResultSetMetaData _metaData) throws SQLException {
+		final int columnCount = _metaData.getColumnCount();
+
+		columnLabels = new String[columnCount];
+		columnNames = new String[columnCount];
+		columnTypes = new int[columnCount];
+		jdbcTypes = new JDBCType[columnCount];
+		javaClasses = new Class<?>[columnCount];
+		nullable = new int[columnCount];
+
+		for (int i = 0; i < columnCount; i++) {
+			final int columnIndex = i + 1;
+			final String label = _metaData.getColumnLabel(columnIndex);
+			if (label != null && !indexByLabel.containsKey(label)) {
+				indexByLabel.put(label, columnIndex);
+			}
+			columnLabels[i] = label;
+			columnNames[i] = _metaData.getColumnName(columnIndex);
+			columnTypes[i] = _metaData.getColumnType(columnIndex);
+			try {
+				jdbcTypes[i] = JDBCType.valueOf(columnTypes[i]);
+				javaClasses[i] = RowSetOps.findJavaTypeClass(jdbcTypes[i]);
+			} catch (final IllegalArgumentException | SQLException ex) {
+				// vendor specific or unhandled type, leave null
+			}
+			nullable[i] = _metaData.isNullable(columnIndex);
+		}
+	}
+
+	/**
+	 * Throws the same exception a driver would for an invalid column index.
+	 *
+	 * @param _columnIndex column index to check
+	 * @return array offset for the column
+	 * @throws SQLException if the column index is not valid
+	 */
+	private int offset(final int _columnIndex) throws SQLException {
+		if ((_columnIndex < 1) || (_columnIndex > columnTypes.length)) {
+			throw new SQLException("Invalid column index: " + _columnIndex);
+		}
+		return _columnIndex - 1;
+	}
+
+	/**
+	 * @return the number of columns
+	 */
+	public int getColumnCount() {
+		return columnTypes.length;
+	}
+
+	/**
+	 * Returns the index of the column with the given label.
+	 *
+	 * @param _columnLabel column label, case insensitive
+	 * @return the column index (starting from 1) or 0 if there is no such
+	 *         column in the snapshot
+	 */
+	public int findColumnIndex(final String _columnLabel) {
+		final Integer columnIndex = indexByLabel.get(_columnLabel);
+		return columnIndex == null ? 0 : columnIndex;
+	}
+
+	/**
+	 * @param _columnIndex column index (starting from 1)
+	 * @return the column label, the name used for the column in the results
+	 * @throws SQLException if the column index is not valid
+	 */
+	public String getColumnLabel(final int _columnIndex) throws SQLException {
+		return columnLabels[offset(_columnIndex)];
+	}
+
+	/**
+	 * @param _columnIndex column index (starting from 1)
+	 * @return the column name
+	 * @throws SQLException if the column index is not valid
+	 */
+	public String getColumnName(final int _columnIndex) throws SQLException {
+		return columnNames[offset(_columnIndex)];
+	}
+
+	/**
+	 * @param _columnIndex column index (starting from 1)
+	 * @return SQL type from java.sql.Types
+	 * @throws SQLException if the column index is not valid
+	 */
+	public int getColumnType(final int _columnIndex) throws SQLException {
+		return columnTypes[offset(_columnIndex)];
+	}
+
+	/**
+	 * @param _columnIndex column index (starting from 1)
+	 * @return JDBCType of the column
+	 * @throws SQLException if the column index is not valid
+	 * @throws IllegalArgumentException if the column type is not a
+	 *         {@link JDBCType}
+	 */
+	public JDBCType getJDBCType(final int _columnIndex) throws SQLException {
+		final int offset = offset(_columnIndex);
+		return jdbcTypes[offset] != null ? jdbcTypes[offset] : JDBCType.valueOf(columnTypes[offset]);
+	}
+
+	/**
+	 * @param _columnIndex column index (starting from 1)
+	 * @return the Java class used for the column as determined by
+	 *         {@link RowSetOps#findJavaTypeClass(JDBCType)}, or null if the
+	 *         column type is not handled
+	 * @throws SQLException if the column index is not valid
+	 */
+	public Class<?> getJavaClass(final int _columnIndex) throws SQLException {
+		return javaClasses[offset(_columnIndex)];
+	}
+
+	/**
+	 * Determine if the specified column is nullable.
+	 *
+	 * @param _columnIndex column index (starting from 1)
+	 * @return Optional of true if nullable, empty Optional if unknown.
+	 * @throws SQLException if the column index is not valid
+	 */
+	public Optional<Boolean> isNullable(final int _columnIndex) throws SQLException {
+		final int columnNullable = nullable[offset(_columnIndex)];
+		return columnNullable == ResultSetMetaData.columnNullableUnknown
+				? Optional.empty()
+				: Optional.of(columnNullable == ResultSetMetaData.columnNullable);
+	}
+}
@@ -46,18 +46,23 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.util.Calendar;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.GregorianCalendar;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
 
 import javax.sql.RowSet;
+import javax.sql.RowSetEvent;
+import javax.sql.RowSetListener;
 
 import org.apache.logging.log4j.Logger;
 
 import com.nqadmin.swingset.SSDataNavigator;
-import com.nqadmin.swingset.utils.SSCommon;
 import com.nqadmin.swingset.utils.SSUtils;
 
 // RowSetOps.java
@@ -80,6 +85,93 @@ public class RowSetOps {
 
 	// TODO Audit type handling based on http://www.java2s.com/Code/Java/Database-SQL-JDBC/StandardSQLDataTypeswithTheirJavaEquivalents.htm
 
+	/**
+	 * Column metadata snapshot for each RowSet, built on first use after the
+	 * RowSet is executed. Weak keys so a RowSet that is no longer in use can be
+	 * collected.
+	 */
+	private static final Map<RowSet, ColumnMetadata> columnMetadataCache =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Column converters set for RowSet columns, by column name. Weak keys so a
+	 * RowSet that is no longer in use can be collected.
+	 */
+	private static final Map<RowSet, Map<String, ColumnConverter>> columnConverters =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * RowSets that have the metadataInvalidator listener added.
+	 */
+	private static final Set<RowSet> metadataListenedRowSets =
+			Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+	/**
+	 * Drops a RowSet's column metadata snapshot when the RowSet is changed,
+	 * e.g. by execute(), since the command and so the columns may have changed.
+	 */
+	private static final RowSetListener metadataInvalidator = new RowSetListener() {
+		@Override
+		public void cursorMoved(final RowSetEvent _event) {
+			// metadata is unchanged
+		}
+
+		@Override
+		public void rowChanged(final RowSetEvent _event) {
+			// metadata is unchanged
+		}
+
+		@Override
+		public void rowSetChanged(final RowSetEvent _event) {
+			columnMetadataCache.remove(_event.getSource());
+		}
+	};
+
+	/**
+	 * Returns the column metadata snapshot for the RowSet. The snapshot is read
+	 * from the RowSet's metadata the first time it is requested after the RowSet
+	 * is executed and is dropped when the RowSet fires rowSetChanged.
+	 *
+	 * @param _rowSet RowSet on which to operate
+	 * @return snapshot of the column metadata of the RowSet
+	 * @throws SQLException - if a database access error occurs
+	 */
+	public static ColumnMetadata getColumnMetadata(final RowSet _rowSet) throws SQLException {
+		ColumnMetadata metadata = columnMetadataCache.get(_rowSet);
+		if (metadata == null) {
+			metadata = ColumnMetadata.of(_rowSet);
+			if (metadataListenedRowSets.add(_rowSet)) {
+				_rowSet.addRowSetListener(metadataInvalidator);
+			}
+			columnMetadataCache.put(_rowSet, metadata);
+		}
+		return metadata;
+	}
+
+	/**
+	 * Discards the column metadata snapshot for the RowSet. This is done
+	 * automatically on rowSetChanged, call this if the RowSet's columns are
+	 * changed in a way that does not notify RowSet listeners.
+	 *
+	 * @param _rowSet RowSet on which to operate
+	 */
+	public static void invalidateColumnMetadata(final RowSet _rowSet) {
+		columnMetadataCache.remove(_rowSet);
+	}
+
+	/**
+	 * Returns the cached column metadata snapshot if the ResultSet is a RowSet,
+	 * otherwise null. Metadata for other ResultSets is read directly since
+	 * they are usually short lived.
+	 *
+	 * @param _resultSet ResultSet on which to operate
+	 * @return snapshot or null
+	 * @throws SQLException - if a database access error occurs
+	 */
+	private static ColumnMetadata findColumnMetadata(final ResultSet _resultSet) throws SQLException {
+		return _resultSet instanceof RowSet ? getColumnMetadata((RowSet) _resultSet) : null;
+	}
+
 	/**
 	 * Returns the number of columns in the underlying ResultSet object
 	 *
@@ -88,6 +180,10 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static int getColumnCount(final ResultSet _resultSet) throws SQLException {
+		final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+		if (metadata != null) {
+			return metadata.getColumnCount();
+		}
 		return _resultSet.getMetaData().getColumnCount();
 	}
 
@@ -102,6 +198,14 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static int getColumnIndex(final ResultSet _resultSet, final String _columnName) throws SQLException {
+		final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+		if (metadata != null) {
+			final int columnIndex = metadata.findColumnIndex(_columnName);
+			if (columnIndex > 0) {
+				return columnIndex;
+			}
+		}
+		// NOT A LABEL IN THE SNAPSHOT, LET THE DRIVER RESOLVE IT OR THROW
 		return _resultSet.findColumn(_columnName);
 	}
 
@@ -116,6 +220,10 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static String getColumnName(final ResultSet _resultSet, final int _columnIndex) throws SQLException {
+		final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+		if (metadata != null) {
+			return metadata.getColumnName(_columnIndex);
+		}
 		return _resultSet.getMetaData().getColumnName(_columnIndex);
 	}
 
@@ -128,6 +236,10 @@ public class RowSetOps {
 	 */
 	public static Optional<Boolean> isNullable(final ResultSet _resultSet, final int _columnIndex) {
 		try {
+			final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+			if (metadata != null) {
+				return metadata.isNullable(_columnIndex);
+			}
 			int nullable = _resultSet.getMetaData().isNullable(_columnIndex);
 			return nullable == ResultSetMetaData.columnNullableUnknown
 					? Optional.empty()
@@ -166,103 +278,105 @@ public class RowSetOps {
 	 * @return text representation of data in specified column
 	 */
 	public static String getColumnText(final RowSet _rowSet, final String _columnName) {
-		String value = null;
-
 		try {
-			// IF THE COLUMN IS NULL SO RETURN NULL
-			if ((getColumnCount(_rowSet)==0) || (_rowSet.getObject(_columnName) == null)) {
+			// IF THERE ARE NO COLUMNS RETURN NULL
+			if (getColumnCount(_rowSet)==0) {
 				return null;
 			}
 
-			//final int columnType = getColumnType(_rowSet, _columnName);
-			
-			final JDBCType jdbcType = getJDBCType(getColumnType(_rowSet, _columnName));
+			final int columnIndex = getColumnIndex(_rowSet, _columnName);
+			return getColumnText(_rowSet, columnIndex, _rowSet.getObject(columnIndex));
 
-			// BASED ON THE COLUMN DATA TYPE THE CORRESPONDING FUNCTION
-			// IS CALLED TO GET THE VALUE IN THE COLUMN
-			switch (jdbcType) {
-			case INTEGER:
-			case SMALLINT:
-			case TINYINT:
-				value = String.valueOf(_rowSet.getInt(_columnName));
-				break;
-
-			case BIGINT:
-				value = String.valueOf(_rowSet.getLong(_columnName));
-				break;
+		} catch (final SQLException se) {
+			logger.error("SQL Exception for column " + _columnName + ".", se);
+		}
 
-			case FLOAT:
-				value = String.valueOf(_rowSet.getFloat(_columnName));
-				break;
+		return null;
 
-			case DOUBLE:
-			case REAL:
-				value = String.valueOf(_rowSet.getDouble(_columnName));
-				break;
-				
-			case NUMERIC:
-			case DECIMAL:
-				value = String.valueOf(_rowSet.getBigDecimal(_columnName));
-				break;
+	} // end protected String getColumnText(RowSet rs, String _columnName) {
 
-			case BOOLEAN:
-			case BIT:
-				value = String.valueOf(_rowSet.getBoolean(_columnName));
-				break;
-// TODO: Convert this to use java.time.LocalDate, LocalTime, or LocalDateTime as needed.
-			case DATE:
-			case TIMESTAMP:
-				final Date date = _rowSet.getDate(_columnName);
-				if (date == null) {
-					value = "";
-				} else {
-					final GregorianCalendar calendar = new GregorianCalendar();
-					calendar.setTime(date);
-					value = "";
-					if ((calendar.get(Calendar.MONTH) + 1) < 10) {
-						value = "0";
-					}
-					value = value + (calendar.get(Calendar.MONTH) + 1) + "/";
-
-					if (calendar.get(Calendar.DAY_OF_MONTH) < 10) {
-						value = value + "0";
-					}
-					value = value + calendar.get(Calendar.DAY_OF_MONTH) + "/";
-					value = value + calendar.get(Calendar.YEAR);
-				}
-				break;
-// TODO: Convert this to use java.time.LocalTime.
-			case TIME:
-				final Time time = _rowSet.getTime(_columnName);
-				if (time == null) {
-					value = "";
-				} else {
-					value=time.toString();
-				}
-				break;
+	/**
+	 * Returns the text for a value of the current row read with getObject(),
+	 * using the column's {@link ColumnConverter}.
+	 *
+	 * @param _resultSet ResultSet positioned on the row the value was read from
+	 * @param _columnIndex - the column index where the first column is 1, second
+	 *                     column is 2, etc.
+	 * @param _value value of the column returned by getObject()
+	 *
+	 * @return text representation of the value, null if the value is null or
+	 *         the column type is not supported
+	 *
+	 * @throws SQLException - if a database access error occurs
+	 */
+	static String getColumnText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+		// IF THE COLUMN IS NULL SO RETURN NULL
+		if (_value == null) {
+			return null;
+		}
 
-			case CHAR:
-			case VARCHAR:
-			case LONGVARCHAR:
-				final String str = _rowSet.getString(_columnName);
-				if (str == null) {
-					value = "";
-				} else {
-					value = String.valueOf(str);
-				}
-				break;
+		final ColumnConverter converter = getColumnConverter(_resultSet, _columnIndex);
+		if (converter == null) {
+			logger.error("Unsupported data type of " + getJDBCColumnType(_resultSet, _columnIndex) + " for column "
+					+ getColumnName(_resultSet, _columnIndex) + ".");
+			return null;
+		}
 
-			default:
-				logger.error("Unsupported data type of " + jdbcType.getName() + " for column " + _columnName + ".");
-			} // end switch
+		return converter.toText(_resultSet, _columnIndex, _value);
+	}
 
-		} catch (final SQLException se) {
-			logger.error("SQL Exception for column " + _columnName + ".", se);
+	/**
+	 * Returns the converter between the values of a column and their text: the
+	 * converter set for the column with
+	 * {@link #setColumnConverter(RowSet, String, ColumnConverter)}, otherwise
+	 * the {@link StandardColumnConverter} for the column type.
+	 *
+	 * @param _resultSet ResultSet on which to operate
+	 * @param _columnIndex - the column index where the first column is 1, second
+	 *                     column is 2, etc.
+	 * @return the converter, null if there is none for the column type
+	 *
+	 * @throws SQLException - if a database access error occurs
+	 * @since 4.0.14
+	 */
+	public static ColumnConverter getColumnConverter(final ResultSet _resultSet, final int _columnIndex) throws SQLException {
+		if (_resultSet instanceof RowSet) {
+			final Map<String, ColumnConverter> converters = columnConverters.get(_resultSet);
+			if (converters != null) {
+				final ColumnConverter converter = converters.get(getColumnMetadata((RowSet) _resultSet).getColumnLabel(_columnIndex));
+				if (converter != null) {
+					return converter;
+				}
+			}
 		}
+		return StandardColumnConverter.forType(getJDBCColumnType(_resultSet, _columnIndex));
+	}
 
-		return value;
-
-	} // end protected String getColumnText(RowSet rs, String _columnName) {
+	/**
+	 * Sets the converter between the values of a column of a RowSet and the
+	 * text displayed and edited by the components bound to the column, e.g. to
+	 * display dates in another format.
+	 *
+	 * @param _rowSet RowSet on which to operate
+	 * @param _columnName - name of the column
+	 * @param _converter converter for the column, null to use the
+	 *                   {@link StandardColumnConverter} for the column type
+	 * @since 4.0.14
+	 */
+	public static void setColumnConverter(final RowSet _rowSet, final String _columnName, final ColumnConverter _converter) {
+		synchronized (columnConverters) {
+			Map<String, ColumnConverter> converters = columnConverters.get(_rowSet);
+			if (_converter != null) {
+				if (converters == null) {
+					converters = Collections.synchronizedMap(new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+					columnConverters.put(_rowSet, converters);
+				}
+				converters.put(_columnName, _converter);
+			} else if (converters != null) {
+				converters.remove(_columnName);
+			}
+		}
+	}
 
 	/**
 	 * Retrieves an integer corresponding to the designated column's type based on
@@ -278,6 +392,10 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static int getColumnType(final ResultSet _resultSet, final int _columnIndex) throws SQLException {
+		final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+		if (metadata != null) {
+			return metadata.getColumnType(_columnIndex);
+		}
 		return _resultSet.getMetaData().getColumnType(_columnIndex);
 	}
 
@@ -295,6 +413,10 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static JDBCType getJDBCColumnType(final ResultSet _resultSet, final int _columnIndex) throws SQLException {
+		final ColumnMetadata metadata = findColumnMetadata(_resultSet);
+		if (metadata != null) {
+			return metadata.getJDBCType(_columnIndex);
+		}
 		return getJDBCType(getColumnType(_resultSet, _columnIndex));
 	}
 
@@ -312,7 +434,7 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static int getColumnType(final ResultSet _resultSet, final String _columnName) throws SQLException {
-		return _resultSet.getMetaData().getColumnType(getColumnIndex(_resultSet, _columnName));
+		return getColumnType(_resultSet, getColumnIndex(_resultSet, _columnName));
 	}
 
 	/**
@@ -329,7 +451,7 @@ public class RowSetOps {
 	 * @throws SQLException - if a database access error occurs
 	 */
 	public static JDBCType getJDBCColumnType(final ResultSet _resultSet, final String _columnName) throws SQLException {
-		return getJDBCType(getColumnType(_resultSet, _columnName));
+		return getJDBCColumnType(_resultSet, getColumnIndex(_resultSet, _columnName));
 	}
 
 	private static final EnumSet<JDBCType> textUpdateEmptyOK = EnumSet.of(
@@ -338,7 +460,11 @@ public class RowSetOps {
 			JDBCType.LONGVARCHAR
 	);
 	
-	private static final EnumSet<JDBCType> textUpdateOK = EnumSet.of(
+	/**
+	 * Column types for which text that can not be converted is reported with a
+	 * NumberFormatException. For other types the text is not written.
+	 */
+	private static final EnumSet<JDBCType> textUpdateNumeric = EnumSet.of(
 			JDBCType.INTEGER,
 			JDBCType.SMALLINT,
 			JDBCType.TINYINT,
@@ -347,15 +473,7 @@ public class RowSetOps {
 			JDBCType.DOUBLE,
 			JDBCType.REAL,
 			JDBCType.NUMERIC,
-			JDBCType.DECIMAL,
-			JDBCType.BOOLEAN,
-			JDBCType.BIT,
-			JDBCType.DATE,
-			JDBCType.TIME,
-			JDBCType.TIMESTAMP,
-			JDBCType.CHAR,
-			JDBCType.VARCHAR,
-			JDBCType.LONGVARCHAR
+			JDBCType.DECIMAL
 	);
 
 	/**
@@ -365,6 +483,10 @@ public class RowSetOps {
 	 * When the user changes/edits the SwingSet column this method propagates the
 	 * change to the RowSet. A separate call is required to flush/commit the change
 	 * to the database.
+	 * <p>
+	 * The text is converted by the column's {@link ColumnConverter}. Text for a
+	 * date or time column that can not be converted, e.g. a partially typed
+	 * date, is not written.
 	 *
 	 * @param _rowSet RowSet on which to operate
 	 * @param _updatedValue string to be type-converted as needed and updated in
@@ -379,12 +501,14 @@ public class RowSetOps {
 	@SuppressWarnings("null")
 	public static void updateColumnText(final RowSet _rowSet, final String _updatedValue, final String _columnName, final boolean _allowNull) throws NullPointerException, SQLException, NumberFormatException {
 
-		logger.debug("[" + _columnName + "]. Update to: " + _updatedValue + ". Allow null? [" + _allowNull + "]");
+		logger.debug(() -> "[" + _columnName + "]. Update to: " + _updatedValue + ". Allow null? [" + _allowNull + "]");
 
-		JDBCType jdbcType = getJDBCType(getColumnType(_rowSet, _columnName));
-		
-		if (!textUpdateOK.contains(jdbcType)) {
-			logger.error("Unsupported data type of " + jdbcType.getName() + " for column " + _columnName + ".");
+		final int columnIndex = getColumnIndex(_rowSet, _columnName);
+		final JDBCType jdbcType = getJDBCColumnType(_rowSet, columnIndex);
+		final ColumnConverter converter = getColumnConverter(_rowSet, columnIndex);
+
+		if (converter == null) {
+			logger.error("Unsupported data type of " + jdbcType + " for column " + _columnName + ".");
 			return;
 		}
 
@@ -418,6 +542,7 @@ public class RowSetOps {
 
             if (_allowNull) {
                 _rowSet.updateNull(_columnName);
+                SSDataNavigator.setColumnModified(_rowSet, _columnName, null);
                 return;
             } else if (!textUpdateEmptyOK.contains(jdbcType)) {
                 // This will throw an exception for a non-char type, but allow a char-based type with
@@ -434,97 +559,57 @@ public class RowSetOps {
 		/*
 		 * SECOND - WRITING NON-NULL VALUES TO DATABASE BASED ON APPROPRIATE STRING CONVERSIONS
 		 */
-		switch (jdbcType) {
-	
-		case INTEGER:
-		case SMALLINT:
-		case TINYINT:
-			final int intValue = Integer.parseInt(_updatedValue);
-			_rowSet.updateInt(_columnName, intValue);
-			break;
-			
-		case BIGINT:
-			final long longValue = Long.parseLong(_updatedValue);
-			_rowSet.updateLong(_columnName, longValue);
-			break;
-			
-		case FLOAT:
-			final float floatValue = Float.parseFloat(_updatedValue);
-			_rowSet.updateFloat(_columnName, floatValue);
-			break;
-			
-		case DOUBLE:
-		//case NUMERIC: 
-		//case DECIMAL:
-		case REAL:
-			final double doubleValue = Double.parseDouble(_updatedValue);
-			_rowSet.updateDouble(_columnName, doubleValue);
-			break;
-			
-		case DECIMAL:
-		case NUMERIC:
-			_rowSet.updateBigDecimal(_columnName, new BigDecimal(_updatedValue));
-			break;
-			
-		case BOOLEAN:
-		case BIT:
-			// CONVERT THE GIVEN STRING TO BOOLEAN TYPE
-			final boolean boolValue = Boolean.valueOf(_updatedValue);
-			_rowSet.updateBoolean(_columnName, boolValue);
-			break;
-			
-		case DATE:
-// TODO Good to get rid of getSQLDate if possible.
-// 2022-05-31_BP: Probably best to cast to a LocalDate and return if that fails.
-// 	Can convert to SQL Date if successful.
-			if (_updatedValue.length() == 10) {
-				Date dateValue = SSCommon.getSQLDate(_updatedValue);
-				_rowSet.updateDate(_columnName, dateValue);
-// Per https://github.com/bpangburn/swingset/issues/141,
-// this else block is throwing an exception for every character pressed for the SSTextField date mask.				
-//			} else {
-//			// 2020-12-01_BP: Might as well at least try to process a date that is other than 10 characters
-//				Date dateValue = java.sql.Date.valueOf(_updatedValue);
-//				_rowSet.updateDate(_columnName, dateValue);
-			}
-			break;
-			
-		case TIME:
-// TODO: Probably a better way to handle date to timestamp conversion. Formatter? Get rid of getSQLDate() if possible.
-// 2022-05-31_BP: Probably best to cast to a LocalDateTime and return if that fails.
-//	Can convert to SQL Timestamp if successful.			
-			// CONVERT ANY 10 CHARACTER DATE (e.g., yyyy-mm-dd, mm/dd/yyyy to a date/time)			
-			Time timeValue = java.sql.Time.valueOf(_updatedValue);
-			_rowSet.updateTime(_columnName, timeValue);
-			break;
-			
-		case TIMESTAMP:
-// TODO: Probably a better way to handle date to timestamp conversion. Formatter? Get rid of getSQLDate() if possible.
-// 2022-05-31_BP: Probably best to cast to a LocalDateTime and return if that fails.
-//	Can convert to SQL Timestamp if successful.			
-			// CONVERT ANY 10 CHARACTER DATE (e.g., yyyy-mm-dd, mm/dd/yyyy to a date/time)
-			if (_updatedValue.length() == 10) {
-				Timestamp timestampValue = new Timestamp(SSCommon.getSQLDate(_updatedValue).getTime());
-				_rowSet.updateTimestamp(_columnName, timestampValue);
-			} else {
-			// Per ER email 2020-11-25, we weren't even trying to handle a legitimate timestamp
-				Timestamp timeStampValue = java.sql.Timestamp.valueOf(_updatedValue);
-				_rowSet.updateTimestamp(_columnName, timeStampValue);
+		final Object value = converter.fromText(_updatedValue);
+
+		if (value == ColumnConverter.INVALID) {
+			if (textUpdateNumeric.contains(jdbcType)) {
+				throw new NumberFormatException("For input string: \"" + _updatedValue + "\"");
 			}
-			break;
-			
-		case CHAR:
-		case VARCHAR:
-		case LONGVARCHAR:
-			_rowSet.updateString(_columnName, _updatedValue);
-			break;
-
-		default:
-			throw new IllegalStateException("switch cases out of sync");
-		} // end switch
+			// Per https://github.com/bpangburn/swingset/issues/141, the SSTextField date mask
+			// writes on every character pressed so an incomplete value is not an error.
+			logger.debug(() -> "[" + _columnName + "]. Not written, unable to convert: " + _updatedValue);
+			return;
+		}
+
+		updateColumnObject(_rowSet, _columnName, value);
+		SSDataNavigator.setColumnModified(_rowSet, _columnName, value);
 
 	} // end protected void updateColumnText(String _updatedValue, String _columnName)
 
+	/**
+	 * Writes a converted value to a column with the update method for its class.
+	 *
+	 * @param _rowSet RowSet on which to operate
+	 * @param _columnName name of the database column
+	 * @param _value value returned by a {@link ColumnConverter}
+	 * @throws SQLException thrown if a database error is encountered
+	 */
+	private static void updateColumnObject(final RowSet _rowSet, final String _columnName, final Object _value) throws SQLException {
+		if (_value instanceof Integer) {
+			_rowSet.updateInt(_columnName, (Integer) _value);
+		} else if (_value instanceof Long) {
+			_rowSet.updateLong(_columnName, (Long) _value);
+		} else if (_value instanceof Float) {
+			_rowSet.updateFloat(_columnName, (Float) _value);
+		} else if (_value instanceof Double) {
+			_rowSet.updateDouble(_columnName, (Double) _value);
+		} else if (_value instanceof BigDecimal) {
+			_rowSet.updateBigDecimal(_columnName, (BigDecimal) _value);
+		} else if (_value instanceof Boolean) {
+			_rowSet.updateBoolean(_columnName, (Boolean) _value);
+		} else if (_value instanceof Date) {
+			_rowSet.updateDate(_columnName, (Date) _value);
+		} else if (_value instanceof Time) {
+			_rowSet.updateTime(_columnName, (Time) _value);
+		} else if (_value instanceof Timestamp) {
+			_rowSet.updateTimestamp(_columnName, (Timestamp) _value);
+		} else if (_value instanceof String) {
+			_rowSet.updateString(_columnName, (String) _value);
+		} else {
+			_rowSet.updateObject(_columnName, _value);
+		}
+	}
+
 	/**
 	 * Convenience method for getting {@link JDBCType} enum from
 	 * {@link java.sql.Types}.
@@ -535,8 +620,20 @@ public class RowSetOps {
 	 * @return the corresponding JDBCType
 	 */
 	public static JDBCType getJDBCType(int sqlType) {
-		// TODO: can create a map of sqlType to JDBCType if performance issue
-		return JDBCType.valueOf(sqlType);
+		final JDBCType jdbcType = jdbcTypeByVendorNumber.get(sqlType);
+		// JDBCType.valueOf() THROWS THE IllegalArgumentException FOR AN UNKNOWN TYPE
+		return jdbcType != null ? jdbcType : JDBCType.valueOf(sqlType);
+	}
+
+	/**
+	 * java.sql.Types to JDBCType. JDBCType.valueOf(int) clones and scans the
+	 * enum values on every call.
+	 */
+	private static final Map<Integer, JDBCType> jdbcTypeByVendorNumber = new HashMap<>();
+	static {
+		for (final JDBCType jdbcType : JDBCType.values()) {
+			jdbcTypeByVendorNumber.put(jdbcType.getVendorTypeNumber(), jdbcType);
+		}
 	}
 
 	/**
@@ -0,0 +1,172 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import org.apache.logging.log4j.Logger;
+
+import com.nqadmin.swingset.utils.SSUtils;
+
+// RowSnapshot.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Immutable snapshot of some of the column values of the current row of a
+ * {@link ResultSet}: for each column its value, as returned by
+ * {@link ResultSet#getObject(int)}, and its text, as returned by
+ * {@link RowSetOps#getColumnText(javax.sql.RowSet, String)}.
+ * <p>
+ * The columns are read once each, in index order, when the snapshot is taken.
+ * This lets the components bound to the columns of a RowSet share a single
+ * read of the row instead of each reading its column; the snapshot does not
+ * follow later changes to the row.
+ * <p>
+ * Column indexes start from 1, as they do for {@link ResultSet}.
+ *
+ * @since 4.0.14
+ */
+public final class RowSnapshot {
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static final Logger logger = SSUtils.getLogger();
+
+	/**
+	 * Reads the columns of the current row of the ResultSet into a new
+	 * snapshot. A column that can not be read is left out of the snapshot.
+	 *
+	 * @param _resultSet     ResultSet positioned on the row to read
+	 * @param _columnIndexes indexes of the columns to read, in any order and
+	 *                       possibly repeated
+	 * @return snapshot of the columns
+	 */
+	public static RowSnapshot of(final ResultSet _resultSet, final int... _columnIndexes) {
+		return new RowSnapshot(_resultSet, _columnIndexes);
+	}
+
+	/**
+	 * Indexes of the columns read, ascending.
+	 */
+	private final int[] columnIndexes;
+
+	private final Object[] values;
+
+	private final String[] texts;
+
+	private RowSnapshot(final ResultSet _resultSet, final int[] _columnIndexes) {
+		final int[] sorted = _columnIndexes.clone();
+		Arrays.sort(sorted);
+
+		final int[] indexes = new int[sorted.length];
+		final Object[] columnValues = new Object[sorted.length];
+		final String[] columnTexts = new String[sorted.length];
+		int count = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			final int columnIndex = sorted[i];
+			if ((i > 0 && columnIndex == sorted[i - 1]) || columnIndex < 1) {
+				continue;
+			}
+			try {
+				final Object value = _resultSet.getObject(columnIndex);
+				columnTexts[count] = RowSetOps.getColumnText(_resultSet, columnIndex, value);
+				columnValues[count] = value;
+				indexes[count++] = columnIndex;
+			} catch (final SQLException se) {
+				// LEAVE THE COLUMN OUT, READING IT DIRECTLY REPORTS THE ERROR
+				logger.trace(() -> "Column " + columnIndex + " not added to row snapshot: " + se.getMessage());
+			}
+		}
+
+		columnIndexes = Arrays.copyOf(indexes, count);
+		values = Arrays.copyOf(columnValues, count);
+		texts = Arrays.copyOf(columnTexts, count);
+	}
+
+	/**
+	 * @param _columnIndex column index
+	 * @return array offset for the column, negative if the column is not in the
+	 *         snapshot
+	 */
+	private int offset(final int _columnIndex) {
+		return Arrays.binarySearch(columnIndexes, _columnIndex);
+	}
+
+	/**
+	 * @param _columnIndex column index
+	 * @return true if the column was read into the snapshot
+	 */
+	public boolean contains(final int _columnIndex) {
+		return offset(_columnIndex) >= 0;
+	}
+
+	/**
+	 * @param _columnIndex column index
+	 * @return value of the column, as returned by getObject()
+	 * @throws SQLException if the column is not in the snapshot
+	 */
+	public Object getObject(final int _columnIndex) throws SQLException {
+		return values[checkedOffset(_columnIndex)];
+	}
+
+	/**
+	 * @param _columnIndex column index
+	 * @return text of the column, as returned by RowSetOps.getColumnText()
+	 * @throws SQLException if the column is not in the snapshot
+	 */
+	public String getColumnText(final int _columnIndex) throws SQLException {
+		return texts[checkedOffset(_columnIndex)];
+	}
+
+	/**
+	 * @param _columnIndex column index
+	 * @return array offset for the column
+	 * @throws SQLException if the column is not in the snapshot
+	 */
+	private int checkedOffset(final int _columnIndex) throws SQLException {
+		final int offset = offset(_columnIndex);
+		if (offset < 0) {
+			throw new SQLException("Column not in row snapshot: " + _columnIndex);
+		}
+		return offset;
+	}
+}
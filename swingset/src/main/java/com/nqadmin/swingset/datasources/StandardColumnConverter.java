@@ -0,0 +1,592 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.JDBCType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+// StandardColumnConverter.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * The {@link ColumnConverter} for each column type supported by
+ * {@link RowSetOps#getColumnText(javax.sql.RowSet, String)} and
+ * {@link RowSetOps#updateColumnText(javax.sql.RowSet, String, String, boolean)}.
+ * <p>
+ * Numbers and booleans use the text of {@code String.valueOf()}, dates are
+ * displayed as "MM/dd/yyyy", times as "hh:mm:ss" and timestamps as their date.
+ * Dates are entered as "MM/dd/yyyy", times as "hh:mm:ss" and timestamps as
+ * "MM/dd/yyyy" or "yyyy-mm-dd hh:mm:ss[.f...]".
+ * <p>
+ * Text is validated before it is converted, so text that can not be converted
+ * is reported as {@link ColumnConverter#INVALID} without an exception being
+ * thrown. A value read with getObject() that is of the class JDBC maps the
+ * column type to is converted directly; for a value of any other class the
+ * column is read again with the getter for its type.
+ *
+ * @since 4.0.14
+ */
+public enum StandardColumnConverter implements ColumnConverter {
+
+	/** INTEGER, SMALLINT and TINYINT columns. */
+	INTEGER {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Integer || _value instanceof Short || _value instanceof Byte) {
+				return String.valueOf(((Number) _value).intValue());
+			}
+			return String.valueOf(_resultSet.getInt(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			final Long value = parseLong(_text, Integer.MIN_VALUE, Integer.MAX_VALUE);
+			return value == null ? INVALID : Integer.valueOf(value.intValue());
+		}
+	},
+
+	/** BIGINT columns. */
+	BIGINT {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Long || _value instanceof Integer) {
+				return String.valueOf(((Number) _value).longValue());
+			}
+			return String.valueOf(_resultSet.getLong(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			final Long value = parseLong(_text, Long.MIN_VALUE, Long.MAX_VALUE);
+			return value == null ? INVALID : value;
+		}
+	},
+
+	/** FLOAT columns. */
+	FLOAT {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Double || _value instanceof Float) {
+				return String.valueOf(((Number) _value).floatValue());
+			}
+			return String.valueOf(_resultSet.getFloat(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			if (!isFloatingPoint(_text)) {
+				return INVALID;
+			}
+			try {
+				return Float.valueOf(_text);
+			} catch (final NumberFormatException nfe) {
+				// ONLY REACHED FOR HEXADECIMAL TEXT, WHICH IS NOT VALIDATED
+				return INVALID;
+			}
+		}
+	},
+
+	/** DOUBLE and REAL columns. */
+	DOUBLE {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Double || _value instanceof Float) {
+				return String.valueOf(((Number) _value).doubleValue());
+			}
+			return String.valueOf(_resultSet.getDouble(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			if (!isFloatingPoint(_text)) {
+				return INVALID;
+			}
+			try {
+				return Double.valueOf(_text);
+			} catch (final NumberFormatException nfe) {
+				// ONLY REACHED FOR HEXADECIMAL TEXT, WHICH IS NOT VALIDATED
+				return INVALID;
+			}
+		}
+	},
+
+	/** NUMERIC and DECIMAL columns. */
+	DECIMAL {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof BigDecimal) {
+				return _value.toString();
+			}
+			return String.valueOf(_resultSet.getBigDecimal(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			if (!isDecimal(_text)) {
+				return INVALID;
+			}
+			try {
+				return new BigDecimal(_text);
+			} catch (final NumberFormatException nfe) {
+				// ONLY REACHED FOR AN EXPONENT THAT OVERFLOWS THE SCALE
+				return INVALID;
+			}
+		}
+	},
+
+	/** BOOLEAN and BIT columns. */
+	BOOLEAN {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Boolean) {
+				return _value.toString();
+			}
+			return String.valueOf(_resultSet.getBoolean(_columnIndex));
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			return Boolean.valueOf(_text);
+		}
+	},
+
+	/** DATE columns. */
+	DATE {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			return formatDate(_resultSet, _columnIndex, _value);
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			final Date date = parseDate(_text);
+			return date == null ? INVALID : date;
+		}
+	},
+
+	/** TIME columns. */
+	TIME {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof Time) {
+				return _value.toString();
+			}
+			if (_value instanceof LocalTime) {
+				return TIME_TEXT.format((LocalTime) _value);
+			}
+			final Time time = _resultSet.getTime(_columnIndex);
+			return time == null ? "" : time.toString();
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			// hh:mm:ss, CHECKED SO Time.valueOf() DOES NOT THROW
+			final int firstColon = _text.indexOf(':');
+			final int secondColon = _text.indexOf(':', firstColon + 1);
+			if (firstColon <= 0 || secondColon < 0 || parseDigits(_text, 0, firstColon, 9) < 0
+					|| parseDigits(_text, firstColon + 1, secondColon, 9) < 0
+					|| parseDigits(_text, secondColon + 1, _text.length(), 9) < 0) {
+				return INVALID;
+			}
+			return Time.valueOf(_text);
+		}
+	},
+
+	/** TIMESTAMP columns. */
+	TIMESTAMP {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			return formatDate(_resultSet, _columnIndex, _value);
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			if (_text.length() == 10) {
+				final Date date = parseDate(_text);
+				return date == null ? INVALID : new Timestamp(date.getTime());
+			}
+			return isTimestamp(_text.trim()) ? Timestamp.valueOf(_text) : INVALID;
+		}
+	},
+
+	/** CHAR, VARCHAR and LONGVARCHAR columns. */
+	TEXT {
+		@Override
+		public String toText(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+			if (_value instanceof String) {
+				return (String) _value;
+			}
+			final String str = _resultSet.getString(_columnIndex);
+			return str == null ? "" : str;
+		}
+
+		@Override
+		public Object fromText(final String _text) {
+			return _text;
+		}
+	};
+
+	/**
+	 * Dates as "MM/dd/yyyy". The year has as many digits as it needs.
+	 */
+	private static final DateTimeFormatter DATE_TEXT = DateTimeFormatter.ofPattern("MM/dd/y");
+
+	/**
+	 * LocalTimes as java.sql.Time.toString() formats them.
+	 */
+	private static final DateTimeFormatter TIME_TEXT = DateTimeFormatter.ofPattern("HH:mm:ss");
+
+	/**
+	 * Returns the standard converter for a column type.
+	 *
+	 * @param _jdbcType column type
+	 * @return the converter, null if the column type is not supported
+	 */
+	public static StandardColumnConverter forType(final JDBCType _jdbcType) {
+		if (_jdbcType == null) {
+			return null;
+		}
+		switch (_jdbcType) {
+		case INTEGER:
+		case SMALLINT:
+		case TINYINT:
+			return INTEGER;
+		case BIGINT:
+			return BIGINT;
+		case FLOAT:
+			return FLOAT;
+		case DOUBLE:
+		case REAL:
+			return DOUBLE;
+		case NUMERIC:
+		case DECIMAL:
+			return DECIMAL;
+		case BOOLEAN:
+		case BIT:
+			return BOOLEAN;
+		case DATE:
+			return DATE;
+		case TIME:
+			return TIME;
+		case TIMESTAMP:
+			return TIMESTAMP;
+		case CHAR:
+		case VARCHAR:
+		case LONGVARCHAR:
+			return TEXT;
+		default:
+			return null;
+		}
+	}
+
+	/**
+	 * Formats the date of a DATE or TIMESTAMP value as "MM/dd/yyyy".
+	 * <p>
+	 * A java.util.Date is formatted from its fields, as a GregorianCalendar
+	 * would, since dates before the Gregorian cutover have no LocalDate.
+	 */
+	@SuppressWarnings("deprecation")
+	private static String formatDate(final ResultSet _resultSet, final int _columnIndex, final Object _value) throws SQLException {
+		if (_value instanceof LocalDate) {
+			return DATE_TEXT.format((LocalDate) _value);
+		}
+		if (_value instanceof LocalDateTime) {
+			return DATE_TEXT.format((LocalDateTime) _value);
+		}
+		final java.util.Date date = _value instanceof java.util.Date ? (java.util.Date) _value
+				: _resultSet.getDate(_columnIndex);
+		if (date == null) {
+			return "";
+		}
+		final int month = date.getMonth() + 1;
+		final int day = date.getDate();
+		final StringBuilder text = new StringBuilder(10);
+		if (month < 10) {
+			text.append('0');
+		}
+		text.append(month).append('/');
+		if (day < 10) {
+			text.append('0');
+		}
+		text.append(day).append('/');
+		// YEAR OF ERA, AS Calendar.YEAR
+		final int year = date.getYear() + 1900;
+		return text.append(year > 0 ? year : 1 - year).toString();
+	}
+
+	/**
+	 * Parses "MM/dd/yyyy" with java.sql.Date.valueOf(), after checking the
+	 * text so that it does not throw. As for Date.valueOf() a day past the end
+	 * of the month rolls over into the next month.
+	 *
+	 * @return the date, null if the text is not valid
+	 */
+	private static Date parseDate(final String _text) {
+		if (_text.length() != 10 || _text.charAt(2) != '/' || _text.charAt(5) != '/') {
+			return null;
+		}
+		final int month = parseDigits(_text, 0, 2, 2);
+		final int day = parseDigits(_text, 3, 5, 2);
+		final int year = parseDigits(_text, 6, 10, 4);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+			return null;
+		}
+		return Date.valueOf(new StringBuilder(10).append(_text, 6, 10).append('-').append(_text, 0, 2).append('-')
+				.append(_text, 3, 5).toString());
+	}
+
+	/**
+	 * Checks text against the "yyyy-[m]m-[d]d hh:mm:ss[.f...]" format of
+	 * java.sql.Timestamp.valueOf().
+	 *
+	 * @param _text trimmed text to check
+	 * @return true if the text can be parsed
+	 */
+	private static boolean isTimestamp(final String _text) {
+		final int space = _text.indexOf(' ');
+		final int firstDash = _text.indexOf('-');
+		final int secondDash = _text.indexOf('-', firstDash + 1);
+		if (space < 0 || firstDash != 4 || secondDash < 0 || secondDash > space) {
+			return false;
+		}
+		final int year = parseDigits(_text, 0, firstDash, 4);
+		final int month = parseDigits(_text, firstDash + 1, secondDash, 2);
+		final int day = parseDigits(_text, secondDash + 1, space, 2);
+		if (year < 0 || month < 1 || month > 12 || day < 1 || day > 31) {
+			return false;
+		}
+
+		final int firstColon = _text.indexOf(':', space);
+		final int secondColon = firstColon < 0 ? -1 : _text.indexOf(':', firstColon + 1);
+		if (firstColon < 0 || secondColon < 0) {
+			return false;
+		}
+		final int period = _text.indexOf('.', secondColon);
+		return parseDigits(_text, space + 1, firstColon, 9) >= 0
+				&& parseDigits(_text, firstColon + 1, secondColon, 9) >= 0
+				&& parseDigits(_text, secondColon + 1, period < 0 ? _text.length() : period, 9) >= 0
+				&& (period < 0 || parseDigits(_text, period + 1, _text.length(), 9) >= 0);
+	}
+
+	/**
+	 * Parses a run of ASCII digits.
+	 *
+	 * @param _text      text to parse
+	 * @param _start     index of the first digit
+	 * @param _end       index after the last digit
+	 * @param _maxDigits maximum number of digits
+	 * @return the value, -1 if the run is empty, too long or not all digits
+	 */
+	private static int parseDigits(final String _text, final int _start, final int _end, final int _maxDigits) {
+		if (_start >= _end || _end - _start > _maxDigits) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = _start; i < _end; i++) {
+			final char c = _text.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + (c - '0');
+		}
+		return value;
+	}
+
+	/**
+	 * Parses a decimal integer the way Long.parseLong() does, but returns null
+	 * rather than throwing for text that is not valid or is out of range.
+	 *
+	 * @param _text text to parse
+	 * @param _min  smallest valid value
+	 * @param _max  largest valid value
+	 * @return the value, null if not valid
+	 */
+	static Long parseLong(final String _text, final long _min, final long _max) {
+		final int length = _text.length();
+		if (length == 0) {
+			return null;
+		}
+		int i = 0;
+		boolean negative = false;
+		final char first = _text.charAt(0);
+		if (first == '-' || first == '+') {
+			negative = first == '-';
+			if (length == 1) {
+				return null;
+			}
+			i++;
+		}
+		// ACCUMULATE NEGATIVELY, AS Long.parseLong() DOES, SO THAT Long.MIN_VALUE FITS
+		final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+		final long multiplyMin = limit / 10;
+		long result = 0;
+		for (; i < length; i++) {
+			final int digit = Character.digit(_text.charAt(i), 10);
+			if (digit < 0 || result < multiplyMin) {
+				return null;
+			}
+			result *= 10;
+			if (result < limit + digit) {
+				return null;
+			}
+			result -= digit;
+		}
+		final long value = negative ? result : -result;
+		return value < _min || value > _max ? null : Long.valueOf(value);
+	}
+
+	/**
+	 * Checks text against the grammar of Double.parseDouble() and
+	 * Float.parseFloat(). Hexadecimal text is accepted without being checked.
+	 *
+	 * @param _text text to check
+	 * @return true if the text can be parsed
+	 */
+	static boolean isFloatingPoint(final String _text) {
+		// parseDouble() IGNORES LEADING AND TRAILING WHITESPACE
+		int i = 0;
+		int end = _text.length();
+		while (i < end && _text.charAt(i) <= ' ') {
+			i++;
+		}
+		while (end > i && _text.charAt(end - 1) <= ' ') {
+			end--;
+		}
+		if (i < end && (_text.charAt(i) == '+' || _text.charAt(i) == '-')) {
+			i++;
+		}
+		if (_text.startsWith("NaN", i)) {
+			return i + 3 == end;
+		}
+		if (_text.startsWith("Infinity", i)) {
+			return i + 8 == end;
+		}
+		if (_text.startsWith("0x", i) || _text.startsWith("0X", i)) {
+			return true;
+		}
+		int digits = 0;
+		while (i < end && isAsciiDigit(_text.charAt(i))) {
+			i++;
+			digits++;
+		}
+		if (i < end && _text.charAt(i) == '.') {
+			i++;
+			while (i < end && isAsciiDigit(_text.charAt(i))) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0) {
+			return false;
+		}
+		if (i < end && (_text.charAt(i) == 'e' || _text.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (_text.charAt(i) == '+' || _text.charAt(i) == '-')) {
+				i++;
+			}
+			final int exponentStart = i;
+			while (i < end && isAsciiDigit(_text.charAt(i))) {
+				i++;
+			}
+			if (i == exponentStart) {
+				return false;
+			}
+		}
+		if (i < end && "fFdD".indexOf(_text.charAt(i)) >= 0) {
+			i++;
+		}
+		return i == end;
+	}
+
+	/**
+	 * Checks text against the grammar of new BigDecimal(String).
+	 *
+	 * @param _text text to check
+	 * @return true if the text can be parsed, unless the exponent overflows
+	 */
+	static boolean isDecimal(final String _text) {
+		final int end = _text.length();
+		int i = 0;
+		if (i < end && (_text.charAt(i) == '+' || _text.charAt(i) == '-')) {
+			i++;
+		}
+		int digits = 0;
+		while (i < end && Character.isDigit(_text.charAt(i))) {
+			i++;
+			digits++;
+		}
+		if (i < end && _text.charAt(i) == '.') {
+			i++;
+			while (i < end && Character.isDigit(_text.charAt(i))) {
+				i++;
+				digits++;
+			}
+		}
+		if (digits == 0) {
+			return false;
+		}
+		if (i < end && (_text.charAt(i) == 'e' || _text.charAt(i) == 'E')) {
+			i++;
+			if (i < end && (_text.charAt(i) == '+' || _text.charAt(i) == '-')) {
+				i++;
+			}
+			final int exponentStart = i;
+			while (i < end && Character.isDigit(_text.charAt(i))) {
+				i++;
+			}
+			if (i == exponentStart) {
+				return false;
+			}
+		}
+		return i == end;
+	}
+
+	private static boolean isAsciiDigit(final char _c) {
+		return _c >= '0' && _c <= '9';
+	}
+}
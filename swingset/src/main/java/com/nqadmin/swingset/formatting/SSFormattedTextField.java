@@ -249,27 +249,29 @@ public class SSFormattedTextField extends JFormattedTextField
 						// java.sql.Date, java.sql.Time, and java.sql.Timestamp are all subclasses of
 						// java.util.Date
 // TODO This may be where we want to check and deal with NULL				    	
+						Object value = currentValue;
+						boolean write = true;
 						if (currentValue instanceof java.util.Date) {
 							switch (getBoundColumnJDBCType()) {
 							case DATE:
-								getRowSet().updateObject(getBoundColumnName(),
-										new java.sql.Date(((java.util.Date) currentValue).getTime()));
+								value = new java.sql.Date(((java.util.Date) currentValue).getTime());
 								break;
 							case TIME:
-								getRowSet().updateObject(getBoundColumnName(),
-										new java.sql.Time(((java.util.Date) currentValue).getTime()));
+								value = new java.sql.Time(((java.util.Date) currentValue).getTime());
 								break;
 							case TIMESTAMP:
-								getRowSet().updateObject(getBoundColumnName(),
-										new java.sql.Timestamp(((java.util.Date) currentValue).getTime()));
+								value = new java.sql.Timestamp(((java.util.Date) currentValue).getTime());
 								break;
 							default:
+								write = false;
 								logger.warn(
 										getColumnForLog() + ": getValue() returned a java.sql.Date, but JDBCType is "
 												+ getBoundColumnJDBCType() + ". Unable to update column.");
 							}
-						} else {
-							getRowSet().updateObject(getBoundColumnName(), currentValue);
+						}
+						if (write) {
+							getRowSet().updateObject(getBoundColumnName(), value);
+							SSDataNavigator.setColumnModified(getRowSet(), getBoundColumnName(), value);
 						}
 
 					} catch (final SQLException _se) {
@@ -516,13 +518,12 @@ public class SSFormattedTextField extends JFormattedTextField
 		try {
 			// IF THERE ARE NO RECORDS OR THE COLUMN VALUE IS NULL SET THE FIELD TO NULL AND RETURN
 			//if ((getRowSet().getColumnCount()==0) || (getRowSet().getObject(getBoundColumnName()) == null)) {
-			if ( getRowSet().getRow() < 1 || RowSetOps.getColumnCount(getRowSet())==0 || getRowSet().getObject(getBoundColumnName()) == null ) {
+			if ( getRowSet().getRow() < 1 || RowSetOps.getColumnCount(getRowSet())==0 ) {
 				setValue(null);
 				return;
 			}
 
 			final JDBCType jdbcType = getBoundColumnJDBCType();
-			final String columnName = getBoundColumnName();
 
 			// SQL TO JAVA CONVERSIONS: https://stackoverflow.com/questions/5251140/map-database-type-to-concrete-java-class
 			//
@@ -530,7 +531,13 @@ public class SSFormattedTextField extends JFormattedTextField
 			// Based on: https://docs.oracle.com/javase/8/docs/api/java/sql/ResultSet.html#getObject-java.lang.String-
 			//
 			// getObject() will return the given column as a Java object. JDBC specification should contain the mappings for built in types.
-			newValue = getRowSet().getObject(columnName);
+			//
+			// The value is read once, from the row snapshot shared by the bound components when there is one.
+			newValue = ssCommon.getBoundColumnObject();
+			if (newValue == null) {
+				setValue(null);
+				return;
+			}
 
 			/* Java types we want to support for JFormattedTextFields:
 			 * 	String
@@ -39,8 +39,6 @@ package com.nqadmin.swingset.models;
 
 import java.awt.Component;
 import java.lang.ref.WeakReference;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.text.FieldPosition;
 import java.text.Format;
 import java.text.ParsePosition;
@@ -50,6 +48,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Locale;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -107,6 +106,11 @@ import static com.nqadmin.swingset.utils.SSUtils.objectID;
  * {@link ListItem0} interface. The contents are modified through
  * methods in this class.
  * <p>
+ * The elements of the SSListItems created by a model are stored by
+ * column, one array for each element position, and an SSListItem only
+ * refers to its row. A column of Long values, such as primary keys,
+ * is a {@code long[]}.
+ * <p>
  * This class is not parameterized; all SSListItem elements are Objects.
  * It is expected that sub-classes are parameterized and cast as needed.
  * <h2>Remodel</h2>
@@ -203,9 +207,43 @@ public abstract class AbstractComboBoxListSwingModel {
 	private final List<WeakReference<ItemElementSlice>> createdLists = new ArrayList<>();
 
 	/**
-	 * The constructor to create SSListItem
+	 * Hash indexes, element value to list item index, for the elements
+	 * enabled with {@link #setElemIndexed}. Empty when there are none.
+	 */
+	private ElemIndex[] elemIndexes = new ElemIndex[0];
+
+	/**
+	 * The element values of the list items created by this model,
+	 * see {@link ItemColumns}. Replaced by new columns when the item list
+	 * is cleared or when most of the rows are no longer in the item list.
 	 */
-	private Constructor<?> listItemConstructor;
+	private ItemColumns columns;
+
+	/** identifies columns of this model, without a reference to the model */
+	private final Object columnsOwner = new Object();
+
+	/** number of item list entries whose list item has a row in columns */
+	private int liveRows;
+
+	/** number of open Remodels */
+	private int remodelDepth;
+
+	/** a Remodel opened while this is true holds its events until closed */
+	private boolean coalesceEvents;
+
+	/** number of open Remodels holding events */
+	private int coalescingDepth;
+
+	/**
+	 * Adding more list items than this fires an interval added event
+	 * for each block of this many list items, unless events are held.
+	 * A listener may keep buffers as big as the biggest event it has seen;
+	 * GlazedLists does.
+	 */
+	private static final int ADD_BLOCK_SIZE = 4096;
+
+	/** the columns aren't compacted until this many rows are unused */
+	private static final int MIN_COMPACT_ROWS = 1024;
 
 	/**
 	 * Construct an empty list info container.
@@ -449,7 +487,7 @@ public abstract class AbstractComboBoxListSwingModel {
 		@Override
 		public Component getListCellRendererComponent( JList<?> list,
 				Object value, int index, boolean isSelected, boolean cellHasFocus) {
-			String stringValue = getListItemFormat().format(value);
+			String stringValue = getListItemFormat().formatText(value);
 			return super.getListCellRendererComponent(list, stringValue, index, isSelected, cellHasFocus);
 		}
 	}
@@ -469,7 +507,7 @@ public abstract class AbstractComboBoxListSwingModel {
 		@Override
 		public Component getListCellRendererComponent( JList list,
 				Object value, int index, boolean isSelected, boolean cellHasFocus) {
-			String stringValue = getListItemFormat().format(value);
+			String stringValue = getListItemFormat().formatText(value);
 			return super.getListCellRendererComponent(list, stringValue, index, isSelected, cellHasFocus);
 		}
 	}
@@ -527,19 +565,126 @@ public abstract class AbstractComboBoxListSwingModel {
 		private final ComboBoxListFireProxy fire = new ComboBoxListFireProxy() {
 			@Override
 			public void doFireContentsChanged(Object source, int index0, int index1) {
-				fireContentsChanged(source, index0, index1);
+				if (coalescingDepth > 0) {
+					hold(source, ListDataEvent.CONTENTS_CHANGED, index0, index1);
+				} else {
+					fireContentsChanged(source, index0, index1);
+				}
 			}
 			
 			@Override
 			public void doFireIntervalAdded(Object source, int index0, int index1) {
-				fireIntervalAdded(source, index0, index1);
+				if (coalescingDepth > 0) {
+					hold(source, ListDataEvent.INTERVAL_ADDED, index0, index1);
+				} else {
+					fireIntervalAdded(source, index0, index1);
+				}
 			}
 			
 			@Override
 			public void doFireIntervalRemoved(Object source, int index0, int index1) {
-				fireIntervalRemoved(source, index0, index1);
+				if (coalescingDepth > 0) {
+					hold(source, ListDataEvent.INTERVAL_REMOVED, index0, index1);
+				} else {
+					fireIntervalRemoved(source, index0, index1);
+				}
 			}
 		};
+
+		//
+		// Held events, see setCoalesceEvents
+		//
+
+		/** held events in order, each is {type, index0, index1} */
+		private final List<int[]> heldEvents = new ArrayList<>();
+		private Object heldSource;
+		/** a {@code contentsChanged(-1,-1)}, the selection, is held */
+		private boolean heldSelectionChange;
+
+		private void hold(Object _source, int _type, int _index0, int _index1) {
+			if (heldSource == null) {
+				heldSource = _source;
+			}
+			if (_index0 < 0) {
+				heldSelectionChange = true;
+				return;
+			}
+			int lo = Math.min(_index0, _index1);
+			int hi = Math.max(_index0, _index1);
+			if (heldEvents.isEmpty() || !merge(heldEvents.get(heldEvents.size() - 1), _type, lo, hi)) {
+				heldEvents.add(new int[] {_type, lo, hi});
+			}
+		}
+
+		/**
+		 * Merge an event into the previous one when the two are
+		 * equivalent to a single interval.
+		 * @return true if merged
+		 */
+		private boolean merge(int[] _last, int _type, int _lo, int _hi) {
+			int n = _hi - _lo + 1;
+			switch (_type) {
+			case ListDataEvent.INTERVAL_ADDED:
+				// INSERTED IN, OR NEXT TO, THE PREVIOUS INSERTION
+				if (_last[0] == _type && _lo >= _last[1] && _lo <= _last[2] + 1) {
+					_last[2] += n;
+					return true;
+				}
+				return false;
+			case ListDataEvent.INTERVAL_REMOVED:
+				// REMOVED AT, OR JUST BEFORE, THE PREVIOUS REMOVAL
+				if (_last[0] == _type) {
+					if (_lo == _last[1]) {
+						_last[2] += n;
+						return true;
+					}
+					if (_hi + 1 == _last[1]) {
+						_last[1] = _lo;
+						return true;
+					}
+				}
+				return false;
+			default:
+				// A CHANGE TO AN ITEM JUST INSERTED IS PART OF THE INSERTION
+				if (_last[0] == ListDataEvent.INTERVAL_ADDED) {
+					return _lo >= _last[1] && _hi <= _last[2];
+				}
+				if (_last[0] == _type && _lo <= _last[2] + 1 && _hi >= _last[1] - 1) {
+					_last[1] = Math.min(_last[1], _lo);
+					_last[2] = Math.max(_last[2], _hi);
+					return true;
+				}
+				return false;
+			}
+		}
+
+		private void fireHeld() {
+			if (heldSource == null) {
+				return;
+			}
+			Object source = heldSource;
+			List<int[]> events = new ArrayList<>(heldEvents);
+			boolean selectionChange = heldSelectionChange;
+			heldSource = null;
+			heldEvents.clear();
+			heldSelectionChange = false;
+			for (int[] event : events) {
+				switch (event[0]) {
+				case ListDataEvent.INTERVAL_ADDED:
+					fireIntervalAdded(source, event[1], event[2]);
+					break;
+				case ListDataEvent.INTERVAL_REMOVED:
+					fireIntervalRemoved(source, event[1], event[2]);
+					break;
+				default:
+					fireContentsChanged(source, event[1], event[2]);
+					break;
+				}
+			}
+			if (selectionChange) {
+				fireContentsChanged(source, -1, -1);
+			}
+		}
 		
 		//
 		// ListModel
@@ -740,23 +885,8 @@ public abstract class AbstractComboBoxListSwingModel {
 			throw new IllegalArgumentException(
 					"Only [1:30] items in a ListItem handled, not " + nElems);
 		}
-		validElemsMask = 0;
-		Class<?> clazz;
-		switch (nElems) {
-		case 1:
-			clazz = ListItem1.class; break;
-		case 2:
-			clazz = ListItem2.class; break;
-		case 3:
-			clazz = ListItem3.class; break;
-		default:
-			clazz = ListItemAsArray.class; break;
-		}
-		try {
-			listItemConstructor = clazz.getConstructor((new Object[0]).getClass());
-		} catch (NoSuchMethodException|SecurityException ex) {
-			throw new RuntimeException("SSAbstractListInfo impossible", ex);
-		}
+		columns = new ItemColumns(nElems, columnsOwner, 0);
+		liveRows = 0;
 		validElemsMask = (1 << nElems) - 1;
 
 		// Validate or invalidate any existing slices.
@@ -871,12 +1001,7 @@ public abstract class AbstractComboBoxListSwingModel {
 			throw new IllegalArgumentException(
 					"Only " + itemNumElems + " elements accpeted in a ListItem, not " + elems.length);
 		}
-		try {
-			return (SSListItem) listItemConstructor.newInstance((Object)elems);
-		} catch (InstantiationException|IllegalAccessException
-				|InvocationTargetException ex) {
-			throw new RuntimeException("SSAbstractListInfo impossible", ex);
-		}
+		return new ColumnListItem(columns, columns.append(elems));
 	}
 
 	/**
@@ -912,8 +1037,13 @@ public abstract class AbstractComboBoxListSwingModel {
 
 	private boolean add(SSListItem _listItem) {
 		int addAt = itemList.size();
+		_listItem = adopt(_listItem);
 		boolean isChanged = itemList.add(_listItem);
 		if (isChanged) {
+			countRow(_listItem, 1);
+			for (ElemIndex elemIndex : elemIndexes) {
+				elemIndex.added(addAt, _listItem, addAt + 1);
+			}
             modelProxy.fire.doFireIntervalAdded(this, addAt, addAt);
 			comboAdjustSelectedAfterAdd(_listItem);
 		}
@@ -921,16 +1051,33 @@ public abstract class AbstractComboBoxListSwingModel {
 	}
 
 	private void add(int _index, SSListItem _listItem) {
+		_listItem = adopt(_listItem);
 		itemList.add(_index, _listItem);
+		countRow(_listItem, 1);
+		for (ElemIndex elemIndex : elemIndexes) {
+			elemIndex.added(_index, _listItem, itemList.size());
+		}
 		modelProxy.fire.doFireIntervalAdded(this, _index, _index);
 		comboAdjustSelectedAfterAdd(_listItem);
 	}
 
 	private boolean internalAddAll(Collection<? extends SSListItem> newItems) {
+		if (newItems.size() > ADD_BLOCK_SIZE && coalescingDepth == 0) {
+			List<? extends SSListItem> l = asList(newItems);
+			for (int i = 0; i < l.size(); i += ADD_BLOCK_SIZE) {
+				internalAddAll(l.subList(i, Math.min(i + ADD_BLOCK_SIZE, l.size())));
+			}
+			return true;
+		}
 		// first new item goes here
 		int oldSize = itemList.size();
+		newItems = adoptAll(newItems);
 		boolean isChanged = itemList.addAll(newItems);
 		if (isChanged) {
+			countRows(newItems);
+			for (ElemIndex elemIndex : elemIndexes) {
+				elemIndex.addedAll(oldSize, itemList.size() - oldSize, itemList.size());
+			}
 			modelProxy.fire.doFireIntervalAdded(this, oldSize, itemList.size()-1);
 			comboAdjustSelectedAfterAdd(oldSize);
 		}
@@ -938,17 +1085,39 @@ public abstract class AbstractComboBoxListSwingModel {
 	}
 
 	private boolean internalAddAll(int index, Collection<? extends SSListItem> newItems) {
+		if (newItems.size() > ADD_BLOCK_SIZE && coalescingDepth == 0) {
+			List<? extends SSListItem> l = asList(newItems);
+			for (int i = 0; i < l.size(); i += ADD_BLOCK_SIZE) {
+				internalAddAll(index + i, l.subList(i, Math.min(i + ADD_BLOCK_SIZE, l.size())));
+			}
+			return true;
+		}
+		newItems = adoptAll(newItems);
 		boolean isChanged = itemList.addAll(index, newItems);
 		int oldSize = itemList.size();
 		if (isChanged) {
+			countRows(newItems);
+			for (ElemIndex elemIndex : elemIndexes) {
+				elemIndex.addedAll(index, newItems.size(), itemList.size());
+			}
 			modelProxy.fire.doFireIntervalAdded(this, index, index + newItems.size() - 1);
 			comboAdjustSelectedAfterAdd(oldSize);
 		}
 		return isChanged;
 	}
 
+	private static List<? extends SSListItem> asList(Collection<? extends SSListItem> _items) {
+		return _items instanceof List ? (List<? extends SSListItem>) _items : new ArrayList<>(_items);
+	}
+
 	private SSListItem set(int _index, SSListItem _newItem) {
+		_newItem = adopt(_newItem);
 		SSListItem oldVal = itemList.set(_index, _newItem);
+		countRow(oldVal, -1);
+		countRow(_newItem, 1);
+		for (ElemIndex elemIndex : elemIndexes) {
+			elemIndex.replaced(_index, oldVal, _newItem);
+		}
 		modelProxy.fire.doFireContentsChanged(this, _index, _index);
 		return oldVal;
 	}
@@ -959,6 +1128,12 @@ public abstract class AbstractComboBoxListSwingModel {
 			int firstIndex = 0;
 			int lastIndex = itemList.size() - 1;
 			itemList.clear();
+			// THE OLD ROWS GO WHEN NOTHING ELSE USES THEM
+			columns = new ItemColumns(itemNumElems, columnsOwner, 0);
+			liveRows = 0;
+			for (ElemIndex elemIndex : elemIndexes) {
+				elemIndex.reset();
+			}
             modelProxy.fire.doFireIntervalRemoved(this, firstIndex, lastIndex);
 		}
 	}
@@ -966,6 +1141,10 @@ public abstract class AbstractComboBoxListSwingModel {
 	private SSListItem remove(int _index) {
 		comboAdjustSelectedForRemove(_index);
 		SSListItem item = itemList.remove(_index);
+		countRow(item, -1);
+		for (ElemIndex elemIndex : elemIndexes) {
+			elemIndex.removed(_index, item, itemList.size());
+		}
         modelProxy.fire.doFireIntervalRemoved(this, _index, _index);
 		return item;
 	}
@@ -993,7 +1172,7 @@ public abstract class AbstractComboBoxListSwingModel {
 	// of a listItem, so the listItem's identity, via '==',
 	// doesn't change. Best way to insure that changes are
 	// correctly detected is to make a listItem immutable.
-	// So make a copy/clone of the listItem.
+	// So create a new listItem, a new row in the columns.
 	//
 	// I think this behavior can be conditional on whether or not
 	// glazed is used or if this is actually installed as a model.
@@ -1001,14 +1180,22 @@ public abstract class AbstractComboBoxListSwingModel {
 	// Don't want to fire everything changed since that's
 	// probably be a big performance loss in most cases.
 	private Object setElem(int _listItemIndex, int _elemIndex, Object _newElem) {
-		ListItemWrite0 listItem = (ListItemWrite0) itemList.get(_listItemIndex);
-		try {
-			listItem = (ListItemWrite0) listItem.clone();
-		} catch (CloneNotSupportedException ex) {
-		}
-		Object oldElem = listItem.getElem(_elemIndex);
-		listItem.setElem(_elemIndex, _newElem);
+		SSListItem oldItem = itemList.get(_listItemIndex);
+		Object[] elems = new Object[itemNumElems];
+		for (int i = 0; i < elems.length; i++) {
+			elems[i] = getElem(oldItem, i);
+		}
+		Object oldElem = elems[_elemIndex];
+		elems[_elemIndex] = _newElem;
+		SSListItem listItem = createListItem(elems);
 		itemList.set(_listItemIndex, listItem);
+		countRow(oldItem, -1);
+		countRow(listItem, 1);
+		for (ElemIndex elemIndex : elemIndexes) {
+			if (elemIndex.elemIndex == _elemIndex) {
+				elemIndex.replaced(_listItemIndex, oldItem, listItem);
+			}
+		}
 		modelProxy.fire.doFireContentsChanged(this, _listItemIndex, _listItemIndex);
 		return oldElem;
 	}
@@ -1020,12 +1207,202 @@ public abstract class AbstractComboBoxListSwingModel {
 	 */
 	SSListItem getClone(SSListItem _listItem) {
 		try {
-			return (SSListItem) ((ListItemWrite0)_listItem).clone();
+			return (SSListItem) ((ListItem0)_listItem).clone();
 		} catch (CloneNotSupportedException ex) {
 		}
 		return null;
 	}
 
+	/**
+	 * Get the text used to filter the specified list item,
+	 * its formatted text in lower case.
+	 * The text is computed once for each list item and kept with the
+	 * list item's row, see {@link ItemColumns}, until the list item format
+	 * changes; filtering a large list on each keystroke doesn't re-format
+	 * every list item.
+	 * @param _listItem list item in this model
+	 * @return lower case formatted text of the list item
+	 * @since 4.0.14
+	 */
+	protected String getFilterKey(SSListItem _listItem) {
+		SSListItemFormat format = listItemFormatDelegate.listItemFormat;
+		Object derivedWith = format != null ? format : listItemFormatDelegate;
+		int changeCount = format != null ? format.getChangeCount() : 0;
+		String key = getKeptText(_listItem, FILTER_KEY, derivedWith, changeCount);
+		if (key == null) {
+			key = (format != null ? format.formatText(_listItem)
+					: listItemFormatDelegate.format(_listItem)).toLowerCase(Locale.ROOT);
+			keepText(_listItem, FILTER_KEY, derivedWith, changeCount, key);
+		}
+		return key;
+	}
+
+	//////////////////////////////////////////////////////////////////////////
+	//
+	// Rows of the list items, see ItemColumns
+	//
+
+	/**
+	 * @return true if the list item has a row in the current columns
+	 */
+	private boolean hasCurrentRow(SSListItem _listItem) {
+		return _listItem instanceof ColumnListItem
+				&& ((ColumnListItem) _listItem).columns == columns;
+	}
+
+	private void countRow(SSListItem _listItem, int _delta) {
+		if (hasCurrentRow(_listItem)) {
+			liveRows += _delta;
+		}
+	}
+
+	private void countRows(Collection<? extends SSListItem> _listItems) {
+		for (SSListItem listItem : _listItems) {
+			countRow(listItem, 1);
+		}
+	}
+
+	/**
+	 * A list item of this model with a row in columns that have been
+	 * replaced, for example a list item that was removed before the item
+	 * list was cleared, is replaced by a new list item with a copy of its
+	 * row in the current columns when it's put in the item list.
+	 * The list item itself is not changed, it may be shared, for example
+	 * by an {@link com.nqadmin.swingset.utils.SSLookupCache}.
+	 * The replaced columns go once no list item outside the item list
+	 * uses them.
+	 * @param _listItem list item going into the item list
+	 * @return the list item to put in the item list
+	 */
+	private SSListItem adopt(SSListItem _listItem) {
+		if (_listItem instanceof ColumnListItem) {
+			ColumnListItem item = (ColumnListItem) _listItem;
+			if (item.columns != columns && item.columns.owner == columnsOwner
+					&& item.columns.numElems == itemNumElems) {
+				return new ColumnListItem(columns, columns.copyRow(item.columns, item.row));
+			}
+		}
+		return _listItem;
+	}
+
+	/**
+	 * @param _listItems list items going into the item list
+	 * @return the list items to put in the item list, see {@link #adopt}
+	 */
+	private Collection<? extends SSListItem> adoptAll(Collection<? extends SSListItem> _listItems) {
+		List<SSListItem> adopted = null;
+		int index = 0;
+		for (SSListItem listItem : _listItems) {
+			SSListItem adoptedItem = adopt(listItem);
+			if (adoptedItem != listItem && adopted == null) {
+				adopted = new ArrayList<>(_listItems);
+			}
+			if (adopted != null) {
+				adopted.set(index, adoptedItem);
+			}
+			index++;
+		}
+		return adopted != null ? adopted : _listItems;
+	}
+
+	/**
+	 * Removed and replaced list items, and list items created but never
+	 * added, leave their rows in the columns. When most rows are unused,
+	 * the list items are replaced by copies in new columns; the old
+	 * columns stay while a list item outside the item list uses them.
+	 * The copies are equal to the list items they replace, so only the
+	 * item list sees the change; list data listeners are not notified.
+	 * This is done when the outermost Remodel is closed.
+	 */
+	private void compactColumns() {
+		if (columns.size() - liveRows <= Math.max(liveRows, MIN_COMPACT_ROWS)) {
+			return;
+		}
+		columns = new ItemColumns(itemNumElems, columnsOwner, liveRows);
+		liveRows = 0;
+		for (int i = 0; i < itemList.size(); i++) {
+			SSListItem listItem = itemList.get(i);
+			SSListItem adopted = adopt(listItem);
+			if (adopted != listItem) {
+				itemList.set(i, adopted);
+			}
+			countRow(adopted, 1);
+		}
+	}
+
+	/** kinds of text kept with a row, see {@link #getKeptText} */
+	static final int FILTER_KEY = 0;
+	static final int FORMATTED_TEXT = 1;
+
+	/**
+	 * Get text kept with the row of a list item.
+	 * @param _listItem the list item
+	 * @param _kind kind of text
+	 * @param _derivedWith what the text is derived with, such as a format
+	 * @param _changeCount change count of what the text is derived with
+	 * @return the text, null if none is kept for the list item
+	 *		or the kept text was derived some other way
+	 */
+	static String getKeptText(SSListItem _listItem, int _kind, Object _derivedWith, int _changeCount) {
+		if (!(_listItem instanceof ColumnListItem)) {
+			return null;
+		}
+		ColumnListItem item = (ColumnListItem) _listItem;
+		return item.columns.getText(_kind, item.row, _derivedWith, _changeCount);
+	}
+
+	/**
+	 * Keep text with the row of a list item. Text of the same kind
+	 * derived with other formats is kept as well, up to a few formats;
+	 * text derived with an older state of the same format is discarded.
+	 * Nothing is kept for a list item that isn't stored in columns.
+	 * @param _listItem the list item
+	 * @param _kind kind of text
+	 * @param _derivedWith what the text is derived with, such as a format
+	 * @param _changeCount change count of what the text is derived with
+	 * @param _text the text
+	 */
+	static void keepText(SSListItem _listItem, int _kind, Object _derivedWith, int _changeCount, String _text) {
+		if (_listItem instanceof ColumnListItem) {
+			ColumnListItem item = (ColumnListItem) _listItem;
+			item.columns.keepText(_kind, item.row, _derivedWith, _changeCount, _text);
+		}
+	}
+
+	/**
+	 * @return the hash of an element, the same as {@code Objects.hashCode}
+	 */
+	private static int elemHash(SSListItem _listItem, int _elemIndex) {
+		if (_listItem instanceof ColumnListItem) {
+			ColumnListItem item = (ColumnListItem) _listItem;
+			return item.columns.hash(_elemIndex, item.row);
+		}
+		return Objects.hashCode(getElem(_listItem, _elemIndex));
+	}
+
+	/**
+	 * @return true if the element equals the specified object
+	 */
+	private static boolean elemEquals(SSListItem _listItem, int _elemIndex, Object _elem) {
+		if (_listItem instanceof ColumnListItem) {
+			ColumnListItem item = (ColumnListItem) _listItem;
+			return item.columns.valueEquals(_elemIndex, item.row, _elem);
+		}
+		return Objects.equals(getElem(_listItem, _elemIndex), _elem);
+	}
+
+	/**
+	 * @return true if the two list items have equal elements at the position
+	 */
+	private static boolean sameElem(SSListItem _listItem1, SSListItem _listItem2, int _elemIndex) {
+		if (_listItem1 instanceof ColumnListItem && _listItem2 instanceof ColumnListItem) {
+			ColumnListItem item1 = (ColumnListItem) _listItem1;
+			ColumnListItem item2 = (ColumnListItem) _listItem2;
+			return ItemColumns.sameValue(_elemIndex, item1.columns, item1.row, item2.columns, item2.row);
+		}
+		return Objects.equals(getElem(_listItem1, _elemIndex), getElem(_listItem2, _elemIndex));
+	}
+
 	//////////////////////////////////////////////////////////////////////////
 	//
 	// Slices
@@ -1060,6 +1437,18 @@ public abstract class AbstractComboBoxListSwingModel {
 			return itemList.size();
 		}
 
+		@Override
+		public int indexOf(Object o) {
+			checkValid();
+			ElemIndex index = getElemIndex(elemIndex);
+			return index != null ? index.indexOf(o) : super.indexOf(o);
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return indexOf(o) >= 0;
+		}
+
 		// THIS IS A NICE IDEA, IT DOES THROW EVENTS. BUT TOO EASY
 		// TO CIRCUMVENT LOCKING WHILE MODIFYING
 		@Override
@@ -1081,6 +1470,295 @@ public abstract class AbstractComboBoxListSwingModel {
 		}
 	}
 
+	//////////////////////////////////////////////////////////////////////////
+	//
+	// Element indexes
+	//
+
+	/**
+	 * Hash index from an element value to the index of the first list item
+	 * holding that value; the equivalent of {@code slice.indexOf(value)}
+	 * without the linear scan.
+	 * <p>
+	 * The index is an open addressing table of list positions only; a
+	 * value is compared with the element of the list item at the stored
+	 * position, in its column without boxing, so the index costs a few
+	 * bytes per list item rather than a map entry, a boxed position and
+	 * a key reference.
+	 * <p>
+	 * The common modifications, append, insert/remove at either end, set,
+	 * and clear, are applied incrementally. Anything else, such as an insert
+	 * in the middle, marks the index stale and it is rebuilt by the next
+	 * lookup. Since occurrences aren't counted, removing the first
+	 * occurrence of a value also marks the index stale if any value has
+	 * been seen more than once. Stored positions are relative to
+	 * {@code offset} so an insert or remove at the front of the list doesn't
+	 * touch every entry.
+	 */
+	private class ElemIndex {
+		/** a free slot in the table */
+		private static final int FREE = Integer.MIN_VALUE;
+
+		private final int elemIndex;
+		/** stored positions, linear probing; length is a power of 2 */
+		private int[] table;
+		/** number of used slots */
+		private int count;
+		/** list item index is stored position plus offset */
+		private int offset;
+		/** some value has been added more than once */
+		private boolean duplicates;
+		private boolean stale;
+
+		ElemIndex(int _elemIndex) {
+			elemIndex = _elemIndex;
+			stale = true;
+		}
+
+		void reset() {
+			table = null;
+			count = 0;
+			offset = 0;
+			duplicates = false;
+			stale = false;
+		}
+
+		private void rebuild() {
+			reset();
+			allocate(itemList.size());
+			for (int i = 0; i < itemList.size(); i++) {
+				insert(i, itemList.get(i));
+			}
+		}
+
+		/** Allocate an empty table that holds the specified number of values. */
+		private void allocate(int _size) {
+			int capacity = 16;
+			while (capacity < _size * 2) {
+				capacity <<= 1;
+			}
+			table = new int[capacity];
+			Arrays.fill(table, FREE);
+		}
+
+		private int slot(int _hash) {
+			int h = _hash * 0x9E3779B9;
+			return (h ^ (h >>> 16)) & (table.length - 1);
+		}
+
+		private int slot(SSListItem _listItem) {
+			return slot(elemHash(_listItem, elemIndex));
+		}
+
+		private SSListItem itemAt(int _stored) {
+			return itemList.get(_stored + offset);
+		}
+
+		private void insert(int _index, SSListItem _listItem) {
+			if (table == null || (count + 1) * 2 > table.length) {
+				grow();
+			}
+			int mask = table.length - 1;
+			for (int i = slot(_listItem); ; i = (i + 1) & mask) {
+				int stored = table[i];
+				if (stored == FREE) {
+					table[i] = _index - offset;
+					count++;
+					return;
+				}
+				if (sameElem(itemAt(stored), _listItem, elemIndex)) {
+					duplicates = true;
+					if (_index < stored + offset) {
+						table[i] = _index - offset;
+					}
+					return;
+				}
+			}
+		}
+
+		private void grow() {
+			int[] old = table;
+			allocate(count + 1);
+			if (old == null) {
+				return;
+			}
+			int mask = table.length - 1;
+			for (int stored : old) {
+				if (stored != FREE) {
+					int i = slot(itemAt(stored));
+					while (table[i] != FREE) {
+						i = (i + 1) & mask;
+					}
+					table[i] = stored;
+				}
+			}
+		}
+
+		/** @return slot of the list item at the list index, -1 if not there */
+		private int find(int _index, SSListItem _listItem) {
+			if (table == null) {
+				return -1;
+			}
+			int mask = table.length - 1;
+			for (int i = slot(_listItem); table[i] != FREE; i = (i + 1) & mask) {
+				if (table[i] + offset == _index) {
+					return i;
+				}
+			}
+			return -1;
+		}
+
+		/** Free a slot, shifting back any following entries that probed past it. */
+		private void delete(int _slot) {
+			int mask = table.length - 1;
+			int hole = _slot;
+			table[hole] = FREE;
+			count--;
+			for (int i = (hole + 1) & mask; table[i] != FREE; i = (i + 1) & mask) {
+				int home = slot(itemAt(table[i]));
+				// MOVE UNLESS HOME IS CYCLICALLY IN (hole, i]
+				if (hole <= i ? (home <= hole || home > i) : (home <= hole && home > i)) {
+					table[hole] = table[i];
+					table[i] = FREE;
+					hole = i;
+				}
+			}
+		}
+
+		int indexOf(Object _elem) {
+			if (stale) {
+				rebuild();
+			}
+			if (table == null) {
+				return -1;
+			}
+			int mask = table.length - 1;
+			for (int i = slot(Objects.hashCode(_elem)); table[i] != FREE; i = (i + 1) & mask) {
+				if (elemEquals(itemAt(table[i]), elemIndex, _elem)) {
+					return table[i] + offset;
+				}
+			}
+			return -1;
+		}
+
+		void added(int _index, SSListItem _listItem, int _newSize) {
+			if (stale) {
+				return;
+			}
+			if (_index == _newSize - 1) {
+				insert(_index, _listItem);
+			} else if (_index == 0) {
+				offset++;
+				insert(0, _listItem);
+			} else {
+				stale = true;
+			}
+		}
+
+		void addedAll(int _index, int _count, int _newSize) {
+			if (stale) {
+				return;
+			}
+			// ONLY APPENDS ARE INCREMENTAL
+			if (_index + _count != _newSize) {
+				stale = true;
+				return;
+			}
+			for (int i = _index; i < _newSize; i++) {
+				insert(i, itemList.get(i));
+			}
+		}
+
+		void removed(int _index, SSListItem _listItem, int _newSize) {
+			if (stale) {
+				return;
+			}
+			if (_index != _newSize && _index != 0) {
+				stale = true;
+				return;
+			}
+			// FIND BEFORE ADJUSTING OFFSET, DELETE AFTER
+			int i = find(_index, _listItem);
+			if (_index == 0) {
+				// IF THERE ARE DUPLICATES, THE NEXT ONE IS UNKNOWN
+				if (i >= 0 && duplicates && _newSize > 0) {
+					stale = true;
+					return;
+				}
+				offset--;
+			}
+			if (i >= 0) {
+				delete(i);
+			}
+		}
+
+		void replaced(int _index, SSListItem _oldItem, SSListItem _newItem) {
+			if (stale || sameElem(_oldItem, _newItem, elemIndex)) {
+				return;
+			}
+			int i = find(_index, _oldItem);
+			if (i >= 0) {
+				if (duplicates) {
+					stale = true;
+					return;
+				}
+				delete(i);
+			}
+			insert(_index, _newItem);
+		}
+	}
+
+	/**
+	 * Get the index for the specified element position, if any.
+	 * @param _elemIndex element position in SSListItem
+	 * @return the index or null if that element is not indexed
+	 */
+	private ElemIndex getElemIndex(int _elemIndex) {
+		for (ElemIndex elemIndex : elemIndexes) {
+			if (elemIndex.elemIndex == _elemIndex) {
+				return elemIndex;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Keep, or stop keeping, a hash index of the values of an SSListItem
+	 * element. With an index, {@code indexOf} and {@code contains}
+	 * of the corresponding element slice, see {@link #createElementSlice},
+	 * are constant time rather than a scan of the item list.
+	 * The index is maintained as the item list is modified; element
+	 * values should have consistent {@code equals} and {@code hashCode}.
+	 * 
+	 * @param _elemIndex position in {@code SSListItem} of elements
+	 * @param _indexed true to keep an index for the element
+	 * @since 4.0.14
+	 */
+	protected void setElemIndexed(int _elemIndex, boolean _indexed) {
+		if (_elemIndex < 0) {
+			throw new IllegalArgumentException("elemIndex must be positive");
+		}
+		if (_indexed == (getElemIndex(_elemIndex) != null)) {
+			return;
+		}
+		List<ElemIndex> l = new ArrayList<>(Arrays.asList(elemIndexes));
+		if (_indexed) {
+			l.add(new ElemIndex(_elemIndex));
+		} else {
+			l.remove(getElemIndex(_elemIndex));
+		}
+		elemIndexes = l.toArray(new ElemIndex[l.size()]);
+	}
+
+	/**
+	 * @param _elemIndex position in {@code SSListItem} of elements
+	 * @return true if there is a hash index for the element
+	 * @since 4.0.14
+	 */
+	protected boolean isElemIndexed(int _elemIndex) {
+		return getElemIndex(_elemIndex) != null;
+	}
+
 	/**
 	 * Create a list slice of the item list.There is no checking on the
  element index.<p>
@@ -1172,6 +1850,72 @@ public abstract class AbstractComboBoxListSwingModel {
 	 */
 	protected abstract void remodelReleaseWriteLock(Remodel remodel);
 
+	/**
+	 * This is invoked during construction of a Remodel that holds
+	 * its events, after the write lock is taken.
+	 * A model whose item list fires its own events, such as a GlazedLists
+	 * EventList, can start collecting them here.
+	 * The default does nothing.
+	 * @see #setCoalesceEvents
+	 * @since 4.0.14
+	 */
+	protected void remodelBeginCoalescing() {
+	}
+
+	/**
+	 * This is invoked during close of a Remodel that holds its events,
+	 * before the write lock is released.
+	 * The default does nothing.
+	 * @see #setCoalesceEvents
+	 * @since 4.0.14
+	 */
+	protected void remodelEndCoalescing() {
+	}
+
+	/**
+	 * When true, list data events caused by the changes made with
+	 * a Remodel are held until the Remodel is closed, then fired as
+	 * the fewest equivalent events; for example adding items one at
+	 * a time fires a single interval added event. A changed selection
+	 * is fired once, last. Events of nested Remodels are held until
+	 * the outermost one is closed.
+	 * <p>
+	 * Listeners don't see the changes until the Remodel is closed;
+	 * code that, while the Remodel is open, depends on a listener,
+	 * such as a JComboBox finding a newly added item, should not hold
+	 * events. Only Remodels opened after this is set are affected.
+	 * Default is false, each change fires its event immediately.
+	 * 
+	 * @param _coalesceEvents true to hold events until Remodel close
+	 * @since 4.0.14
+	 */
+	public void setCoalesceEvents(boolean _coalesceEvents) {
+		coalesceEvents = _coalesceEvents;
+	}
+
+	/**
+	 * @return true if Remodels hold their events until closed
+	 * @since 4.0.14
+	 */
+	public boolean isCoalesceEvents() {
+		return coalesceEvents;
+	}
+
+	private void beginCoalescing() {
+		coalescingDepth++;
+		remodelBeginCoalescing();
+	}
+
+	private void endCoalescing() {
+		try {
+			remodelEndCoalescing();
+		} finally {
+			if (--coalescingDepth == 0) {
+				modelProxy.fireHeld();
+			}
+		}
+	}
+
 	/**
 	 * This returns a Remodel which has method for
 	 * reading and writing the itemList and its contained listItems.
@@ -1226,6 +1970,12 @@ public abstract class AbstractComboBoxListSwingModel {
 		/** has this been closed? Error if access after close */
 		protected boolean isClosed = false;
 
+		/** this Remodel holds events until closed */
+		private boolean coalescing;
+
+		/** this Remodel is counted in remodelDepth */
+		private boolean counted;
+
 		// /** if optimized indexOfItem, following means must rebuild optimizations */
 		// protected boolean isModifiedLength = false;
 
@@ -1234,6 +1984,12 @@ public abstract class AbstractComboBoxListSwingModel {
 		@SuppressWarnings({"all","OverridableMethodCallInConstructor"})
 		protected Remodel() {
 			remodelTakeWriteLock();
+			remodelDepth++;
+			counted = true;
+			coalescing = coalesceEvents;
+			if (coalescing) {
+				beginCoalescing();
+			}
 		}
 
 		/**
@@ -1424,7 +2180,20 @@ public abstract class AbstractComboBoxListSwingModel {
 			// 	// NOT NEEDED UNTIL OPTIMIZATIONS
 			// 	// buildEventListItems();
 			// }
-			remodelReleaseWriteLock(this);
+			try {
+				if (coalescing) {
+					coalescing = false;
+					endCoalescing();
+				}
+			} finally {
+				if (counted) {
+					counted = false;
+					if (--remodelDepth == 0) {
+						compactColumns();
+					}
+				}
+				remodelReleaseWriteLock(this);
+			}
 		}
 	}
 
@@ -1457,277 +2226,289 @@ public abstract class AbstractComboBoxListSwingModel {
 		Object clone() throws CloneNotSupportedException;
 	}
 
-	private interface ListItemWrite0 extends ListItem0, Cloneable {
-		/**
-		 * Put an object into the SSListItem.
-		 * @param index which item to set
-		 * @param object the object to put into the SSListItem
-		 */
-		void setElem(int index, Object object);
-	}
-
-	//
-	// DO NOT LOOK BELOW THIS LINE
-	//
-	/////////////////////////////////////////////////////////////////////
-	//
-	// Use one of the following object, ListItem2 or ListItem3,
-	// for an SSListItem depending on 2 or 3 objects in the list item.
-	// Note that this is smaller that having an array.
-	//
-	// If want to handle 4 objects, might use an array. See ListItemAsArray below
-	// That's a container object + 4 data object + array object = 6 objects;
-	// around 17% of storage, the array object, is unneeded overhead.
-	//
-
 	/**
-	 * An SSListItem with 1 Objects.
+	 * The element values of list items, by column: element position i of
+	 * each list item created by a model is in column i, and a list item,
+	 * see {@link ColumnListItem}, refers to its row.
+	 * A column that only holds Long values, or null, such as the mappings
+	 * of an OptionMappingSwingModel, is a {@code long[]}; a Long is only
+	 * created when a value is read. Any other column is an {@code Object[]};
+	 * where equal values are the same object, as the display values
+	 * read by SSDBComboBox are, a column with few distinct values costs
+	 * a reference per row.
+	 * <p>
+	 * Rows are appended, and never changed. Text derived from a row,
+	 * such as its formatted text, is kept in a column of its own and
+	 * goes with the row. Each format the text is derived with has a
+	 * column of its own, so list items shared by combo boxes with
+	 * different formats keep the text of each.
 	 */
-	private static class ListItem1 implements ListItemWrite0, Cloneable {
-		Object arg0;
-
-		@SuppressWarnings("unused")
-		// TODO Unused warning is a false positive. Used by reflection.
-		public ListItem1(Object[] elems) {
-			arg0 = elems[0];
-		}
-
-		private static void checkIndex(int index) {
-			if (index != 0) {
-				throw new ArrayIndexOutOfBoundsException(
-						"Only 0 index available for this ListItem, not " + index);
+	private static final class ItemColumns {
+		/** most formats kept text is derived with, for each kind */
+		private static final int MAX_DERIVATIONS = 4;
+
+		private final int numElems;
+		/** the columnsOwner of the model these were created by */
+		private final Object owner;
+		private int size;
+		private int capacity;
+		/** by element position, the values of a long column, else null */
+		private final long[][] longs;
+		/** by element position, a bit per row set if the value is null, else null */
+		private final long[][] nulls;
+		/** by element position, the values of an Object column, else null */
+		private final Object[][] objects;
+		/** kept text, most recently derived first */
+		private final List<KeptText> keptTexts = new ArrayList<>(0);
+
+		ItemColumns(int _numElems, Object _owner, int _capacity) {
+			numElems = _numElems;
+			owner = _owner;
+			capacity = _capacity;
+			longs = new long[_numElems][];
+			nulls = new long[_numElems][];
+			objects = new Object[_numElems][];
+			for (int col = 0; col < _numElems; col++) {
+				longs[col] = new long[_capacity];
 			}
 		}
 
-		@Override
-		public Object getElem(int index) {
-			checkIndex(index);
-			return arg0;
+		int size() {
+			return size;
 		}
 
-		@Override
-		public void setElem(int index, Object object) {
-			checkIndex(index);
-			arg0 = object;
-		}
-
-		@Override
-		public String toString() {
-			return "{" + arg0 + '}';
-		}
-
-		@Override
-		public int hashCode() {
-			int hash = 7;
-			hash = 67 * hash + Objects.hashCode(this.arg0);
-			return hash;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
-			}
-			if (obj == null) {
-				return false;
+		/**
+		 * @param _elems one value for each column
+		 * @return the row of the values
+		 */
+		int append(Object[] _elems) {
+			if (size == capacity) {
+				grow();
 			}
-			if (getClass() != obj.getClass()) {
-				return false;
+			int row = size++;
+			for (int col = 0; col < numElems; col++) {
+				Object elem = _elems[col];
+				if (longs[col] != null) {
+					if (elem instanceof Long) {
+						longs[col][row] = (Long) elem;
+						continue;
+					}
+					if (elem == null) {
+						if (nulls[col] == null) {
+							nulls[col] = new long[(capacity + 63) >>> 6];
+						}
+						nulls[col][row >>> 6] |= 1L << row;
+						continue;
+					}
+					toObjects(col);
+				}
+				objects[col][row] = elem;
 			}
-			final ListItem1 other = (ListItem1) obj;
-			return Objects.equals(this.arg0, other.arg0);
+			return row;
 		}
 
-		@Override
-		public Object clone() throws CloneNotSupportedException {
-			return super.clone();
-		}
-
-	}
-
-	/**
-	 * An SSListItem with 2 Objects.
-	 */
-	private static class ListItem2 implements ListItemWrite0, Cloneable {
-		Object arg0;
-		Object arg1;
-
-		@SuppressWarnings("unused")
-		// TODO Unused warning is a false positive. Used by reflection.
-		public ListItem2(Object[] elems) {
-			arg0 = elems[0];
-			arg1 = elems[1];
-		}
-
-		private static void checkIndex(int index) {
-			if ((0b011 & (1 << index)) == 0) {
-				throw new ArrayIndexOutOfBoundsException(
-						"Only 0 or 1 index available for this ListItem, not " + index);
+		/**
+		 * Append a copy of a row of other columns, with its kept text.
+		 * @return the row of the copy
+		 */
+		int copyRow(ItemColumns _from, int _row) {
+			Object[] elems = new Object[numElems];
+			for (int col = 0; col < numElems; col++) {
+				elems[col] = _from.get(col, _row);
 			}
+			int row = append(elems);
+			for (int i = _from.keptTexts.size() - 1; i >= 0; i--) {
+				KeptText kept = _from.keptTexts.get(i);
+				String text = kept.texts[_row];
+				Object derivedWith = text != null ? kept.derivedWith.get() : null;
+				if (derivedWith != null) {
+					keepText(kept.kind, row, derivedWith, kept.changeCount, text);
+				}
+			}
+			return row;
 		}
 
-		@Override
-		public Object getElem(int index) {
-			checkIndex(index);
-			return index == 0 ? arg0 : arg1;
-		}
-
-		@Override
-		public void setElem(int index, Object object) {
-			checkIndex(index);
-			if (index == 0) arg0 = object;
-			else			arg1 = object;
-		}
-
-		@Override
-		public String toString() {
-			return "{" + arg0 + "," + arg1 + '}';
-		}
-
-		@Override
-		public int hashCode() {
-			int hash = 3;
-			hash = 19 * hash + Objects.hashCode(this.arg0);
-			hash = 19 * hash + Objects.hashCode(this.arg1);
-			return hash;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
-			}
-			if (obj == null) {
-				return false;
-			}
-			if (getClass() != obj.getClass()) {
-				return false;
+		private void grow() {
+			capacity = Math.max(16, capacity + (capacity >> 1));
+			for (int col = 0; col < numElems; col++) {
+				if (longs[col] != null) {
+					longs[col] = Arrays.copyOf(longs[col], capacity);
+				} else {
+					objects[col] = Arrays.copyOf(objects[col], capacity);
+				}
+				if (nulls[col] != null) {
+					nulls[col] = Arrays.copyOf(nulls[col], (capacity + 63) >>> 6);
+				}
 			}
-			final ListItem2 other = (ListItem2) obj;
-			if (!Objects.equals(this.arg0, other.arg0)) {
-				return false;
+			for (KeptText kept : keptTexts) {
+				kept.texts = Arrays.copyOf(kept.texts, capacity);
 			}
-			return Objects.equals(this.arg1, other.arg1);
 		}
 
-		@Override
-		public Object clone() throws CloneNotSupportedException {
-			return super.clone();
+		/** A value that isn't a Long makes a long column an Object column. */
+		private void toObjects(int _col) {
+			Object[] values = new Object[capacity];
+			for (int row = 0; row < size; row++) {
+				values[row] = get(_col, row);
+			}
+			objects[_col] = values;
+			longs[_col] = null;
+			nulls[_col] = null;
 		}
 
-	}
-
-	/**
-	 * An SSListItem with 3 Objects.
-	 */
-	private static class ListItem3 implements ListItemWrite0, Cloneable {
-		Object arg0;
-		Object arg1;
-		Object arg2;
-
-		@SuppressWarnings("unused")
-		// TODO Unused warning is a false positive. Used by reflection.
-		public ListItem3(Object[] elems) {
-			arg0 = elems[0];
-			arg1 = elems[1];
-			arg2 = elems[2];
+		private boolean isNull(int _col, int _row) {
+			long[] bits = nulls[_col];
+			return bits != null && (bits[_row >>> 6] & (1L << _row)) != 0;
 		}
 
-		private static void checkIndex(int index) {
-			if ((0b0111 & (1 << index)) == 0) {
-				throw new ArrayIndexOutOfBoundsException(
-						"Only 0, 1 or 2 index available for this ListItem, not " + index);
+		/**
+		 * @throws ArrayIndexOutOfBoundsException if there is no such column
+		 */
+		Object get(int _col, int _row) {
+			long[] values = longs[_col];
+			if (values == null) {
+				return objects[_col][_row];
 			}
+			return isNull(_col, _row) ? null : Long.valueOf(values[_row]);
 		}
 
-		@Override
-		public Object getElem(int index) {
-			checkIndex(index);
-			return index == 0 ? arg0 : index == 1 ? arg1 : arg2;
-		}
-
-		@Override
-		public void setElem(int index, Object object) {
-			checkIndex(index);
-			switch (index) {
-			case 0:  arg0 = object; break;
-			case 1:  arg1 = object; break;
-			default: arg2 = object; break;
+		/** @return hash of a value, the same as {@code Objects.hashCode} of it */
+		int hash(int _col, int _row) {
+			long[] values = longs[_col];
+			if (values == null) {
+				return Objects.hashCode(objects[_col][_row]);
 			}
+			return isNull(_col, _row) ? 0 : Long.hashCode(values[_row]);
 		}
 
-		@Override
-		public String toString() {
-			return "{" + arg0 + "," + arg1 + "," + arg2 + '}';
+		/** @return true if a value equals the object */
+		boolean valueEquals(int _col, int _row, Object _elem) {
+			long[] values = longs[_col];
+			if (values == null) {
+				return Objects.equals(objects[_col][_row], _elem);
+			}
+			if (isNull(_col, _row)) {
+				return _elem == null;
+			}
+			return _elem instanceof Long && (Long) _elem == values[_row];
+		}
+
+		/** @return true if values of two rows, maybe of different columns, are equal */
+		static boolean sameValue(int _col, ItemColumns _columns1, int _row1,
+				ItemColumns _columns2, int _row2) {
+			long[] values1 = _columns1.longs[_col];
+			long[] values2 = _columns2.longs[_col];
+			if (values1 != null && values2 != null) {
+				boolean isNull = _columns1.isNull(_col, _row1);
+				return isNull == _columns2.isNull(_col, _row2)
+						&& (isNull || values1[_row1] == values2[_row2]);
+			}
+			return Objects.equals(_columns1.get(_col, _row1), _columns2.get(_col, _row2));
 		}
 
-		@Override
-		public int hashCode() {
-			int hash = 3;
-			hash = 47 * hash + Objects.hashCode(this.arg0);
-			hash = 47 * hash + Objects.hashCode(this.arg1);
-			hash = 47 * hash + Objects.hashCode(this.arg2);
-			return hash;
+		/**
+		 * Find the kept text of a kind derived with something, discarding
+		 * kept text whose format has been garbage collected.
+		 * @return the kept text, null if there is none
+		 */
+		private KeptText findKeptText(int _kind, Object _derivedWith) {
+			KeptText found = null;
+			for (Iterator<KeptText> it = keptTexts.iterator(); it.hasNext();) {
+				KeptText kept = it.next();
+				Object derivedWith = kept.derivedWith.get();
+				if (derivedWith == null) {
+					it.remove();
+				} else if (found == null && kept.kind == _kind && derivedWith == _derivedWith) {
+					found = kept;
+				}
+			}
+			return found;
 		}
 
-		@Override
-		public boolean equals(Object obj) {
-			if (this == obj) {
-				return true;
-			}
-			if (obj == null) {
-				return false;
-			}
-			if (getClass() != obj.getClass()) {
-				return false;
-			}
-			final ListItem3 other = (ListItem3) obj;
-			if (!Objects.equals(this.arg0, other.arg0)) {
-				return false;
+		String getText(int _kind, int _row, Object _derivedWith, int _changeCount) {
+			for (KeptText kept : keptTexts) {
+				if (kept.kind == _kind && kept.derivedWith.get() == _derivedWith) {
+					return kept.changeCount == _changeCount ? kept.texts[_row] : null;
+				}
 			}
-			if (!Objects.equals(this.arg1, other.arg1)) {
-				return false;
+			return null;
+		}
+
+		void keepText(int _kind, int _row, Object _derivedWith, int _changeCount, String _text) {
+			KeptText kept = findKeptText(_kind, _derivedWith);
+			if (kept == null || kept.changeCount != _changeCount) {
+				// TEXT DERIVED WITH AN OLDER STATE OF THE FORMAT IS NOT WANTED ANY MORE
+				keptTexts.remove(kept);
+				kept = new KeptText(_kind, _derivedWith, _changeCount, capacity);
+				keptTexts.add(0, kept);
+				int count = 0;
+				for (Iterator<KeptText> it = keptTexts.iterator(); it.hasNext();) {
+					if (it.next().kind == _kind && ++count > MAX_DERIVATIONS) {
+						it.remove();
+					}
+				}
 			}
-			return Objects.equals(this.arg2, other.arg2);
+			kept.texts[_row] = _text;
 		}
+	}
 
-		@Override
-		public Object clone() throws CloneNotSupportedException {
-			return super.clone();
+	/**
+	 * Text of one kind kept for the rows of {@link ItemColumns},
+	 * derived with one format in one state, see {@link #getKeptText}.
+	 */
+	private static final class KeptText {
+		private final int kind;
+		// WHAT THE TEXT IS DERIVED WITH, A FORMAT, MAY BELONG TO A COMPONENT;
+		// COLUMNS HELD BY A SHARED CACHE MUST NOT KEEP IT
+		private final WeakReference<Object> derivedWith;
+		private final int changeCount;
+		private String[] texts;
+
+		KeptText(int _kind, Object _derivedWith, int _changeCount, int _capacity) {
+			kind = _kind;
+			derivedWith = new WeakReference<>(_derivedWith);
+			changeCount = _changeCount;
+			texts = new String[_capacity];
 		}
-
 	}
 
-	// This can be used for an arbitrary, but fixed, number of items
-	// in an SSListItem. Typically 4 or more items.
-	private static class ListItemAsArray implements ListItemWrite0, Cloneable {
-		Object[] elems;
+	/**
+	 * An SSListItem; its elements are a row of {@link ItemColumns}.
+	 * It is never changed; a model that moves the row to other columns
+	 * puts a new list item in its item list, see {@link #compactColumns}.
+	 */
+	private static final class ColumnListItem implements ListItem0, Cloneable {
+		private final ItemColumns columns;
+		private final int row;
 
-		@SuppressWarnings("unused")
-		// TODO Unused warning is a false positive. Used by reflection.
-		public ListItemAsArray(Object [] _elems) {
-			elems = Arrays.copyOf(_elems, _elems.length);
+		ColumnListItem(ItemColumns _columns, int _row) {
+			columns = _columns;
+			row = _row;
 		}
 
 		@Override
 		public Object getElem(int index) {
-			return elems[index];
-		}
-
-		@Override
-		public void setElem(int index, Object object) {
-			elems[index] = object;
+			return columns.get(index, row);
 		}
 
 		@Override
 		public String toString() {
-			return "{" + Arrays.toString(elems) + '}';
+			StringBuilder sb = new StringBuilder().append('{');
+			for (int col = 0; col < columns.numElems; col++) {
+				if (col != 0) {
+					sb.append(',');
+				}
+				sb.append(columns.get(col, row));
+			}
+			return sb.append('}').toString();
 		}
 
 		@Override
 		public int hashCode() {
 			int hash = 7;
-			hash = 83 * hash + Arrays.deepHashCode(elems);
+			for (int col = 0; col < columns.numElems; col++) {
+				hash = 31 * hash + columns.hash(col, row);
+			}
 			return hash;
 		}
 
@@ -1736,21 +2517,24 @@ public abstract class AbstractComboBoxListSwingModel {
 			if (this == obj) {
 				return true;
 			}
-			if (obj == null) {
+			if (!(obj instanceof ColumnListItem)) {
 				return false;
 			}
-			if (getClass() != obj.getClass()) {
+			final ColumnListItem other = (ColumnListItem) obj;
+			if (columns.numElems != other.columns.numElems) {
 				return false;
 			}
-			final ListItemAsArray other = (ListItemAsArray) obj;
-			return Arrays.deepEquals(elems, other.elems);
+			for (int col = 0; col < columns.numElems; col++) {
+				if (!ItemColumns.sameValue(col, columns, row, other.columns, other.row)) {
+					return false;
+				}
+			}
+			return true;
 		}
 
 		@Override
 		public Object clone() throws CloneNotSupportedException {
-			 ListItemAsArray clone = (ListItemAsArray) super.clone();
-			 clone.elems = elems.clone();
-			 return clone;
+			return super.clone();
 		}
 	}
 }
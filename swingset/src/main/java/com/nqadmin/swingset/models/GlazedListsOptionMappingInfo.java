@@ -38,7 +38,11 @@
 package com.nqadmin.swingset.models;
 
 
+import ca.odell.glazedlists.BasicEventList;
 import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.TextFilterator;
+import ca.odell.glazedlists.TransformedList;
+import ca.odell.glazedlists.event.ListEvent;
 
 // OptionMappingSwingModel.java
 //
@@ -60,6 +64,10 @@ public class GlazedListsOptionMappingInfo<M,O,O2> extends OptionMappingSwingMode
 	private final EventList<SSListItem> eventList;
 	private boolean hasReturnedEventList;
 
+	/** filter strings are the precomputed filter keys */
+	private final TextFilterator<SSListItem> textFilterator
+			= (baseList, listItem) -> baseList.add(getFilterKey(listItem));
+
 	/**
 	 * Create an empty ComboInfo.
 	 * @param _option2Enabled true says to provide an options2 field in SSListItem
@@ -70,6 +78,48 @@ public class GlazedListsOptionMappingInfo<M,O,O2> extends OptionMappingSwingMode
 		eventList = _eventList;
 	}
 
+	/**
+	 * Create an empty ComboInfo with its own EventList.
+	 * The changes made with a Remodel can be published as a single
+	 * ListEvent, see {@link #setCoalesceEvents}.
+	 * @param _option2Enabled true says to provide an options2 field in SSListItem
+	 * @since 4.0.14
+	 */
+	public GlazedListsOptionMappingInfo(boolean _option2Enabled) {
+		this(_option2Enabled, new CoalescingEventList<>());
+	}
+
+	/**
+	 * A BasicEventList whose changes can be collected into one ListEvent;
+	 * a pass through list since BasicEventList is final.
+	 */
+	private static class CoalescingEventList<E> extends TransformedList<E, E> {
+
+		CoalescingEventList() {
+			super(new BasicEventList<E>());
+			source.addListEventListener(this);
+		}
+
+		@Override
+		protected boolean isWritable() {
+			return true;
+		}
+
+		@Override
+		public void listChanged(ListEvent<E> _listChanges) {
+			updates.forwardEvent(_listChanges);
+		}
+
+		void beginEvent() {
+			// FORWARDED CHANGES NEST IN THIS EVENT
+			updates.beginEvent(true);
+		}
+
+		void commitEvent() {
+			updates.commitEvent();
+		}
+	}
+
 	/**
 	 * This dance only returns the event list once; it helps make it
 	 * clear that no reference should be held to the list. All access
@@ -84,6 +134,17 @@ public class GlazedListsOptionMappingInfo<M,O,O2> extends OptionMappingSwingMode
 		return temp;
 	}
 
+	/**
+	 * A TextFilterator for use with AutoCompleteSupport.
+	 * The filter string of a list item is its formatted text,
+	 * computed once rather than each time the filter changes.
+	 * @return TextFilterator of the list items
+	 * @since 4.0.14
+	 */
+	protected TextFilterator<SSListItem> getTextFilterator() {
+		return textFilterator;
+	}
+
 	// protected GlazedListsOptionMappingInfo(int itemNumElems, List<SSListItem> itemList) {
 	// 	super(itemNumElems, itemList);
 	// 	eventList = (EventList<SSListItem>) itemList;
@@ -124,5 +185,25 @@ public class GlazedListsOptionMappingInfo<M,O,O2> extends OptionMappingSwingMode
 		eventList.getReadWriteLock().writeLock().unlock();
 		remodel.isClosed = true;
 	}
+
+	/**
+	 * Changes to the EventList are collected into one ListEvent.
+	 */
+	@Override
+	protected void remodelBeginCoalescing() {
+		if (eventList instanceof CoalescingEventList) {
+			((CoalescingEventList<?>) eventList).beginEvent();
+		}
+	}
+
+	/**
+	 * Publish the ListEvent of the collected changes.
+	 */
+	@Override
+	protected void remodelEndCoalescing() {
+		if (eventList instanceof CoalescingEventList) {
+			((CoalescingEventList<?>) eventList).commitEvent();
+		}
+	}
 	
 }
@@ -39,7 +39,9 @@
 package com.nqadmin.swingset.models;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.swing.ListModel;
@@ -177,6 +179,28 @@ public class OptionMappingSwingModel<M,O,O2> extends AbstractComboBoxListSwingMo
 		return getSlice(OPT2_IDX);
 	}
 	
+	/**
+	 * Keep hash indexes of the mappings and options so that
+	 * {@code getMappings().indexOf()} and {@code getOptions().indexOf()}
+	 * don't scan the list; useful for large lists where
+	 * the selection follows the bound column as the rowset is navigated.
+	 * The indexes are maintained as the list is modified.
+	 * @param _indexed true to keep mapping and option indexes
+	 * @since 4.0.14
+	 */
+	public void setIndexed(boolean _indexed) {
+		setElemIndexed(KEY_IDX, _indexed);
+		setElemIndexed(OPT_IDX, _indexed);
+	}
+
+	/**
+	 * @return true if mappings and options are indexed
+	 * @since 4.0.14
+	 */
+	public boolean isIndexed() {
+		return isElemIndexed(KEY_IDX);
+	}
+
 	/**
 	 * Change whether the layout of an SSListItem managed by this class
 	 * contains an option2. An exception is thrown if the item list
@@ -308,13 +332,10 @@ public class OptionMappingSwingModel<M,O,O2> extends AbstractComboBoxListSwingMo
 	 */
 	@Override
 	public Remodel getRemodel() {
-		// default is no locking, re-use the model.
-		if (remodel == null) {
-			remodel = new Remodel();
-		}
-		return remodel;
+		// default is no locking; a new one each time since
+		// a Remodel may hold events until it is closed
+		return new Remodel();
 	}
-	private Remodel remodel;
 	
 	// no locking by default
 	/** {@inheritDoc} */
@@ -507,5 +528,86 @@ public class OptionMappingSwingModel<M,O,O2> extends AbstractComboBoxListSwingMo
 		public SSListItem createOptionMappingItem(M _mapping, O _option, O2 _option2) {
 			return OptionMappingSwingModel.this.createOptionItem(_mapping, _option, _option2);
 		}
+
+		/**
+		 * Make the list items from the specified index on match the new
+		 * list items, in order, with as few modifications as possible.
+		 * List items are matched by mapping; a list item equal to its
+		 * new list item is kept, so its identity, and a selection of it,
+		 * survive. Each add, remove or replacement fires its own event,
+		 * so refreshing a long list after a few changes is cheap for
+		 * listeners such as a filtered list or an open popup.
+		 * <p>
+		 * The result is the same as removing the list items from the
+		 * index on and adding the new list items.
+		 * 
+		 * @param _fromIndex list items before this index are not touched
+		 * @param _newItems the list items wanted from the index on
+		 * @return number of list items added, removed or replaced
+		 * @since 4.0.14
+		 */
+		public int refresh(int _fromIndex, List<? extends SSListItem> _newItems) {
+			verifyOpened();
+			// WHERE EACH MAPPING IS WANTED
+			Map<Object, Integer> wanted = new HashMap<>();
+			for (int i = _newItems.size() - 1; i >= 0; i--) {
+				wanted.put(getMapping(_newItems.get(i)), i);
+			}
+			// MAPPINGS OF THE LIST ITEMS NOT YET VISITED, WITH COUNTS
+			Map<Object, Integer> remaining = new HashMap<>();
+			for (int i = _fromIndex; i < getItemList().size(); i++) {
+				remaining.merge(getMapping(i), 1, Integer::sum);
+			}
+
+			int changes = 0;
+			int index = _fromIndex;
+			int newIndex = 0;
+			while (newIndex < _newItems.size()) {
+				SSListItem newItem = _newItems.get(newIndex);
+				if (index == getItemList().size()) {
+					// THE REST ARE NEW, ADD THEM IN ONE GO
+					List<? extends SSListItem> rest = _newItems.subList(newIndex, _newItems.size());
+					addAll(index, rest);
+					index += rest.size();
+					changes += rest.size();
+					break;
+				}
+				SSListItem item = get(index);
+				M mapping = getMapping(item);
+				M newMapping = getMapping(newItem);
+				if (Objects.equals(mapping, newMapping)) {
+					remaining.computeIfPresent(mapping, (k, v) -> v == 1 ? null : v - 1);
+					if (!item.equals(newItem)) {
+						set(index, newItem);
+						changes++;
+					}
+					index++;
+					newIndex++;
+					continue;
+				}
+				Integer wantedAt = wanted.get(mapping);
+				if (wantedAt == null || wantedAt < newIndex) {
+					// GONE, OR A DUPLICATE OF ONE ALREADY IN PLACE
+					remaining.computeIfPresent(mapping, (k, v) -> v == 1 ? null : v - 1);
+					remove(index);
+				} else if (!remaining.containsKey(newMapping)) {
+					add(index++, newItem);
+					newIndex++;
+				} else {
+					// BOTH ARE OUT OF ORDER; THE REPLACED ONE IS ADDED
+					// WHERE IT'S WANTED, THE LATER COPY OF THE NEW ONE IS
+					// REMOVED WHEN REACHED
+					remaining.computeIfPresent(mapping, (k, v) -> v == 1 ? null : v - 1);
+					set(index++, newItem);
+					newIndex++;
+				}
+				changes++;
+			}
+			while (getItemList().size() > index) {
+				remove(getItemList().size() - 1);
+				changes++;
+			}
+			return changes;
+		}
 	}
 }
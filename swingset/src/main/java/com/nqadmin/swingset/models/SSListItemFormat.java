@@ -113,6 +113,12 @@ public class SSListItemFormat extends Format {
 
 	private static Logger logger = SSUtils.getLogger();
 
+	/** incremented when the formatting specification changes */
+	private int changeCount;
+
+	/** formatted text is kept, see {@link #setCaching(boolean)} */
+	private boolean caching;
+
 	/**
 	 * Encapsulate info about element in SSListInfo.
 	 */
@@ -158,6 +164,19 @@ public class SSListItemFormat extends Format {
 	public void clear() {
 		elemInfos.clear();
 		itemElemIndexes.clear();
+		changeCount++;
+	}
+
+	/**
+	 * The count changes whenever the formatting specification is changed
+	 * through this class, so text formatted earlier can be reused
+	 * while the count is the same. Changes made directly to a Format
+	 * that was set are not counted, see {@link #invalidateAll()}.
+	 * @return count of changes to the formatting specification
+	 * @since 4.0.14
+	 */
+	public int getChangeCount() {
+		return changeCount;
 	}
 
 	/**
@@ -181,6 +200,7 @@ public class SSListItemFormat extends Format {
 		Integer indexAsObject = _elemIndex;
 		itemElemIndexes.remove(indexAsObject);
 		itemElemIndexes.add(indexAsObject);
+		changeCount++;
 	}
 
 	/**
@@ -205,6 +225,7 @@ public class SSListItemFormat extends Format {
 	 * @return the previous format
 	 */
 	public Format setFormat(JDBCType _jdbcType, Format _format) {
+		changeCount++;
 		return formats.put(_jdbcType, _format);
 	}
 
@@ -234,6 +255,7 @@ public class SSListItemFormat extends Format {
 		}
 		String pat = null;
 		Format f;
+		changeCount++;
 		if (_pattern == null) {
 			f = formats.put(_jdbcType, null);
 		} else {
@@ -269,6 +291,7 @@ public class SSListItemFormat extends Format {
 	 */
 	public void setSeparator(String _separator) {
 		separator = _separator;
+		changeCount++;
 	}
 
 	/**
@@ -278,6 +301,73 @@ public class SSListItemFormat extends Format {
 		return separator;
 	}
 	
+	/**
+	 * Turn caching of formatted text on or off.
+	 * When on, each list item is formatted once; the text is kept with
+	 * the list item's row in its model and reused until the formatting
+	 * specification is changed through this class. The text goes when
+	 * the row does, after the list item is removed from its list.
+	 * An SSListItem changed with Remodel.setElem is a new list item.
+	 * <p>
+	 * Don't cache if a subclass formats using state other than the list
+	 * item. If a Format that was set is changed directly, use
+	 * {@link #invalidateAll()}.
+	 * @param _caching true to cache formatted text
+	 * @since 4.0.14
+	 */
+	public void setCaching(boolean _caching) {
+		caching = _caching;
+	}
+
+	/**
+	 * @return true if formatted text is cached
+	 * @since 4.0.14
+	 */
+	public boolean isCaching() {
+		return caching;
+	}
+
+	/**
+	 * Discard all cached text; this counts as a change,
+	 * see {@link #getChangeCount()}.
+	 * @since 4.0.14
+	 */
+	public void invalidateAll() {
+		changeCount++;
+	}
+
+	/**
+	 * Format a list item; this is the same as {@link #format(Object)}
+	 * without the StringBuffer and FieldPosition when the text is cached.
+	 * @param _listItem item to format
+	 * @return formatted text, empty if the argument is not an SSListItem
+	 * @since 4.0.14
+	 */
+	public String formatText(Object _listItem) {
+		if (!(_listItem instanceof ListItem0)) {
+			return "";
+		}
+		if (!caching) {
+			return appendListItem(new StringBuffer(), (ListItem0)_listItem).toString();
+		}
+		ListItem0 listItem = (ListItem0)_listItem;
+		String text = AbstractComboBoxListSwingModel.getKeptText(listItem,
+				AbstractComboBoxListSwingModel.FORMATTED_TEXT, this, changeCount);
+		if (text == null) {
+			text = appendListItem(new StringBuffer(), listItem).toString();
+			// A SINGLE STRING ELEMENT IS USUALLY ITS OWN TEXT, DON'T KEEP A COPY
+			if (itemElemIndexes.size() == 1) {
+				Object elem = getElem(itemElemIndexes.get(0), listItem);
+				if (text.equals(elem)) {
+					text = (String) elem;
+				}
+			}
+			AbstractComboBoxListSwingModel.keepText(listItem,
+					AbstractComboBoxListSwingModel.FORMATTED_TEXT, this, changeCount, text);
+		}
+		return text;
+	}
+
 	/**
 	 * This implementation does not create Object from String.
 	 * @param source text
@@ -301,15 +391,28 @@ public class SSListItemFormat extends Format {
 	public StringBuffer format(Object _listItem, StringBuffer toAppendTo, FieldPosition pos) {
 		if (_listItem != null && _listItem instanceof ListItem0) {
 			// GlazedLists guarantees only format(Object), so ignore pos.
-			ListItem0 listItem = (ListItem0)_listItem;
-			for (int i = 0; i < itemElemIndexes.size(); i++) {
-				// if this isn't the first element, add the separator
-				if (i != 0) {
-					toAppendTo.append(separator);
-				}
-				int elemIndex = itemElemIndexes.get(i);
-				appendValue(toAppendTo, elemIndex, listItem);
+			if (caching) {
+				return toAppendTo.append(formatText(_listItem));
+			}
+			appendListItem(toAppendTo, (ListItem0)_listItem);
+		}
+		return toAppendTo;
+	}
+
+	/**
+	 * Append the formatted elements of the list item.
+	 * @param toAppendTo StringBuffer being worked on
+	 * @param listItem item being formatted
+	 * @return StringBuffer being worked on
+	 */
+	private StringBuffer appendListItem(StringBuffer toAppendTo, ListItem0 listItem) {
+		for (int i = 0; i < itemElemIndexes.size(); i++) {
+			// if this isn't the first element, add the separator
+			if (i != 0) {
+				toAppendTo.append(separator);
 			}
+			int elemIndex = itemElemIndexes.get(i);
+			appendValue(toAppendTo, elemIndex, listItem);
 		}
 		return toAppendTo;
 	}
@@ -37,6 +37,8 @@
  ******************************************************************************/
 package com.nqadmin.swingset.utils;
 
+import java.awt.Component;
+import java.awt.KeyboardFocusManager;
 import java.awt.event.ActionListener;
 import java.awt.event.ItemListener;
 import java.beans.PropertyChangeListener;
@@ -66,11 +68,14 @@ import org.apache.logging.log4j.Logger;
 
 import com.nqadmin.swingset.SSBaseComboBox;
 import com.nqadmin.swingset.SSCheckBox;
+import com.nqadmin.swingset.SSDataNavigator;
 import com.nqadmin.swingset.SSImage;
 import com.nqadmin.swingset.SSLabel;
 import com.nqadmin.swingset.SSList;
 import com.nqadmin.swingset.SSSlider;
+import com.nqadmin.swingset.datasources.ColumnMetadata;
 import com.nqadmin.swingset.datasources.RowSetOps;
+import com.nqadmin.swingset.datasources.RowSnapshot;
 import com.nqadmin.swingset.formatting.SSFormattedTextField;
 
 // SSCommon.java
@@ -182,7 +187,12 @@ public class SSCommon implements Serializable {
 	/**
 	 * Listener(s) for the underlying RowSet used to update the bound SwingSet
 	 * component.
+	 *
+	 * @deprecated SSCommon no longer adds a listener to the RowSet per
+	 *             component; the components bound to a RowSet share one
+	 *             listener that updates them in a single pass.
 	 */
+	@Deprecated
 	protected class SSRowSetListener implements RowSetListener, Serializable {
 		/**
 		 * unique serial ID
@@ -339,9 +349,8 @@ public class SSCommon implements Serializable {
 	private String logColumnName = null;
 
 	//
-	// isNullable is a cache of metadata.
-	// TODO: Incorporate into a more formal metadata cache
-	//       if/when there is one.
+	// isNullable is a copy of the bound column's entry in the
+	// RowSet's ColumnMetadata snapshot, see RowSetOps.getColumnMetadata().
 	//
 
 	/**
@@ -379,7 +388,7 @@ public class SSCommon implements Serializable {
 	/**
 	 * Indicates if rowset listener is added (or removed)
 	 */
-	private boolean rowSetListenerAdded = false;
+	private volatile boolean rowSetListenerAdded = false;
 	
 	/**
 	 * Indicates if swingset component listener is added (or removed)
@@ -387,9 +396,21 @@ public class SSCommon implements Serializable {
 	private boolean ssComponentListenerAdded = false;
 
 	/**
-	 * Underlying RowSet listener.
+	 * Shared listener of the RowSet, null until the RowSet listener is first
+	 * added.
 	 */
-	private SSRowSetListener rowSetListener = null;
+	private transient SSRowSetDispatcher rowSetDispatcher = null;
+
+	/**
+	 * Value of the bound column when the component was last updated from the
+	 * RowSet, see updateFromRowSet().
+	 */
+	private transient Object rowSetValue = null;
+
+	/**
+	 * Indicates if rowSetValue is the value displayed by the component.
+	 */
+	private transient boolean rowSetValueValid = false;
 
 	/**
 	 * Constructor expecting a SwingSet component as an argument (usually called as
@@ -423,13 +444,17 @@ public class SSCommon implements Serializable {
 
 	/**
 	 * Method to add the RowSet listener.
+	 * <p>
+	 * The components bound to a RowSet share a single listener that updates
+	 * the components whose RowSet listener is added when the RowSet fires an
+	 * event.
 	 */
 	public void addRowSetListener() {
-		if (rowSetListener==null) {
-			rowSetListener = new SSRowSetListener();
-		}
 		if (!rowSetListenerAdded && rowSet!=null) {
-			rowSet.addRowSetListener(rowSetListener);
+			if (rowSetDispatcher==null) {
+				rowSetDispatcher = SSRowSetDispatcher.getDispatcher(rowSet);
+				rowSetDispatcher.add(this);
+			}
 			rowSetListenerAdded = true;
 			logger.debug("{} - RowSet Listener added.", () -> getColumnForLog());
 		}
@@ -523,7 +548,7 @@ public class SSCommon implements Serializable {
 		// For an SSDBComboBox, we have likely not yet called execute to populate the
 		// combo lists so the text for the first record will be blank, but updateSSComponent() for
 		// SSDBComboBox checks for a null list and returns.
-		updateSSComponent();
+		updateFromRowSet(true);
 
 	}
 
@@ -637,6 +662,9 @@ public class SSCommon implements Serializable {
 	 * <p>
 	 * New functionality added (2020) to allow this method to return a null String
 	 * if allowNull==true.
+	 * <p>
+	 * Like {@link #getBoundColumnObject()} the text is taken from the shared row
+	 * snapshot while the bound components are being updated.
 	 *
 	 * @return String containing the value in the bound database column
 	 */
@@ -647,9 +675,11 @@ public class SSCommon implements Serializable {
 		String value = "";
 
 		try {
-			if (getRowSet().getRow() != 0) {
+			final RowSnapshot snapshot = getRowSnapshot();
+			if (snapshot != null || getRowSet().getRow() != 0) {
 				//value = getRowSet().getColumnText(getBoundColumnName());
-				value = RowSetOps.getColumnText(getRowSet(),getBoundColumnName());
+				value = snapshot != null ? snapshot.getColumnText(boundColumnIndex)
+						: RowSetOps.getColumnText(getRowSet(),getBoundColumnName());
 				if (!getAllowNull() && (value == null)) {
 					value = "";
 				}
@@ -661,6 +691,37 @@ public class SSCommon implements Serializable {
 		return value;
 	}
 
+	/**
+	 * Returns the value in the bound database column of the current row, as
+	 * returned by {@link RowSet#getObject(int)}.
+	 * <p>
+	 * While the components bound to the RowSet are being updated after a RowSet
+	 * event the value is taken from a snapshot of the row shared by the
+	 * components, rather than read from the RowSet.
+	 *
+	 * @return the value in the bound database column
+	 * @throws SQLException if the value can not be read
+	 * @since 4.0.14
+	 */
+	public Object getBoundColumnObject() throws SQLException {
+		final RowSnapshot snapshot = getRowSnapshot();
+		if (snapshot != null) {
+			return snapshot.getObject(boundColumnIndex);
+		}
+		return getRowSet().getObject(boundColumnIndex);
+	}
+
+	/**
+	 * Returns the shared snapshot of the current row if it holds the bound
+	 * column.
+	 *
+	 * @return the snapshot, null if there is none
+	 */
+	private RowSnapshot getRowSnapshot() {
+		final RowSnapshot snapshot = rowSetDispatcher == null ? null : rowSetDispatcher.getSnapshot();
+		return snapshot != null && snapshot.contains(boundColumnIndex) ? snapshot : null;
+	}
+
 	/**
 	 * Returns the integer code representing the bound database column data type.
 	 * <p>
@@ -829,10 +890,13 @@ public class SSCommon implements Serializable {
 	 */
 	public final void removeRowSetListener() {
 		// rowSetListenerAdded==true indicates that rowset is not null and we do not let the user call setRowSet(null), so not checking
-		// rowSetListenerAdded==true indicates that rowSetListener is not null, so not checking
 		if (rowSetListenerAdded) {
-			rowSet.removeRowSetListener(rowSetListener);
 			rowSetListenerAdded = false;
+			// THE COMPONENT IS ABOUT TO WRITE TO THE ROWSET, SO UPDATE IT ON THE NEXT EVENT
+			rowSetValueValid = false;
+			if (rowSetDispatcher != null) {
+				rowSetDispatcher.invalidateSnapshot();
+			}
 			logger.debug("{} - RowSet Listener removed.", () -> getColumnForLog());
 		}
 	}
@@ -859,6 +923,7 @@ public class SSCommon implements Serializable {
 	 */
 	public void setBoundColumnArray(final SSArray _boundColumnArray) throws SQLException {
 		getRowSet().updateArray(getBoundColumnName(), _boundColumnArray);
+		SSDataNavigator.setColumnModified(getRowSet(), getBoundColumnName());
 	}
 
 	/**
@@ -883,8 +948,9 @@ public class SSCommon implements Serializable {
 			if (boundColumnIndex != NO_COLUMN_INDEX) {
 				//boundColumnName = getRowSet().getColumnName(boundColumnIndex);
 				//boundColumnType = getRowSet().getColumnType(boundColumnIndex);
-				boundColumnName = RowSetOps.getColumnName(getRowSet(),boundColumnIndex);
-				boundColumnType = RowSetOps.getColumnType(getRowSet(),boundColumnIndex);
+				final ColumnMetadata metadata = RowSetOps.getColumnMetadata(getRowSet());
+				boundColumnName = metadata.getColumnName(boundColumnIndex);
+				boundColumnType = metadata.getColumnType(boundColumnIndex);
 			} else {
 				boundColumnName = null;
 				boundColumnType = java.sql.Types.NULL;
@@ -925,8 +991,13 @@ public class SSCommon implements Serializable {
 			if (boundColumnName != null) {
 				//boundColumnIndex = getRowSet().getColumnIndex(boundColumnName);
 				//boundColumnType = getRowSet().getColumnType(boundColumnIndex);
-				boundColumnIndex = RowSetOps.getColumnIndex(getRowSet(),boundColumnName);
-				boundColumnType = RowSetOps.getColumnType(getRowSet(),boundColumnIndex);
+				final ColumnMetadata metadata = RowSetOps.getColumnMetadata(getRowSet());
+				boundColumnIndex = metadata.findColumnIndex(boundColumnName);
+				if (boundColumnIndex == 0) {
+					// NOT A COLUMN LABEL, LET THE DRIVER RESOLVE IT OR THROW
+					boundColumnIndex = RowSetOps.getColumnIndex(getRowSet(),boundColumnName);
+				}
+				boundColumnType = metadata.getColumnType(boundColumnIndex);
 			} else {
 				boundColumnIndex = NO_COLUMN_INDEX;
 				boundColumnType = java.sql.Types.NULL;
@@ -1016,7 +1087,16 @@ public class SSCommon implements Serializable {
 	 */
 	public void setRowSet(final RowSet _rowSet) {
 		Objects.requireNonNull(_rowSet);
+		final boolean listenerAdded = rowSetListenerAdded;
+		if (rowSetDispatcher!=null && rowSet!=_rowSet) {
+			rowSetDispatcher.remove(this);
+			rowSetDispatcher = null;
+			rowSetListenerAdded = false;
+		}
 		rowSet = _rowSet;
+		if (listenerAdded) {
+			addRowSetListener();
+		}
 		if (!inBinding) {
 			bind();
 		}
@@ -1042,4 +1122,60 @@ public class SSCommon implements Serializable {
 
 	}
 
+	/**
+	 * Updates the component from the RowSet when it is bound, and from the
+	 * RowSet's shared listener, on the EDT, after the RowSet fired an event
+	 * while the RowSet listener was added.
+	 * <p>
+	 * The component is updated unless the value of the bound column is
+	 * unchanged since the component was last updated from the RowSet, so the
+	 * cost of a navigation depends on the number of columns that change rather
+	 * than the number of bound components. The component is always updated
+	 * after a rowSetChanged event, when there is no current row, e.g. on the
+	 * insert row, and when the component has the focus and may be displaying
+	 * an edit that is not yet written to the RowSet.
+	 *
+	 * @param _rowSetChanged true if the RowSet fired rowSetChanged or the
+	 *                      component is being bound
+	 */
+	void updateFromRowSet(final boolean _rowSetChanged) {
+		boolean valid = false;
+		Object value = null;
+		try {
+			if (getRowSnapshot() != null) {
+				value = getBoundColumnObject();
+				valid = true;
+			} else if (boundColumnIndex != NO_COLUMN_INDEX && rowSet.getRow() != 0) {
+				value = rowSet.getObject(boundColumnIndex);
+				valid = true;
+			}
+		} catch (final SQLException se) {
+			// UPDATE THE COMPONENT, IT REPORTS ANY ERROR READING THE ROWSET
+			logger.trace(() -> getColumnForLog() + " - Unable to read bound column value: " + se.getMessage());
+		}
+
+		if (valid && rowSetValueValid && !_rowSetChanged && Objects.deepEquals(value, rowSetValue)
+				&& !hasFocus()) {
+			logger.trace("{} - Bound column value unchanged, component not updated.", () -> getColumnForLog());
+			return;
+		}
+
+		final long start = SSMetrics.startTimer();
+		updateSSComponent();
+		if (start != SSMetrics.NOT_STARTED) {
+			SSMetrics.stopTimer(SSMetrics.UPDATE_SS_COMPONENT, getColumnForLog(), start);
+		}
+
+		rowSetValue = value;
+		rowSetValueValid = valid;
+	}
+
+	/**
+	 * @return true if the component or one of its children is the focus owner
+	 */
+	private boolean hasFocus() {
+		final Component focusOwner = KeyboardFocusManager.getCurrentKeyboardFocusManager().getFocusOwner();
+		return focusOwner != null && SwingUtilities.isDescendingFrom(focusOwner, (Component) ssComponent);
+	}
+
 }
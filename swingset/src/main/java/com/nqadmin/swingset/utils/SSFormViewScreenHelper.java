@@ -165,6 +165,7 @@ public abstract class SSFormViewScreenHelper extends SSScreenHelperCommon {
 		@Override
 		public void performPostDeletionOps() {
 			logger.debug("");
+			invalidateLookupCache();
 			if (requeryAfterInsertOrDelete) {
 			// FOR SOME DATABASES LIKE H2, WE HAVE TO REQUERY THE ROWSET
 				updateScreen();
@@ -182,6 +183,7 @@ public abstract class SSFormViewScreenHelper extends SSScreenHelperCommon {
 		@Override
 		public void performPostInsertOps() {
 			logger.debug("");
+			invalidateLookupCache();
 			if (requeryAfterInsertOrDelete) {
 			// FOR SOME DATABASES LIKE H2, WE HAVE TO REQUERY THE ROWSET
 				updateScreen();
@@ -192,6 +194,15 @@ public abstract class SSFormViewScreenHelper extends SSScreenHelperCommon {
 			ssDBNavPerformPostInsertOps();
 		}
 
+		/**
+		 * Invalidates cached lookups that may list the updated record.
+		 */
+		@Override
+		public void performPostUpdateOps() {
+			logger.debug("");
+			invalidateLookupCache();
+		}
+
 		/**
 		 * Gets the primary key value for the record to be deleted
 		 * and performs any other developer specified actions prior to a record deletion.
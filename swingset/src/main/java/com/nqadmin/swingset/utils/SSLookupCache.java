@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.lang.ref.WeakReference;
+import java.sql.Connection;
+import java.sql.JDBCType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import org.apache.logging.log4j.Logger;
+
+import com.nqadmin.swingset.models.SSListItem;
+
+// SSLookupCache.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Cache of the list items read by lookup queries, e.g. the customers or
+ * products listed by SSDBComboBoxes, so combo boxes running the same query
+ * share one list of items instead of each running the query.
+ * <p>
+ * A lookup is identified by the Connection (by identity), the query text and
+ * the names of the mapping and display columns. A cached lookup is discarded
+ * once it is older than the time to live, when the cache holds more than its
+ * maximum number of lookups (least recently used first), or when it is
+ * invalidated, e.g. with {@link #invalidate(String)} after a table has been
+ * written.
+ * <p>
+ * The cached item lists are unmodifiable and SSListItems are copied on write
+ * by the list models, so the items can be shared by any number of combo
+ * boxes. Methods may be called from any thread.
+ *
+ * @since 4.0.14
+ */
+public class SSLookupCache {
+
+	/**
+	 * Items and display column types of a cached lookup.
+	 */
+	public static final class Lookup {
+
+		private final List<SSListItem> items;
+
+		private final JDBCType optionType;
+
+		private final JDBCType option2Type;
+
+		private final long created = System.nanoTime();
+
+		/**
+		 * @param _items       list items read by the query, in query order
+		 * @param _optionType  type of the display column
+		 * @param _option2Type type of the second display column, null if there
+		 *                     is none
+		 */
+		public Lookup(final List<SSListItem> _items, final JDBCType _optionType, final JDBCType _option2Type) {
+			items = Collections.unmodifiableList(new ArrayList<>(_items));
+			optionType = _optionType;
+			option2Type = _option2Type;
+		}
+
+		/**
+		 * @return the unmodifiable list items, in query order
+		 */
+		public List<SSListItem> getItems() {
+			return items;
+		}
+
+		/**
+		 * @return the type of the display column
+		 */
+		public JDBCType getOptionType() {
+			return optionType;
+		}
+
+		/**
+		 * @return the type of the second display column, null if there is none
+		 */
+		public JDBCType getOption2Type() {
+			return option2Type;
+		}
+	}
+
+	/**
+	 * Identifies a lookup. The Connection is held weakly and compared by
+	 * identity.
+	 */
+	private static final class Key {
+
+		private final WeakReference<Connection> connection;
+
+		private final int connectionHash;
+
+		private final String query;
+
+		private final Object[] parameters;
+
+		private final String[] columnNames;
+
+		Key(final Connection _connection, final String _query, final Object[] _parameters,
+				final String... _columnNames) {
+			connection = new WeakReference<>(_connection);
+			connectionHash = System.identityHashCode(_connection);
+			query = _query;
+			parameters = _parameters == null ? NO_PARAMETERS : _parameters.clone();
+			columnNames = _columnNames;
+		}
+
+		Connection getConnection() {
+			return connection.get();
+		}
+
+		@Override
+		public boolean equals(final Object _other) {
+			if (this == _other) {
+				return true;
+			}
+			if (!(_other instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) _other;
+			final Connection thisConnection = connection.get();
+			return (thisConnection != null) && (thisConnection == other.connection.get())
+					&& query.equals(other.query) && Arrays.equals(parameters, other.parameters)
+					&& Arrays.equals(columnNames, other.columnNames);
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * ((31 * ((31 * connectionHash) + query.hashCode())) + Arrays.hashCode(parameters)))
+					+ Arrays.hashCode(columnNames);
+		}
+	}
+
+	private static final Object[] NO_PARAMETERS = new Object[0];
+
+	/**
+	 * Default time to live of a cached lookup, in milliseconds.
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE = TimeUnit.MINUTES.toMillis(5);
+
+	/**
+	 * Default maximum number of cached lookups.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 100;
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static final Logger logger = SSUtils.getLogger();
+
+	private static final SSLookupCache sharedCache = new SSLookupCache();
+
+	private long timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIME_TO_LIVE);
+
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	// ACCESS ORDERED SO THE ELDEST ENTRY IS THE LEAST RECENTLY USED LOOKUP
+	private final Map<Key, Lookup> lookups = new LinkedHashMap<Key, Lookup>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, Lookup> _eldest) {
+			return size() > maximumSize;
+		}
+	};
+
+	/**
+	 * Constructs an empty cache with the default time to live and maximum
+	 * size.
+	 */
+	public SSLookupCache() {
+		// defaults
+	}
+
+	/**
+	 * Returns the process-wide cache shared by default.
+	 *
+	 * @return the shared cache
+	 */
+	public static SSLookupCache getSharedCache() {
+		return sharedCache;
+	}
+
+	/**
+	 * Returns a cached lookup.
+	 *
+	 * @param _connection  Connection the query runs on
+	 * @param _query       query text
+	 * @param _columnNames names of the mapping and display columns
+	 *
+	 * @return the lookup, or null if it is not cached or has expired
+	 */
+	public synchronized Lookup get(final Connection _connection, final String _query, final String... _columnNames) {
+		return get(_connection, _query, NO_PARAMETERS, _columnNames);
+	}
+
+	/**
+	 * Returns a cached lookup of a parameterized query.
+	 *
+	 * @param _connection  Connection the query runs on
+	 * @param _query       query text
+	 * @param _parameters  values bound to the query parameters
+	 * @param _columnNames names of the mapping and display columns
+	 *
+	 * @return the lookup, or null if it is not cached or has expired
+	 */
+	public synchronized Lookup get(final Connection _connection, final String _query, final Object[] _parameters,
+			final String... _columnNames) {
+		final Key key = new Key(_connection, _query, _parameters, _columnNames);
+		final Lookup lookup = lookups.get(key);
+		if (lookup == null) {
+			return null;
+		}
+		if ((System.nanoTime() - lookup.created) > timeToLiveNanos) {
+			lookups.remove(key);
+			return null;
+		}
+		return lookup;
+	}
+
+	/**
+	 * Caches a lookup, replacing any lookup cached for the same query.
+	 *
+	 * @param _connection  Connection the query ran on
+	 * @param _query       query text
+	 * @param _lookup      items and column types read by the query
+	 * @param _columnNames names of the mapping and display columns
+	 */
+	public synchronized void put(final Connection _connection, final String _query, final Lookup _lookup,
+			final String... _columnNames) {
+		put(_connection, _query, NO_PARAMETERS, _lookup, _columnNames);
+	}
+
+	/**
+	 * Caches a lookup of a parameterized query, replacing any lookup cached
+	 * for the same query and parameter values.
+	 *
+	 * @param _connection  Connection the query ran on
+	 * @param _query       query text
+	 * @param _parameters  values bound to the query parameters
+	 * @param _lookup      items and column types read by the query
+	 * @param _columnNames names of the mapping and display columns
+	 */
+	public synchronized void put(final Connection _connection, final String _query, final Object[] _parameters,
+			final Lookup _lookup, final String... _columnNames) {
+		removeCollected();
+		lookups.put(new Key(_connection, _query, _parameters, _columnNames), _lookup);
+	}
+
+	/**
+	 * Discards the cached lookups whose query refers to a table, e.g. after
+	 * rows of the table have been inserted, updated or deleted. The table name
+	 * is matched as a whole word in the query text, ignoring case.
+	 *
+	 * @param _tableName name of the table
+	 */
+	public synchronized void invalidate(final String _tableName) {
+		final Pattern table = Pattern.compile("\\b" + Pattern.quote(_tableName) + "\\b", Pattern.CASE_INSENSITIVE);
+		int removed = 0;
+		for (final Iterator<Key> keys = lookups.keySet().iterator(); keys.hasNext();) {
+			if (table.matcher(keys.next().query).find()) {
+				keys.remove();
+				removed++;
+			}
+		}
+		logger.debug("Invalidated {} lookups for table {}.", removed, _tableName);
+	}
+
+	/**
+	 * Discards the cached lookups of a Connection.
+	 *
+	 * @param _connection the Connection
+	 */
+	public synchronized void invalidate(final Connection _connection) {
+		lookups.keySet().removeIf(key -> key.getConnection() == _connection);
+	}
+
+	/**
+	 * Discards all cached lookups.
+	 */
+	public synchronized void invalidateAll() {
+		lookups.clear();
+	}
+
+	/**
+	 * Removes the lookups of Connections that have been garbage collected.
+	 */
+	private void removeCollected() {
+		lookups.keySet().removeIf(key -> key.getConnection() == null);
+	}
+
+	/**
+	 * @return the time to live of a cached lookup, in milliseconds
+	 */
+	public synchronized long getTimeToLive() {
+		return TimeUnit.NANOSECONDS.toMillis(timeToLiveNanos);
+	}
+
+	/**
+	 * Sets how long a lookup stays cached after its query has run.
+	 *
+	 * @param _timeToLive time to live in milliseconds
+	 */
+	public synchronized void setTimeToLive(final long _timeToLive) {
+		timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(_timeToLive);
+	}
+
+	/**
+	 * @return the maximum number of cached lookups
+	 */
+	public synchronized int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Sets the maximum number of cached lookups. The least recently used
+	 * lookups are discarded first.
+	 *
+	 * @param _maximumSize maximum number of lookups
+	 */
+	public synchronized void setMaximumSize(final int _maximumSize) {
+		maximumSize = _maximumSize;
+		final Iterator<Key> keys = lookups.keySet().iterator();
+		while ((lookups.size() > maximumSize) && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+		}
+	}
+
+	/**
+	 * @return the number of cached lookups, including expired ones not yet
+	 *         discarded
+	 */
+	public synchronized int size() {
+		return lookups.size();
+	}
+}
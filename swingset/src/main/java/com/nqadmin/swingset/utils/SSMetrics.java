@@ -0,0 +1,689 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.logging.log4j.Logger;
+
+// SSMetrics.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Registry of counters, histograms and timers recording where time goes in a
+ * SwingSet screen.
+ * <p>
+ * Metrics are disabled by default and every recording method returns at once,
+ * after reading one field, until {@link #setEnabled(boolean)} is called or the
+ * system property {@value #ENABLED_PROPERTY} is true. Enabling metrics
+ * registers an {@link SSMetricsMXBean} with the platform MBean server as
+ * {@value #OBJECT_NAME}. The recorded values are available from
+ * {@link #snapshot()}.
+ * <p>
+ * SwingSet records the metrics named by the constants of this class. Metrics
+ * recorded per component add the column of the component to the name, e.g.
+ * {@code SSDBComboBox.execute[part_id]}. A timed operation is recorded with
+ * <pre>
+ * final long start = SSMetrics.startTimer();
+ * ...
+ * SSMetrics.stopTimer("MyScreen.load", start);
+ * </pre>
+ * When the name of a per component timer has to be built, the call is
+ * guarded so nothing is built while metrics are disabled:
+ * <pre>
+ * if (start != SSMetrics.NOT_STARTED) {
+ *     SSMetrics.stopTimer(SSMetrics.UPDATE_SS_COMPONENT, getColumnForLog(), start);
+ * }
+ * </pre>
+ *
+ * @since 4.0.14
+ */
+public final class SSMetrics {
+
+	/**
+	 * Kind of a metric.
+	 */
+	public enum Type {
+		/**
+		 * Number of occurrences.
+		 */
+		COUNTER,
+		/**
+		 * Distribution of recorded values.
+		 */
+		HISTOGRAM,
+		/**
+		 * Distribution of durations in nanoseconds.
+		 */
+		TIMER
+	}
+
+	/**
+	 * Distribution of recorded values.
+	 * <p>
+	 * Values are counted in buckets with a relative width of 1/8 so the
+	 * percentiles are estimates within 12.5% of the true value.
+	 */
+	public static class Histogram {
+
+		// 8 LINEAR SUB-BUCKETS FOR EACH POWER OF 2
+		private static final int SUB_BUCKET_BITS = 3;
+
+		private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+		private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+		private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+		private final LongAdder sum = new LongAdder();
+
+		private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+
+		private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+		Histogram() {
+			// created by the registry
+		}
+
+		/**
+		 * Records a value. Negative values are recorded as 0.
+		 *
+		 * @param _value value to record
+		 */
+		public void record(final long _value) {
+			final long value = Math.max(_value, 0);
+			if (value < min.get()) {
+				min.accumulateAndGet(value, Math::min);
+			}
+			if (value > max.get()) {
+				max.accumulateAndGet(value, Math::max);
+			}
+			sum.add(value);
+			// LAST, SO A SNAPSHOT THAT COUNTS THE VALUE ALSO SEES ITS MIN AND MAX
+			buckets.incrementAndGet(bucketOf(value));
+		}
+
+		Type getType() {
+			return Type.HISTOGRAM;
+		}
+
+		void reset() {
+			for (int i = 0; i < BUCKETS; i++) {
+				buckets.set(i, 0);
+			}
+			sum.reset();
+			min.set(Long.MAX_VALUE);
+			max.set(Long.MIN_VALUE);
+		}
+
+		Snapshot snapshot() {
+			final long[] counts = new long[BUCKETS];
+			long total = 0;
+			for (int i = 0; i < BUCKETS; i++) {
+				counts[i] = buckets.get(i);
+				total += counts[i];
+			}
+			if (total == 0) {
+				return new Snapshot(getType(), 0, 0, 0, 0, 0, 0, 0);
+			}
+			final long minValue = min.get();
+			final long maxValue = max.get();
+			return new Snapshot(getType(), total, sum.sum(), minValue, maxValue,
+					percentile(counts, total, 0.50, minValue, maxValue),
+					percentile(counts, total, 0.95, minValue, maxValue),
+					percentile(counts, total, 0.99, minValue, maxValue));
+		}
+
+		static int bucketOf(final long _value) {
+			if (_value < SUB_BUCKETS) {
+				return (int) _value;
+			}
+			final int shift = (63 - Long.numberOfLeadingZeros(_value)) - SUB_BUCKET_BITS;
+			return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((_value >>> shift) & (SUB_BUCKETS - 1));
+		}
+
+		static long highestValueIn(final int _bucket) {
+			if (_bucket < SUB_BUCKETS) {
+				return _bucket;
+			}
+			final int shift = (_bucket >>> SUB_BUCKET_BITS) - 1;
+			final long lowest = ((long) (SUB_BUCKETS + (_bucket & (SUB_BUCKETS - 1)))) << shift;
+			return lowest + ((1L << shift) - 1);
+		}
+
+		private static long percentile(final long[] _counts, final long _total, final double _percentile,
+				final long _min, final long _max) {
+			final long rank = (long) Math.ceil(_percentile * _total);
+			long seen = 0;
+			for (int i = 0; i < _counts.length; i++) {
+				seen += _counts[i];
+				if (seen >= rank) {
+					return Math.max(_min, Math.min(highestValueIn(i), _max));
+				}
+			}
+			return _max;
+		}
+	}
+
+	/**
+	 * Distribution of durations in nanoseconds.
+	 */
+	public static final class Timer extends Histogram {
+
+		Timer() {
+			// created by the registry
+		}
+
+		/**
+		 * Records the time elapsed since a call to {@link SSMetrics#startTimer()}.
+		 *
+		 * @param _start value returned by {@link SSMetrics#startTimer()}, nothing
+		 *               is recorded if it is {@link SSMetrics#NOT_STARTED}
+		 */
+		public void stop(final long _start) {
+			if (_start != NOT_STARTED) {
+				record(System.nanoTime() - _start);
+			}
+		}
+
+		@Override
+		Type getType() {
+			return Type.TIMER;
+		}
+	}
+
+	/**
+	 * Number of occurrences.
+	 */
+	public static final class Counter {
+
+		private final LongAdder count = new LongAdder();
+
+		Counter() {
+			// created by the registry
+		}
+
+		/**
+		 * Adds one to the counter.
+		 */
+		public void increment() {
+			count.increment();
+		}
+
+		/**
+		 * Adds to the counter.
+		 *
+		 * @param _amount amount to add
+		 */
+		public void add(final long _amount) {
+			count.add(_amount);
+		}
+
+		void reset() {
+			count.reset();
+		}
+
+		Snapshot snapshot() {
+			final long value = count.sum();
+			return new Snapshot(Type.COUNTER, value, value, 0, 0, 0, 0, 0);
+		}
+	}
+
+	/**
+	 * Values of a metric at the time {@link SSMetrics#snapshot()} was called.
+	 * For a timer all values except the count are in nanoseconds. For a
+	 * counter the count and sum are the value of the counter and the other
+	 * values are 0.
+	 */
+	public static final class Snapshot {
+
+		private final Type type;
+
+		private final long count;
+
+		private final long sum;
+
+		private final long min;
+
+		private final long max;
+
+		private final long median;
+
+		private final long percentile95;
+
+		private final long percentile99;
+
+		Snapshot(final Type _type, final long _count, final long _sum, final long _min, final long _max,
+				final long _median, final long _percentile95, final long _percentile99) {
+			type = _type;
+			count = _count;
+			sum = _sum;
+			min = _min;
+			max = _max;
+			median = _median;
+			percentile95 = _percentile95;
+			percentile99 = _percentile99;
+		}
+
+		/**
+		 * @return kind of the metric
+		 */
+		public Type getType() {
+			return type;
+		}
+
+		/**
+		 * @return number of recorded values
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return sum of the recorded values
+		 */
+		public long getSum() {
+			return sum;
+		}
+
+		/**
+		 * @return smallest recorded value, 0 if none
+		 */
+		public long getMin() {
+			return min;
+		}
+
+		/**
+		 * @return largest recorded value, 0 if none
+		 */
+		public long getMax() {
+			return max;
+		}
+
+		/**
+		 * @return average of the recorded values, 0 if none
+		 */
+		public double getMean() {
+			return count == 0 || type == Type.COUNTER ? 0 : (double) sum / count;
+		}
+
+		/**
+		 * @return estimated 50th percentile of the recorded values
+		 */
+		public long getMedian() {
+			return median;
+		}
+
+		/**
+		 * @return estimated 95th percentile of the recorded values
+		 */
+		public long getPercentile95() {
+			return percentile95;
+		}
+
+		/**
+		 * @return estimated 99th percentile of the recorded values
+		 */
+		public long getPercentile99() {
+			return percentile99;
+		}
+
+		@Override
+		public String toString() {
+			if (type == Type.COUNTER) {
+				return type + " count=" + count;
+			}
+			return type + " count=" + count + ", mean=" + getMean() + ", min=" + min + ", median=" + median
+					+ ", p95=" + percentile95 + ", p99=" + percentile99 + ", max=" + max;
+		}
+	}
+
+	/**
+	 * System property that enables metrics when set to true.
+	 */
+	public static final String ENABLED_PROPERTY = "swingset.metrics";
+
+	/**
+	 * Name of the MBean registered with the platform MBean server.
+	 */
+	public static final String OBJECT_NAME = "com.nqadmin.swingset:type=SSMetrics";
+
+	/**
+	 * Timer of the queries executed by an SSDBComboBox, per component.
+	 */
+	public static final String COMBO_EXECUTE = "SSDBComboBox.execute";
+
+	/**
+	 * Timer of the navigations of an SSDataNavigator, including the commit of
+	 * the row being left.
+	 */
+	public static final String NAVIGATOR_NAVIGATE = "SSDataNavigator.navigate";
+
+	/**
+	 * Timer of the commits of the current row by an SSDataNavigator.
+	 */
+	public static final String NAVIGATOR_COMMIT = "SSDataNavigator.commit";
+
+	/**
+	 * Timer of the refreshes of an SSDataNavigator.
+	 */
+	public static final String NAVIGATOR_REFRESH = "SSDataNavigator.refresh";
+
+	/**
+	 * Counter of the RowSet events received for bound components.
+	 */
+	public static final String ROWSET_EVENTS = "RowSet.events";
+
+	/**
+	 * Histogram of the number of components updated by each dispatch of
+	 * RowSet events.
+	 */
+	public static final String ROWSET_DISPATCH = "RowSet.dispatch";
+
+	/**
+	 * Timer of the calls to updateSSComponent() from the RowSet, per component.
+	 */
+	public static final String UPDATE_SS_COMPONENT = "updateSSComponent";
+
+	/**
+	 * Timer of reading the rows of an SSDataGrid, by SSTableModel or
+	 * SSTablePager.
+	 */
+	public static final String GRID_FETCH = "SSDataGrid.fetch";
+
+	/**
+	 * Value returned by {@link #startTimer()} when metrics are disabled.
+	 */
+	public static final long NOT_STARTED = Long.MIN_VALUE;
+
+	/**
+	 * Number of components timed separately under one name. The time of
+	 * further components is recorded under the name alone.
+	 */
+	static final int MAX_COMPONENTS = 256;
+
+	private static final Logger logger = SSUtils.getLogger();
+
+	private static final ConcurrentMap<String, Object> metrics = new ConcurrentHashMap<>();
+
+	// TIMERS OF stopTimer(name, component, start) BY NAME AND COMPONENT, SO THE NAMES ARE NOT CONCATENATED ON EACH CALL
+	private static final ConcurrentMap<String, ConcurrentMap<String, Timer>> componentTimers = new ConcurrentHashMap<>();
+
+	private static volatile boolean enabled;
+
+	private static boolean registered;
+
+	static {
+		if (Boolean.getBoolean(ENABLED_PROPERTY)) {
+			setEnabled(true);
+		}
+	}
+
+	private SSMetrics() {
+		// static methods only
+	}
+
+	/**
+	 * @return true if metrics are being recorded
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Starts or stops recording metrics. Values recorded while enabled are
+	 * kept. The MBean is registered the first time metrics are enabled.
+	 *
+	 * @param _enabled true to record metrics
+	 */
+	public static void setEnabled(final boolean _enabled) {
+		enabled = _enabled;
+		if (_enabled) {
+			registerMBean();
+		}
+	}
+
+	private static synchronized void registerMBean() {
+		if (registered) {
+			return;
+		}
+		registered = true;
+		try {
+			final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			final ObjectName name = new ObjectName(OBJECT_NAME);
+			if (!server.isRegistered(name)) {
+				server.registerMBean(new MXBean(), name);
+			}
+		} catch (final JMException | RuntimeException e) {
+			logger.warn("Unable to register metrics MBean.", e);
+		}
+	}
+
+	/**
+	 * Returns the current time for a timed operation.
+	 *
+	 * @return System.nanoTime(), or {@link #NOT_STARTED} if metrics are
+	 *         disabled
+	 */
+	public static long startTimer() {
+		return enabled ? System.nanoTime() : NOT_STARTED;
+	}
+
+	/**
+	 * Records the time elapsed since a call to {@link #startTimer()}.
+	 *
+	 * @param _name name of the timer
+	 * @param _start value returned by {@link #startTimer()}, nothing is
+	 *               recorded if it is {@link #NOT_STARTED}
+	 */
+	public static void stopTimer(final String _name, final long _start) {
+		if (_start != NOT_STARTED && enabled) {
+			timer(_name).stop(_start);
+		}
+	}
+
+	/**
+	 * Records the time elapsed since a call to {@link #startTimer()} for a
+	 * component. Only the first {@value #MAX_COMPONENTS} components of a name
+	 * get a timer of their own, the others are recorded under the name alone.
+	 *
+	 * @param _name name of the timer
+	 * @param _component column or other text identifying the component, appended
+	 *                   to the name
+	 * @param _start value returned by {@link #startTimer()}, nothing is
+	 *               recorded if it is {@link #NOT_STARTED}
+	 */
+	public static void stopTimer(final String _name, final String _component, final long _start) {
+		if (_start != NOT_STARTED && enabled) {
+			componentTimer(_name, _component).stop(_start);
+		}
+	}
+
+	static Timer componentTimer(final String _name, final String _component) {
+		ConcurrentMap<String, Timer> timers = componentTimers.get(_name);
+		if (timers == null) {
+			timers = componentTimers.computeIfAbsent(_name, k -> new ConcurrentHashMap<>());
+		}
+		final Timer timer = timers.get(_component);
+		if (timer != null) {
+			return timer;
+		}
+		if (timers.size() >= MAX_COMPONENTS) {
+			return timer(_name);
+		}
+		return timers.computeIfAbsent(_component, k -> timer(_name + _component));
+	}
+
+	/**
+	 * Adds one to a counter if metrics are enabled.
+	 *
+	 * @param _name name of the counter
+	 */
+	public static void increment(final String _name) {
+		if (enabled) {
+			counter(_name).increment();
+		}
+	}
+
+	/**
+	 * Records a value in a histogram if metrics are enabled.
+	 *
+	 * @param _name name of the histogram
+	 * @param _value value to record
+	 */
+	public static void record(final String _name, final long _value) {
+		if (enabled) {
+			histogram(_name).record(_value);
+		}
+	}
+
+	/**
+	 * Returns a counter, creating it if needed. The counter records whether or
+	 * not metrics are enabled.
+	 *
+	 * @param _name name of the counter
+	 * @return the counter
+	 * @throws IllegalArgumentException if the name is used by another kind of
+	 *                                  metric
+	 */
+	public static Counter counter(final String _name) {
+		return get(_name, Counter.class);
+	}
+
+	/**
+	 * Returns a histogram, creating it if needed. The histogram records
+	 * whether or not metrics are enabled.
+	 *
+	 * @param _name name of the histogram
+	 * @return the histogram
+	 * @throws IllegalArgumentException if the name is used by another kind of
+	 *                                  metric
+	 */
+	public static Histogram histogram(final String _name) {
+		return get(_name, Histogram.class);
+	}
+
+	/**
+	 * Returns a timer, creating it if needed. The timer records whether or not
+	 * metrics are enabled.
+	 *
+	 * @param _name name of the timer
+	 * @return the timer
+	 * @throws IllegalArgumentException if the name is used by another kind of
+	 *                                  metric
+	 */
+	public static Timer timer(final String _name) {
+		return get(_name, Timer.class);
+	}
+
+	private static <T> T get(final String _name, final Class<T> _class) {
+		Object metric = metrics.get(_name);
+		if (metric == null) {
+			metric = metrics.computeIfAbsent(_name, k -> _class == Counter.class ? new Counter()
+					: _class == Timer.class ? new Timer() : new Histogram());
+		}
+		if (metric.getClass() != _class) {
+			throw new IllegalArgumentException("Metric " + _name + " is a " + metric.getClass().getSimpleName() + ".");
+		}
+		return _class.cast(metric);
+	}
+
+	/**
+	 * Returns the values of every metric.
+	 *
+	 * @return unmodifiable map of snapshots sorted by metric name
+	 */
+	public static Map<String, Snapshot> snapshot() {
+		final Map<String, Snapshot> snapshot = new TreeMap<>();
+		for (final Map.Entry<String, Object> entry : metrics.entrySet()) {
+			final Object metric = entry.getValue();
+			snapshot.put(entry.getKey(), metric instanceof Counter ? ((Counter) metric).snapshot()
+					: ((Histogram) metric).snapshot());
+		}
+		return Collections.unmodifiableMap(snapshot);
+	}
+
+	/**
+	 * Sets every metric back to zero.
+	 */
+	public static void reset() {
+		for (final Object metric : metrics.values()) {
+			if (metric instanceof Counter) {
+				((Counter) metric).reset();
+			} else {
+				((Histogram) metric).reset();
+			}
+		}
+	}
+
+	private static final class MXBean implements SSMetricsMXBean {
+
+		@Override
+		public boolean isEnabled() {
+			return SSMetrics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(final boolean _enabled) {
+			SSMetrics.setEnabled(_enabled);
+		}
+
+		@Override
+		public Map<String, Snapshot> getMetrics() {
+			return snapshot();
+		}
+
+		@Override
+		public void reset() {
+			SSMetrics.reset();
+		}
+	}
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.lang.ref.WeakReference;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.sql.RowSet;
+import javax.sql.RowSetEvent;
+import javax.sql.RowSetListener;
+import javax.swing.SwingUtilities;
+
+import org.apache.logging.log4j.Logger;
+
+import com.nqadmin.swingset.datasources.RowSetOps;
+import com.nqadmin.swingset.datasources.RowSnapshot;
+
+// SSRowSetDispatcher.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Single RowSet listener shared by all of the SwingSet components bound to a
+ * RowSet.
+ * <p>
+ * Each RowSet event marks the components whose RowSet listener is added at
+ * that time. A burst of events, e.g. the rowChanged and cursorMoved fired by a
+ * navigation, is handled by one pass on the EDT that updates the marked
+ * components in the order they were first bound to the RowSet. See
+ * {@link SSCommon#updateFromRowSet(boolean)} for which components are updated
+ * during a pass.
+ * <p>
+ * At the start of a pass the bound columns of the marked components are read
+ * into a {@link RowSnapshot}, which the components read from during the pass.
+ * The snapshot is dropped when the pass ends, when the RowSet fires another
+ * event and when a component is about to write to the RowSet.
+ * <p>
+ * Components are held weakly so a component that is no longer in use is not
+ * kept by its RowSet.
+ *
+ * @since 4.0.14
+ */
+final class SSRowSetDispatcher implements RowSetListener {
+
+	/**
+	 * A component bound to the RowSet.
+	 */
+	private static final class Member {
+
+		private final WeakReference<SSCommon> ssCommon;
+
+		/**
+		 * true if the component is to be updated by the next pass
+		 */
+		private boolean pending = false;
+
+		Member(final SSCommon _ssCommon) {
+			ssCommon = new WeakReference<>(_ssCommon);
+		}
+	}
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static final Logger logger = SSUtils.getLogger();
+
+	/**
+	 * Dispatcher of each RowSet. Weak keys so a RowSet that is no longer in use
+	 * can be collected; a dispatcher does not reference its RowSet.
+	 */
+	private static final Map<RowSet, SSRowSetDispatcher> dispatchers =
+			Collections.synchronizedMap(new WeakHashMap<>());
+
+	/**
+	 * Returns the dispatcher for a RowSet, adding it as a listener to the
+	 * RowSet the first time it is requested.
+	 *
+	 * @param _rowSet RowSet to which components are bound
+	 * @return the RowSet's dispatcher
+	 */
+	static SSRowSetDispatcher getDispatcher(final RowSet _rowSet) {
+		return dispatchers.computeIfAbsent(_rowSet, rs -> {
+			final SSRowSetDispatcher dispatcher = new SSRowSetDispatcher();
+			rs.addRowSetListener(dispatcher);
+			return dispatcher;
+		});
+	}
+
+	/**
+	 * Components bound to the RowSet, in the order they were added.
+	 */
+	private final List<Member> members = new ArrayList<>();
+
+	/**
+	 * true if a pass is posted to the EDT and has not yet started
+	 */
+	private boolean scheduled = false;
+
+	/**
+	 * true if rowSetChanged was fired since the last pass
+	 */
+	private boolean rowSetChanged = false;
+
+	/**
+	 * Current row of the RowSet during a pass, null if none.
+	 */
+	private volatile RowSnapshot snapshot = null;
+
+	private SSRowSetDispatcher() {
+		// use getDispatcher()
+	}
+
+	/**
+	 * Adds a component, if not already added. A component keeps its position
+	 * until it is removed.
+	 *
+	 * @param _ssCommon SSCommon of the component
+	 */
+	synchronized void add(final SSCommon _ssCommon) {
+		for (final Iterator<Member> it = members.iterator(); it.hasNext();) {
+			final SSCommon ssCommon = it.next().ssCommon.get();
+			if (ssCommon == _ssCommon) {
+				return;
+			}
+			if (ssCommon == null) {
+				it.remove();
+			}
+		}
+		members.add(new Member(_ssCommon));
+	}
+
+	/**
+	 * Removes a component, e.g. when it is bound to a different RowSet.
+	 *
+	 * @param _ssCommon SSCommon of the component
+	 */
+	synchronized void remove(final SSCommon _ssCommon) {
+		members.removeIf(member -> {
+			final SSCommon ssCommon = member.ssCommon.get();
+			return ssCommon == null || ssCommon == _ssCommon;
+		});
+	}
+
+	@Override
+	public void cursorMoved(final RowSetEvent _event) {
+		post(false);
+	}
+
+	@Override
+	public void rowChanged(final RowSetEvent _event) {
+		post(false);
+	}
+
+	@Override
+	public void rowSetChanged(final RowSetEvent _event) {
+		post(true);
+	}
+
+	/**
+	 * Marks the components whose RowSet listener is added and posts a pass
+	 * unless one is already posted.
+	 *
+	 * @param _rowSetChanged true for a rowSetChanged event
+	 */
+	private synchronized void post(final boolean _rowSetChanged) {
+		SSMetrics.increment(SSMetrics.ROWSET_EVENTS);
+		snapshot = null;
+		boolean anyPending = false;
+		for (final Member member : members) {
+			final SSCommon ssCommon = member.ssCommon.get();
+			if (ssCommon != null && ssCommon.isRowSetListenerAdded()) {
+				member.pending = true;
+			}
+			anyPending |= member.pending;
+		}
+		if (!anyPending) {
+			return;
+		}
+		rowSetChanged |= _rowSetChanged;
+		if (!scheduled) {
+			scheduled = true;
+			// Delay execution of logic until all listener methods are called for current event
+			SwingUtilities.invokeLater(this::dispatch);
+		}
+	}
+
+	/**
+	 * Updates the marked components, in order. Events fired by the updates are
+	 * handled by a following pass.
+	 */
+	private void dispatch() {
+		final List<SSCommon> pending = new ArrayList<>();
+		final boolean changed;
+		synchronized (this) {
+			for (final Member member : members) {
+				if (member.pending) {
+					member.pending = false;
+					final SSCommon ssCommon = member.ssCommon.get();
+					if (ssCommon != null) {
+						pending.add(ssCommon);
+					}
+				}
+			}
+			changed = rowSetChanged;
+			rowSetChanged = false;
+			scheduled = false;
+		}
+		if (pending.isEmpty()) {
+			return;
+		}
+		logger.trace("Dispatching RowSet event to {} components.", () -> pending.size());
+		SSMetrics.record(SSMetrics.ROWSET_DISPATCH, pending.size());
+		snapshot = takeSnapshot(pending);
+		try {
+			for (final SSCommon ssCommon : pending) {
+				// AN EXCEPTION MUST NOT KEEP THE REMAINING COMPONENTS FROM BEING UPDATED
+				try {
+					ssCommon.updateFromRowSet(changed);
+				} catch (final RuntimeException re) {
+					logger.error(ssCommon.getColumnForLog() + " - Exception updating component from RowSet.", re);
+				}
+			}
+		} finally {
+			snapshot = null;
+		}
+	}
+
+	/**
+	 * Reads the bound columns of the components from the current row.
+	 *
+	 * @param _ssCommons components to be updated
+	 * @return snapshot of the current row, null if there is no current row
+	 */
+	private static RowSnapshot takeSnapshot(final List<SSCommon> _ssCommons) {
+		final RowSet rowSet = _ssCommons.get(0).getRowSet();
+		final int[] columnIndexes = new int[_ssCommons.size()];
+		for (int i = 0; i < columnIndexes.length; i++) {
+			columnIndexes[i] = _ssCommons.get(i).getBoundColumnIndex();
+		}
+		try {
+			if (rowSet.getRow() == 0 || RowSetOps.getColumnCount(rowSet) == 0) {
+				return null;
+			}
+		} catch (final SQLException se) {
+			return null;
+		}
+		return RowSnapshot.of(rowSet, columnIndexes);
+	}
+
+	/**
+	 * Returns the snapshot of the current row while a pass is updating the
+	 * components.
+	 *
+	 * @return snapshot of the current row, null if none
+	 */
+	RowSnapshot getSnapshot() {
+		return snapshot;
+	}
+
+	/**
+	 * Drops the snapshot of the current row, e.g. because the row is about to
+	 * be written.
+	 */
+	void invalidateSnapshot() {
+		snapshot = null;
+	}
+}
@@ -211,6 +211,36 @@ public abstract class SSScreenHelperCommon extends JInternalFrame {
 	protected Connection getConnection() {
 		return connection;
 	}
+
+	/**
+	 * Returns the names of the tables written by this screen. After a record
+	 * is inserted, updated or deleted, the lookups cached for these tables in
+	 * {@link SSLookupCache#getSharedCache()} are invalidated so SSDBComboBoxes
+	 * listing their rows run their queries again.
+	 * <p>
+	 * By default null, which invalidates every lookup cached for the screen's
+	 * Connection.
+	 *
+	 * @return names of the tables written by this screen, or null
+	 */
+	protected String[] getLookupTableNames() {
+		return null;
+	}
+
+	/**
+	 * Invalidates the shared lookups of the tables written by this screen (see
+	 * getLookupTableNames()).
+	 */
+	protected void invalidateLookupCache() {
+		final String[] tableNames = getLookupTableNames();
+		if (tableNames == null) {
+			SSLookupCache.getSharedCache().invalidate(getConnection());
+			return;
+		}
+		for (final String tableName : tableNames) {
+			SSLookupCache.getSharedCache().invalidate(tableName);
+		}
+	}
 	
 	/**
 	 * Builds and returns custom menu bar and with applicable listeners.
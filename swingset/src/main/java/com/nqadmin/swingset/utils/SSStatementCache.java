@@ -0,0 +1,311 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.logging.log4j.Logger;
+
+// SSStatementCache.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Pool of idle PreparedStatements, so a query run again on the same
+ * Connection, e.g. by the synchronous or asynchronous execute() of any
+ * SSDBComboBox with that query or by its typeahead mapping query, is not
+ * prepared again.
+ * <p>
+ * A statement is identified by the Connection (by identity) and the query
+ * text. A JDBC statement runs one query at a time, so a statement is taken
+ * from the pool for one query and released when its ResultSet has been
+ * closed; a query that finds no idle statement prepares a new one. The pool
+ * holds at most its maximum number of idle statements and closes the least
+ * recently used ones first. Statements of a Connection are closed by
+ * {@link #close(Connection)}, e.g. before the Connection is closed. Methods
+ * may be called from any thread.
+ *
+ * @since 4.0.14
+ */
+public class SSStatementCache {
+
+	/**
+	 * Identifies the statements of a query. The Connection is compared by
+	 * identity. It is held strongly, as its statements refer to it anyway.
+	 */
+	private static final class Key {
+
+		private final Connection connection;
+
+		private final String query;
+
+		Key(final Connection _connection, final String _query) {
+			connection = _connection;
+			query = _query;
+		}
+
+		@Override
+		public boolean equals(final Object _other) {
+			if (this == _other) {
+				return true;
+			}
+			if (!(_other instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) _other;
+			return (connection == other.connection) && query.equals(other.query);
+		}
+
+		@Override
+		public int hashCode() {
+			return (31 * System.identityHashCode(connection)) + query.hashCode();
+		}
+	}
+
+	/**
+	 * Default maximum number of idle statements.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 50;
+
+	/**
+	 * Log4j Logger for component
+	 */
+	private static final Logger logger = SSUtils.getLogger();
+
+	private static final SSStatementCache sharedCache = new SSStatementCache();
+
+	private int maximumSize = DEFAULT_MAXIMUM_SIZE;
+
+	// ACCESS ORDERED SO THE ELDEST ENTRY HOLDS THE LEAST RECENTLY USED STATEMENTS
+	private final Map<Key, Deque<PreparedStatement>> statements = new LinkedHashMap<>(16, 0.75f, true);
+
+	private int idleCount = 0;
+
+	/**
+	 * Constructs an empty pool with the default maximum size.
+	 */
+	public SSStatementCache() {
+		// defaults
+	}
+
+	/**
+	 * Returns the process-wide pool shared by default.
+	 *
+	 * @return the shared pool
+	 */
+	public static SSStatementCache getSharedCache() {
+		return sharedCache;
+	}
+
+	/**
+	 * Takes an idle statement for a query out of the pool, or prepares one if
+	 * there is none. The caller sets the parameters, fetch size and maximum
+	 * rows it needs and hands the statement back with
+	 * {@link #release(Connection, String, PreparedStatement)}, or closes it.
+	 *
+	 * @param _connection Connection the query runs on
+	 * @param _query      query text
+	 *
+	 * @return statement for the query, used by the caller only
+	 * @throws SQLException if the statement can not be prepared
+	 */
+	public PreparedStatement take(final Connection _connection, final String _query) throws SQLException {
+		final Key key = new Key(_connection, _query);
+		final List<PreparedStatement> closed = new ArrayList<>();
+		PreparedStatement statement = null;
+		synchronized (this) {
+			final Deque<PreparedStatement> idle = statements.get(key);
+			while ((statement == null) && (idle != null) && !idle.isEmpty()) {
+				statement = idle.pollFirst();
+				idleCount--;
+				if (statement.isClosed()) {
+					closed.add(statement);
+					statement = null;
+				}
+			}
+			if ((idle != null) && idle.isEmpty()) {
+				statements.remove(key);
+			}
+		}
+		closeAll(closed);
+		if (statement == null) {
+			logger.debug("Preparing query [{}].", _query);
+			statement = _connection.prepareStatement(_query);
+		}
+		return statement;
+	}
+
+	/**
+	 * Hands a statement taken with {@link #take(Connection, String)} back to
+	 * the pool once its ResultSet has been closed. Its parameters are cleared.
+	 * A statement that can not be reused, e.g. one whose Connection has been
+	 * closed, is closed instead.
+	 *
+	 * @param _connection Connection the query ran on
+	 * @param _query      query text
+	 * @param _statement  statement taken for the query
+	 */
+	public void release(final Connection _connection, final String _query, final PreparedStatement _statement) {
+		final List<PreparedStatement> evicted = new ArrayList<>();
+		try {
+			if (_statement.isClosed() || _connection.isClosed()) {
+				close(_statement);
+				return;
+			}
+			_statement.clearParameters();
+		} catch (final SQLException se) {
+			logger.debug("Statement could not be released.", se);
+			close(_statement);
+			return;
+		}
+		synchronized (this) {
+			statements.computeIfAbsent(new Key(_connection, _query), key -> new ArrayDeque<>()).addFirst(_statement);
+			idleCount++;
+			evict(evicted);
+		}
+		closeAll(evicted);
+	}
+
+	/**
+	 * Closes the idle statements of a Connection, e.g. before the Connection
+	 * is closed. Statements taken out of the pool are closed when they are
+	 * released.
+	 *
+	 * @param _connection the Connection
+	 */
+	public void close(final Connection _connection) {
+		final List<PreparedStatement> closed = new ArrayList<>();
+		synchronized (this) {
+			for (final Iterator<Map.Entry<Key, Deque<PreparedStatement>>> entries = statements.entrySet()
+					.iterator(); entries.hasNext();) {
+				final Map.Entry<Key, Deque<PreparedStatement>> entry = entries.next();
+				if (entry.getKey().connection == _connection) {
+					closed.addAll(entry.getValue());
+					idleCount -= entry.getValue().size();
+					entries.remove();
+				}
+			}
+		}
+		closeAll(closed);
+	}
+
+	/**
+	 * Closes all idle statements.
+	 */
+	public void closeAll() {
+		final List<PreparedStatement> closed = new ArrayList<>();
+		synchronized (this) {
+			statements.values().forEach(closed::addAll);
+			statements.clear();
+			idleCount = 0;
+		}
+		closeAll(closed);
+	}
+
+	/**
+	 * Moves the least recently used idle statements over the maximum size to
+	 * a list, to be closed outside the lock.
+	 *
+	 * @param _evicted list receiving the statements
+	 */
+	private void evict(final List<PreparedStatement> _evicted) {
+		final Iterator<Deque<PreparedStatement>> idleLists = statements.values().iterator();
+		while ((idleCount > maximumSize) && idleLists.hasNext()) {
+			final Deque<PreparedStatement> idle = idleLists.next();
+			while ((idleCount > maximumSize) && !idle.isEmpty()) {
+				_evicted.add(idle.pollLast());
+				idleCount--;
+			}
+			if (idle.isEmpty()) {
+				idleLists.remove();
+			}
+		}
+	}
+
+	private static void closeAll(final List<PreparedStatement> _statements) {
+		for (final PreparedStatement statement : _statements) {
+			close(statement);
+		}
+	}
+
+	private static void close(final PreparedStatement _statement) {
+		try {
+			_statement.close();
+		} catch (final SQLException se) {
+			logger.debug("Statement could not be closed.", se);
+		}
+	}
+
+	/**
+	 * @return the maximum number of idle statements
+	 */
+	public synchronized int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * Sets the maximum number of idle statements. The least recently used
+	 * statements are closed first.
+	 *
+	 * @param _maximumSize maximum number of idle statements
+	 */
+	public void setMaximumSize(final int _maximumSize) {
+		final List<PreparedStatement> evicted = new ArrayList<>();
+		synchronized (this) {
+			maximumSize = _maximumSize;
+			evict(evicted);
+		}
+		closeAll(evicted);
+	}
+
+	/**
+	 * @return the number of idle statements
+	 */
+	public synchronized int size() {
+		return idleCount;
+	}
+}
@@ -37,6 +37,7 @@
  * ****************************************************************************/
 package com.nqadmin.swingset.utils;
 
+import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -90,6 +91,68 @@ public class SSUtils {
 		List<T> list = (List<T>) Collections.unmodifiableList(Arrays.asList(arr));
 		return list;
 	}
+	////////////////////////////////////////////////////////////////////////////
+	//
+	// Background Threads
+	//
+
+	/**
+	 * Thread.ofVirtual() when running on a JVM with virtual threads.
+	 */
+	private static final Method ofVirtualMethod;
+
+	/**
+	 * Thread.Builder.name(String) when running on a JVM with virtual threads.
+	 */
+	private static final Method builderNameMethod;
+
+	/**
+	 * Thread.Builder.unstarted(Runnable) when running on a JVM with virtual threads.
+	 */
+	private static final Method builderUnstartedMethod;
+
+	static {
+		Method ofVirtual = null;
+		Method builderName = null;
+		Method builderUnstarted = null;
+		try {
+			// LOOKED UP REFLECTIVELY SO THE LIBRARY STILL RUNS ON JAVA 8
+			final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+			builderName = builderClass.getMethod("name", String.class);
+			builderUnstarted = builderClass.getMethod("unstarted", Runnable.class);
+		} catch (ClassNotFoundException | NoSuchMethodException | SecurityException ex) {
+			ofVirtual = null;
+		}
+		ofVirtualMethod = ofVirtual;
+		builderNameMethod = builderName;
+		builderUnstartedMethod = builderUnstarted;
+	}
+
+	/**
+	 * Returns an unstarted thread for background work such as database reads
+	 * that should not run on the event dispatch thread. This is a virtual
+	 * thread where the JVM supports them, otherwise a daemon platform thread.
+	 *
+	 * @param runnable the work to run
+	 * @param name name of the thread, used in debugging and logging
+	 * @return the unstarted thread
+	 */
+	public static Thread newBackgroundThread(Runnable runnable, String name) {
+		if (ofVirtualMethod != null) {
+			try {
+				Object builder = ofVirtualMethod.invoke(null);
+				builder = builderNameMethod.invoke(builder, name);
+				return (Thread) builderUnstartedMethod.invoke(builder, runnable);
+			} catch (ReflectiveOperationException | RuntimeException ex) {
+				// e.g. virtual threads are a preview feature that is not enabled
+			}
+		}
+		Thread thread = new Thread(runnable, name);
+		thread.setDaemon(true);
+		return thread;
+	}
+
 	////////////////////////////////////////////////////////////////////////////
 	//
 	// Debug Support
@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import javax.sql.RowSet;
+import javax.swing.SwingUtilities;
+
+import com.nqadmin.rowset.JdbcRowSetImpl;
+
+// SSDataGridAllocationBenchmark.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Measures the bytes allocated, and the time taken, to render every cell of an
+ * SSDataGrid with an integer, a combo, a date and a text column. Each pass calls
+ * prepareRenderer() for all cells of one column at a time on the event dispatch
+ * thread and reads the thread's allocated bytes before and after.
+ * <p>
+ * This is not a unit test; run it with main(). The arguments are "cached" or
+ * "snapshot", the row count and a maximum number of bytes per cell. The row
+ * count defaults to what the default row-window cache holds, so later passes
+ * read no rows from the RowSet. With a maximum, the program exits with status
+ * 1 if any column of the last pass allocates more than that per cell.
+ * <p>
+ * Requires a HotSpot JVM (com.sun.management.ThreadMXBean) and H2 on the
+ * class path.
+ */
+@SuppressWarnings("javadoc")
+public class SSDataGridAllocationBenchmark {
+
+	private static final int COLUMNS = 4;
+
+	private static final String[] COLUMN_NAMES = { "int", "combo", "date", "text" };
+
+	// ENOUGH FOR THE JIT TO SETTLE, THE FIRST PASS ALSO FILLS THE ROW CACHE
+	private static final int PASSES = 10;
+
+	public static void main(final String[] _args) throws Exception {
+		final boolean snapshot = (_args.length > 0) && "snapshot".equals(_args[0]);
+		final int rows = (_args.length > 1) ? Integer.parseInt(_args[1])
+				: SSTableModel.DEFAULT_CACHE_BLOCK_SIZE * SSTableModel.DEFAULT_CACHE_MAX_BLOCKS;
+		final long maxBytesPerCell = (_args.length > 2) ? Long.parseLong(_args[2]) : Long.MAX_VALUE;
+
+		final Connection connection = DriverManager.getConnection("jdbc:h2:mem:allocation");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("create table bench(id int primary key, code int, day date, name varchar(20))");
+			statement.execute("insert into bench select x, mod(x, 50), dateadd('DAY', x / 40, date '2020-01-01'),"
+					+ " 'n' || mod(x, 100) from system_range(1, " + rows + ")");
+		}
+		final RowSet rowSet = new JdbcRowSetImpl(connection);
+		rowSet.setCommand("select id, code, day, name from bench order by id");
+		rowSet.execute();
+
+		final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		final long[] bytesPerCell = new long[COLUMNS];
+
+		SwingUtilities.invokeAndWait(() -> {
+			final SSDataGrid grid = new SSDataGrid();
+			grid.setSnapshotMode(snapshot);
+			grid.setRowSet(rowSet);
+
+			final String[] displayItems = new String[50];
+			final Integer[] underlyingValues = new Integer[50];
+			for (int i = 0; i < displayItems.length; i++) {
+				displayItems[i] = "Item " + i;
+				underlyingValues[i] = Integer.valueOf(i);
+			}
+			grid.setComboRenderer(1, displayItems, underlyingValues);
+			grid.setDateRenderer(2);
+
+			final long threadId = Thread.currentThread().getId();
+			for (int pass = 0; pass < PASSES; pass++) {
+				final StringBuilder line = new StringBuilder("pass ").append(pass).append(':');
+				long passNanos = 0;
+				for (int column = 0; column < COLUMNS; column++) {
+					final long startBytes = threads.getThreadAllocatedBytes(threadId);
+					final long startNanos = System.nanoTime();
+					for (int row = 0; row < rows; row++) {
+						grid.prepareRenderer(grid.getCellRenderer(row, column), row, column);
+					}
+					passNanos += System.nanoTime() - startNanos;
+					bytesPerCell[column] = (threads.getThreadAllocatedBytes(threadId) - startBytes) / rows;
+					line.append(' ').append(COLUMN_NAMES[column]).append(' ').append(bytesPerCell[column]);
+				}
+				System.out.println(line.append(" bytes/cell, ").append(passNanos / 1_000_000).append(" ms"));
+			}
+		});
+		connection.close();
+
+		for (int column = 0; column < COLUMNS; column++) {
+			if (bytesPerCell[column] > maxBytesPerCell) {
+				System.out.println("FAILED: " + COLUMN_NAMES[column] + " column allocates " + bytesPerCell[column]
+						+ " bytes/cell, more than " + maxBytesPerCell + ".");
+				System.exit(1);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,163 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+import javax.sql.RowSet;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.nqadmin.rowset.JdbcRowSetImpl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the UPDATE statements SSDataNavigator builds to write only the
+ * modified columns of a row.
+ */
+@SuppressWarnings("javadoc")
+public class SSDataNavigatorUpdatePlanTest {
+
+	private Connection connection;
+
+	@BeforeEach
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:updateplan");
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("create table \"Odd\"\"Table\" (id int primary key, \"na\"\"me\" varchar(20), qty int)");
+			statement.execute("insert into \"Odd\"\"Table\" values (1, 'a', 10)");
+			statement.execute("create table pair (a int, b int, v varchar(20), primary key (a, b))");
+			statement.execute("insert into pair values (1, 2, 'x')");
+			statement.execute("create table nokey (id int, v varchar(20))");
+			statement.execute("insert into nokey values (1, 'x')");
+		}
+	}
+
+	@AfterEach
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	// THE ROWSETS ARE NOT CLOSED, THAT WOULD CLOSE THE CONNECTION
+	private SSDataNavigator.UpdatePlan plan(String _command) throws SQLException {
+		RowSet rowSet = new JdbcRowSetImpl(connection);
+		rowSet.setCommand(_command);
+		rowSet.execute();
+		return SSDataNavigator.createUpdatePlan(rowSet);
+	}
+
+	private static String sql(SSDataNavigator.UpdatePlan _plan, Integer... _columns) {
+		return _plan.createUpdateSql(Arrays.asList(_columns));
+	}
+
+	@Test
+	public void testQuoteIdentifier() {
+		System.out.println("quoteIdentifier");
+		assertEquals("\"name\"", SSDataNavigator.quoteIdentifier("\"", "name"));
+		assertEquals("\"na\"\"me\"", SSDataNavigator.quoteIdentifier("\"", "na\"me"));
+		assertEquals("\"\"\"\"\"\"", SSDataNavigator.quoteIdentifier("\"", "\"\""));
+		assertEquals("`a``b`", SSDataNavigator.quoteIdentifier("`", "a`b"));
+		assertEquals("name", SSDataNavigator.quoteIdentifier(" ", "name"));
+		assertEquals("name", SSDataNavigator.quoteIdentifier("", "name"));
+		assertEquals("name", SSDataNavigator.quoteIdentifier(null, "name"));
+	}
+
+	/**
+	 * Table and column names with embedded quotes are escaped, and the
+	 * statement runs.
+	 */
+	@Test
+	public void testQuotedNames() throws SQLException {
+		System.out.println("quotedNames");
+		SSDataNavigator.UpdatePlan odd = plan("select id, \"na\"\"me\", qty from \"Odd\"\"Table\"");
+		String sql = sql(odd, 2, 3);
+		assertEquals("UPDATE \"PUBLIC\".\"Odd\"\"Table\" SET \"na\"\"me\" = ?, \"QTY\" = ? WHERE \"ID\" = ?", sql);
+		assertEquals("UPDATE \"PUBLIC\".\"Odd\"\"Table\" SET \"QTY\" = ? WHERE \"ID\" = ?", sql(odd, 3));
+
+		try (PreparedStatement statement = connection.prepareStatement(sql)) {
+			statement.setString(1, "b");
+			statement.setInt(2, 11);
+			statement.setInt(3, 1);
+			assertEquals(1, statement.executeUpdate());
+		}
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("select \"na\"\"me\", qty from \"Odd\"\"Table\"")) {
+			assertTrue(resultSet.next());
+			assertEquals("b", resultSet.getString(1));
+			assertEquals(11, resultSet.getInt(2));
+		}
+	}
+
+	/**
+	 * The key columns are in primary key order, not query order.
+	 */
+	@Test
+	public void testCompositeKey() throws SQLException {
+		System.out.println("compositeKey");
+		SSDataNavigator.UpdatePlan pair = plan("select b, v, a from pair");
+		assertEquals("UPDATE \"PUBLIC\".\"PAIR\" SET \"V\" = ? WHERE \"A\" = ? AND \"B\" = ?", sql(pair, 2));
+		// COLUMNS NOT IN THE ROWSET
+		assertNull(sql(pair, 0));
+		assertNull(sql(pair, 2, 4));
+	}
+
+	/**
+	 * Queries that can not be written by primary key get a plan that builds
+	 * no statement.
+	 */
+	@Test
+	public void testUnusablePlans() throws SQLException {
+		System.out.println("unusablePlans");
+		for (String command : new String[] {
+				"select p.a, p.b, p.v, n.v from pair p join nokey n on n.id = p.a",
+				"select id, v from nokey",
+				"select b, v from pair",
+				"select a, b, v, 1 as one from pair" }) {
+			assertNull(sql(plan(command), 2), command);
+		}
+	}
+}
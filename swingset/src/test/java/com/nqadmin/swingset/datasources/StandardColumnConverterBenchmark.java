@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.function.Function;
+
+// StandardColumnConverterBenchmark.java
+//
+// SwingSet - Open Toolkit For Making Swing Controls Database-Aware
+
+/**
+ * Measures the time per call of StandardColumnConverter's formatting and
+ * parsing, next to the GregorianCalendar formatting and the JDK parsers it
+ * replaces. Half of the numbers parsed are
+ * not valid, as for text being typed into a field.
+ * <p>
+ * This is not a unit test; run it with main(). Optionally pass the number of
+ * inputs of each kind.
+ */
+@SuppressWarnings("javadoc")
+public class StandardColumnConverterBenchmark {
+
+	private static final int PASSES = 5;
+
+	/** defeats dead code elimination */
+	private static int sink;
+
+	public static void main(final String[] _args) throws Exception {
+		final int count = (_args.length > 0) ? Integer.parseInt(_args[0]) : 100_000;
+		final Random random = new Random(23);
+
+		final Date[] dates = new Date[count];
+		final String[] integers = new String[count];
+		final String[] doubles = new String[count];
+		final String[] dateTexts = new String[count];
+		final String[] timestampTexts = new String[count];
+		final String[] timeTexts = new String[count];
+		for (int i = 0; i < count; i++) {
+			final int year = 1900 + random.nextInt(200);
+			final int month = 1 + random.nextInt(12);
+			final int day = 1 + random.nextInt(28);
+			dates[i] = Date.valueOf(String.format("%04d-%02d-%02d", year, month, day));
+			final boolean valid = random.nextBoolean();
+			integers[i] = String.valueOf(random.nextInt()) + (valid ? "" : "x");
+			doubles[i] = String.valueOf(random.nextDouble() * 1000) + (valid ? "" : "e");
+			dateTexts[i] = String.format("%02d/%02d/%04d", month, day, year);
+			timeTexts[i] = String.format("%02d:%02d:%02d", random.nextInt(24), random.nextInt(60), random.nextInt(60));
+			timestampTexts[i] = String.format("%04d-%02d-%02d %s.%d", year, month, day, timeTexts[i],
+					random.nextInt(1000));
+		}
+
+		for (int pass = 0; pass < PASSES; pass++) {
+			System.out.printf("pass %d%n", pass);
+			run("date format", dates, date -> {
+				try {
+					return StandardColumnConverter.DATE.toText(null, 1, date);
+				} catch (final SQLException se) {
+					throw new IllegalStateException(se);
+				}
+			});
+			run("date format, GregorianCalendar", dates, StandardColumnConverterBenchmark::formatWithCalendar);
+			run("int parse", integers, StandardColumnConverter.INTEGER::fromText);
+			run("int parse, Integer.valueOf()", integers, text -> {
+				try {
+					return Integer.valueOf(text);
+				} catch (final NumberFormatException nfe) {
+					return null;
+				}
+			});
+			run("double parse", doubles, StandardColumnConverter.DOUBLE::fromText);
+			run("double parse, Double.valueOf()", doubles, text -> {
+				try {
+					return Double.valueOf(text);
+				} catch (final NumberFormatException nfe) {
+					return null;
+				}
+			});
+			run("date parse", dateTexts, StandardColumnConverter.DATE::fromText);
+			run("date parse, Date.valueOf()", dateTexts, text -> Date
+					.valueOf(text.substring(6) + "-" + text.substring(0, 2) + "-" + text.substring(3, 5)));
+			run("timestamp parse", timestampTexts, StandardColumnConverter.TIMESTAMP::fromText);
+			run("timestamp parse, Timestamp.valueOf()", timestampTexts, Timestamp::valueOf);
+			run("time parse", timeTexts, StandardColumnConverter.TIME::fromText);
+			run("time parse, Time.valueOf()", timeTexts, Time::valueOf);
+		}
+		System.out.println(sink);
+	}
+
+	/**
+	 * Date text as RowSetOps.getColumnText() built it before
+	 * StandardColumnConverter.
+	 */
+	private static String formatWithCalendar(final java.util.Date _date) {
+		final GregorianCalendar calendar = new GregorianCalendar();
+		calendar.setTime(_date);
+		String value = "";
+		if ((calendar.get(Calendar.MONTH) + 1) < 10) {
+			value = "0";
+		}
+		value = value + (calendar.get(Calendar.MONTH) + 1) + "/";
+		if (calendar.get(Calendar.DAY_OF_MONTH) < 10) {
+			value = value + "0";
+		}
+		value = value + calendar.get(Calendar.DAY_OF_MONTH) + "/";
+		value = value + calendar.get(Calendar.YEAR);
+		return value;
+	}
+
+	private static <T> void run(final String _name, final T[] _inputs, final Function<T, Object> _function) {
+		final long startNanos = System.nanoTime();
+		for (final T input : _inputs) {
+			final Object result = _function.apply(input);
+			sink += result == null ? 0 : result.hashCode();
+		}
+		final long nanos = System.nanoTime() - startNanos;
+		System.out.printf("  %-38s %5d ns/call%n", _name, nanos / _inputs.length);
+	}
+
+}
@@ -0,0 +1,230 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.datasources;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks StandardColumnConverter's parsing against the JDK parsers it replaces.
+ */
+@SuppressWarnings("javadoc")
+public class StandardColumnConverterTest {
+
+	/** dates are checked in zones with and without daylight saving time */
+	private static final String[] ZONES = { "UTC", "America/New_York", "Australia/Lord_Howe" };
+
+	private static final String[] INTEGERS = {
+		"0", "-0", "+0", "7", "-7", "+7", "007", "", "-", "+", "--1", "+-1", "1-", " 1", "1 ", "1a", "1.0",
+		"2147483647", "2147483648", "-2147483648", "-2147483649",
+		"9223372036854775807", "9223372036854775808", "-9223372036854775808", "-9223372036854775809",
+		"00000000000000000000000009223372036854775807", "99999999999999999999", "-99999999999999999999",
+		// Long.parseLong() TAKES ANY UNICODE DIGIT
+		"١٢٣", "-１"
+	};
+
+	private static final String[] FLOATING_POINTS = {
+		"0", "-0", "1", "1.", ".5", "-.5", "+1.5", ".", "-", "", " ", "1.5e10", "1.5E-10", "1e+5", "1e", "1e+",
+		"e5", ".e5", "1..2", "1.2.3", "1_000", " 1.5 ", "\t1.5\n", "1.5f", "1.5F", "1.5d", "1.5D", "1.5fd", "1f5",
+		"NaN", "-NaN", "+Infinity", "-Infinity", "Infinity ", "Infinityx", "nan", "inf", "1e99999", "1e-99999",
+		"١", "1٢"
+	};
+
+	private static final String[] HEXADECIMALS = { "0x1p3", "-0X1.8p-2", "0x1p", "0x", "0xg" };
+
+	private static final String[] DECIMALS = {
+		"0", "-0", "1", "-1.50", "+.5", "5.", ".", "-", "+", "", " 1", "1 ", "1e10", "1E-10", "1e+3", "1e", "1e+",
+		"e1", "1..2", "1.5f", "NaN", "Infinity", "0x10", "123456789012345678901234567890.123456789",
+		// new BigDecimal() TAKES ANY UNICODE DIGIT
+		"١٢.٣"
+	};
+
+	/** valid grammar, but the scale may not fit an int */
+	private static final String[] DECIMAL_EXPONENTS = { "1e2147483647", "1e-2147483647", "1e2147483648", "1e99999999999" };
+
+	/** { text, the same date as "yyyy-mm-dd" or null if not valid } */
+	private static final String[][] DATES = {
+		{ "02/05/2021", "2021-02-05" }, { "12/31/9999", "9999-12-31" }, { "01/01/0000", "0000-01-01" },
+		// DAYS PAST THE END OF THE MONTH ROLL OVER
+		{ "02/30/2021", "2021-02-30" }, { "04/31/2021", "2021-04-31" }, { "02/29/2020", "2020-02-29" },
+		{ "02/29/1900", "1900-02-29" }, { "02/29/2000", "2000-02-29" },
+		// JULIAN BEFORE THE GREGORIAN CUTOVER
+		{ "02/29/1500", "1500-02-29" }, { "02/30/1500", "1500-02-30" }, { "10/04/1582", "1582-10-04" },
+		{ "10/10/1582", "1582-10-10" }, { "10/15/1582", "1582-10-15" }, { "03/10/0004", "0004-03-10" },
+		// DAYLIGHT SAVING TIME STARTS AT MIDNIGHT IN SOME ZONES
+		{ "03/14/2021", "2021-03-14" }, { "10/03/2021", "2021-10-03" },
+		{ "13/01/2021", null }, { "00/10/2021", null }, { "01/32/2021", null }, { "01/00/2021", null },
+		{ "1/5/2021", null }, { "01/5/2021", null }, { "02-05-2021", null }, { "02/05/21", null },
+		{ "0a/05/2021", null }, { "02/05/20211", null }, { "2021-02-05", null }, { "", null }
+	};
+
+	/** { text, the same timestamp as "yyyy-mm-dd hh:mm:ss[.f...]" or null if not valid } */
+	private static final String[][] TIMESTAMPS = {
+		{ "2021-02-05 10:20:30", "2021-02-05 10:20:30" }, { "2021-2-5 1:2:3.5", "2021-2-5 1:2:3.5" },
+		{ " 2021-02-05 10:20:30 ", "2021-02-05 10:20:30" }, { "02/05/2021", "2021-02-05 00:00:00" },
+		{ "2021-02-05 10:20:30.123456789", "2021-02-05 10:20:30.123456789" },
+		{ "2021-02-05 10:20:30.000000001", "2021-02-05 10:20:30.000000001" },
+		// FIELDS PAST THEIR RANGE ROLL OVER, INTO DAYLIGHT SAVING TIME AND ACROSS THE CUTOVER
+		{ "2021-01-31 25:61:61.1", "2021-01-31 25:61:61.1" }, { "2021-03-13 26:30:00", "2021-03-13 26:30:00" },
+		{ "2021-02-31 00:00:00", "2021-02-31 00:00:00" }, { "2021-01-01 0:0:999999999", "2021-01-01 0:0:999999999" },
+		{ "1500-02-29 23:59:59.999999999", "1500-02-29 23:59:59.999999999" },
+		{ "1582-10-04 24:00:00", "1582-10-04 24:00:00" }, { "1582-10-10 00:00:00", "1582-10-10 00:00:00" },
+		{ "1582-10-14 06:18:51444", "1582-10-14 06:18:51444" }, { "1577-07-21 45213:25154:73394", "1577-07-21 45213:25154:73394" },
+		{ "1580-12-12 54295:41:12", "1580-12-12 54295:41:12" },
+		{ "2021-13-01 00:00:00", null }, { "2021-00-01 00:00:00", null }, { "2021-01-32 00:00:00", null },
+		{ "21-02-05 10:20:30", null }, { "2021-02-05 10:20", null }, { "2021-02-05T10:20:30", null },
+		{ "2021-02-05 10:20:30.", null }, { "2021-02-05 10:20:30.1234567890", null }, { "2021-02-05", null },
+		{ "2021-02-05 a:20:30", null }, { "2021-02-05 10:20:30.5x", null }, { "", null }
+	};
+
+	private static final String[] TIMES = {
+		"10:20:30", "0:0:0", "23:59:59", "1:2:3", "24:00:00", "25:61:61", "0:0:999999999",
+		"10:20", "10:20:", ":20:30", "10::30", "a:b:c", "10:20:30.5", "10:20:30:40", "10:20:3x", " 10:20:30", ""
+	};
+
+	@Test
+	public void testParseLong() {
+		System.out.println("parseLong");
+		for (String text : INTEGERS) {
+			assertEquals(jdk(() -> Long.parseLong(text)), orInvalid(StandardColumnConverter.parseLong(text,
+					Long.MIN_VALUE, Long.MAX_VALUE)), text);
+			assertEquals(jdk(() -> Long.parseLong(text)), StandardColumnConverter.BIGINT.fromText(text), text);
+			assertEquals(jdk(() -> Integer.parseInt(text)), StandardColumnConverter.INTEGER.fromText(text), text);
+		}
+	}
+
+	@Test
+	public void testIsFloatingPoint() {
+		System.out.println("isFloatingPoint");
+		for (String text : FLOATING_POINTS) {
+			assertEquals(jdk(() -> Double.parseDouble(text)) != ColumnConverter.INVALID,
+					StandardColumnConverter.isFloatingPoint(text), text);
+		}
+		for (String text : HEXADECIMALS) {
+			assertTrue(StandardColumnConverter.isFloatingPoint(text), text);
+		}
+		for (String[] texts : new String[][] { FLOATING_POINTS, HEXADECIMALS }) {
+			for (String text : texts) {
+				assertEquals(jdk(() -> Double.valueOf(text)), StandardColumnConverter.DOUBLE.fromText(text), text);
+				assertEquals(jdk(() -> Float.valueOf(text)), StandardColumnConverter.FLOAT.fromText(text), text);
+			}
+		}
+	}
+
+	@Test
+	public void testIsDecimal() {
+		System.out.println("isDecimal");
+		for (String text : DECIMALS) {
+			assertEquals(jdk(() -> new BigDecimal(text)) != ColumnConverter.INVALID,
+					StandardColumnConverter.isDecimal(text), text);
+		}
+		for (String text : DECIMAL_EXPONENTS) {
+			assertTrue(StandardColumnConverter.isDecimal(text), text);
+		}
+		for (String[] texts : new String[][] { DECIMALS, DECIMAL_EXPONENTS }) {
+			for (String text : texts) {
+				assertEquals(jdk(() -> new BigDecimal(text)), StandardColumnConverter.DECIMAL.fromText(text), text);
+			}
+		}
+	}
+
+	@Test
+	public void testParseDate() {
+		System.out.println("parseDate");
+		inZones(() -> {
+			for (String[] date : DATES) {
+				Object expected = date[1] == null ? ColumnConverter.INVALID : Date.valueOf(date[1]);
+				assertEquals(expected, StandardColumnConverter.DATE.fromText(date[0]), date[0]);
+			}
+		});
+	}
+
+	@Test
+	public void testParseTimestamp() {
+		System.out.println("parseTimestamp");
+		inZones(() -> {
+			for (String[] timestamp : TIMESTAMPS) {
+				Object expected = timestamp[1] == null ? ColumnConverter.INVALID : Timestamp.valueOf(timestamp[1]);
+				assertEquals(expected, StandardColumnConverter.TIMESTAMP.fromText(timestamp[0]), timestamp[0]);
+			}
+		});
+	}
+
+	@Test
+	public void testTimeFromText() {
+		System.out.println("TIME.fromText");
+		inZones(() -> {
+			for (String text : TIMES) {
+				assertEquals(jdk(() -> Time.valueOf(text)), StandardColumnConverter.TIME.fromText(text), text);
+			}
+		});
+	}
+
+	/** the JDK parser's value, INVALID if it throws */
+	private static Object jdk(Callable<Object> _parser) {
+		try {
+			return _parser.call();
+		} catch (Exception e) {
+			return ColumnConverter.INVALID;
+		}
+	}
+
+	private static Object orInvalid(Object _value) {
+		return _value == null ? ColumnConverter.INVALID : _value;
+	}
+
+	private static void inZones(Runnable _test) {
+		TimeZone timeZone = TimeZone.getDefault();
+		try {
+			for (String zone : ZONES) {
+				TimeZone.setDefault(TimeZone.getTimeZone(zone));
+				_test.run();
+			}
+		} finally {
+			TimeZone.setDefault(timeZone);
+		}
+	}
+}
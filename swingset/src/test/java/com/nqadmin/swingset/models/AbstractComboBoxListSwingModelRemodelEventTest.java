@@ -523,6 +523,56 @@ public class AbstractComboBoxListSwingModelRemodelEventTest {
 		assertTrue(events.isEmpty());
 	}
 	
+	/**
+	 * Test events held until remodel close, see setCoalesceEvents.
+	 */
+	@Test
+	public void testCoalesceEvents() {
+		LI li = new LI(4, true);
+		li.setCoalesceEvents(true);
+		addListener(li);
+		List<SSListItem> items = liCreateMany(li.getItemNumElems(), li);
+		try (LI.Remodel remodel = li.getRemodel()) {
+			// add one at a time, a couple of them in front
+			remodel.add(items.get(2));
+			remodel.add(items.get(3));
+			remodel.add(0, items.get(1));
+			remodel.add(0, items.get(0));
+			remodel.add(items.get(4));
+			remodel.setElem(4, 1, null);
+			assertTrue(events.isEmpty());
+		}
+		expectEvent(ADDED, 0, 4);
+		// first item added to empty combo is selected
+		expectEvent(CHANGED, -1, -1);
+		assertTrue(events.isEmpty());
+
+		try (LI.Remodel remodel = li.getRemodel()) {
+			remodel.remove(2);
+			remodel.remove(2);
+			remodel.remove(1);
+			remodel.setElem(0, 1, null);
+			remodel.setElem(1, 1, null);
+			// nested remodel is held by the outer one
+			try (LI.Remodel nested = li.getRemodel()) {
+				nested.add(items.get(2));
+			}
+			assertTrue(events.isEmpty());
+		}
+		expectEvent(REMOVED, 1, 3);
+		expectEvent(CHANGED, 0, 1);
+		expectEvent(ADDED, 2, 2);
+		// the selected item, the first one added, was removed
+		expectEvent(CHANGED, -1, -1);
+		assertTrue(events.isEmpty());
+
+		li.setCoalesceEvents(false);
+		try (LI.Remodel remodel = li.getRemodel()) {
+			remodel.remove(0);
+			expectEvent(REMOVED, 0, 0);
+		}
+	}
+
 	// @ParameterizedTest
 	// @MethodSource("generateLI3")
 	// public void testXXX(LI li) {
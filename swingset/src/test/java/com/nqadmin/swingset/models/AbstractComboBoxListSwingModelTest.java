@@ -25,6 +25,7 @@ import java.time.Month;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -404,4 +405,53 @@ public class AbstractComboBoxListSwingModelTest {
 		System.gc();
 		assertEquals(4, listInfo.checkCreatedLists());
 	}
+
+	/**
+	 * Test of setElemIndexed method, of class AbstractComboBoxListSwingModel.
+	 * Random modifications, with duplicates, compare indexed lookup
+	 * against a scan of the list.
+	 */
+	@Test
+	public void testElemIndexed() {
+		System.out.println("elemIndexed");
+		LI li = new LI(2, null);
+		li.setElemIndexed(1, true);
+		assertTrue(li.isElemIndexed(1));
+		assertFalse(li.isElemIndexed(0));
+		List<Object> slice = li.createElementSlice(1);
+		Random random = new Random(13);
+		// FIRST WITH MANY DUPLICATE VALUES, THEN WITH UNIQUE VALUES
+		int unique = 20;
+		for (int op = 0; op < 4000; op++) {
+			try (LI.Remodel remodel = li.getRemodel()) {
+				int size = remodel.getItemList().size();
+				Integer value = op < 2000 ? random.nextInt(20) : unique++;
+				SSListItem item = li.createListItem("o" + value, value);
+				switch (size == 0 ? 0 : random.nextInt(10)) {
+				case 0: remodel.add(item); break;
+				case 1: remodel.add(0, item); break;
+				case 2: remodel.add(random.nextInt(size), item); break;
+				case 3: remodel.addAll(Arrays.asList(item, li.createListItem("o", unique++))); break;
+				case 4: remodel.remove(size - 1); break;
+				case 5: remodel.remove(0); break;
+				case 6: remodel.remove(random.nextInt(size)); break;
+				case 7: remodel.set(random.nextInt(size), item); break;
+				case 8: remodel.setElem(random.nextInt(size), 1, value); break;
+				default: if (random.nextInt(20) == 0) remodel.clear(); break;
+				}
+			}
+			try (LI.Remodel remodel = li.getRemodel()) {
+				List<Object> values = new ArrayList<>();
+				for (int i = 0; i < remodel.getItemList().size(); i++) {
+					values.add(remodel.getElem(i, 1));
+				}
+				for (Object value : values) {
+					assertEquals(values.indexOf(value), slice.indexOf(value), "op " + op);
+				}
+				assertEquals(-1, slice.indexOf(-1), "op " + op);
+			}
+		}
+		li.setElemIndexed(1, false);
+		assertFalse(li.isElemIndexed(1));
+	}
 }
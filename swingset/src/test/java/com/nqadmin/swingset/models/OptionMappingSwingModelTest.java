@@ -0,0 +1,211 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.models;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.JDBCType;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import ca.odell.glazedlists.EventList;
+import ca.odell.glazedlists.event.ListEvent;
+
+import com.nqadmin.swingset.utils.SSLookupCache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("javadoc")
+public class OptionMappingSwingModelTest {
+
+	static class Model extends GlazedListsOptionMappingInfo<Long, String, Object> {
+		/** list rebuilt from the ListEvents */
+		final List<SSListItem> mirror = new ArrayList<>();
+		/** number of changes in the ListEvents */
+		int changes;
+
+		Model() {
+			super(false);
+			EventList<SSListItem> eventList = getEventList();
+			eventList.addListEventListener(listChanges -> {
+				while (listChanges.next()) {
+					int index = listChanges.getIndex();
+					switch (listChanges.getType()) {
+					case ListEvent.INSERT: mirror.add(index, eventList.get(index)); break;
+					case ListEvent.DELETE: mirror.remove(index); break;
+					default: mirror.set(index, eventList.get(index)); break;
+					}
+					changes++;
+				}
+			});
+		}
+
+		List<SSListItem> items() {
+			return new ArrayList<>(getItemList());
+		}
+	}
+
+	private static List<SSListItem> createItems(Model _model, Random _random, int _size) {
+		List<SSListItem> items = new ArrayList<>();
+		try (Model.Remodel remodel = _model.getRemodel()) {
+			for (int i = 0; i < _size; i++) {
+				// DUPLICATE MAPPINGS, AND OPTIONS THAT CHANGE
+				long mapping = _random.nextInt(_size + 5);
+				items.add(remodel.createOptionMappingItem(mapping, "o" + mapping + "-" + _random.nextInt(3), null));
+			}
+		}
+		return items;
+	}
+
+	/**
+	 * Test of Remodel.refresh: the list, and the list rebuilt from the
+	 * ListEvents, are the same as after removing the list items from the
+	 * index on and adding the new ones.
+	 */
+	@Test
+	public void testRefresh() {
+		System.out.println("refresh");
+		Model refreshed = new Model();
+		Model replaced = new Model();
+		Random random = new Random(19);
+		for (int op = 0; op < 500; op++) {
+			int size = random.nextInt(4) == 0 ? random.nextInt(3) : random.nextInt(40);
+			List<SSListItem> newItems = createItems(refreshed, random, size);
+			int fromIndex = Math.min(random.nextInt(3), refreshed.getItemList().size());
+			boolean coalesce = random.nextBoolean();
+			refreshed.setCoalesceEvents(coalesce);
+			replaced.setCoalesceEvents(coalesce);
+			List<SSListItem> before = refreshed.items();
+			refreshed.changes = 0;
+
+			int changes;
+			try (Model.Remodel remodel = refreshed.getRemodel()) {
+				changes = remodel.refresh(fromIndex, newItems);
+			}
+			try (Model.Remodel remodel = replaced.getRemodel()) {
+				while (remodel.getItemList().size() > fromIndex) {
+					remodel.remove(remodel.getItemList().size() - 1);
+				}
+				remodel.addAll(newItems);
+			}
+
+			String msg = "op " + op;
+			assertEquals(replaced.items(), refreshed.items(), msg);
+			assertEquals(replaced.mirror, replaced.items(), msg);
+			assertEquals(refreshed.items(), refreshed.mirror, msg);
+			if (!coalesce) {
+				assertEquals(changes, refreshed.changes, msg);
+			}
+			if (before.equals(refreshed.items())) {
+				// NOTHING TO DO, THE LIST ITEMS ARE KEPT
+				assertEquals(0, changes, msg);
+				for (int i = 0; i < before.size(); i++) {
+					assertSame(before.get(i), refreshed.getItemList().get(i), msg);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Two models sharing the list items of one lookup cache entry, as combo
+	 * boxes running the same query do: when the model that created the items
+	 * moves them to new columns, after a clear and when compacting its
+	 * columns, it puts copies in its own list and the shared items are left
+	 * as they are.
+	 */
+	@Test
+	public void testSharedLookupItems() throws SQLException {
+		System.out.println("sharedLookupItems");
+		Model first = new Model();
+		Model second = new Model();
+		List<SSListItem> created = new ArrayList<>();
+		try (Model.Remodel remodel = first.getRemodel()) {
+			for (long mapping = 0; mapping < 2000; mapping++) {
+				created.add(remodel.createOptionMappingItem(mapping, "o" + mapping, null));
+			}
+			remodel.addAll(created);
+		}
+
+		SSLookupCache cache = new SSLookupCache();
+		try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:sharedlookup")) {
+			cache.put(connection, "SELECT * FROM T", new SSLookupCache.Lookup(created, JDBCType.VARCHAR, null),
+					"M", "O");
+			List<SSListItem> shared = cache.get(connection, "SELECT * FROM T", "M", "O").getItems();
+			try (Model.Remodel remodel = second.getRemodel()) {
+				remodel.addAll(shared);
+			}
+
+			// THE FIRST MODEL NOW HAS NEW COLUMNS, THE SHARED ITEMS ARE COPIED INTO THEM
+			try (Model.Remodel remodel = first.getRemodel()) {
+				remodel.clear();
+				remodel.addAll(shared);
+			}
+			checkShared(first, second, shared, 0);
+
+			// MOST ROWS UNUSED, THE FIRST MODEL COMPACTS ITS COLUMNS
+			try (Model.Remodel remodel = first.getRemodel()) {
+				while (remodel.getItemList().size() > 100) {
+					remodel.remove(remodel.getItemList().size() - 1);
+				}
+				remodel.addAll(created.subList(0, 100));
+			}
+			checkShared(first, second, shared, 100);
+			assertEquals(first.getItemList(), first.mirror);
+		}
+	}
+
+	private static void checkShared(Model _first, Model _second, List<SSListItem> _shared, int _offset) {
+		try (Model.Remodel remodel = _second.getRemodel()) {
+			for (int i = 0; i < remodel.getItemList().size(); i++) {
+				assertSame(_shared.get(i), remodel.get(i));
+				assertEquals(Long.valueOf(i), remodel.getMapping(_shared.get(i)));
+				assertEquals("o" + i, remodel.getOption(_shared.get(i)));
+			}
+		}
+		for (int i = 0; i < _first.getItemList().size(); i++) {
+			SSListItem item = _first.getItemList().get(i);
+			SSListItem sharedItem = _shared.get(i < _offset ? i : i - _offset);
+			assertNotSame(sharedItem, item);
+			assertEquals(sharedItem, item);
+		}
+	}
+}
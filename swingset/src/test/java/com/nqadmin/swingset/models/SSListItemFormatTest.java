@@ -514,4 +514,76 @@ public class SSListItemFormatTest {
 	// 	fail("The test case is a prototype.");
 	// }
 	
+	/**
+	 * Test of setCaching, formatText, of class SSListItemFormat.
+	 */
+	@Test
+	public void testFormatCaching() {
+		System.out.println("formatCaching");
+
+		LI listInfo = new LI(2, new ArrayList<>());
+		SSListItemFormat cfmt = listInfo.getListItemFormat();
+		cfmt.clear();
+		cfmt.addElemType(0, JDBCType.INTEGER);
+		cfmt.addElemType(1, JDBCType.VARCHAR);
+		cfmt.setCaching(true);
+		assertTrue(cfmt.isCaching());
+
+		try (LI.Remodel remodel = listInfo.getRemodel()) {
+			remodel.add(listInfo.createListItem(integer, string));
+			SSListItem item = remodel.get(0);
+			String text = cfmt.formatText(item);
+			assertEquals("42 | everything", text);
+			assertSame(text, cfmt.formatText(item));
+			assertEquals(text, cfmt.format(item));
+
+			// setElem replaces the list item
+			remodel.setElem(0, 1, "nothing");
+			assertEquals("42 | nothing", cfmt.formatText(remodel.get(0)));
+
+			// format changes are seen
+			cfmt.setSeparator(" - ");
+			assertEquals("42 - nothing", cfmt.formatText(remodel.get(0)));
+			cfmt.setFormat(JDBCType.INTEGER, new DecimalFormat("#0.0"));
+			assertEquals("42.0 - nothing", cfmt.format(remodel.get(0)));
+		}
+		assertEquals("", cfmt.formatText("not a list item"));
+		cfmt.setCaching(false);
+		assertFalse(cfmt.isCaching());
+	}
+
+	/**
+	 * Two formats caching text for the same list items, as combo boxes
+	 * sharing cached list items do, each keep their own text.
+	 */
+	@Test
+	public void testFormatCachingTwoFormats() {
+		System.out.println("formatCachingTwoFormats");
+
+		LI listInfo = new LI(2, new ArrayList<>());
+		SSListItemFormat fmt1 = new SSListItemFormat();
+		fmt1.addElemType(0, JDBCType.INTEGER);
+		fmt1.addElemType(1, JDBCType.VARCHAR);
+		fmt1.setCaching(true);
+		SSListItemFormat fmt2 = new SSListItemFormat();
+		fmt2.addElemType(1, JDBCType.VARCHAR);
+		fmt2.addElemType(0, JDBCType.INTEGER);
+		fmt2.setSeparator(" - ");
+		fmt2.setCaching(true);
+
+		try (LI.Remodel remodel = listInfo.getRemodel()) {
+			remodel.add(listInfo.createListItem(integer, string));
+			SSListItem item = remodel.get(0);
+			String text1 = fmt1.formatText(item);
+			String text2 = fmt2.formatText(item);
+			assertEquals("42 | everything", text1);
+			assertEquals("everything - 42", text2);
+			assertSame(text1, fmt1.formatText(item));
+			assertSame(text2, fmt2.formatText(item));
+
+			fmt1.setSeparator(" + ");
+			assertEquals("42 + everything", fmt1.formatText(item));
+			assertSame(text2, fmt2.formatText(item));
+		}
+	}
 }
@@ -0,0 +1,218 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("javadoc")
+public class SSMetricsTest {
+
+	private boolean wasEnabled;
+
+	@BeforeEach
+	public void setUp() {
+		wasEnabled = SSMetrics.isEnabled();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		SSMetrics.setEnabled(wasEnabled);
+	}
+
+	/**
+	 * Every value is in a bucket whose range holds it and is at most 1/8 of
+	 * the value wide, and the buckets are in value order.
+	 */
+	@Test
+	public void testBuckets() {
+		System.out.println("buckets");
+		long[] values = { 0, 1, 7, 8, 9, 15, 16, 17, 31, 32, 1000, 1023, 1024, 1025, 1L << 40, (1L << 40) - 1,
+				Long.MAX_VALUE - 1, Long.MAX_VALUE };
+		for (long value : values) {
+			checkBucket(value);
+		}
+		Random random = new Random(25);
+		for (int i = 0; i < 100_000; i++) {
+			checkBucket(random.nextLong() >>> (1 + random.nextInt(63)));
+		}
+
+		// CONSECUTIVE BUCKETS COVER EVERY VALUE ONCE
+		int lastBucket = SSMetrics.Histogram.bucketOf(Long.MAX_VALUE);
+		for (int bucket = 1; bucket <= lastBucket; bucket++) {
+			long highestBelow = SSMetrics.Histogram.highestValueIn(bucket - 1);
+			assertEquals(bucket - 1, SSMetrics.Histogram.bucketOf(highestBelow));
+			assertEquals(bucket, SSMetrics.Histogram.bucketOf(highestBelow + 1));
+		}
+		assertEquals(Long.MAX_VALUE, SSMetrics.Histogram.highestValueIn(lastBucket));
+	}
+
+	private static void checkBucket(long _value) {
+		int bucket = SSMetrics.Histogram.bucketOf(_value);
+		long highest = SSMetrics.Histogram.highestValueIn(bucket);
+		long lowest = bucket == 0 ? 0 : SSMetrics.Histogram.highestValueIn(bucket - 1) + 1;
+		assertTrue(lowest <= _value && _value <= highest, _value + " in [" + lowest + ", " + highest + "]");
+		assertTrue(highest - lowest <= Math.max(lowest / 8, 0), "bucket of " + _value + " too wide");
+	}
+
+	/**
+	 * Small values are counted exactly.
+	 */
+	@Test
+	public void testSmallValues() {
+		System.out.println("smallValues");
+		SSMetrics.Histogram histogram = new SSMetrics.Histogram();
+		for (int value = 0; value < 8; value++) {
+			for (int i = 0; i < 10; i++) {
+				histogram.record(value);
+			}
+		}
+		histogram.record(-5);
+		SSMetrics.Snapshot snapshot = histogram.snapshot();
+		assertEquals(SSMetrics.Type.HISTOGRAM, snapshot.getType());
+		assertEquals(81, snapshot.getCount());
+		assertEquals(280, snapshot.getSum());
+		assertEquals(0, snapshot.getMin());
+		assertEquals(7, snapshot.getMax());
+		// RANK 41 OF 11 ZEROS, THEN 10 OF EACH VALUE
+		assertEquals(3, snapshot.getMedian());
+		assertEquals(7, snapshot.getPercentile95());
+		assertEquals(7, snapshot.getPercentile99());
+	}
+
+	/**
+	 * Percentiles are within 1/8 of the exact percentile and within the
+	 * recorded minimum and maximum.
+	 */
+	@Test
+	public void testPercentiles() {
+		System.out.println("percentiles");
+		Random random = new Random(25);
+		for (int run = 0; run < 50; run++) {
+			SSMetrics.Histogram histogram = new SSMetrics.Histogram();
+			int count = 1 + random.nextInt(5000);
+			long[] values = new long[count];
+			long sum = 0;
+			for (int i = 0; i < count; i++) {
+				// LOG-NORMAL, AS DURATIONS ARE
+				values[i] = (long) Math.exp(8 + 3 * random.nextGaussian());
+				histogram.record(values[i]);
+				sum += values[i];
+			}
+			Arrays.sort(values);
+			SSMetrics.Snapshot snapshot = histogram.snapshot();
+			assertEquals(count, snapshot.getCount());
+			assertEquals(sum, snapshot.getSum());
+			assertEquals(values[0], snapshot.getMin());
+			assertEquals(values[count - 1], snapshot.getMax());
+			checkPercentile(values, 0.50, snapshot.getMedian());
+			checkPercentile(values, 0.95, snapshot.getPercentile95());
+			checkPercentile(values, 0.99, snapshot.getPercentile99());
+		}
+	}
+
+	private static void checkPercentile(long[] _sorted, double _percentile, long _estimate) {
+		long exact = _sorted[(int) Math.ceil(_percentile * _sorted.length) - 1];
+		assertTrue(_estimate >= exact && _estimate <= exact + exact / 8,
+				"p" + _percentile + " " + _estimate + " for " + exact);
+		assertTrue(_estimate >= _sorted[0] && _estimate <= _sorted[_sorted.length - 1]);
+	}
+
+	@Test
+	public void testEmptyAndReset() {
+		System.out.println("emptyAndReset");
+		SSMetrics.Histogram histogram = new SSMetrics.Histogram();
+		assertEquals(0, histogram.snapshot().getCount());
+		assertEquals(0, histogram.snapshot().getMax());
+		histogram.record(1000);
+		assertEquals(1000, histogram.snapshot().getMedian());
+		histogram.reset();
+		SSMetrics.Snapshot snapshot = histogram.snapshot();
+		assertEquals(0, snapshot.getCount());
+		assertEquals(0, snapshot.getMin());
+		assertEquals(0, snapshot.getMean());
+	}
+
+	/**
+	 * A timer started while metrics are disabled records nothing, even if
+	 * metrics are enabled before it is stopped.
+	 */
+	@Test
+	public void testNotStarted() {
+		System.out.println("notStarted");
+		SSMetrics.setEnabled(false);
+		long start = SSMetrics.startTimer();
+		assertEquals(SSMetrics.NOT_STARTED, start);
+		SSMetrics.setEnabled(true);
+		SSMetrics.stopTimer("SSMetricsTest.notStarted", start);
+		SSMetrics.stopTimer("SSMetricsTest.notStarted", "[c]", start);
+		SSMetrics.timer("SSMetricsTest.notStarted.timer").stop(start);
+		assertNull(SSMetrics.snapshot().get("SSMetricsTest.notStarted"));
+		assertNull(SSMetrics.snapshot().get("SSMetricsTest.notStarted[c]"));
+		assertEquals(0, SSMetrics.snapshot().get("SSMetricsTest.notStarted.timer").getCount());
+
+		start = SSMetrics.startTimer();
+		assertNotEquals(SSMetrics.NOT_STARTED, start);
+		SSMetrics.stopTimer("SSMetricsTest.notStarted", "[c]", start);
+		assertEquals(1, SSMetrics.snapshot().get("SSMetricsTest.notStarted[c]").getCount());
+	}
+
+	/**
+	 * Component timers are named by name and component, reused, and limited in
+	 * number.
+	 */
+	@Test
+	public void testComponentTimers() {
+		System.out.println("componentTimers");
+		String name = "SSMetricsTest.component";
+		SSMetrics.Timer timer = SSMetrics.componentTimer(name, "[a]");
+		assertSame(SSMetrics.timer(name + "[a]"), timer);
+		assertSame(timer, SSMetrics.componentTimer(name, new String("[a]")));
+		for (int i = 1; i < SSMetrics.MAX_COMPONENTS; i++) {
+			assertSame(SSMetrics.timer(name + "[" + i + "]"), SSMetrics.componentTimer(name, "[" + i + "]"));
+		}
+		assertSame(SSMetrics.timer(name), SSMetrics.componentTimer(name, "[one too many]"));
+		assertNull(SSMetrics.snapshot().get(name + "[one too many]"));
+	}
+}
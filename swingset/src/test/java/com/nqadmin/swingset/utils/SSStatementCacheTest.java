@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (C) 2003-2021, Prasanth R. Pasala, Brian E. Pangburn, & The Pangburn Group
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright notice,
+ *    this list of conditions and the following disclaimer.
+ * 
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ * 
+ * 3. Neither the name of the copyright holder nor the names of its contributors
+ *    may be used to endorse or promote products derived from this software
+ *    without specific prior written permission.
+ * 
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS"
+ * AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE
+ * IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE
+ * ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE
+ * LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS
+ * INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN
+ * CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED OF THE
+ * POSSIBILITY OF SUCH DAMAGE.
+ * 
+ * Contributors:
+ *   Prasanth R. Pasala
+ *   Brian E. Pangburn
+ *   Diego Gil
+ *   Man "Bee" Vo
+ *   Ernie R. Rael
+ ******************************************************************************/
+package com.nqadmin.swingset.utils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SuppressWarnings("javadoc")
+public class SSStatementCacheTest {
+
+	private static final String QUERY = "SELECT 1 FROM DUAL WHERE 1 = ?";
+
+	private Connection connection;
+
+	private SSStatementCache cache;
+
+	@BeforeEach
+	public void setUp() throws SQLException {
+		connection = DriverManager.getConnection("jdbc:h2:mem:statementcache");
+		cache = new SSStatementCache();
+	}
+
+	@AfterEach
+	public void tearDown() throws SQLException {
+		cache.closeAll();
+		connection.close();
+	}
+
+	/**
+	 * A released statement is taken again for the same query, while a
+	 * statement still in use is never handed out twice.
+	 */
+	@Test
+	public void testTakeRelease() throws SQLException {
+		System.out.println("takeRelease");
+		PreparedStatement first = cache.take(connection, QUERY);
+		PreparedStatement second = cache.take(connection, QUERY);
+		assertNotSame(first, second);
+		cache.release(connection, QUERY, first);
+		assertEquals(1, cache.size());
+		assertSame(first, cache.take(connection, QUERY));
+		assertEquals(0, cache.size());
+		assertNotSame(first, cache.take(connection, "SELECT 2 FROM DUAL"));
+		cache.release(connection, QUERY, second);
+		assertSame(second, cache.take(connection, QUERY));
+	}
+
+	/**
+	 * Idle statements over the maximum size, and those of a closed
+	 * Connection, are closed.
+	 */
+	@Test
+	public void testClose() throws SQLException {
+		System.out.println("close");
+		cache.setMaximumSize(1);
+		PreparedStatement first = cache.take(connection, QUERY);
+		PreparedStatement second = cache.take(connection, "SELECT 2 FROM DUAL");
+		cache.release(connection, QUERY, first);
+		cache.release(connection, "SELECT 2 FROM DUAL", second);
+		assertTrue(first.isClosed());
+		assertFalse(second.isClosed());
+		assertEquals(1, cache.size());
+		cache.close(connection);
+		assertTrue(second.isClosed());
+		assertEquals(0, cache.size());
+	}
+}